@@ -15,7 +15,9 @@
 
 package software.amazon.awssdk.auth.credentials;
 
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 /**
  * Interface for loading {@link AwsCredentials} that are used for authentication.
@@ -39,4 +41,25 @@ public interface AwsCredentialsProvider {
      * @return AwsCredentials which the caller can use to authorize an AWS request.
      */
     AwsCredentials resolveCredentials();
+
+    /**
+     * Returns a future that is completed with {@link AwsCredentials} that can be used to authorize an AWS request. This is
+     * used by asynchronous clients, and must never block the calling thread on I/O.
+     *
+     * <p>By default, this invokes {@link #resolveCredentials()} on the calling thread, which is appropriate for providers that
+     * do not perform I/O when resolving credentials (e.g. {@link StaticCredentialsProvider}). Providers that may need to load
+     * credentials from a remote endpoint should override this method to load them without blocking the calling thread.</p>
+     *
+     * <p>If an error occurs during the loading of credentials or credentials could not be found, the returned future will be
+     * completed exceptionally.</p>
+     *
+     * @return A future of AwsCredentials which the caller can use to authorize an AWS request.
+     */
+    default CompletableFuture<AwsCredentials> resolveCredentialsAsync() {
+        try {
+            return CompletableFuture.completedFuture(resolveCredentials());
+        } catch (RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+    }
 }
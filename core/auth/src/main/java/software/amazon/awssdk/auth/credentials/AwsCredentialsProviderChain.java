@@ -20,8 +20,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.auth.credentials.internal.SystemSettingsCredentialsProvider;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
@@ -40,6 +44,11 @@ import software.amazon.awssdk.utils.Validate;
  * will continue to use that provider when credentials are requested in the future, instead of traversing the chain each time.
  * This behavior can be controlled through the {@link Builder#reuseLastProviderEnabled(Boolean)} method.</p>
  *
+ * <p>When the provider that is reused loads credentials that do not expire (e.g. from environment variables or static keys in
+ * a profile), the credentials themselves are remembered, and returned without calling the provider again until
+ * {@link #clearCachedCredentials()} is invoked. Credentials from system properties are not remembered, because the properties
+ * can be changed while the application is running.</p>
+ *
  * <p>This chain implements {@link AutoCloseable}. When closed, it will call the {@link AutoCloseable#close()} on any credential
  * providers in the chain that need to be closed.</p>
  */
@@ -53,6 +62,11 @@ public final class AwsCredentialsProviderChain implements AwsCredentialsProvider
 
     private volatile AwsCredentialsProvider lastUsedProvider;
 
+    /**
+     * The credentials loaded by the {@link #lastUsedProvider}, if that provider is reused and its credentials never expire.
+     */
+    private volatile AwsCredentials cachedCredentials;
+
     /**
      * @see #builder()
      */
@@ -81,6 +95,11 @@ public final class AwsCredentialsProviderChain implements AwsCredentialsProvider
 
     @Override
     public AwsCredentials resolveCredentials() {
+        AwsCredentials cached = cachedCredentials;
+        if (cached != null) {
+            return cached;
+        }
+
         if (reuseLastProviderEnabled && lastUsedProvider != null) {
             return lastUsedProvider.resolveCredentials();
         }
@@ -92,24 +111,127 @@ public final class AwsCredentialsProviderChain implements AwsCredentialsProvider
 
                 log.debug(() -> "Loading credentials from " + provider);
 
-                lastUsedProvider = provider;
+                useProvider(provider, credentials);
                 return credentials;
             } catch (RuntimeException e) {
                 // Ignore any exceptions and move onto the next provider
-                String message = provider + ": " + e.getMessage();
-                log.debug(() -> "Unable to load credentials from " + message , e);
+                exceptionMessages = addExceptionMessage(exceptionMessages, provider, e);
+            }
+        }
 
-                if (exceptionMessages == null) {
-                    exceptionMessages = new ArrayList<>();
-                }
-                exceptionMessages.add(message);
+        throw noCredentialsException(exceptionMessages);
+    }
+
+    @Override
+    public CompletableFuture<AwsCredentials> resolveCredentialsAsync() {
+        AwsCredentials cached = cachedCredentials;
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        if (reuseLastProviderEnabled && lastUsedProvider != null) {
+            return lastUsedProvider.resolveCredentialsAsync();
+        }
+
+        return resolveCredentialsAsync(0, null);
+    }
+
+    /**
+     * Asynchronously check the providers in the chain, starting at the provided index, until one can provide credentials.
+     */
+    private CompletableFuture<AwsCredentials> resolveCredentialsAsync(int providerIndex, List<String> exceptionMessages) {
+        if (providerIndex == credentialsProviders.size()) {
+            return CompletableFutureUtils.failedFuture(noCredentialsException(exceptionMessages));
+        }
+
+        AwsCredentialsProvider provider = credentialsProviders.get(providerIndex);
+        CompletableFuture<AwsCredentials> attempt;
+        try {
+            attempt = provider.resolveCredentialsAsync();
+        } catch (RuntimeException e) {
+            attempt = CompletableFutureUtils.failedFuture(e);
+        }
+
+        CompletableFuture<AwsCredentials> result = new CompletableFuture<>();
+        attempt.whenComplete((credentials, error) -> {
+            if (error == null) {
+                log.debug(() -> "Loading credentials from " + provider);
+
+                useProvider(provider, credentials);
+                result.complete(credentials);
+                return;
             }
+
+            // Ignore any exceptions and move onto the next provider
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            List<String> messages = addExceptionMessage(exceptionMessages, provider, cause);
+            resolveCredentialsAsync(providerIndex + 1, messages).whenComplete((c, t) -> {
+                if (t == null) {
+                    result.complete(c);
+                } else {
+                    result.completeExceptionally(t);
+                }
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Remember the provider that loaded credentials, and the credentials themselves if they never expire.
+     */
+    private void useProvider(AwsCredentialsProvider provider, AwsCredentials credentials) {
+        lastUsedProvider = provider;
+        if (reuseLastProviderEnabled && credentialsNeverExpire(provider, credentials)) {
+            cachedCredentials = credentials;
+        }
+    }
+
+    /**
+     * Whether the credentials loaded by the provider can be cached. Only the SDK's own providers of static credentials are
+     * trusted: the environment variable provider qualifies unless it loaded session credentials, which are temporary, and the
+     * profile provider qualifies when its profile uses static keys. The system property provider doesn't qualify, because
+     * system properties can be changed at runtime.
+     */
+    private static boolean credentialsNeverExpire(AwsCredentialsProvider provider, AwsCredentials credentials) {
+        if (provider instanceof StaticCredentialsProvider || provider instanceof AnonymousCredentialsProvider) {
+            return true;
+        }
+        if (provider instanceof SystemPropertyCredentialsProvider) {
+            return false;
+        }
+        if (provider instanceof SystemSettingsCredentialsProvider) {
+            return !(credentials instanceof AwsSessionCredentials);
         }
+        if (provider instanceof ProfileCredentialsProvider) {
+            return ((ProfileCredentialsProvider) provider).credentialsNeverExpire();
+        }
+        return false;
+    }
+
+    /**
+     * Forget the provider that last loaded credentials, and the credentials it loaded. The next time credentials are requested,
+     * the providers in the chain are checked again in order. This can be used when the credentials configured in the
+     * environment have been changed.
+     */
+    public void clearCachedCredentials() {
+        cachedCredentials = null;
+        lastUsedProvider = null;
+    }
+
+    private List<String> addExceptionMessage(List<String> exceptionMessages, AwsCredentialsProvider provider, Throwable e) {
+        String message = provider + ": " + e.getMessage();
+        log.debug(() -> "Unable to load credentials from " + message , e);
+
+        List<String> result = exceptionMessages == null ? new ArrayList<>() : exceptionMessages;
+        result.add(message);
+        return result;
+    }
 
-        throw SdkClientException.builder()
-                                .message("Unable to load credentials from any of the providers in the chain " +
-                                         this + " : " + exceptionMessages)
-                                .build();
+    private SdkClientException noCredentialsException(List<String> exceptionMessages) {
+        return SdkClientException.builder()
+                                 .message("Unable to load credentials from any of the providers in the chain " +
+                                          this + " : " + exceptionMessages)
+                                 .build();
     }
 
     @Override
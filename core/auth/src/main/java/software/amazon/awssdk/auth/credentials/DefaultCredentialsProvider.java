@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.auth.credentials;
 
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.ToString;
@@ -92,6 +93,22 @@ public final class DefaultCredentialsProvider implements AwsCredentialsProvider,
         return providerChain.resolveCredentials();
     }
 
+    @Override
+    public CompletableFuture<AwsCredentials> resolveCredentialsAsync() {
+        return providerChain.resolveCredentialsAsync();
+    }
+
+    /**
+     * Forget the credentials provider that last loaded credentials, and the credentials it loaded, so that the next time
+     * credentials are requested the providers in the chain are checked again. This can be used when the credentials configured
+     * in the environment have been changed.
+     *
+     * @see AwsCredentialsProviderChain#clearCachedCredentials()
+     */
+    public void clearCachedCredentials() {
+        providerChain.clearCachedCredentials();
+    }
+
     @Override
     public void close() {
         providerChain.close();
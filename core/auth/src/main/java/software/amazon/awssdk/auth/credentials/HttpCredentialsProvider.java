@@ -21,12 +21,14 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.util.json.JacksonUtils;
 import software.amazon.awssdk.regions.util.HttpResourcesUtils;
 import software.amazon.awssdk.regions.util.ResourcesEndpointProvider;
 import software.amazon.awssdk.utils.ComparableUtils;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.DateUtils;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.Validate;
@@ -40,19 +42,39 @@ import software.amazon.awssdk.utils.cache.RefreshResult;
  */
 @SdkProtectedApi
 public abstract class HttpCredentialsProvider implements AwsCredentialsProvider, SdkAutoCloseable {
+    /**
+     * The maximum amount of time an asynchronous credential update is delayed by, so that many providers whose credentials
+     * expire at the same time do not all call the endpoint at once.
+     */
+    private static final Duration ASYNC_UPDATE_MAX_JITTER = Duration.ofMinutes(1);
+
     private final Optional<CachedSupplier<AwsCredentials>> credentialsCache;
 
+    /**
+     * The strategy that updates the credentials in the background, if asynchronous credential updates are enabled.
+     */
+    private final Optional<NonBlocking> asyncCredentialUpdater;
+
     protected HttpCredentialsProvider(BuilderImpl<?, ?> builder) {
         this(builder.asyncCredentialUpdateEnabled, builder.asyncThreadName);
     }
 
     HttpCredentialsProvider(boolean asyncCredentialUpdateEnabled, String asyncThreadName) {
+        this(asyncCredentialUpdateEnabled, asyncThreadName, ASYNC_UPDATE_MAX_JITTER);
+    }
+
+    HttpCredentialsProvider(boolean asyncCredentialUpdateEnabled, String asyncThreadName, Duration asyncUpdateMaxJitter) {
         if (isLocalCredentialLoadingDisabled()) {
             this.credentialsCache = Optional.empty();
+            this.asyncCredentialUpdater = Optional.empty();
         } else {
             CachedSupplier.Builder<AwsCredentials> cacheBuilder = CachedSupplier.builder(this::refreshCredentials);
             if (asyncCredentialUpdateEnabled) {
-                cacheBuilder.prefetchStrategy(new NonBlocking(asyncThreadName));
+                NonBlocking updater = new NonBlocking(asyncThreadName, asyncUpdateMaxJitter);
+                cacheBuilder.prefetchStrategy(updater);
+                this.asyncCredentialUpdater = Optional.of(updater);
+            } else {
+                this.asyncCredentialUpdater = Optional.empty();
             }
             this.credentialsCache = Optional.of(cacheBuilder.build());
         }
@@ -138,13 +160,53 @@ public abstract class HttpCredentialsProvider implements AwsCredentialsProvider,
     @Override
     public AwsCredentials resolveCredentials() {
         if (isLocalCredentialLoadingDisabled()) {
-            throw SdkClientException.builder()
-                                    .message("Loading credentials from local endpoint is disabled. Unable to load " +
-                                             "credentials from service endpoint.")
-                                    .build();
+            throw localCredentialLoadingDisabledException();
+        }
+        return credentialsCache.map(CachedSupplier::get).orElseThrow(HttpCredentialsProvider::credentialsNotLoadedException);
+    }
+
+    @Override
+    public CompletableFuture<AwsCredentials> resolveCredentialsAsync() {
+        if (isLocalCredentialLoadingDisabled()) {
+            return CompletableFutureUtils.failedFuture(localCredentialLoadingDisabledException());
         }
-        return credentialsCache.map(CachedSupplier::get).orElseThrow(() ->
-                SdkClientException.builder().message("Unable to load credentials from service endpoint").build());
+        return credentialsCache.map(CachedSupplier::getAsync)
+                               .orElseGet(() -> CompletableFutureUtils.failedFuture(credentialsNotLoadedException()));
+    }
+
+    /**
+     * The number of background credential updates that completed successfully. Always 0 unless asynchronous credential updates
+     * are enabled.
+     */
+    public long successfulAsyncCredentialUpdateCount() {
+        return asyncCredentialUpdater.map(NonBlocking::successfulRefreshCount).orElse(0L);
+    }
+
+    /**
+     * The number of background credential updates that failed. The credentials are then updated again the next time they are
+     * requested. Always 0 unless asynchronous credential updates are enabled.
+     */
+    public long failedAsyncCredentialUpdateCount() {
+        return asyncCredentialUpdater.map(NonBlocking::failedRefreshCount).orElse(0L);
+    }
+
+    /**
+     * How long the most recent background credential update took, successful or not. {@link Duration#ZERO} if no update has
+     * been performed yet, or if asynchronous credential updates are disabled.
+     */
+    public Duration lastAsyncCredentialUpdateLatency() {
+        return asyncCredentialUpdater.map(NonBlocking::lastRefreshLatency).orElse(Duration.ZERO);
+    }
+
+    private static SdkClientException localCredentialLoadingDisabledException() {
+        return SdkClientException.builder()
+                                 .message("Loading credentials from local endpoint is disabled. Unable to load " +
+                                          "credentials from service endpoint.")
+                                 .build();
+    }
+
+    private static SdkClientException credentialsNotLoadedException() {
+        return SdkClientException.builder().message("Unable to load credentials from service endpoint").build();
     }
 
     @Override
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.auth.credentials;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -25,6 +26,7 @@ import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSystemSetting;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.ToString;
@@ -110,6 +112,22 @@ public final class ProfileCredentialsProvider implements AwsCredentialsProvider,
         return credentialsProvider.resolveCredentials();
     }
 
+    @Override
+    public CompletableFuture<AwsCredentials> resolveCredentialsAsync() {
+        if (loadException != null) {
+            return CompletableFutureUtils.failedFuture(loadException);
+        }
+        return credentialsProvider.resolveCredentialsAsync();
+    }
+
+    /**
+     * The credentials of profiles with static keys never expire, but those of role-based profiles do. Used by
+     * {@link AwsCredentialsProviderChain} to decide whether the credentials can be cached.
+     */
+    boolean credentialsNeverExpire() {
+        return credentialsProvider instanceof StaticCredentialsProvider;
+    }
+
     @Override
     public String toString() {
         return ToString.builder("ProfileCredentialsProvider")
@@ -15,9 +15,6 @@
 
 package software.amazon.awssdk.auth.signer.internal;
 
-import static software.amazon.awssdk.utils.DateUtils.numberOfDaysSinceEpoch;
-import static software.amazon.awssdk.utils.StringUtils.lowerCase;
-
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.time.Instant;
@@ -25,10 +22,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.CredentialUtils;
 import software.amazon.awssdk.auth.signer.Aws4Signer;
 import software.amazon.awssdk.auth.signer.AwsSignerExecutionAttribute;
 import software.amazon.awssdk.auth.signer.params.Aws4PresignerParams;
@@ -39,6 +41,7 @@ import software.amazon.awssdk.core.signer.Presigner;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
@@ -54,11 +57,17 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
 
     private static final Logger LOG = Logger.loggerFor(Aws4Signer.class);
     private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(SIGNER_CACHE_MAX_SIZE);
+    private static final SigningKeyCache SIGNER_CACHE = new SigningKeyCache(SIGNER_CACHE_MAX_SIZE);
     private static final List<String> LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE =
         Arrays.asList("connection", "x-amzn-trace-id", "user-agent");
 
+    /**
+     * The number of requests of a batch that are pre-signed by the same task.
+     */
+    private static final int PRESIGN_BATCH_CHUNK_SIZE = 64;
+
+    private final SigningKeyCache.SigningKeyFactory signingKeyFactory = this::newSigningKey;
+
     protected SdkHttpFullRequest.Builder doSign(SdkHttpFullRequest request,
                                                 Aws4SignerRequestParams requestParams,
                                                 T signingParams) {
@@ -77,16 +86,19 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                       .filter(h -> h.equals("required"))
                       .ifPresent(h -> mutableRequest.putHeader(SignerConstant.X_AMZ_CONTENT_SHA256, contentSha256));
 
-        String canonicalRequest = createCanonicalRequest(mutableRequest, contentSha256, signingParams.doubleUrlEncode());
+        CanonicalHeaders canonicalHeaders = canonicalHeaders(mutableRequest);
+
+        byte[] canonicalRequestHash = hashCanonicalRequest(mutableRequest, canonicalHeaders, contentSha256,
+                                                           signingParams.doubleUrlEncode());
 
-        String stringToSign = createStringToSign(canonicalRequest, requestParams);
+        String stringToSign = createStringToSign(canonicalRequestHash, requestParams);
 
         byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
         byte[] signature = computeSignature(stringToSign, signingKey);
 
         mutableRequest.putHeader(SignerConstant.AUTHORIZATION,
-                                 buildAuthorizationHeader(signature, sanitizedCredentials, requestParams, mutableRequest));
+                                 buildAuthorizationHeader(signature, sanitizedCredentials, requestParams, canonicalHeaders));
 
         processRequestPayload(mutableRequest, signature, signingKey, requestParams, signingParams);
 
@@ -96,35 +108,99 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     protected SdkHttpFullRequest.Builder doPresign(SdkHttpFullRequest request,
                                                    Aws4SignerRequestParams requestParams,
                                                    U signingParams) {
+        return doPresign(request, new PresignContext(requestParams, signingParams), signingParams);
+    }
+
+    /**
+     * Pre-sign a batch of requests with the same signing parameters, e.g. presigned URLs for many objects of the same bucket.
+     *
+     * <p>The parts of the signature shared by all requests (the credential scope, the signing key and the values of the
+     * pre-signing query parameters) are computed once for the batch. The requests are then signed in parallel, in chunks of
+     * {@value #PRESIGN_BATCH_CHUNK_SIZE}: the calling thread signs the first chunk, and the others are submitted to the
+     * provided executor. This method returns when all requests have been signed.
+     *
+     * <p>The executor must not be the one running the calling thread. The calling thread signs the chunks the executor hasn't
+     * started yet, so the batch completes either way, but it is then signed on a single thread.
+     *
+     * @param requests The requests to pre-sign.
+     * @param signingParams The parameters used for pre-signing all the requests.
+     * @param executor The executor on which the requests after the first chunk are signed.
+     * @return The pre-signed requests, in the same order as the provided requests.
+     */
+    public List<SdkHttpFullRequest> presign(List<SdkHttpFullRequest> requests, U signingParams, Executor executor) {
+        Validate.paramNotNull(requests, "requests");
+        Validate.paramNotNull(executor, "executor");
+
+        // anonymous credentials, don't sign
+        if (CredentialUtils.isAnonymous(signingParams.awsCredentials())) {
+            return new ArrayList<>(requests);
+        }
+
+        PresignContext context = new PresignContext(new Aws4SignerRequestParams(signingParams), signingParams);
+        SdkHttpFullRequest[] presigned = new SdkHttpFullRequest[requests.size()];
+
+        List<PresignChunk> chunks = new ArrayList<>();
+        for (int chunkStart = 0; chunkStart < presigned.length; chunkStart += PRESIGN_BATCH_CHUNK_SIZE) {
+            int start = chunkStart;
+            int end = Math.min(presigned.length, chunkStart + PRESIGN_BATCH_CHUNK_SIZE);
+            chunks.add(new PresignChunk(() -> {
+                for (int i = start; i < end; i++) {
+                    presigned[i] = doPresign(requests.get(i), context, signingParams).build();
+                }
+            }));
+        }
 
+        for (int i = 1; i < chunks.size(); i++) {
+            try {
+                executor.execute(chunks.get(i));
+            } catch (RejectedExecutionException e) {
+                LOG.debug(() -> "Pre-signing chunk rejected by the executor, signing it on the calling thread.", e);
+            }
+        }
+        // Sign on the calling thread too, instead of waiting for chunks that a busy executor hasn't started.
+        chunks.forEach(PresignChunk::run);
+
+        try {
+            CompletableFuture.allOf(chunks.stream().map(c -> c.result).toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+        return Arrays.asList(presigned);
+    }
+
+    private SdkHttpFullRequest.Builder doPresign(SdkHttpFullRequest request, PresignContext context, U signingParams) {
         SdkHttpFullRequest.Builder mutableRequest = request.toBuilder();
 
-        long expirationInSeconds = generateExpirationTime(signingParams);
         addHostHeader(mutableRequest);
 
-        AwsCredentials sanitizedCredentials = sanitizeCredentials(signingParams.awsCredentials());
-        if (sanitizedCredentials instanceof AwsSessionCredentials) {
+        if (context.sessionToken != null) {
             // For SigV4 pre-signing URL, we need to add "X-Amz-Security-Token"
             // as a query string parameter, before constructing the canonical
             // request.
-            mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SECURITY_TOKEN,
-                                                ((AwsSessionCredentials) sanitizedCredentials).sessionToken());
+            mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SECURITY_TOKEN, context.sessionToken);
         }
 
         // Add the important parameters for v4 signing
-        String timeStamp = requestParams.getFormattedSigningDateTime();
+        CanonicalHeaders canonicalHeaders = canonicalHeaders(mutableRequest);
 
-        addPreSignInformationToRequest(mutableRequest, sanitizedCredentials, requestParams, timeStamp, expirationInSeconds);
+        addPreSignInformationToRequest(mutableRequest, context, canonicalHeaders);
 
         String contentSha256 = calculateContentHashPresign(mutableRequest, signingParams);
 
-        String canonicalRequest = createCanonicalRequest(mutableRequest, contentSha256, signingParams.doubleUrlEncode());
-
-        String stringToSign = createStringToSign(canonicalRequest, requestParams);
+        byte[] canonicalRequestHash = hashCanonicalRequest(mutableRequest, canonicalHeaders, contentSha256,
+                                                           signingParams.doubleUrlEncode());
 
-        byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
+        String stringToSign = context.stringToSignPrefix + BinaryUtils.toHex(canonicalRequestHash);
+        LOG.debug(() -> "AWS4 String to sign: " + stringToSign);
 
-        byte[] signature = computeSignature(stringToSign, signingKey);
+        byte[] signature = computeSignature(stringToSign, context.signingKey);
 
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNATURE, BinaryUtils.toHex(signature));
 
@@ -164,24 +240,11 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * .com/general/latest/gr/sigv4-calculate-signature.html
      */
     protected byte[] deriveSigningKey(AwsCredentials credentials, Aws4SignerRequestParams signerRequestParams) {
-
-        String cacheKey = computeSigningCacheKeyName(credentials, signerRequestParams);
-        long daysSinceEpochSigningDate = numberOfDaysSinceEpoch(signerRequestParams.getSigningDateTimeMilli());
-
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
-
-        if (signerKey != null && daysSinceEpochSigningDate == signerKey.getNumberOfDaysSinceEpoch()) {
-            return signerKey.getSigningKey();
-        }
-
-        LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
-            TimeUnit.DAYS.toMillis(daysSinceEpochSigningDate));
-        byte[] signingKey = newSigningKey(credentials,
-            signerRequestParams.getFormattedSigningDate(),
-            signerRequestParams.getRegionName(),
-            signerRequestParams.getServiceSigningName());
-        SIGNER_CACHE.add(cacheKey, new SignerKey(daysSinceEpochSigningDate, signingKey));
-        return signingKey;
+        return SIGNER_CACHE.signingKey(credentials,
+                                       signerRequestParams.getRegionName(),
+                                       signerRequestParams.getServiceSigningName(),
+                                       signerRequestParams.getSigningDateTimeMilli(),
+                                       signingKeyFactory);
     }
 
     /**
@@ -189,26 +252,36 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * http://docs.aws
      * .amazon.com/general/latest/gr/sigv4-create-canonical-request.html to
      * generate the canonical request.
+     *
+     * <p>The canonical request is written into a reusable buffer and hashed there, and is only turned into a string when
+     * trace logging is enabled.
      */
-    private String createCanonicalRequest(SdkHttpFullRequest.Builder request,
-                                          String contentSha256,
-                                          boolean doubleUrlEncode) {
-
-        String canonicalRequest = request.method().toString() +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  // This would optionally double url-encode the resource path
-                                  getCanonicalizedResourcePath(request.encodedPath(), doubleUrlEncode) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getCanonicalizedQueryString(request.rawQueryParameters()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getCanonicalizedHeaderString(request.headers()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getSignedHeadersString(request.headers()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  contentSha256;
-
-        LOG.trace(() -> "AWS4 Canonical Request: " + canonicalRequest);
-        return canonicalRequest;
+    private byte[] hashCanonicalRequest(SdkHttpFullRequest.Builder request,
+                                        CanonicalHeaders canonicalHeaders,
+                                        String contentSha256,
+                                        boolean doubleUrlEncode) {
+
+        CanonicalRequestWriter writer = CanonicalRequestWriter.get();
+        writer.append(request.method().name())
+              .append(SignerConstant.LINE_SEPARATOR)
+              // This would optionally double url-encode the resource path
+              .append(getCanonicalizedResourcePath(request.encodedPath(), doubleUrlEncode))
+              .append(SignerConstant.LINE_SEPARATOR);
+
+        Map<String, List<String>> queryParameters = request.rawQueryParameters();
+        if (!queryParameters.isEmpty()) {
+            writer.append(getCanonicalizedQueryString(queryParameters));
+        }
+        writer.append(SignerConstant.LINE_SEPARATOR);
+
+        canonicalHeaders.writeTo(writer);
+        writer.append(SignerConstant.LINE_SEPARATOR)
+              .append(canonicalHeaders.signedHeaders())
+              .append(SignerConstant.LINE_SEPARATOR)
+              .append(contentSha256);
+
+        LOG.trace(() -> "AWS4 Canonical Request: " + writer);
+        return writer.sha256();
     }
 
     /**
@@ -216,7 +289,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * http://docs.aws
      * .amazon.com/general/latest/gr/sigv4-create-string-to-sign.html.
      */
-    private String createStringToSign(String canonicalRequest,
+    private String createStringToSign(byte[] canonicalRequestHash,
                                       Aws4SignerRequestParams requestParams) {
 
         String stringToSign = requestParams.getSigningAlgorithm() +
@@ -225,22 +298,13 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                                     SignerConstant.LINE_SEPARATOR +
                                     requestParams.getScope() +
                                     SignerConstant.LINE_SEPARATOR +
-                                    BinaryUtils.toHex(hash(canonicalRequest));
+                                    BinaryUtils.toHex(canonicalRequestHash);
 
         LOG.debug(() -> "AWS4 String to sign: " + stringToSign);
         return stringToSign;
     }
 
 
-    /**
-     * Computes the name to be used to reference the signing key in the cache.
-     */
-    private String computeSigningCacheKeyName(AwsCredentials credentials,
-                                              Aws4SignerRequestParams signerRequestParams) {
-        return credentials.secretAccessKey() + "-" + signerRequestParams.getRegionName() + "-" +
-               signerRequestParams.getServiceSigningName();
-    }
-
     /**
      * Step 3 of the AWS Signature version 4 calculation. It involves deriving
      * the signing key and computing the signature. Refer to
@@ -258,12 +322,11 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     private String buildAuthorizationHeader(byte[] signature,
                                             AwsCredentials credentials,
                                             Aws4SignerRequestParams signerParams,
-                                            SdkHttpFullRequest.Builder mutableRequest) {
+                                            CanonicalHeaders canonicalHeaders) {
 
         String signingCredentials = credentials.accessKeyId() + "/" + signerParams.getScope();
         String credential = "Credential=" + signingCredentials;
-        String signerHeaders = "SignedHeaders=" +
-                               getSignedHeadersString(mutableRequest.headers());
+        String signerHeaders = "SignedHeaders=" + canonicalHeaders.signedHeaders();
         String signatureHeader = "Signature=" + BinaryUtils.toHex(signature);
 
         return SignerConstant.AWS4_SIGNING_ALGORITHM + " " + credential + ", " + signerHeaders + ", " + signatureHeader;
@@ -273,108 +336,17 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * Includes all the signing headers as request parameters for pre-signing.
      */
     private void addPreSignInformationToRequest(SdkHttpFullRequest.Builder mutableRequest,
-                                                AwsCredentials sanitizedCredentials,
-                                                Aws4SignerRequestParams signerParams,
-                                                String timeStamp,
-                                                long expirationInSeconds) {
-
-        String signingCredentials = sanitizedCredentials.accessKeyId() + "/" + signerParams.getScope();
-
+                                                PresignContext context,
+                                                CanonicalHeaders canonicalHeaders) {
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_ALGORITHM, SignerConstant.AWS4_SIGNING_ALGORITHM);
-        mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_DATE, timeStamp);
-        mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNED_HEADER,
-                                            getSignedHeadersString(mutableRequest.headers()));
-        mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_EXPIRES,
-                                            Long.toString(expirationInSeconds));
-        mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_CREDENTIAL, signingCredentials);
+        mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_DATE, context.timeStamp);
+        mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNED_HEADER, canonicalHeaders.signedHeaders());
+        mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_EXPIRES, context.expirationInSeconds);
+        mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_CREDENTIAL, context.signingCredentials);
     }
 
-
-    private String getCanonicalizedHeaderString(Map<String, List<String>> headers) {
-        List<String> sortedHeaders = new ArrayList<>(headers.keySet());
-        sortedHeaders.sort(String.CASE_INSENSITIVE_ORDER);
-
-        StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
-            }
-            String key = lowerCase(header);
-
-            for (String headerValue : headers.get(header)) {
-                appendCompactedString(buffer, key);
-                buffer.append(":");
-                if (headerValue != null) {
-                    appendCompactedString(buffer, headerValue);
-                }
-                buffer.append("\n");
-            }
-        }
-
-        return buffer.toString();
-    }
-
-    /**
-     * This method appends a string to a string builder and collapses contiguous
-     * white space is a single space.
-     *
-     * This is equivalent to:
-     *      destination.append(source.replaceAll("\\s+", " "))
-     * but does not create a Pattern object that needs to compile the match
-     * string; it also prevents us from having to make a Matcher object as well.
-     *
-     */
-    private void appendCompactedString(final StringBuilder destination, final String source) {
-        boolean previousIsWhiteSpace = false;
-        int length = source.length();
-
-        for (int i = 0; i < length; i++) {
-            char ch = source.charAt(i);
-            if (isWhiteSpace(ch)) {
-                if (previousIsWhiteSpace) {
-                    continue;
-                }
-                destination.append(' ');
-                previousIsWhiteSpace = true;
-            } else {
-                destination.append(ch);
-                previousIsWhiteSpace = false;
-            }
-        }
-    }
-
-    /**
-     * Tests a char to see if is it whitespace.
-     * This method considers the same characters to be white
-     * space as the Pattern class does when matching \s
-     *
-     * @param ch the character to be tested
-     * @return true if the character is white  space, false otherwise.
-     */
-    private boolean isWhiteSpace(final char ch) {
-        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000b' || ch == '\r' || ch == '\f';
-    }
-
-    private String getSignedHeadersString(Map<String, List<String>> headers) {
-        List<String> sortedHeaders = new ArrayList<>(headers.keySet());
-        sortedHeaders.sort(String.CASE_INSENSITIVE_ORDER);
-
-        StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
-            }
-            if (buffer.length() > 0) {
-                buffer.append(";");
-            }
-            buffer.append(lowerCase(header));
-        }
-
-        return buffer.toString();
-    }
-
-    private boolean shouldExcludeHeaderFromSigning(String header) {
-        return LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCase(header));
+    private CanonicalHeaders canonicalHeaders(SdkHttpFullRequest.Builder mutableRequest) {
+        return CanonicalHeaders.create(mutableRequest.headers(), LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE);
     }
 
     private void addHostHeader(SdkHttpFullRequest.Builder mutableRequest) {
@@ -418,6 +390,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      */
     private byte[] newSigningKey(AwsCredentials credentials,
                                  String dateStamp, String regionName, String serviceName) {
+        LOG.trace(() -> "Generating a new signing key for the date: " + dateStamp);
         byte[] kSecret = ("AWS4" + credentials.secretAccessKey())
             .getBytes(Charset.forName("UTF-8"));
         byte[] kDate = sign(dateStamp, kSecret, SigningAlgorithm.HmacSHA256);
@@ -427,6 +400,64 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         return sign(SignerConstant.AWS4_TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
     }
 
+    /**
+     * The parts of a pre-signed request's signature that only depend on the signing parameters, and are shared by all requests
+     * pre-signed with the same parameters.
+     */
+    private final class PresignContext {
+        private final String timeStamp;
+        private final String expirationInSeconds;
+        private final String signingCredentials;
+        private final String sessionToken;
+        private final String stringToSignPrefix;
+        private final byte[] signingKey;
+
+        private PresignContext(Aws4SignerRequestParams requestParams, U signingParams) {
+            AwsCredentials sanitizedCredentials = sanitizeCredentials(signingParams.awsCredentials());
+
+            this.timeStamp = requestParams.getFormattedSigningDateTime();
+            this.expirationInSeconds = Long.toString(generateExpirationTime(signingParams));
+            this.signingCredentials = sanitizedCredentials.accessKeyId() + "/" + requestParams.getScope();
+            this.sessionToken = sanitizedCredentials instanceof AwsSessionCredentials
+                                ? ((AwsSessionCredentials) sanitizedCredentials).sessionToken()
+                                : null;
+            this.stringToSignPrefix = requestParams.getSigningAlgorithm() +
+                                      SignerConstant.LINE_SEPARATOR +
+                                      requestParams.getFormattedSigningDateTime() +
+                                      SignerConstant.LINE_SEPARATOR +
+                                      requestParams.getScope() +
+                                      SignerConstant.LINE_SEPARATOR;
+            this.signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
+        }
+    }
+
+    /**
+     * A chunk of a batch of requests to pre-sign. A chunk is signed by whichever thread runs it first: the executor or the
+     * calling thread.
+     */
+    private static final class PresignChunk implements Runnable {
+        private final Runnable signing;
+        private final AtomicBoolean started = new AtomicBoolean(false);
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private PresignChunk(Runnable signing) {
+            this.signing = signing;
+        }
+
+        @Override
+        public void run() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                signing.run();
+                result.complete(null);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }
+    }
+
     protected <B extends Aws4PresignerParams.Builder> B extractPresignerParams(B builder,
                                                                                ExecutionAttributes executionAttributes) {
         builder = extractSignerParams(builder, executionAttributes);
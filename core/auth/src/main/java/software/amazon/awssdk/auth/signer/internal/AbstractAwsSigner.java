@@ -52,6 +52,11 @@ import software.amazon.awssdk.utils.http.SdkHttpUtils;
 @SdkInternalApi
 public abstract class AbstractAwsSigner implements Signer {
 
+    /**
+     * The size of the buffer that a payload is read into to hash it, so that large payloads like files take few reads.
+     */
+    private static final int PAYLOAD_READ_BUFFER_SIZE = 16 * 1024;
+
     private static final ThreadLocal<MessageDigest> SHA256_MESSAGE_DIGEST;
 
     static {
@@ -170,7 +175,7 @@ public abstract class AbstractAwsSigner implements Signer {
             @SuppressWarnings("resource")
             DigestInputStream digestInputStream = new SdkDigestInputStream(
                     input, md);
-            byte[] buffer = new byte[1024];
+            byte[] buffer = new byte[PAYLOAD_READ_BUFFER_SIZE];
             while (digestInputStream.read(buffer) > -1) {
                 ;
             }
@@ -203,6 +208,24 @@ public abstract class AbstractAwsSigner implements Signer {
         }
     }
 
+    /**
+     * Hashes a range of the binary data using the SHA-256 algorithm.
+     *
+     * @throws SdkClientException If the hash cannot be computed.
+     */
+    static byte[] hash(byte[] data, int offset, int length) throws SdkClientException {
+        try {
+            MessageDigest md = getMessageDigestInstance();
+            md.update(data, offset, length);
+            return md.digest();
+        } catch (Exception e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to compute hash while signing request: " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+    }
+
     /**
      * Examines the specified query string parameters and returns a
      * canonicalized form.
@@ -21,7 +21,6 @@ import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.Arrays;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -44,7 +43,12 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
     private static final String CHUNK_STRING_TO_SIGN_PREFIX = "AWS4-HMAC-SHA256-PAYLOAD";
     private static final String CHUNK_SIGNATURE_HEADER = ";chunk-signature=";
     private static final int SIGNATURE_LENGTH = 64;
-    private static final byte[] FINAL_CHUNK = new byte[0];
+
+    /**
+     * Chunk buffers are reused across streams, so that each upload doesn't allocate a new buffer for each chunk. The pool
+     * holds at most 2 MB.
+     */
+    private static final ByteArrayPool CHUNK_BUFFER_POOL = new ByteArrayPool(DEFAULT_CHUNK_SIZE, 16);
     private static final Logger log = Logger.loggerFor(AwsChunkedEncodingInputStream.class);
 
     private InputStream is = null;
@@ -63,6 +67,12 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
      */
     private ChunkContentIterator currentChunkIterator;
 
+    /**
+     * The buffer the data of the current chunk is read into and signed from. Taken from the pool on the first read, and
+     * returned to it when the stream is closed.
+     */
+    private byte[] chunkBuffer;
+
     /**
      * Iterator on the buffer of the decoded stream,
      * Null if the wrapped stream is marksupported,
@@ -276,18 +286,20 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
      * @return Returns true if next chunk is the last empty chunk.
      */
     private boolean setUpNextChunk() throws IOException {
-        byte[] chunkData = new byte[DEFAULT_CHUNK_SIZE];
+        if (chunkBuffer == null) {
+            chunkBuffer = CHUNK_BUFFER_POOL.acquire();
+        }
         int chunkSizeInBytes = 0;
         while (chunkSizeInBytes < DEFAULT_CHUNK_SIZE) {
+            int bytesToRead = DEFAULT_CHUNK_SIZE - chunkSizeInBytes;
             /** Read from the buffer of the decoded stream */
             if (null != decodedStreamBuffer && decodedStreamBuffer.hasNext()) {
-                chunkData[chunkSizeInBytes++] = decodedStreamBuffer.next();
+                chunkSizeInBytes += decodedStreamBuffer.read(chunkBuffer, chunkSizeInBytes, bytesToRead);
             } else { /** Read from the wrapped stream */
-                int bytesToRead = DEFAULT_CHUNK_SIZE - chunkSizeInBytes;
-                int count = is.read(chunkData, chunkSizeInBytes, bytesToRead);
+                int count = is.read(chunkBuffer, chunkSizeInBytes, bytesToRead);
                 if (count != -1) {
                     if (null != decodedStreamBuffer) {
-                        decodedStreamBuffer.buffer(chunkData, chunkSizeInBytes, count);
+                        decodedStreamBuffer.buffer(chunkBuffer, chunkSizeInBytes, count);
                     }
                     chunkSizeInBytes += count;
                 } else {
@@ -295,49 +307,28 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
                 }
             }
         }
-        if (chunkSizeInBytes == 0) {
-            byte[] signedFinalChunk = createSignedChunk(FINAL_CHUNK);
-            currentChunkIterator = new ChunkContentIterator(signedFinalChunk);
-            return true;
-        } else {
-            if (chunkSizeInBytes < chunkData.length) {
-                chunkData = Arrays.copyOf(chunkData, chunkSizeInBytes);
-            }
-            byte[] signedChunkContent = createSignedChunk(chunkData);
-            currentChunkIterator = new ChunkContentIterator(signedChunkContent);
-            return false;
-        }
+        currentChunkIterator = new ChunkContentIterator(createSignedChunkHeader(chunkSizeInBytes),
+                                                        chunkBuffer, chunkSizeInBytes);
+        return chunkSizeInBytes == 0;
     }
 
-    private byte[] createSignedChunk(byte[] chunkData) {
-        StringBuilder chunkHeader = new StringBuilder();
-        // chunk-size
-        chunkHeader.append(Integer.toHexString(chunkData.length));
-        // sig-extension
+    /**
+     * Sign the first chunkSize bytes of the chunk buffer, and create the header of the chunk that carries the signature.
+     */
+    private byte[] createSignedChunkHeader(int chunkSize) {
+        sha256.update(chunkBuffer, 0, chunkSize);
         String chunkStringToSign =
             CHUNK_STRING_TO_SIGN_PREFIX + "\n" +
             dateTime + "\n" +
             keyPath + "\n" +
             priorChunkSignature + "\n" +
             AbstractAws4Signer.EMPTY_STRING_SHA256_HEX + "\n" +
-            BinaryUtils.toHex(sha256.digest(chunkData));
-        String chunkSignature =
-                BinaryUtils.toHex(aws4Signer.signWithMac(chunkStringToSign, hmacSha256));
-        priorChunkSignature = chunkSignature;
-        chunkHeader.append(CHUNK_SIGNATURE_HEADER)
-                .append(chunkSignature)
-                .append(CRLF)
-        ;
+            BinaryUtils.toHex(sha256.digest());
         try {
-            byte[] header = chunkHeader.toString().getBytes(StandardCharsets.UTF_8);
-            byte[] trailer = CRLF.getBytes(StandardCharsets.UTF_8);
-            byte[] signedChunk = new byte[header.length + chunkData.length + trailer.length];
-            System.arraycopy(header, 0, signedChunk, 0, header.length);
-            System.arraycopy(chunkData, 0, signedChunk, header.length, chunkData.length);
-            System.arraycopy(trailer, 0,
-                    signedChunk, header.length + chunkData.length,
-                    trailer.length);
-            return signedChunk;
+            String chunkSignature = BinaryUtils.toHex(aws4Signer.signWithMac(chunkStringToSign, hmacSha256));
+            priorChunkSignature = chunkSignature;
+            String chunkHeader = Integer.toHexString(chunkSize) + CHUNK_SIGNATURE_HEADER + chunkSignature + CRLF;
+            return chunkHeader.getBytes(StandardCharsets.UTF_8);
         } catch (Exception e) {
             throw SdkClientException.builder()
                                     .message("Unable to sign the chunked data. " + e.getMessage())
@@ -346,6 +337,24 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
         }
     }
 
+    /**
+     * Closes the wrapped stream and returns the chunk buffer to the pool.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            is.close();
+        } finally {
+            if (chunkBuffer != null) {
+                byte[] buffer = chunkBuffer;
+                chunkBuffer = null;
+                currentChunkIterator = null;
+                isTerminating = true;
+                CHUNK_BUFFER_POOL.release(buffer);
+            }
+        }
+    }
+
     @Override
     protected InputStream getWrappedInputStream() {
         return is;
@@ -18,12 +18,7 @@ package software.amazon.awssdk.auth.signer.internal;
 import static software.amazon.awssdk.auth.signer.internal.SignerConstant.X_AMZ_CONTENT_SHA256;
 
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
-import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
-import java.util.TreeMap;
 import java.util.function.Function;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -33,10 +28,7 @@ import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
-import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
-import software.amazon.eventstream.HeaderValue;
-import software.amazon.eventstream.Message;
 
 
 @SdkInternalApi
@@ -47,7 +39,6 @@ public abstract class BaseEventStreamAsyncAws4Signer extends BaseAsyncAws4Signer
 
     private static final Logger LOG = Logger.loggerFor(BaseEventStreamAsyncAws4Signer.class);
     private static final String HTTP_CONTENT_SHA_256 = "STREAMING-AWS4-HMAC-SHA256-EVENTS";
-    private static final String EVENT_STREAM_PAYLOAD = "AWS4-HMAC-SHA256-PAYLOAD";
 
 
     protected BaseEventStreamAsyncAws4Signer() {
@@ -112,111 +103,10 @@ public abstract class BaseEventStreamAsyncAws4Signer extends BaseAsyncAws4Signer
 
     private Function<ByteBuffer, ByteBuffer> getDataFrameSigner(String headerSignature, byte[] signingKey,
                                                                 Aws4SignerRequestParams signerRequestParams) {
-        return new Function<ByteBuffer, ByteBuffer>() {
-
-            final byte[] key = signingKey;
-            final Aws4SignerRequestParams requestParams = signerRequestParams;
-
-            /**
-             * Initiate rolling signature with header signature
-             */
-            String priorSignature = headerSignature;
-
-            @Override
-            public ByteBuffer apply(ByteBuffer byteBuffer) {
-                /**
-                 * Signing Date
-                 */
-                Map<String, HeaderValue> nonSignatureHeaders = new HashMap<>();
-                long signingEpochMilliSec = requestParams.getSigningDateTimeMilli();
-                Instant signingInstant = Instant.ofEpochMilli(signingEpochMilliSec);
-                String signingDate = Aws4SignerUtils.formatTimestamp(signingEpochMilliSec);
-                nonSignatureHeaders.put(EVENT_STREAM_DATE, HeaderValue.fromTimestamp(signingInstant));
-
-                /**
-                 * Calculate rolling signature
-                 */
-                byte[] payload = byteBuffer.array();
-                byte[] signatureBytes = signEventStream(priorSignature, key, signingDate, requestParams,
-                                                        nonSignatureHeaders, payload);
-                priorSignature = BinaryUtils.toHex(signatureBytes);
-
-                /**
-                 * Add signing layer event-stream headers
-                 */
-                Map<String, HeaderValue> headers = new HashMap<>();
-                //Non-signature header
-                headers.putAll(nonSignatureHeaders);
-                //Signature headers
-                headers.put(EVENT_STREAM_SIGNATURE, HeaderValue.fromByteArray(signatureBytes));
-
-                /**
-                 * Encode signed event to byte
-                 */
-                Message signedMessage = new Message(sortHeaders(headers), payload);
-                return signedMessage.toByteBuffer();
-            }
-        };
-    }
-
-
-    /**
-     * Sign event stream with SigV4 signature
-     *
-     * @param priorSignature signature of previous frame (Header frame is the 0th frame)
-     * @param signingKey derived signing key
-     * @param date siging date
-     * @param requestParams request parameters
-     * @param nonSignatureHeaders non-signature headers
-     * @param payload event stream payload
-     * @return encoded event with signature
-     */
-    private byte[] signEventStream(
-        String priorSignature,
-        byte[] signingKey,
-        String date,
-        Aws4SignerRequestParams requestParams,
-        Map<String, HeaderValue> nonSignatureHeaders,
-        byte[] payload) {
-
-        // String to sign
-        String stringToSign =
-            EVENT_STREAM_PAYLOAD +
-            SignerConstant.LINE_SEPARATOR +
-            date +
-            SignerConstant.LINE_SEPARATOR +
-            requestParams.getScope() +
-            SignerConstant.LINE_SEPARATOR +
-            priorSignature +
-            SignerConstant.LINE_SEPARATOR +
-            BinaryUtils.toHex(hash(Message.encodeHeaders(sortHeaders(nonSignatureHeaders).entrySet()))) +
-            SignerConstant.LINE_SEPARATOR +
-            BinaryUtils.toHex(hash(payload));
-
-        // calculate signature
-        return sign(stringToSign.getBytes(StandardCharsets.UTF_8), signingKey,
-                    SigningAlgorithm.HmacSHA256);
-    }
-
-    /**
-     * Sort headers in alphabetic order, with exception that EVENT_STREAM_SIGNATURE header always at last
-     *
-     * @param headers unsorted headers
-     * @return sorted headers
-     */
-    private TreeMap<String, HeaderValue> sortHeaders(Map<String, HeaderValue> headers) {
-        TreeMap<String, HeaderValue> sortedHeaders = new TreeMap<>((header1, header2) -> {
-            // signature header should always be the last header
-            if (header1.equals(EVENT_STREAM_SIGNATURE)) {
-                return 1; // put header1 at last
-            } else if (header2.equals(EVENT_STREAM_SIGNATURE)) {
-                return -1; // put header2 at last
-            } else {
-                return header1.compareTo(header2);
-            }
-        });
-        sortedHeaders.putAll(headers);
-        return sortedHeaders;
+        /**
+         * Initiate rolling signature with header signature
+         */
+        return new EventStreamFrameSigner(headerSignature, signingKey, signerRequestParams);
     }
 
     private SdkHttpFullRequest addContentSha256Header(SdkHttpFullRequest request) {
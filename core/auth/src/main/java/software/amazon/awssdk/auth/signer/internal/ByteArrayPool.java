@@ -0,0 +1,54 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A bounded pool of equally sized byte arrays. When the pool is empty a new array is allocated, and arrays released to a
+ * full pool are left to the garbage collector, so the pool never holds more than its capacity.
+ */
+@ThreadSafe
+@SdkInternalApi
+final class ByteArrayPool {
+    private final int arraySize;
+    private final BlockingQueue<byte[]> arrays;
+
+    ByteArrayPool(int arraySize, int capacity) {
+        this.arraySize = arraySize;
+        this.arrays = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Take an array from the pool, or allocate one if the pool is empty. The content of the array is undefined.
+     */
+    byte[] acquire() {
+        byte[] array = arrays.poll();
+        return array != null ? array : new byte[arraySize];
+    }
+
+    /**
+     * Return an array to the pool. The caller must not use the array afterwards.
+     */
+    void release(byte[] array) {
+        if (array.length == arraySize) {
+            arrays.offer(array);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static software.amazon.awssdk.utils.StringUtils.lowerCase;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The headers of a request to be signed, lower-cased and sorted once so that the same view can be used to write both the
+ * canonical headers and the signed headers of the SigV4 canonical request, and the signed headers of the authorization.
+ */
+@Immutable
+@SdkInternalApi
+final class CanonicalHeaders {
+
+    private final String[] names;
+    private final List<String>[] values;
+    private final String signedHeaders;
+
+    private CanonicalHeaders(String[] names, List<String>[] values) {
+        this.names = names;
+        this.values = values;
+        this.signedHeaders = String.join(";", names);
+    }
+
+    /**
+     * Create the canonical view of the given headers, leaving out the headers named (in lower case) in the given collection.
+     */
+    @SuppressWarnings("unchecked")
+    static CanonicalHeaders create(Map<String, List<String>> headers, Collection<String> headersToIgnoreInLowerCase) {
+        Header[] sorted = new Header[headers.size()];
+        int count = 0;
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            String name = lowerCase(header.getKey());
+            if (!headersToIgnoreInLowerCase.contains(name)) {
+                sorted[count++] = new Header(name, header.getValue());
+            }
+        }
+        // Arrays.sort on objects is stable, so headers differing only in case keep their relative order.
+        Arrays.sort(sorted, 0, count, (a, b) -> a.name.compareTo(b.name));
+
+        String[] names = new String[count];
+        List<String>[] values = new List[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = sorted[i].name;
+            values[i] = sorted[i].values;
+        }
+        return new CanonicalHeaders(names, values);
+    }
+
+    /**
+     * The lower-cased names of the signed headers, sorted and separated by semicolons.
+     */
+    String signedHeaders() {
+        return signedHeaders;
+    }
+
+    /**
+     * Writes the canonical headers, one "name:value" line per header value, collapsing contiguous white space.
+     */
+    void writeTo(CanonicalRequestWriter writer) {
+        for (int i = 0; i < names.length; i++) {
+            for (String value : values[i]) {
+                writer.appendCompacted(names[i]).append(':');
+                if (value != null) {
+                    writer.appendCompacted(value);
+                }
+                writer.append('\n');
+            }
+        }
+    }
+
+    private static final class Header {
+        private final String name;
+        private final List<String> values;
+
+        private Header(String name, List<String> values) {
+            this.name = name;
+            this.values = values;
+        }
+    }
+}
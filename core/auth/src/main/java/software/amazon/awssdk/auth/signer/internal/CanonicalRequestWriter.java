@@ -0,0 +1,160 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A reusable, per-thread buffer that the parts of a SigV4 canonical request are written into as UTF-8, so that the
+ * canonical request can be hashed without first being assembled into intermediate strings.
+ */
+@NotThreadSafe
+@SdkInternalApi
+final class CanonicalRequestWriter {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Requests with unusually large headers or query strings grow the buffer. Buffers above this size are not kept for
+     * reuse, so that one such request does not pin a large buffer to the thread.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<CanonicalRequestWriter> WRITER = ThreadLocal.withInitial(CanonicalRequestWriter::new);
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    private CanonicalRequestWriter() {
+    }
+
+    /**
+     * Returns the calling thread's writer, emptied.
+     */
+    static CanonicalRequestWriter get() {
+        CanonicalRequestWriter writer = WRITER.get();
+        if (writer.buffer.length > MAX_RETAINED_CAPACITY) {
+            writer.buffer = new byte[INITIAL_CAPACITY];
+        }
+        writer.length = 0;
+        return writer;
+    }
+
+    CanonicalRequestWriter append(char ch) {
+        if (ch < 0x80) {
+            ensureCapacity(1);
+            buffer[length++] = (byte) ch;
+            return this;
+        }
+        return appendNonAscii(String.valueOf(ch));
+    }
+
+    CanonicalRequestWriter append(String value) {
+        int valueLength = value.length();
+        ensureCapacity(valueLength);
+        for (int i = 0; i < valueLength; i++) {
+            char ch = value.charAt(i);
+            if (ch >= 0x80) {
+                length -= i;
+                return appendNonAscii(value);
+            }
+            buffer[length++] = (byte) ch;
+        }
+        return this;
+    }
+
+    /**
+     * Appends the value, collapsing contiguous white space into a single space.
+     */
+    CanonicalRequestWriter appendCompacted(String value) {
+        boolean previousIsWhiteSpace = false;
+        int valueLength = value.length();
+        ensureCapacity(valueLength);
+
+        for (int i = 0; i < valueLength; i++) {
+            char ch = value.charAt(i);
+            if (isWhiteSpace(ch)) {
+                if (previousIsWhiteSpace) {
+                    continue;
+                }
+                buffer[length++] = ' ';
+                previousIsWhiteSpace = true;
+            } else if (ch < 0x80) {
+                buffer[length++] = (byte) ch;
+                previousIsWhiteSpace = false;
+            } else {
+                // Rare: fall back to encoding the remainder char by char, which handles surrogate pairs correctly.
+                return appendCompactedNonAscii(value, i, previousIsWhiteSpace);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Computes the SHA-256 hash of everything written so far.
+     */
+    byte[] sha256() {
+        return AbstractAwsSigner.hash(buffer, 0, length);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private CanonicalRequestWriter appendCompactedNonAscii(String value, int from, boolean previousIsWhiteSpace) {
+        StringBuilder remainder = new StringBuilder(value.length() - from);
+        for (int i = from; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (isWhiteSpace(ch)) {
+                if (!previousIsWhiteSpace) {
+                    remainder.append(' ');
+                }
+                previousIsWhiteSpace = true;
+            } else {
+                remainder.append(ch);
+                previousIsWhiteSpace = false;
+            }
+        }
+        return appendNonAscii(remainder.toString());
+    }
+
+    private CanonicalRequestWriter appendNonAscii(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+        return this;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = length + additional;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+
+    /**
+     * Tests a char to see if is it whitespace. This method considers the same characters to be white space as the Pattern
+     * class does when matching \s
+     */
+    private static boolean isWhiteSpace(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000b' || ch == '\r' || ch == '\f';
+    }
+}
@@ -17,18 +17,27 @@ package software.amazon.awssdk.auth.signer.internal;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
+/**
+ * Reads a signed chunk: the chunk header, the chunk data and the trailing CRLF. The three parts are read from where they
+ * are, so that the chunk data does not have to be copied into a single signed chunk array first.
+ */
 @SdkInternalApi
 class ChunkContentIterator {
 
-    private final byte[] signedChunk;
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final byte[][] parts;
+    private final int[] lengths;
+    private int part;
     private int pos;
 
-    ChunkContentIterator(byte[] signedChunk) {
-        this.signedChunk = signedChunk;
+    ChunkContentIterator(byte[] header, byte[] data, int dataLength) {
+        this.parts = new byte[][] {header, data, CRLF};
+        this.lengths = new int[] {header.length, dataLength, CRLF.length};
     }
 
     public boolean hasNext() {
-        return pos < signedChunk.length;
+        return part < parts.length;
     }
 
     public int read(byte[] output, int offset, int length) {
@@ -39,10 +48,17 @@ class ChunkContentIterator {
             return -1;
         }
 
-        int remaingBytesNum = signedChunk.length - pos;
-        int bytesToRead = Math.min(remaingBytesNum, length);
-        System.arraycopy(signedChunk, pos, output, offset, bytesToRead);
-        pos += bytesToRead;
-        return bytesToRead;
+        int bytesRead = 0;
+        while (bytesRead < length && hasNext()) {
+            int bytesToRead = Math.min(lengths[part] - pos, length - bytesRead);
+            System.arraycopy(parts[part], pos, output, offset + bytesRead, bytesToRead);
+            bytesRead += bytesToRead;
+            pos += bytesToRead;
+            if (pos == lengths[part]) {
+                part++;
+                pos = 0;
+            }
+        }
+        return bytesRead;
     }
-}
\ No newline at end of file
+}
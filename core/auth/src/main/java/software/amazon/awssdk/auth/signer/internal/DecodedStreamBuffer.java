@@ -67,6 +67,18 @@ class DecodedStreamBuffer {
         return bufferArray[pos++];
     }
 
+    /**
+     * Read up to length buffered bytes into the destination.
+     *
+     * @return The number of bytes read.
+     */
+    public int read(byte[] dst, int dstPos, int length) {
+        int bytesToRead = Math.min(byteBuffered - pos, length);
+        System.arraycopy(bufferArray, pos, dst, dstPos, bytesToRead);
+        pos += bytesToRead;
+        return bytesToRead;
+    }
+
     public void startReadBuffer() {
         if (bufferSizeOverflow) {
             throw SdkClientException.builder()
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static software.amazon.awssdk.auth.signer.internal.BaseEventStreamAsyncAws4Signer.EVENT_STREAM_DATE;
+import static software.amazon.awssdk.auth.signer.internal.BaseEventStreamAsyncAws4Signer.EVENT_STREAM_SIGNATURE;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.eventstream.HeaderValue;
+import software.amazon.eventstream.Message;
+
+/**
+ * Wraps each data frame of an event stream in a signed event-stream {@link Message}, chaining the signature of every frame
+ * to the signature of the previous one.
+ *
+ * <p>The signed frame is written straight into the buffer that is returned: its prelude, the encoded {@code :date} and
+ * {@code :chunk-signature} headers, the payload and the message CRC. Everything that does not change from one frame to the
+ * next is computed once per stream: the encoded headers, the hash of the {@code :date} header and the string to sign, in
+ * which only the hex encoded prior signature and payload hash are rewritten for each frame. The MAC, digest and checksum
+ * instances are owned by this signer and reused, so the returned frame is the only allocation per signed frame.
+ *
+ * <p>Frames must be signed one at a time and in order, which the reactive streams rules guarantee for a publisher mapped
+ * with this function.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class EventStreamFrameSigner implements Function<ByteBuffer, ByteBuffer> {
+    private static final String EVENT_STREAM_PAYLOAD = "AWS4-HMAC-SHA256-PAYLOAD";
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int PRELUDE_LENGTH = 8;
+    private static final int CRC_LENGTH = 4;
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int SIGNATURE_HEX_LENGTH = 2 * SIGNATURE_LENGTH;
+
+    private final Mac mac;
+    private final MessageDigest messageDigest;
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * The encoded {@code :date} and {@code :chunk-signature} headers, with a zeroed signature that is filled in each frame.
+     */
+    private final byte[] encodedHeaders;
+
+    /**
+     * The string to sign, with the prior signature at {@link #priorSignatureOffset} and the payload hash at
+     * {@link #payloadHashOffset}.
+     */
+    private final byte[] stringToSign;
+    private final int priorSignatureOffset;
+    private final int payloadHashOffset;
+
+    private final byte[] payloadHash = new byte[SIGNATURE_LENGTH];
+
+    EventStreamFrameSigner(String headerSignature, byte[] signingKey, Aws4SignerRequestParams requestParams) {
+        this.mac = newMac(signingKey);
+        this.messageDigest = newMessageDigest();
+
+        long signingEpochMilli = requestParams.getSigningDateTimeMilli();
+        Map<String, HeaderValue> headers = new LinkedHashMap<>();
+        headers.put(EVENT_STREAM_DATE, HeaderValue.fromTimestamp(Instant.ofEpochMilli(signingEpochMilli)));
+        byte[] encodedDateHeader = Message.encodeHeaders(headers.entrySet());
+        // The signature header is always the last header
+        headers.put(EVENT_STREAM_SIGNATURE, HeaderValue.fromByteArray(new byte[SIGNATURE_LENGTH]));
+        this.encodedHeaders = Message.encodeHeaders(headers.entrySet());
+
+        String stringToSignPrefix = EVENT_STREAM_PAYLOAD +
+                                    SignerConstant.LINE_SEPARATOR +
+                                    Aws4SignerUtils.formatTimestamp(signingEpochMilli) +
+                                    SignerConstant.LINE_SEPARATOR +
+                                    requestParams.getScope() +
+                                    SignerConstant.LINE_SEPARATOR;
+        String stringToSignInfix = SignerConstant.LINE_SEPARATOR +
+                                   BinaryUtils.toHex(AbstractAwsSigner.hash(encodedDateHeader, 0, encodedDateHeader.length)) +
+                                   SignerConstant.LINE_SEPARATOR;
+        byte[] prefix = stringToSignPrefix.getBytes(StandardCharsets.UTF_8);
+        byte[] infix = stringToSignInfix.getBytes(StandardCharsets.UTF_8);
+
+        this.priorSignatureOffset = prefix.length;
+        this.payloadHashOffset = priorSignatureOffset + SIGNATURE_HEX_LENGTH + infix.length;
+        this.stringToSign = new byte[payloadHashOffset + SIGNATURE_HEX_LENGTH];
+        System.arraycopy(prefix, 0, stringToSign, 0, prefix.length);
+        System.arraycopy(headerSignature.getBytes(StandardCharsets.US_ASCII), 0,
+                         stringToSign, priorSignatureOffset, SIGNATURE_HEX_LENGTH);
+        System.arraycopy(infix, 0, stringToSign, priorSignatureOffset + SIGNATURE_HEX_LENGTH, infix.length);
+    }
+
+    @Override
+    public ByteBuffer apply(ByteBuffer payload) {
+        int payloadLength = payload.remaining();
+        int totalLength = PRELUDE_LENGTH + CRC_LENGTH + encodedHeaders.length + payloadLength + CRC_LENGTH;
+        int signatureOffset = PRELUDE_LENGTH + CRC_LENGTH + encodedHeaders.length - SIGNATURE_LENGTH;
+
+        byte[] frame = new byte[totalLength];
+        ByteBuffer frameBuffer = ByteBuffer.wrap(frame);
+        frameBuffer.putInt(totalLength);
+        frameBuffer.putInt(encodedHeaders.length);
+        frameBuffer.putInt((int) checksum(frame, PRELUDE_LENGTH));
+        frameBuffer.put(encodedHeaders);
+        frameBuffer.put(payload.duplicate());
+
+        try {
+            messageDigest.update(payload.duplicate());
+            messageDigest.digest(payloadHash, 0, SIGNATURE_LENGTH);
+            writeHex(payloadHash, stringToSign, payloadHashOffset);
+
+            mac.update(stringToSign);
+            mac.doFinal(frame, signatureOffset);
+        } catch (Exception e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to calculate a request signature: " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+
+        // The signature of this frame is the prior signature of the next one
+        writeHex(frame, signatureOffset, stringToSign, priorSignatureOffset);
+
+        frameBuffer.putInt((int) checksum(frame, totalLength - CRC_LENGTH));
+        frameBuffer.flip();
+        return frameBuffer;
+    }
+
+    private long checksum(byte[] frame, int length) {
+        crc.reset();
+        crc.update(frame, 0, length);
+        return crc.getValue();
+    }
+
+    private static void writeHex(byte[] bytes, byte[] destination, int destinationOffset) {
+        writeHex(bytes, 0, destination, destinationOffset);
+    }
+
+    private static void writeHex(byte[] bytes, int offset, byte[] destination, int destinationOffset) {
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            int b = bytes[offset + i] & 0xFF;
+            destination[destinationOffset + 2 * i] = HEX_DIGITS[b >>> 4];
+            destination[destinationOffset + 2 * i + 1] = HEX_DIGITS[b & 0x0F];
+        }
+    }
+
+    private static Mac newMac(byte[] signingKey) {
+        try {
+            Mac mac = Mac.getInstance(SigningAlgorithm.HmacSHA256.toString());
+            mac.init(new SecretKeySpec(signingKey, SigningAlgorithm.HmacSHA256.toString()));
+            return mac;
+        } catch (Exception e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to calculate a request signature: " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (Exception e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to get SHA256 Function" + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+    }
+}
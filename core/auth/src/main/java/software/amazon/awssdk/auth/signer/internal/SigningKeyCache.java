@@ -0,0 +1,209 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static software.amazon.awssdk.utils.DateUtils.numberOfDaysSinceEpoch;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A concurrent cache of SigV4 signing keys, keyed by the credentials, region and service the key is scoped to.
+ *
+ * <p>Each entry holds the key for a single day. Signing in the last minutes of a UTC day precomputes the key for the
+ * following day on one thread, so that when the day rolls over the cached keys are swapped in instead of being derived
+ * again by every signing thread at once.
+ *
+ * <p>Looking up a cached key doesn't allocate: the lookup uses a reusable per-thread key, and only a miss creates a key to
+ * store in the cache.
+ *
+ * <p>The returned keys are shared and must not be modified.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SigningKeyCache {
+
+    private static final long PRECOMPUTE_WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private static final ThreadLocal<CacheKey> LOOKUP_KEY = ThreadLocal.withInitial(CacheKey::new);
+
+    private final ConcurrentMap<CacheKey, Entry> cache = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public SigningKeyCache(int maxSize) {
+        this.maxSize = Validate.isPositive(maxSize, "maxSize");
+    }
+
+    /**
+     * Returns the signing key for the given credentials, region and service on the day of the given signing time, deriving
+     * and caching it with the given factory if it's not cached.
+     */
+    public byte[] signingKey(AwsCredentials credentials,
+                             String regionName,
+                             String serviceName,
+                             long signingDateTimeMilli,
+                             SigningKeyFactory factory) {
+        long day = numberOfDaysSinceEpoch(signingDateTimeMilli);
+        byte[] cachedKey = cachedSigningKey(credentials, regionName, serviceName, day, signingDateTimeMilli, factory);
+        if (cachedKey != null) {
+            return cachedKey;
+        }
+
+        byte[] signingKey = factory.newSigningKey(credentials, Aws4SignerUtils.formatDateStamp(signingDateTimeMilli),
+                                                  regionName, serviceName);
+        put(new CacheKey().set(credentials.secretAccessKey(), regionName, serviceName), new Entry(day, signingKey));
+        return signingKey;
+    }
+
+    /**
+     * @return The cached signing key for the given day, or null if it isn't cached.
+     */
+    private byte[] cachedSigningKey(AwsCredentials credentials,
+                                    String regionName,
+                                    String serviceName,
+                                    long day,
+                                    long signingDateTimeMilli,
+                                    SigningKeyFactory factory) {
+        CacheKey lookupKey = LOOKUP_KEY.get().set(credentials.secretAccessKey(), regionName, serviceName);
+        try {
+            Entry entry = cache.get(lookupKey);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.day == day) {
+                precomputeNextDayIfDue(entry, credentials, regionName, serviceName, signingDateTimeMilli, factory);
+                return entry.signingKey;
+            }
+
+            Entry nextDay = entry.nextDay;
+            if (nextDay != null && nextDay.day == day) {
+                cache.replace(lookupKey, entry, nextDay);
+                return nextDay.signingKey;
+            }
+            return null;
+        } finally {
+            // Don't keep the secret key reachable from the thread
+            lookupKey.clear();
+        }
+    }
+
+    /**
+     * The number of signing keys currently cached.
+     */
+    int size() {
+        return cache.size();
+    }
+
+    private void precomputeNextDayIfDue(Entry entry,
+                                        AwsCredentials credentials,
+                                        String regionName,
+                                        String serviceName,
+                                        long signingDateTimeMilli,
+                                        SigningKeyFactory factory) {
+        long nextDayStartMilli = (entry.day + 1) * DAY_MILLIS;
+        if (nextDayStartMilli - signingDateTimeMilli > PRECOMPUTE_WINDOW_MILLIS ||
+            !entry.precomputing.compareAndSet(false, true)) {
+            return;
+        }
+
+        byte[] nextDayKey = factory.newSigningKey(credentials, Aws4SignerUtils.formatDateStamp(nextDayStartMilli),
+                                                  regionName, serviceName);
+        entry.nextDay = new Entry(entry.day + 1, nextDayKey);
+    }
+
+    private void put(CacheKey cacheKey, Entry entry) {
+        if (cache.size() >= maxSize && !cache.containsKey(cacheKey)) {
+            Iterator<CacheKey> keys = cache.keySet().iterator();
+            if (keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        cache.put(cacheKey, entry);
+    }
+
+    /**
+     * Derives a signing key for a date stamp, region and service.
+     */
+    @FunctionalInterface
+    public interface SigningKeyFactory {
+        byte[] newSigningKey(AwsCredentials credentials, String dateStamp, String regionName, String serviceName);
+    }
+
+    /**
+     * The key of a cache entry. Keys stored in the cache are never modified; only the per-thread lookup key is reused.
+     */
+    private static final class CacheKey {
+        private String secretAccessKey;
+        private String regionName;
+        private String serviceName;
+        private int hashCode;
+
+        private CacheKey set(String secretAccessKey, String regionName, String serviceName) {
+            this.secretAccessKey = secretAccessKey;
+            this.regionName = regionName;
+            this.serviceName = serviceName;
+            this.hashCode = 31 * (31 * secretAccessKey.hashCode() + regionName.hashCode()) + serviceName.hashCode();
+            return this;
+        }
+
+        private void clear() {
+            this.secretAccessKey = null;
+            this.regionName = null;
+            this.serviceName = null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return hashCode == other.hashCode &&
+                   secretAccessKey.equals(other.secretAccessKey) &&
+                   regionName.equals(other.regionName) &&
+                   serviceName.equals(other.serviceName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class Entry {
+        private final long day;
+        private final byte[] signingKey;
+        private final AtomicBoolean precomputing = new AtomicBoolean(false);
+        private volatile Entry nextDay;
+
+        private Entry(long day, byte[] signingKey) {
+            this.day = day;
+            this.signingKey = signingKey;
+        }
+    }
+}
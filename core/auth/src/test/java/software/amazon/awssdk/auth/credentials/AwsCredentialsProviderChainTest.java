@@ -15,14 +15,21 @@
 
 package software.amazon.awssdk.auth.credentials;
 
+import static org.hamcrest.Matchers.isA;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import java.util.Optional;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import software.amazon.awssdk.auth.credentials.internal.SystemSettingsCredentialsProvider;
+import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.utils.StringInputStream;
+import software.amazon.awssdk.utils.SystemSetting;
 
 public class AwsCredentialsProviderChainTest {
 
@@ -121,6 +128,155 @@ public class AwsCredentialsProviderChainTest {
         chain.resolveCredentials();
     }
 
+    @Test
+    public void resolveCredentialsAsync_usesFirstProviderThatProvidesCredentials() {
+        MockCredentialsProvider provider1 = new MockCredentialsProvider("Failed!");
+        MockCredentialsProvider provider2 = new MockCredentialsProvider();
+        AwsCredentialsProviderChain chain = AwsCredentialsProviderChain.builder()
+                                                                       .credentialsProviders(provider1, provider2)
+                                                                       .build();
+
+        assertEquals("accessKey", chain.resolveCredentialsAsync().join().accessKeyId());
+        assertEquals(1, provider1.getCredentialsCallCount);
+        assertEquals(1, provider2.getCredentialsCallCount);
+
+        chain.resolveCredentialsAsync().join();
+        assertEquals(1, provider1.getCredentialsCallCount);
+        assertEquals(2, provider2.getCredentialsCallCount);
+    }
+
+    @Test
+    public void resolveCredentialsAsync_failsIfNoProviderProvidesCredentials() {
+        MockCredentialsProvider provider1 = new MockCredentialsProvider("Failed!");
+        MockCredentialsProvider provider2 = new MockCredentialsProvider("Bad!");
+        AwsCredentialsProviderChain chain = AwsCredentialsProviderChain.builder()
+                                                                       .credentialsProviders(provider1, provider2)
+                                                                       .build();
+
+        thrown.expectCause(isA(SdkClientException.class));
+        thrown.expectMessage(provider1.exceptionMessage);
+        thrown.expectMessage(provider2.exceptionMessage);
+
+        chain.resolveCredentialsAsync().join();
+    }
+
+    @Test
+    public void nonExpiringCredentialsAreCached() {
+        MockCredentialsProvider provider1 = new MockCredentialsProvider("Failed!");
+        NonExpiringMockCredentialsProvider provider2 = new NonExpiringMockCredentialsProvider();
+        AwsCredentialsProviderChain chain = AwsCredentialsProviderChain.builder()
+                                                                       .credentialsProviders(provider1, provider2)
+                                                                       .build();
+
+        AwsCredentials credentials = chain.resolveCredentials();
+        assertSame(credentials, chain.resolveCredentials());
+        assertSame(credentials, chain.resolveCredentialsAsync().join());
+        assertEquals(1, provider1.getCredentialsCallCount);
+        assertEquals(1, provider2.getCredentialsCallCount);
+
+        chain.clearCachedCredentials();
+        chain.resolveCredentials();
+        assertEquals(2, provider1.getCredentialsCallCount);
+        assertEquals(2, provider2.getCredentialsCallCount);
+    }
+
+    @Test
+    public void nonExpiringCredentialsAreNotCachedWhenReusingLastProviderIsDisabled() {
+        NonExpiringMockCredentialsProvider provider = new NonExpiringMockCredentialsProvider();
+        AwsCredentialsProviderChain chain = AwsCredentialsProviderChain.builder()
+                                                                       .credentialsProviders(provider)
+                                                                       .reuseLastProviderEnabled(false)
+                                                                       .build();
+
+        chain.resolveCredentials();
+        chain.resolveCredentials();
+        assertEquals(2, provider.getCredentialsCallCount);
+    }
+
+    @Test
+    public void sessionCredentialsFromSystemSettingsAreNotCached() {
+        NonExpiringMockCredentialsProvider provider = new NonExpiringMockCredentialsProvider("sessionToken");
+        AwsCredentialsProviderChain chain = AwsCredentialsProviderChain.builder()
+                                                                       .credentialsProviders(provider)
+                                                                       .build();
+
+        assertTrue(chain.resolveCredentials() instanceof AwsSessionCredentials);
+        chain.resolveCredentials();
+        assertEquals(2, provider.getCredentialsCallCount);
+    }
+
+    @Test
+    public void credentialsFromSystemPropertiesAreNotCached() {
+        String accessKeyProperty = SdkSystemSetting.AWS_ACCESS_KEY_ID.property();
+        String secretKeyProperty = SdkSystemSetting.AWS_SECRET_ACCESS_KEY.property();
+        String originalAccessKey = System.getProperty(accessKeyProperty);
+        String originalSecretKey = System.getProperty(secretKeyProperty);
+        try {
+            System.setProperty(accessKeyProperty, "accessKey1");
+            System.setProperty(secretKeyProperty, "secretKey");
+            AwsCredentialsProviderChain chain = AwsCredentialsProviderChain.builder()
+                                                                           .credentialsProviders(
+                                                                               SystemPropertyCredentialsProvider.create())
+                                                                           .build();
+
+            assertEquals("accessKey1", chain.resolveCredentials().accessKeyId());
+            System.setProperty(accessKeyProperty, "accessKey2");
+            assertEquals("accessKey2", chain.resolveCredentials().accessKeyId());
+        } finally {
+            restoreProperty(accessKeyProperty, originalAccessKey);
+            restoreProperty(secretKeyProperty, originalSecretKey);
+        }
+    }
+
+    @Test
+    public void credentialsOfOtherProvidersAreNotCached() {
+        MockCredentialsProvider provider = new MockCredentialsProvider();
+        AwsCredentialsProviderChain chain = AwsCredentialsProviderChain.builder()
+                                                                       .credentialsProviders(provider)
+                                                                       .build();
+
+        chain.resolveCredentials();
+        chain.resolveCredentials();
+        assertEquals(2, provider.getCredentialsCallCount);
+    }
+
+    private static void restoreProperty(String property, String value) {
+        if (value == null) {
+            System.clearProperty(property);
+        } else {
+            System.setProperty(property, value);
+        }
+    }
+
+    private static final class NonExpiringMockCredentialsProvider extends SystemSettingsCredentialsProvider {
+        private final String sessionToken;
+        int getCredentialsCallCount = 0;
+
+        private NonExpiringMockCredentialsProvider() {
+            this(null);
+        }
+
+        private NonExpiringMockCredentialsProvider(String sessionToken) {
+            this.sessionToken = sessionToken;
+        }
+
+        @Override
+        public AwsCredentials resolveCredentials() {
+            getCredentialsCallCount++;
+            return super.resolveCredentials();
+        }
+
+        @Override
+        protected Optional<String> loadSetting(SystemSetting setting) {
+            if (setting == SdkSystemSetting.AWS_ACCESS_KEY_ID) {
+                return Optional.of("accessKey");
+            }
+            if (setting == SdkSystemSetting.AWS_SECRET_ACCESS_KEY) {
+                return Optional.of("secretKey");
+            }
+            return Optional.ofNullable(sessionToken);
+        }
+    }
 
     private static final class MockCredentialsProvider implements AwsCredentialsProvider {
         private final StaticCredentialsProvider staticCredentialsProvider;
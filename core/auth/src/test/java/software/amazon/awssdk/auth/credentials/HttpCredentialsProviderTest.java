@@ -127,6 +127,43 @@ public class HttpCredentialsProviderTest {
         assertThat(credentialsProvider.resolveCredentials()).isNotNull();
     }
 
+    @Test
+    public void asyncCredentialUpdatesAreCounted() throws InterruptedException {
+        HttpCredentialsProvider credentialsProvider = new HttpCredentialsProvider(true, "test", Duration.ZERO) {
+            @Override
+            protected ResourcesEndpointProvider getCredentialsEndpointProvider() {
+                return new TestCredentialsEndpointProvider("http://localhost:" + mockServer.port());
+            }
+        };
+
+        try {
+            // Credentials that are within the prefetch window, but not stale, are updated in the background.
+            stubForSuccessResonseWithCustomExpirationDate(Date.from(Instant.now().plus(Duration.ofMinutes(10))));
+            credentialsProvider.resolveCredentials();
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (credentialsProvider.successfulAsyncCredentialUpdateCount() == 0) {
+                assertThat(System.nanoTime()).isLessThan(deadline);
+                credentialsProvider.resolveCredentials();
+                Thread.sleep(10);
+            }
+
+            assertThat(credentialsProvider.failedAsyncCredentialUpdateCount()).isZero();
+            assertThat(credentialsProvider.lastAsyncCredentialUpdateLatency()).isGreaterThan(Duration.ZERO);
+        } finally {
+            credentialsProvider.close();
+        }
+    }
+
+    @Test
+    public void asyncCredentialUpdateMetricsAreZeroWhenDisabled() {
+        HttpCredentialsProvider credentialsProvider = testCredentialsProvider();
+
+        assertThat(credentialsProvider.successfulAsyncCredentialUpdateCount()).isZero();
+        assertThat(credentialsProvider.failedAsyncCredentialUpdateCount()).isZero();
+        assertThat(credentialsProvider.lastAsyncCredentialUpdateLatency()).isEqualTo(Duration.ZERO);
+    }
+
     private void stubForSuccessResponseWithCustomBody(String body) {
         stubFor(
             get(urlPathEqualTo(CREDENTIALS_PATH))
@@ -16,18 +16,25 @@
 package software.amazon.awssdk.auth.signer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.text.SimpleDateFormat;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 import java.util.SimpleTimeZone;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -36,10 +43,13 @@ import org.mockito.runners.MockitoJUnitRunner;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.auth.signer.internal.Aws4SignerUtils;
 import software.amazon.awssdk.auth.signer.internal.SignerTestUtils;
+import software.amazon.awssdk.auth.signer.params.Aws4PresignerParams;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
 
 /**
  * Unit tests for the {@link Aws4Signer}.
@@ -125,6 +135,82 @@ public class Aws4SignerTest {
         assertEquals(expectedAmzExpires, signed.rawQueryParameters().get("X-Amz-Expires").get(0));
     }
 
+    @Test
+    public void batchPresigning_MatchesIndividualPresigning() {
+        AwsCredentials credentials = AwsSessionCredentials.create("access", "secret", "token");
+        Aws4PresignerParams signerParams = presignerParams(credentials);
+
+        List<SdkHttpFullRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            requests.add(generateBasicRequest().encodedPath("/object-" + i).build());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<SdkHttpFullRequest> presigned = signer.presign(requests, signerParams, executor);
+
+            assertThat(presigned).hasSize(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                SdkHttpFullRequest expected = signer.presign(requests.get(i), signerParams);
+                assertThat(presigned.get(i).encodedPath()).isEqualTo("/object-" + i);
+                assertThat(presigned.get(i).rawQueryParameters()).isEqualTo(expected.rawQueryParameters());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void batchPresigning_ExecutorNeverRunsChunks_SignsOnCallingThread() {
+        Aws4PresignerParams signerParams = presignerParams(AwsBasicCredentials.create("access", "secret"));
+
+        List<SdkHttpFullRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            requests.add(generateBasicRequest().encodedPath("/object-" + i).build());
+        }
+
+        // Like a busy executor whose only thread is the caller's, this executor never starts the chunks submitted to it.
+        List<SdkHttpFullRequest> presigned = signer.presign(requests, signerParams, chunk -> { });
+
+        assertThat(presigned).hasSize(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            assertThat(presigned.get(i).rawQueryParameters())
+                .isEqualTo(signer.presign(requests.get(i), signerParams).rawQueryParameters());
+        }
+    }
+
+    @Test
+    public void batchPresigning_ErrorWhileSigning_RethrowsError() {
+        Error error = new StackOverflowError();
+        SdkHttpFullRequest request = mock(SdkHttpFullRequest.class);
+        when(request.toBuilder()).thenThrow(error);
+
+        assertThatThrownBy(() -> signer.presign(Collections.singletonList(request),
+                                                presignerParams(AwsBasicCredentials.create("access", "secret")),
+                                                Runnable::run))
+            .isSameAs(error);
+    }
+
+    @Test
+    public void batchPresigning_AnonymousCredentials_ReturnsRequestsUnsigned() {
+        AwsCredentials credentials = AnonymousCredentialsProvider.create().resolveCredentials();
+        SdkHttpFullRequest request = generateBasicRequest().build();
+
+        List<SdkHttpFullRequest> presigned = signer.presign(Collections.singletonList(request), presignerParams(credentials),
+                                                            Runnable::run);
+
+        assertThat(presigned).containsExactly(request);
+    }
+
+    private Aws4PresignerParams presignerParams(AwsCredentials credentials) {
+        return Aws4PresignerParams.builder()
+                                  .awsCredentials(credentials)
+                                  .signingName("demo")
+                                  .signingClockOverride(signingOverrideClock)
+                                  .signingRegion(Region.US_EAST_1)
+                                  .build();
+    }
+
     /**
      * Tests that if passed anonymous credentials, signer will not generate a signature.
      */
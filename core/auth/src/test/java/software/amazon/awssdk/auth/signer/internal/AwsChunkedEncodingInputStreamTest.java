@@ -0,0 +1,152 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.Test;
+import software.amazon.awssdk.auth.signer.AwsS3V4Signer;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class AwsChunkedEncodingInputStreamTest {
+
+    private static final byte[] SIGNING_KEY = "signing-key".getBytes(StandardCharsets.UTF_8);
+    private static final String DATE_TIME = "20180601T120000Z";
+    private static final String SCOPE = "20180601/us-east-1/s3/aws4_request";
+    private static final String HEADER_SIGNATURE = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+    private static final int CHUNK_SIZE = 128 * 1024;
+
+    @Test
+    public void encodedStream_hasCalculatedLength_andDecodesToOriginalData() throws IOException {
+        for (int length : new int[] {0, 1, CHUNK_SIZE, CHUNK_SIZE + 1, 3 * CHUNK_SIZE - 7}) {
+            byte[] data = randomBytes(length);
+
+            byte[] encoded = readFully(chunkedStream(new ByteArrayInputStream(data)));
+
+            assertThat((long) encoded.length).isEqualTo(AwsChunkedEncodingInputStream.calculateStreamContentLength(length));
+            assertThat(decode(encoded)).isEqualTo(data);
+        }
+    }
+
+    @Test
+    public void firstChunk_isSignedWithHeaderSignature() throws Exception {
+        byte[] data = randomBytes(1000);
+
+        String encoded = new String(readFully(chunkedStream(new ByteArrayInputStream(data))), StandardCharsets.ISO_8859_1);
+
+        String stringToSign = "AWS4-HMAC-SHA256-PAYLOAD\n" + DATE_TIME + "\n" + SCOPE + "\n" + HEADER_SIGNATURE + "\n" +
+                              AbstractAws4Signer.EMPTY_STRING_SHA256_HEX + "\n" +
+                              BinaryUtils.toHex(AbstractAwsSigner.hash(data, 0, data.length));
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SIGNING_KEY, "HmacSHA256"));
+        String expectedSignature = BinaryUtils.toHex(mac.doFinal(stringToSign.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(encoded).startsWith("3e8;chunk-signature=" + expectedSignature + "\r\n");
+    }
+
+    @Test
+    public void reset_withNonMarkableStream_replaysSameEncoding() throws IOException {
+        byte[] data = randomBytes(CHUNK_SIZE + 10);
+        AwsChunkedEncodingInputStream stream = chunkedStream(new NonMarkableInputStream(new ByteArrayInputStream(data)));
+        stream.mark(0);
+
+        byte[] first = readFully(stream);
+        stream.reset();
+        byte[] second = readFully(stream);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(decode(second)).isEqualTo(data);
+    }
+
+    @Test
+    public void close_endsTheStream() throws IOException {
+        AwsChunkedEncodingInputStream stream = chunkedStream(new ByteArrayInputStream(randomBytes(10)));
+        assertThat(stream.read()).isNotEqualTo(-1);
+
+        stream.close();
+        stream.close();
+
+        assertThat(stream.read()).isEqualTo(-1);
+    }
+
+    private static AwsChunkedEncodingInputStream chunkedStream(InputStream in) {
+        return new AwsChunkedEncodingInputStream(in, SIGNING_KEY, DATE_TIME, SCOPE, HEADER_SIGNATURE, AwsS3V4Signer.create());
+    }
+
+    private static byte[] decode(byte[] encoded) {
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        int pos = 0;
+        while (true) {
+            int headerEnd = indexOfCrlf(encoded, pos);
+            String header = new String(encoded, pos, headerEnd - pos, StandardCharsets.US_ASCII);
+            int chunkSize = Integer.parseInt(header.substring(0, header.indexOf(';')), 16);
+            pos = headerEnd + 2;
+            decoded.write(encoded, pos, chunkSize);
+            pos += chunkSize;
+            assertThat(new String(encoded, pos, 2, StandardCharsets.US_ASCII)).isEqualTo("\r\n");
+            pos += 2;
+            if (chunkSize == 0) {
+                assertThat(pos).isEqualTo(encoded.length);
+                return decoded.toByteArray();
+            }
+        }
+    }
+
+    private static int indexOfCrlf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length - 1; i++) {
+            if (bytes[i] == '\r' && bytes[i + 1] == '\n') {
+                return i;
+            }
+        }
+        throw new AssertionError("No CRLF after " + from);
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[7919];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static final class NonMarkableInputStream extends FilterInputStream {
+        private NonMarkableInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
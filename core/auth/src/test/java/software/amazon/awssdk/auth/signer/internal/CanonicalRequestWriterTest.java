@@ -0,0 +1,85 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class CanonicalRequestWriterTest {
+
+    @Test
+    public void append_writesUtf8() {
+        CanonicalRequestWriter writer = CanonicalRequestWriter.get().append("GET").append('\n').append("/café/😀");
+
+        assertThat(writer.toString()).isEqualTo("GET\n/café/😀");
+    }
+
+    @Test
+    public void appendCompacted_collapsesWhiteSpace() {
+        CanonicalRequestWriter writer = CanonicalRequestWriter.get()
+                                                              .appendCompacted("  a \t\n b ")
+                                                              .append('|')
+                                                              .appendCompacted("x  é  é");
+
+        assertThat(writer.toString()).isEqualTo(" a b |x é é");
+    }
+
+    @Test
+    public void get_resetsTheWriter() {
+        CanonicalRequestWriter.get().append("previous request");
+
+        assertThat(CanonicalRequestWriter.get().append("next").toString()).isEqualTo("next");
+    }
+
+    @Test
+    public void append_beyondInitialCapacity_grows() {
+        char[] chars = new char[5000];
+        Arrays.fill(chars, 'a');
+        String value = new String(chars);
+
+        assertThat(CanonicalRequestWriter.get().append(value).toString()).isEqualTo(value);
+    }
+
+    @Test
+    public void sha256_matchesHashOfWrittenString() {
+        CanonicalRequestWriter writer = CanonicalRequestWriter.get().append("PUT\n/\n\nhost:example.com\n");
+
+        assertThat(writer.sha256()).isEqualTo(AbstractAwsSigner.hash("PUT\n/\n\nhost:example.com\n"));
+    }
+
+    @Test
+    public void canonicalHeaders_areLowerCasedSortedAndFiltered() {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        headers.put("X-Amz-Date", Collections.singletonList("20180601T000000Z"));
+        headers.put("Host", Collections.singletonList("example.com"));
+        headers.put("User-Agent", Collections.singletonList("ignored"));
+        headers.put("content-type", Arrays.asList("a  b", null));
+
+        CanonicalHeaders canonicalHeaders = CanonicalHeaders.create(headers, Collections.singletonList("user-agent"));
+        CanonicalRequestWriter writer = CanonicalRequestWriter.get();
+        canonicalHeaders.writeTo(writer);
+
+        assertThat(canonicalHeaders.signedHeaders()).isEqualTo("content-type;host;x-amz-date");
+        assertThat(writer.toString()).isEqualTo("content-type:a b\ncontent-type:\nhost:example.com\n"
+                                                + "x-amz-date:20180601T000000Z\n");
+    }
+}
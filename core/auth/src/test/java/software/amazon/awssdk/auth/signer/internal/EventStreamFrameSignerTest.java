@@ -0,0 +1,101 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.auth.signer.internal.BaseEventStreamAsyncAws4Signer.EVENT_STREAM_DATE;
+import static software.amazon.awssdk.auth.signer.internal.BaseEventStreamAsyncAws4Signer.EVENT_STREAM_SIGNATURE;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.eventstream.Message;
+import software.amazon.eventstream.MessageDecoder;
+
+public class EventStreamFrameSignerTest {
+
+    private static final Instant SIGNING_TIME = Instant.parse("2018-06-01T12:00:00Z");
+    private static final String HEADER_SIGNATURE = "79f246d8652f08dd3cfaf84cc0d8b4fcce032332c78d43ea1ed6f4f6586ab59d";
+    private static final byte[] SIGNING_KEY = "signing-key".getBytes(StandardCharsets.UTF_8);
+
+    private final Aws4SignerRequestParams requestParams =
+        new Aws4SignerRequestParams(Aws4SignerParams.builder()
+                                                    .awsCredentials(AwsBasicCredentials.create("akid", "skid"))
+                                                    .signingName("demo")
+                                                    .signingRegion(Region.US_EAST_1)
+                                                    .signingClockOverride(Clock.fixed(SIGNING_TIME, ZoneOffset.UTC))
+                                                    .build());
+
+    @Test
+    public void signedFrame_decodesToMessageWithDateSignatureAndPayload() {
+        EventStreamFrameSigner signer = new EventStreamFrameSigner(HEADER_SIGNATURE, SIGNING_KEY, requestParams);
+
+        List<Message> messages = decode(signer.apply(payload("first")), signer.apply(payload("")));
+
+        assertThat(messages).hasSize(2);
+        assertThat(messages.get(0).getPayload()).isEqualTo("first".getBytes(StandardCharsets.UTF_8));
+        assertThat(messages.get(0).getHeaders().get(EVENT_STREAM_DATE).getTimestamp()).isEqualTo(SIGNING_TIME);
+        assertThat(messages.get(0).getHeaders().get(EVENT_STREAM_SIGNATURE).getByteArray()).hasSize(32);
+        assertThat(messages.get(1).getPayload()).isEmpty();
+        assertThat(messages.get(1).getHeaders().get(EVENT_STREAM_SIGNATURE).getByteArray())
+            .isNotEqualTo(messages.get(0).getHeaders().get(EVENT_STREAM_SIGNATURE).getByteArray());
+    }
+
+    @Test
+    public void signature_chainsToPriorFrame() {
+        EventStreamFrameSigner signer = new EventStreamFrameSigner(HEADER_SIGNATURE, SIGNING_KEY, requestParams);
+        ByteBuffer first = signer.apply(payload("same"));
+        ByteBuffer second = signer.apply(payload("same"));
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(new EventStreamFrameSigner(HEADER_SIGNATURE, SIGNING_KEY, requestParams).apply(payload("same")))
+            .isEqualTo(first);
+    }
+
+    @Test
+    public void payload_onlyRemainingBytesAreSignedAndBufferIsNotConsumed() {
+        byte[] backing = "xxpayloadyy".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer slice = ByteBuffer.wrap(backing, 2, 7);
+
+        ByteBuffer fromSlice = new EventStreamFrameSigner(HEADER_SIGNATURE, SIGNING_KEY, requestParams).apply(slice);
+        ByteBuffer fromArray = new EventStreamFrameSigner(HEADER_SIGNATURE, SIGNING_KEY, requestParams).apply(payload("payload"));
+
+        assertThat(fromSlice).isEqualTo(fromArray);
+        assertThat(slice.position()).isEqualTo(2);
+        assertThat(slice.remaining()).isEqualTo(7);
+    }
+
+    private static ByteBuffer payload(String payload) {
+        return ByteBuffer.wrap(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Message> decode(ByteBuffer... frames) {
+        List<Message> messages = new ArrayList<>();
+        MessageDecoder decoder = new MessageDecoder(messages::add);
+        for (ByteBuffer frame : frames) {
+            decoder.feed(frame.array(), frame.arrayOffset() + frame.position(), frame.remaining());
+        }
+        return messages;
+    }
+}
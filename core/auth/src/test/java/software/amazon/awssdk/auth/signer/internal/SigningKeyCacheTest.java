@@ -0,0 +1,104 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+
+public class SigningKeyCacheTest {
+
+    private static final AwsCredentials CREDENTIALS = AwsBasicCredentials.create("akid", "skid");
+    private static final long NOON = Instant.parse("2018-06-01T12:00:00Z").toEpochMilli();
+    private static final long BEFORE_MIDNIGHT = Instant.parse("2018-06-01T23:58:00Z").toEpochMilli();
+    private static final long NEXT_DAY = Instant.parse("2018-06-02T00:00:01Z").toEpochMilli();
+
+    private final List<String> derivedKeys = new ArrayList<>();
+
+    private final SigningKeyCache.SigningKeyFactory factory = (credentials, dateStamp, region, service) -> {
+        String key = credentials.secretAccessKey() + "/" + dateStamp + "/" + region + "/" + service;
+        derivedKeys.add(key);
+        return key.getBytes();
+    };
+
+    @Test
+    public void signingKey_sameScopeAndDay_isDerivedOnce() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+
+        byte[] first = cache.signingKey(CREDENTIALS, "us-east-1", "s3", NOON, factory);
+        byte[] second = cache.signingKey(CREDENTIALS, "us-east-1", "s3", NOON + 1000, factory);
+
+        assertThat(second).isSameAs(first);
+        assertThat(derivedKeys).containsExactly("skid/20180601/us-east-1/s3");
+    }
+
+    @Test
+    public void signingKey_differentScope_isDerivedSeparately() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+
+        cache.signingKey(CREDENTIALS, "us-east-1", "s3", NOON, factory);
+        cache.signingKey(CREDENTIALS, "us-west-2", "s3", NOON, factory);
+        cache.signingKey(CREDENTIALS, "us-east-1", "sqs", NOON, factory);
+        cache.signingKey(AwsBasicCredentials.create("akid", "other"), "us-east-1", "s3", NOON, factory);
+
+        assertThat(derivedKeys).hasSize(4);
+        assertThat(cache.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void signingKey_newDay_replacesCachedKey() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+
+        cache.signingKey(CREDENTIALS, "us-east-1", "s3", NOON, factory);
+        byte[] nextDayKey = cache.signingKey(CREDENTIALS, "us-east-1", "s3", NOON + 86_400_000L, factory);
+
+        assertThat(new String(nextDayKey)).isEqualTo("skid/20180602/us-east-1/s3");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void signingKey_beforeMidnight_precomputesNextDayKey() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+
+        cache.signingKey(CREDENTIALS, "us-east-1", "s3", NOON, factory);
+        cache.signingKey(CREDENTIALS, "us-east-1", "s3", BEFORE_MIDNIGHT, factory);
+        cache.signingKey(CREDENTIALS, "us-east-1", "s3", BEFORE_MIDNIGHT + 1000, factory);
+
+        assertThat(derivedKeys).containsExactly("skid/20180601/us-east-1/s3", "skid/20180602/us-east-1/s3");
+
+        byte[] nextDayKey = cache.signingKey(CREDENTIALS, "us-east-1", "s3", NEXT_DAY, factory);
+
+        assertThat(new String(nextDayKey)).isEqualTo("skid/20180602/us-east-1/s3");
+        assertThat(derivedKeys).hasSize(2);
+    }
+
+    @Test
+    public void signingKey_fullCache_evictsToStayWithinMaxSize() {
+        SigningKeyCache cache = new SigningKeyCache(2);
+
+        cache.signingKey(CREDENTIALS, "us-east-1", "s3", NOON, factory);
+        cache.signingKey(CREDENTIALS, "us-east-2", "s3", NOON, factory);
+        cache.signingKey(CREDENTIALS, "us-west-1", "s3", NOON, factory);
+        cache.signingKey(CREDENTIALS, "us-west-2", "s3", NOON, factory);
+
+        assertThat(cache.size()).isEqualTo(2);
+    }
+}
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
@@ -55,15 +56,36 @@ public final class AwsClientHandlerUtils {
     public static <InputT extends SdkRequest, OutputT extends SdkResponse> ExecutionContext createExecutionContext(
         ClientExecutionParams<InputT, OutputT> executionParams, SdkClientConfiguration clientConfig) {
 
-        SdkRequest originalRequest = executionParams.getInput();
+        AwsCredentials credentials = resolveCredentialsProvider(executionParams.getInput(), clientConfig).resolveCredentials();
+        return createExecutionContext(executionParams, clientConfig, credentials);
+    }
+
+    /**
+     * Create the execution context of an API call, without blocking the calling thread on loading the credentials.
+     */
+    public static <InputT extends SdkRequest, OutputT extends SdkResponse>
+            CompletableFuture<ExecutionContext> createExecutionContextAsync(
+        ClientExecutionParams<InputT, OutputT> executionParams, SdkClientConfiguration clientConfig) {
+
+        return resolveCredentialsProvider(executionParams.getInput(), clientConfig)
+            .resolveCredentialsAsync()
+            .thenApply(credentials -> createExecutionContext(executionParams, clientConfig, credentials));
+    }
+
+    private static AwsCredentialsProvider resolveCredentialsProvider(SdkRequest originalRequest,
+                                                                     SdkClientConfiguration clientConfig) {
         AwsCredentialsProvider clientCredentials = clientConfig.option(AwsClientOption.CREDENTIALS_PROVIDER);
-        AwsCredentialsProvider credentialsProvider = originalRequest.overrideConfiguration()
-                                                                    .filter(c -> c instanceof AwsRequestOverrideConfiguration)
-                                                                    .map(c -> (AwsRequestOverrideConfiguration) c)
-                                                                    .flatMap(AwsRequestOverrideConfiguration::credentialsProvider)
-                                                                    .orElse(clientCredentials);
+        return originalRequest.overrideConfiguration()
+                              .filter(c -> c instanceof AwsRequestOverrideConfiguration)
+                              .map(c -> (AwsRequestOverrideConfiguration) c)
+                              .flatMap(AwsRequestOverrideConfiguration::credentialsProvider)
+                              .orElse(clientCredentials);
+    }
+
+    private static <InputT extends SdkRequest, OutputT extends SdkResponse> ExecutionContext createExecutionContext(
+        ClientExecutionParams<InputT, OutputT> executionParams, SdkClientConfiguration clientConfig, AwsCredentials credentials) {
 
-        AwsCredentials credentials = credentialsProvider.resolveCredentials();
+        SdkRequest originalRequest = executionParams.getInput();
 
         Validate.validState(credentials != null, "Credential providers must never return null.");
 
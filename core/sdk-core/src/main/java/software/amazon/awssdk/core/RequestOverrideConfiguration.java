@@ -26,6 +26,7 @@ import java.util.TreeMap;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.Validate;
@@ -42,6 +43,7 @@ public abstract class RequestOverrideConfiguration {
     private final List<ApiName> apiNames;
     private final Duration apiCallTimeout;
     private final Duration apiCallAttemptTimeout;
+    private final HedgingPolicy hedgingPolicy;
     private final Signer signer;
 
     protected RequestOverrideConfiguration(Builder<?> builder) {
@@ -50,6 +52,7 @@ public abstract class RequestOverrideConfiguration {
         this.apiNames = Collections.unmodifiableList(new ArrayList<>(builder.apiNames()));
         this.apiCallTimeout = Validate.isPositiveOrNull(builder.apiCallTimeout(), "apiCallTimeout");
         this.apiCallAttemptTimeout = Validate.isPositiveOrNull(builder.apiCallAttemptTimeout(), "apiCallAttemptTimeout");
+        this.hedgingPolicy = builder.hedgingPolicy();
         this.signer = builder.signer();
     }
 
@@ -118,6 +121,16 @@ public abstract class RequestOverrideConfiguration {
         return Optional.ofNullable(apiCallAttemptTimeout);
     }
 
+    /**
+     * The hedging policy to use for this request. If present, this takes priority over the hedging policy configured on the
+     * client.
+     *
+     * @see Builder#hedgingPolicy(HedgingPolicy)
+     */
+    public Optional<HedgingPolicy> hedgingPolicy() {
+        return Optional.ofNullable(hedgingPolicy);
+    }
+
     /**
      * @return the signer for signing the request. This signer get priority over the signer set on the client while
      * signing the requests. If this value is not set, then the client level signer is used for signing the request.
@@ -286,6 +299,16 @@ public abstract class RequestOverrideConfiguration {
 
         Duration apiCallAttemptTimeout();
 
+        /**
+         * Configure the hedging policy to use for this request. This takes priority over the hedging policy configured on the
+         * client, and is only supported by asynchronous clients.
+         *
+         * @see RequestOverrideConfiguration#hedgingPolicy()
+         */
+        B hedgingPolicy(HedgingPolicy hedgingPolicy);
+
+        HedgingPolicy hedgingPolicy();
+
         /**
          * Sets the signer to use for signing the request. This signer get priority over the signer set on the client while
          * signing the requests. If this value is null, then the client level signer is used for signing the request.
@@ -311,6 +334,7 @@ public abstract class RequestOverrideConfiguration {
         private List<ApiName> apiNames = new ArrayList<>();
         private Duration apiCallTimeout;
         private Duration apiCallAttemptTimeout;
+        private HedgingPolicy hedgingPolicy;
         private Signer signer;
 
         protected BuilderImpl() {
@@ -320,6 +344,7 @@ public abstract class RequestOverrideConfiguration {
             headers(sdkRequestOverrideConfig.headers);
             rawQueryParameters(sdkRequestOverrideConfig.rawQueryParameters);
             sdkRequestOverrideConfig.apiNames.forEach(this::addApiName);
+            hedgingPolicy(sdkRequestOverrideConfig.hedgingPolicy);
         }
 
         @Override
@@ -414,6 +439,21 @@ public abstract class RequestOverrideConfiguration {
             return apiCallAttemptTimeout;
         }
 
+        @Override
+        public B hedgingPolicy(HedgingPolicy hedgingPolicy) {
+            this.hedgingPolicy = hedgingPolicy;
+            return (B) this;
+        }
+
+        public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+            hedgingPolicy(hedgingPolicy);
+        }
+
+        @Override
+        public HedgingPolicy hedgingPolicy() {
+            return hedgingPolicy;
+        }
+
         @Override
         public B signer(Signer signer) {
             this.signer = signer;
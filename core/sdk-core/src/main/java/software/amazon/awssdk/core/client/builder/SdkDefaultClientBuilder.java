@@ -16,6 +16,9 @@
 package software.amazon.awssdk.core.client.builder;
 
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.HASHED_WHEEL_TIMER_ENABLED;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.REQUEST_COALESCING_POLICY;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.RESPONSE_CACHE_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.SIGNER;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_SUFFIX;
@@ -25,7 +28,10 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ASYNC_HTTP_CLIENT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CRC32_FROM_COMPRESSED_DATA_ENABLED;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.HEDGING_POLICY;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.METRIC_PUBLISHER;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_POLICY;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_SLEEPER;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
 import static software.amazon.awssdk.utils.CollectionUtils.mergeLists;
 import static software.amazon.awssdk.utils.Validate.paramNotNull;
@@ -55,6 +61,7 @@ import software.amazon.awssdk.core.internal.http.loader.DefaultSdkAsyncHttpClien
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkHttpClientBuilder;
 import software.amazon.awssdk.core.internal.util.UserAgentUtils;
 import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.RetrySleeper;
 import software.amazon.awssdk.http.AbortableCallable;
 import software.amazon.awssdk.http.ExecuteRequest;
 import software.amazon.awssdk.http.SdkHttpClient;
@@ -186,9 +193,11 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         return configuration.merge(c -> c.option(EXECUTION_INTERCEPTORS, new ArrayList<>())
                                          .option(ADDITIONAL_HTTP_HEADERS, new LinkedHashMap<>())
                                          .option(RETRY_POLICY, RetryPolicy.defaultRetryPolicy())
+                                         .option(RETRY_SLEEPER, RetrySleeper.defaultSleeper())
                                          .option(USER_AGENT_PREFIX, UserAgentUtils.getUserAgent())
                                          .option(USER_AGENT_SUFFIX, "")
-                                         .option(CRC32_FROM_COMPRESSED_DATA_ENABLED, false));
+                                         .option(CRC32_FROM_COMPRESSED_DATA_ENABLED, false)
+                                         .option(HASHED_WHEEL_TIMER_ENABLED, false));
     }
 
     /**
@@ -311,8 +320,15 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
     public final B overrideConfiguration(ClientOverrideConfiguration overrideConfig) {
         clientConfiguration.option(EXECUTION_INTERCEPTORS, overrideConfig.executionInterceptors());
         clientConfiguration.option(RETRY_POLICY, overrideConfig.retryPolicy().orElse(null));
+        clientConfiguration.option(HEDGING_POLICY, overrideConfig.hedgingPolicy().orElse(null));
+        clientConfiguration.option(METRIC_PUBLISHER, overrideConfig.metricPublisher().orElse(null));
         clientConfiguration.option(ADDITIONAL_HTTP_HEADERS, overrideConfig.headers());
         clientConfiguration.option(SIGNER, overrideConfig.advancedOption(SIGNER).orElse(null));
+        clientConfiguration.option(HASHED_WHEEL_TIMER_ENABLED, overrideConfig.advancedOption(HASHED_WHEEL_TIMER_ENABLED)
+                                                                            .orElse(null));
+        clientConfiguration.option(REQUEST_COALESCING_POLICY, overrideConfig.advancedOption(REQUEST_COALESCING_POLICY)
+                                                                            .orElse(null));
+        clientConfiguration.option(RESPONSE_CACHE_POLICY, overrideConfig.advancedOption(RESPONSE_CACHE_POLICY).orElse(null));
         clientConfiguration.option(USER_AGENT_SUFFIX, overrideConfig.advancedOption(USER_AGENT_SUFFIX).orElse(null));
         clientConfiguration.option(USER_AGENT_PREFIX, overrideConfig.advancedOption(USER_AGENT_PREFIX).orElse(null));
         clientConfiguration.option(API_CALL_TIMEOUT, overrideConfig.apiCallTimeout().orElse(null));
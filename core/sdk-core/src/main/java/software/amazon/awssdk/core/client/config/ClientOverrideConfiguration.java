@@ -27,6 +27,8 @@ import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.metrics.MetricPublisher;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.utils.AttributeMap;
@@ -47,6 +49,8 @@ public final class ClientOverrideConfiguration
     implements ToCopyableBuilder<ClientOverrideConfiguration.Builder, ClientOverrideConfiguration> {
     private final Map<String, List<String>> headers;
     private final RetryPolicy retryPolicy;
+    private final HedgingPolicy hedgingPolicy;
+    private final MetricPublisher metricPublisher;
     private final List<ExecutionInterceptor> executionInterceptors;
     private final AttributeMap advancedOptions;
     private final Duration apiCallAttemptTimeout;
@@ -58,6 +62,8 @@ public final class ClientOverrideConfiguration
     private ClientOverrideConfiguration(Builder builder) {
         this.headers = CollectionUtils.deepUnmodifiableMap(builder.headers(), () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
         this.retryPolicy = builder.retryPolicy();
+        this.hedgingPolicy = builder.hedgingPolicy();
+        this.metricPublisher = builder.metricPublisher();
         this.executionInterceptors = Collections.unmodifiableList(new ArrayList<>(builder.executionInterceptors()));
         this.advancedOptions = builder.advancedOptions();
         this.apiCallTimeout = Validate.isPositiveOrNull(builder.apiCallTimeout(), "apiCallTimeout");
@@ -69,6 +75,8 @@ public final class ClientOverrideConfiguration
         return new DefaultClientOverrideConfigurationBuilder().advancedOptions(advancedOptions.toBuilder())
                                                               .headers(headers)
                                                               .retryPolicy(retryPolicy)
+                                                              .hedgingPolicy(hedgingPolicy)
+                                                              .metricPublisher(metricPublisher)
                                                               .apiCallTimeout(apiCallTimeout)
                                                               .apiCallAttemptTimeout(apiCallAttemptTimeout)
                                                               .executionInterceptors(executionInterceptors);
@@ -102,6 +110,25 @@ public final class ClientOverrideConfiguration
         return Optional.ofNullable(retryPolicy);
     }
 
+    /**
+     * The optional hedging policy that should be used to reduce the tail latency of idempotent requests made by asynchronous
+     * clients.
+     *
+     * @see Builder#hedgingPolicy(HedgingPolicy)
+     */
+    public Optional<HedgingPolicy> hedgingPolicy() {
+        return Optional.ofNullable(hedgingPolicy);
+    }
+
+    /**
+     * The optional publisher that receives the metrics of every API call made by the client.
+     *
+     * @see Builder#metricPublisher(MetricPublisher)
+     */
+    public Optional<MetricPublisher> metricPublisher() {
+        return Optional.ofNullable(metricPublisher);
+    }
+
     /**
      * Load the optional requested advanced option that was configured on the client builder.
      *
@@ -163,6 +190,8 @@ public final class ClientOverrideConfiguration
         return ToString.builder("ClientOverrideConfiguration")
                        .add("headers", headers)
                        .add("retryPolicy", retryPolicy)
+                       .add("hedgingPolicy", hedgingPolicy)
+                       .add("metricPublisher", metricPublisher)
                        .add("apiCallTimeout", apiCallTimeout)
                        .add("apiCallAttemptTimeout", apiCallAttemptTimeout)
                        .add("executionInterceptors", executionInterceptors)
@@ -233,6 +262,33 @@ public final class ClientOverrideConfiguration
             return retryPolicy(RetryPolicy.builder().applyMutation(retryPolicy).build());
         }
 
+        /**
+         * Configure the hedging policy that should be used to reduce the tail latency of idempotent requests. This is only
+         * supported by asynchronous clients, and is disabled by default.
+         *
+         * @see ClientOverrideConfiguration#hedgingPolicy()
+         */
+        Builder hedgingPolicy(HedgingPolicy hedgingPolicy);
+
+        HedgingPolicy hedgingPolicy();
+
+        /**
+         * Configure the hedging policy that should be used to reduce the tail latency of idempotent requests.
+         */
+        default Builder hedgingPolicy(Consumer<HedgingPolicy.Builder> hedgingPolicy) {
+            return hedgingPolicy(HedgingPolicy.builder().applyMutation(hedgingPolicy).build());
+        }
+
+        /**
+         * Configure the publisher that receives the metrics of every API call made by the client, like the duration of the call
+         * and of each attempt. By default, no metrics are collected.
+         *
+         * @see ClientOverrideConfiguration#metricPublisher()
+         */
+        Builder metricPublisher(MetricPublisher metricPublisher);
+
+        MetricPublisher metricPublisher();
+
         /**
          * Configure a list of execution interceptors that will have access to read and modify the request and response objcets as
          * they are processed by the SDK. These will replace any interceptors configured previously with this method or
@@ -342,6 +398,8 @@ public final class ClientOverrideConfiguration
     private static final class DefaultClientOverrideConfigurationBuilder implements Builder {
         private Map<String, List<String>> headers = new HashMap<>();
         private RetryPolicy retryPolicy;
+        private HedgingPolicy hedgingPolicy;
+        private MetricPublisher metricPublisher;
         private List<ExecutionInterceptor> executionInterceptors = new ArrayList<>();
         private AttributeMap.Builder advancedOptions = AttributeMap.builder();
         private Duration apiCallTimeout;
@@ -386,6 +444,36 @@ public final class ClientOverrideConfiguration
             return retryPolicy;
         }
 
+        @Override
+        public Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+            this.hedgingPolicy = hedgingPolicy;
+            return this;
+        }
+
+        public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+            hedgingPolicy(hedgingPolicy);
+        }
+
+        @Override
+        public HedgingPolicy hedgingPolicy() {
+            return hedgingPolicy;
+        }
+
+        @Override
+        public Builder metricPublisher(MetricPublisher metricPublisher) {
+            this.metricPublisher = metricPublisher;
+            return this;
+        }
+
+        public void setMetricPublisher(MetricPublisher metricPublisher) {
+            metricPublisher(metricPublisher);
+        }
+
+        @Override
+        public MetricPublisher metricPublisher() {
+            return metricPublisher;
+        }
+
         @Override
         public Builder executionInterceptors(List<ExecutionInterceptor> executionInterceptors) {
             Validate.paramNotNull(executionInterceptors, "executionInterceptors");
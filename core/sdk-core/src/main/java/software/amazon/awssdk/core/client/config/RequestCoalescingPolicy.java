@@ -0,0 +1,161 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.config;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configures request coalescing: identical requests that are made while an earlier one is still in flight share the result of
+ * the earlier request instead of being sent to the service again. This reduces the number of requests made when many threads
+ * ask for the same data at the same time, for example after a cache miss.
+ *
+ * <p>Only requests whose type was registered with {@link Builder#addRequestType(Class)} are coalesced. Register only read
+ * operations that don't change any state in the service, and whose response can be shared by every caller. Requests are
+ * identical if they are of the same type and marshall to the same HTTP request. Requests with a streaming request or response
+ * body and requests with a request override configuration are never coalesced.
+ *
+ * <p>Callers that receive the result of another caller's request don't send a request of their own, so the execution
+ * interceptor methods that see the HTTP request or response, or that modify the response, are not invoked for them: the shared
+ * response already reflects the modifications made when it was received. {@code afterUnmarshalling} and
+ * {@code afterExecution} are still invoked with the shared response, and {@code onExecutionFailure} with a copy of the shared
+ * failure.
+ *
+ * <p>Each caller can cancel its own call without affecting the others, and is still bound by the
+ * {@link ClientOverrideConfiguration#apiCallTimeout() API call timeout} while it waits for the shared result.
+ *
+ * @see SdkAdvancedClientOption#REQUEST_COALESCING_POLICY
+ */
+@Immutable
+@SdkPublicApi
+public final class RequestCoalescingPolicy
+        implements ToCopyableBuilder<RequestCoalescingPolicy.Builder, RequestCoalescingPolicy> {
+
+    private final Set<Class<? extends SdkRequest>> requestTypes;
+
+    private RequestCoalescingPolicy(BuilderImpl builder) {
+        this.requestTypes = Collections.unmodifiableSet(new HashSet<>(builder.requestTypes));
+    }
+
+    /**
+     * The request types that may be coalesced.
+     */
+    public Set<Class<? extends SdkRequest>> requestTypes() {
+        return requestTypes;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder().requestTypes(requestTypes);
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("RequestCoalescingPolicy")
+                       .add("requestTypes", requestTypes)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        RequestCoalescingPolicy that = (RequestCoalescingPolicy) o;
+        return requestTypes.equals(that.requestTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return requestTypes.hashCode();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, RequestCoalescingPolicy> {
+
+        /**
+         * Configure the request types that may be coalesced. This replaces any request types configured previously.
+         *
+         * @see RequestCoalescingPolicy#requestTypes()
+         */
+        Builder requestTypes(Set<Class<? extends SdkRequest>> requestTypes);
+
+        /**
+         * Add a request type that may be coalesced.
+         *
+         * @see RequestCoalescingPolicy#requestTypes()
+         */
+        Builder addRequestType(Class<? extends SdkRequest> requestType);
+
+        Set<Class<? extends SdkRequest>> requestTypes();
+
+        RequestCoalescingPolicy build();
+    }
+
+    /**
+     * Builder for a {@link RequestCoalescingPolicy}.
+     */
+    private static final class BuilderImpl implements Builder {
+
+        private Set<Class<? extends SdkRequest>> requestTypes = new HashSet<>();
+
+        private BuilderImpl() {
+        }
+
+        @Override
+        public Builder requestTypes(Set<Class<? extends SdkRequest>> requestTypes) {
+            Validate.paramNotNull(requestTypes, "requestTypes");
+            this.requestTypes = new HashSet<>(requestTypes);
+            return this;
+        }
+
+        public void setRequestTypes(Set<Class<? extends SdkRequest>> requestTypes) {
+            requestTypes(requestTypes);
+        }
+
+        @Override
+        public Builder addRequestType(Class<? extends SdkRequest> requestType) {
+            Validate.paramNotNull(requestType, "requestType");
+            this.requestTypes.add(requestType);
+            return this;
+        }
+
+        @Override
+        public Set<Class<? extends SdkRequest>> requestTypes() {
+            return Collections.unmodifiableSet(requestTypes);
+        }
+
+        @Override
+        public RequestCoalescingPolicy build() {
+            return new RequestCoalescingPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.config;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configures the client-side response cache: responses to read operations are kept in memory for a configured time, and an
+ * identical request made during that time is answered from the cache instead of being sent to the service. This reduces the
+ * cost and latency of reading data that rarely changes, like configuration.
+ *
+ * <p>Only responses to requests whose type was registered with {@link Builder#putTimeToLive(Class, Duration)} are cached.
+ * Register only read operations that don't change any state in the service, and whose response can be shared by every caller.
+ * Requests are identical if they are of the same type and marshall to the same HTTP request. Requests with a streaming request
+ * or response body and requests with a request override configuration are never cached.
+ *
+ * <p>When the cache exceeds its {@link #maximumWeight()}, the entries that are least likely to be used again are evicted, based
+ * on how often and how recently they were used.
+ *
+ * <p>Requests that are answered from the cache aren't sent to the service, so the execution interceptor methods that see the HTTP
+ * request or response, or that modify the response, are not invoked for them: the cached response already reflects the
+ * modifications made when it was received. {@code afterUnmarshalling} and {@code afterExecution} are still invoked with the
+ * cached response.
+ *
+ * @see SdkAdvancedClientOption#RESPONSE_CACHE_POLICY
+ */
+@Immutable
+@SdkPublicApi
+public final class ResponseCachePolicy implements ToCopyableBuilder<ResponseCachePolicy.Builder, ResponseCachePolicy> {
+
+    private static final long DEFAULT_MAXIMUM_WEIGHT = 1000;
+    private static final ToIntFunction<SdkResponse> DEFAULT_WEIGHER = r -> 1;
+
+    private final Map<Class<? extends SdkRequest>, Duration> timeToLive;
+    private final Duration staleWhileRevalidate;
+    private final long maximumWeight;
+    private final ToIntFunction<? super SdkResponse> weigher;
+
+    private ResponseCachePolicy(BuilderImpl builder) {
+        this.timeToLive = Collections.unmodifiableMap(new HashMap<>(builder.timeToLive));
+        this.staleWhileRevalidate = builder.staleWhileRevalidate == null ? Duration.ZERO
+                                                                         : Validate.isNotNegative(builder.staleWhileRevalidate,
+                                                                                                  "staleWhileRevalidate");
+        this.maximumWeight = builder.maximumWeight == null ? DEFAULT_MAXIMUM_WEIGHT : builder.maximumWeight;
+        Validate.isTrue(maximumWeight > 0, "maximumWeight must be positive, but was %s", maximumWeight);
+        this.weigher = builder.weigher == null ? DEFAULT_WEIGHER : builder.weigher;
+    }
+
+    /**
+     * How long responses are cached, by the type of the request they were returned for.
+     */
+    public Map<Class<? extends SdkRequest>, Duration> timeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * How long an expired response may still be returned while the response is refreshed. By default, this is zero: expired
+     * responses are never returned.
+     */
+    public Duration staleWhileRevalidate() {
+        return staleWhileRevalidate;
+    }
+
+    /**
+     * The maximum total weight of the cached responses. By default, this is 1000.
+     */
+    public long maximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * The function used to compute the weight of a cached response. By default, every response has a weight of 1, which makes
+     * the {@link #maximumWeight()} the maximum number of cached responses.
+     */
+    public ToIntFunction<? super SdkResponse> weigher() {
+        return weigher;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder().timeToLive(timeToLive)
+                        .staleWhileRevalidate(staleWhileRevalidate)
+                        .maximumWeight(maximumWeight)
+                        .weigher(weigher);
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ResponseCachePolicy")
+                       .add("timeToLive", timeToLive)
+                       .add("staleWhileRevalidate", staleWhileRevalidate)
+                       .add("maximumWeight", maximumWeight)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ResponseCachePolicy that = (ResponseCachePolicy) o;
+        return maximumWeight == that.maximumWeight
+               && timeToLive.equals(that.timeToLive)
+               && staleWhileRevalidate.equals(that.staleWhileRevalidate)
+               && weigher.equals(that.weigher);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = timeToLive.hashCode();
+        result = 31 * result + staleWhileRevalidate.hashCode();
+        result = 31 * result + Long.hashCode(maximumWeight);
+        result = 31 * result + weigher.hashCode();
+        return result;
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, ResponseCachePolicy> {
+
+        /**
+         * Configure how long responses are cached, by the type of the request they were returned for. This replaces any time to
+         * live configured previously.
+         *
+         * @see ResponseCachePolicy#timeToLive()
+         */
+        Builder timeToLive(Map<Class<? extends SdkRequest>, Duration> timeToLive);
+
+        /**
+         * Configure how long responses to requests of the given type are cached.
+         *
+         * @see ResponseCachePolicy#timeToLive()
+         */
+        Builder putTimeToLive(Class<? extends SdkRequest> requestType, Duration timeToLive);
+
+        Map<Class<? extends SdkRequest>, Duration> timeToLive();
+
+        /**
+         * Configure how long an expired response may still be returned while the response is refreshed.
+         *
+         * <p>For asynchronous clients, the response is refreshed in the background. For synchronous clients, the first caller
+         * that finds the response expired refreshes it, and other callers receive the expired response until that completes.
+         *
+         * @see ResponseCachePolicy#staleWhileRevalidate()
+         */
+        Builder staleWhileRevalidate(Duration staleWhileRevalidate);
+
+        Duration staleWhileRevalidate();
+
+        /**
+         * Configure the maximum total weight of the cached responses.
+         *
+         * @see ResponseCachePolicy#maximumWeight()
+         */
+        Builder maximumWeight(Long maximumWeight);
+
+        Long maximumWeight();
+
+        /**
+         * Configure the function used to compute the weight of a cached response. The weight of a response must not be negative.
+         *
+         * @see ResponseCachePolicy#weigher()
+         */
+        Builder weigher(ToIntFunction<? super SdkResponse> weigher);
+
+        ToIntFunction<? super SdkResponse> weigher();
+
+        ResponseCachePolicy build();
+    }
+
+    /**
+     * Builder for a {@link ResponseCachePolicy}.
+     */
+    private static final class BuilderImpl implements Builder {
+
+        private Map<Class<? extends SdkRequest>, Duration> timeToLive = new HashMap<>();
+        private Duration staleWhileRevalidate;
+        private Long maximumWeight;
+        private ToIntFunction<? super SdkResponse> weigher;
+
+        private BuilderImpl() {
+        }
+
+        @Override
+        public Builder timeToLive(Map<Class<? extends SdkRequest>, Duration> timeToLive) {
+            Validate.paramNotNull(timeToLive, "timeToLive");
+            this.timeToLive = new HashMap<>();
+            timeToLive.forEach(this::putTimeToLive);
+            return this;
+        }
+
+        public void setTimeToLive(Map<Class<? extends SdkRequest>, Duration> timeToLive) {
+            timeToLive(timeToLive);
+        }
+
+        @Override
+        public Builder putTimeToLive(Class<? extends SdkRequest> requestType, Duration timeToLive) {
+            Validate.paramNotNull(requestType, "requestType");
+            this.timeToLive.put(requestType, Validate.isPositive(timeToLive, "timeToLive"));
+            return this;
+        }
+
+        @Override
+        public Map<Class<? extends SdkRequest>, Duration> timeToLive() {
+            return Collections.unmodifiableMap(timeToLive);
+        }
+
+        @Override
+        public Builder staleWhileRevalidate(Duration staleWhileRevalidate) {
+            this.staleWhileRevalidate = staleWhileRevalidate;
+            return this;
+        }
+
+        public void setStaleWhileRevalidate(Duration staleWhileRevalidate) {
+            staleWhileRevalidate(staleWhileRevalidate);
+        }
+
+        @Override
+        public Duration staleWhileRevalidate() {
+            return staleWhileRevalidate;
+        }
+
+        @Override
+        public Builder maximumWeight(Long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        public void setMaximumWeight(Long maximumWeight) {
+            maximumWeight(maximumWeight);
+        }
+
+        @Override
+        public Long maximumWeight() {
+            return maximumWeight;
+        }
+
+        @Override
+        public Builder weigher(ToIntFunction<? super SdkResponse> weigher) {
+            this.weigher = weigher;
+            return this;
+        }
+
+        public void setWeigher(ToIntFunction<? super SdkResponse> weigher) {
+            weigher(weigher);
+        }
+
+        @Override
+        public ToIntFunction<? super SdkResponse> weigher() {
+            return weigher;
+        }
+
+        @Override
+        public ResponseCachePolicy build() {
+            return new ResponseCachePolicy(this);
+        }
+    }
+}
@@ -48,6 +48,32 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
      */
     public static final SdkAdvancedClientOption<Signer> SIGNER = new SdkAdvancedClientOption<>(Signer.class);
 
+    /**
+     * Whether API call and API call attempt timeouts should be tracked by a hashed wheel timer that is shared by all clients,
+     * instead of by tasks scheduled on the client's scheduled executor service. The hashed wheel timer schedules and cancels
+     * timeouts in constant time with a single tick thread, which reduces overhead for clients with a high request rate, at the
+     * cost of timeouts firing up to 10 milliseconds late. By default, this is false.
+     */
+    public static final SdkAdvancedClientOption<Boolean> HASHED_WHEEL_TIMER_ENABLED =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * Configure which requests may share the result of an identical request that is already in flight, instead of being sent
+     * to the service again. By default, no requests are coalesced.
+     *
+     * @see RequestCoalescingPolicy
+     */
+    public static final SdkAdvancedClientOption<RequestCoalescingPolicy> REQUEST_COALESCING_POLICY =
+        new SdkAdvancedClientOption<>(RequestCoalescingPolicy.class);
+
+    /**
+     * Configure which responses are cached by the client, and for how long. By default, no responses are cached.
+     *
+     * @see ResponseCachePolicy
+     */
+    public static final SdkAdvancedClientOption<ResponseCachePolicy> RESPONSE_CACHE_POLICY =
+        new SdkAdvancedClientOption<>(ResponseCachePolicy.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
     }
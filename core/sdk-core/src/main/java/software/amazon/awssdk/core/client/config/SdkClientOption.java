@@ -24,7 +24,10 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.ServiceConfiguration;
 import software.amazon.awssdk.core.client.builder.SdkClientBuilder;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.metrics.MetricPublisher;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.RetrySleeper;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 
@@ -44,6 +47,21 @@ public final class SdkClientOption<T> extends ClientOption<T> {
      */
     public static final SdkClientOption<RetryPolicy> RETRY_POLICY = new SdkClientOption<>(RetryPolicy.class);
 
+    /**
+     * The sleeper used to wait out the backoff delay between retry attempts.
+     */
+    public static final SdkClientOption<RetrySleeper> RETRY_SLEEPER = new SdkClientOption<>(RetrySleeper.class);
+
+    /**
+     * @see ClientOverrideConfiguration#hedgingPolicy()
+     */
+    public static final SdkClientOption<HedgingPolicy> HEDGING_POLICY = new SdkClientOption<>(HedgingPolicy.class);
+
+    /**
+     * @see ClientOverrideConfiguration#metricPublisher()
+     */
+    public static final SdkClientOption<MetricPublisher> METRIC_PUBLISHER = new SdkClientOption<>(MetricPublisher.class);
+
     /**
      * @see ClientOverrideConfiguration#executionInterceptors()
      */
@@ -17,7 +17,10 @@ package software.amazon.awssdk.core.client.handler;
 
 import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import org.reactivestreams.Publisher;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.SdkRequest;
@@ -25,15 +28,21 @@ import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributesCopier;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.AmazonAsyncHttpClient;
 import software.amazon.awssdk.core.internal.http.Crc32Validation;
+import software.amazon.awssdk.core.internal.http.RequestKey;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.SyncResponseHandlerAdapter;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricCollector;
 import software.amazon.awssdk.core.internal.util.ThrowableUtils;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -57,17 +66,15 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
     @Override
     public <InputT extends SdkRequest, OutputT extends SdkResponse> CompletableFuture<OutputT> execute(
         ClientExecutionParams<InputT, OutputT> executionParams) {
-        ExecutionContext executionContext = createExecutionContext(executionParams);
-
-        HttpResponseHandler<OutputT> decoratedResponseHandlers =
-            decorateResponseHandlers(executionParams.getResponseHandler(), executionContext);
-
-        TransformingAsyncResponseHandler<OutputT> sdkHttpResponseHandler =
-                new SyncResponseHandlerAdapter<>(decoratedResponseHandlers,
-                                                 crc32Validator,
-                                                 executionContext.executionAttributes());
-
-        return execute(executionParams, executionContext, sdkHttpResponseHandler);
+        return withExecutionContext(executionParams, executionContext -> execute(
+            executionParams, executionContext, context -> {
+                HttpResponseHandler<OutputT> decoratedResponseHandlers =
+                    decorateResponseHandlers(executionParams.getResponseHandler(), context);
+
+                return new SyncResponseHandlerAdapter<>(decoratedResponseHandlers,
+                                                        crc32Validator,
+                                                        context.executionAttributes());
+            }, true));
     }
 
     @Override
@@ -75,16 +82,154 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
         ClientExecutionParams<InputT, OutputT> executionParams,
         AsyncResponseTransformer<OutputT, ReturnT> asyncResponseTransformer) {
 
-        ExecutionContext context = createExecutionContext(executionParams);
+        return withExecutionContext(executionParams, executionContext -> execute(
+            executionParams, executionContext, context -> new UnmarshallingSdkHttpResponseHandler<>(
+                asyncResponseTransformer, context, executionParams.getResponseHandler()),
+            false));
+    }
+
+    /**
+     * Create the execution context of an API call without blocking the calling thread, e.g. on loading credentials.
+     *
+     * <p>By default, the context is created on the calling thread with {@link #createExecutionContext(ClientExecutionParams)}.
+     * Exceptions thrown while creating the context synchronously are thrown to the caller of the client.</p>
+     */
+    protected <InputT extends SdkRequest, OutputT extends SdkResponse> CompletableFuture<ExecutionContext>
+            createExecutionContextAsync(ClientExecutionParams<InputT, OutputT> params) {
+        return CompletableFuture.completedFuture(createExecutionContext(params));
+    }
+
+    /**
+     * Create the execution context of an API call, then execute the call with it.
+     */
+    private <InputT extends SdkRequest, OutputT extends SdkResponse, ReturnT> CompletableFuture<ReturnT> withExecutionContext(
+        ClientExecutionParams<InputT, OutputT> executionParams,
+        Function<ExecutionContext, CompletableFuture<ReturnT>> execution) {
+
+        ApiCallMetricCollector metricCollector = startMetricCollection(executionParams);
+        CompletableFuture<ExecutionContext> executionContext =
+            createExecutionContextAsync(executionParams, metricCollector);
+
+        if (executionContext.isDone() && !executionContext.isCompletedExceptionally()) {
+            // The common case, e.g. when the credentials are cached. Execute on this thread, so that the future returned to the
+            // caller is the one returned by the request pipeline.
+            return execution.apply(executionContext.join());
+        }
+        return executeWhenReady(executionContext, execution, metricCollector);
+    }
+
+    /**
+     * Execute the call once its execution context is ready. The call is started on the client's future completion executor,
+     * not on the thread that completes the context, which may be a credentials refresh thread. Cancelling the returned future
+     * before the context is ready means the call is never started, and cancelling it afterwards cancels the call.
+     */
+    private <ReturnT> CompletableFuture<ReturnT> executeWhenReady(
+        CompletableFuture<ExecutionContext> executionContext,
+        Function<ExecutionContext, CompletableFuture<ReturnT>> execution,
+        ApiCallMetricCollector metricCollector) {
+
+        Executor executor = clientConfiguration.option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR);
+        CompletableFuture<ReturnT> result = new CompletableFuture<>();
+
+        executionContext.whenCompleteAsync((context, error) -> {
+            if (result.isDone()) {
+                // Cancelled while the context was being created
+                if (metricCollector != null) {
+                    metricCollector.publish(false);
+                }
+                return;
+            }
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+
+            CompletableFuture<ReturnT> response;
+            try {
+                response = execution.apply(context);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+                return;
+            }
+            response.whenComplete((r, t) -> {
+                if (t != null) {
+                    result.completeExceptionally(t);
+                } else {
+                    result.complete(r);
+                }
+            });
+            result.whenComplete((r, t) -> {
+                if (result.isCancelled()) {
+                    response.cancel(true);
+                }
+            });
+        }, executor).whenComplete((r, t) -> {
+            // E.g. the executor rejected the continuation
+            if (t != null) {
+                result.completeExceptionally(t);
+            }
+        });
 
-        return execute(executionParams, context, new UnmarshallingSdkHttpResponseHandler<>(asyncResponseTransformer, context,
-                                                                                           executionParams.getResponseHandler()));
+        result.whenComplete((r, t) -> {
+            if (result.isCancelled()) {
+                executionContext.cancel(true);
+            }
+        });
+        return result;
     }
 
+    private <InputT extends SdkRequest, OutputT extends SdkResponse> CompletableFuture<ExecutionContext>
+            createExecutionContextAsync(ClientExecutionParams<InputT, OutputT> params, ApiCallMetricCollector metricCollector) {
+
+        CompletableFuture<ExecutionContext> executionContext;
+        try {
+            executionContext = createExecutionContextAsync(params);
+        } catch (RuntimeException e) {
+            if (metricCollector != null) {
+                metricCollector.publish(false);
+            }
+            throw e;
+        }
+
+        if (metricCollector == null) {
+            return executionContext;
+        }
+
+        return executionContext.whenComplete((context, error) -> {
+            if (error != null) {
+                metricCollector.publish(false);
+            } else {
+                context.executionAttributes()
+                       .putAttribute(SdkInternalExecutionAttribute.API_CALL_METRIC_COLLECTOR, metricCollector);
+            }
+        });
+    }
+
+    /**
+     * @param responseHandlerFactory Creates the response handler of a request sent with the given execution context.
+     * @param shareable Whether the response can be shared with identical requests, by coalescing them or caching the response.
+     * This is false for streaming responses.
+     */
     private <InputT extends SdkRequest, OutputT, ReturnT> CompletableFuture<ReturnT> execute(
         ClientExecutionParams<InputT, OutputT> executionParams,
         ExecutionContext executionContext,
-        TransformingAsyncResponseHandler<ReturnT> sdkHttpResponseHandler) {
+        Function<ExecutionContext, TransformingAsyncResponseHandler<ReturnT>> responseHandlerFactory,
+        boolean shareable) {
+
+        CompletableFuture<ReturnT> response = doExecute(executionParams, executionContext, responseHandlerFactory, shareable);
+
+        ApiCallMetricCollector metricCollector = metricCollector(executionContext);
+        if (metricCollector != null) {
+            response.whenComplete((r, t) -> metricCollector.publish(t == null));
+        }
+        return response;
+    }
+
+    private <InputT extends SdkRequest, OutputT, ReturnT> CompletableFuture<ReturnT> doExecute(
+        ClientExecutionParams<InputT, OutputT> executionParams,
+        ExecutionContext executionContext,
+        Function<ExecutionContext, TransformingAsyncResponseHandler<ReturnT>> responseHandlerFactory,
+        boolean shareable) {
 
         try {
             InputT inputT = finalizeSdkRequest(executionContext);
@@ -92,25 +237,97 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
             SdkHttpFullRequest marshalled = finalizeSdkHttpFullRequest(executionParams, executionContext, inputT,
                     clientConfiguration);
 
-            TransformingAsyncResponseHandler<ReturnT> successResponseHandler = new InterceptorCallingHttpResponseHandler<>(
-                sdkHttpResponseHandler, executionContext);
+            RequestKey key = shareable && executionParams.getAsyncRequestBody() == null ? requestKey(inputT, marshalled) : null;
+            if (key == null) {
+                return send(executionParams, marshalled, inputT, executionContext, responseHandlerFactory);
+            }
 
-            TransformingAsyncResponseHandler<? extends SdkException> errorHandler =
-                    resolveErrorResponseHandler(executionParams, executionContext, crc32Validator);
+            AtomicBoolean sent = new AtomicBoolean(false);
+            Supplier<CompletableFuture<ReturnT>> sendingCall = () -> {
+                sent.set(true);
+                return send(executionParams, marshalled, inputT, executionContext, responseHandlerFactory);
+            };
+            if (responseCache() == null) {
+                CompletableFuture<ReturnT> response = coalesce(inputT, key, sendingCall);
+                return sent.get() ? response : withSharedResponseInterceptors(response, executionContext);
+            }
 
-            return invoke(marshalled, executionParams.getAsyncRequestBody(), inputT,
-                    executionContext, successResponseHandler, errorHandler)
-                    .handle((resp, err) -> {
-                        if (err != null) {
-                            throw ThrowableUtils.failure(err);
-                        }
-                        return resp;
-                    });
+            // A stale cached response is returned to the caller, so it is refreshed in the background with an execution of its
+            // own, which isn't part of the caller's metrics.
+            Supplier<CompletableFuture<ReturnT>> refreshCall = () -> coalesce(inputT, key, () -> {
+                ExecutionContext refreshContext = detachedExecutionContext(executionContext);
+                return send(executionParams, marshalled, inputT, refreshContext, responseHandlerFactory);
+            });
+            Supplier<CompletableFuture<ReturnT>> loadCall = () -> coalesce(inputT, key, sendingCall);
+            CompletableFuture<ReturnT> response =
+                responseCache().getAsync(inputT, key, metricCollector(executionContext), loadCall, refreshCall);
+            return sent.get() ? response : withSharedResponseInterceptors(response, executionContext);
         } catch (Throwable t) {
             return CompletableFutureUtils.failedFuture(ThrowableUtils.asSdkException(t));
         }
     }
 
+    private <InputT extends SdkRequest, OutputT, ReturnT> CompletableFuture<ReturnT> send(
+        ClientExecutionParams<InputT, OutputT> executionParams,
+        SdkHttpFullRequest marshalled,
+        InputT inputT,
+        ExecutionContext executionContext,
+        Function<ExecutionContext, TransformingAsyncResponseHandler<ReturnT>> responseHandlerFactory) {
+
+        TransformingAsyncResponseHandler<ReturnT> successResponseHandler = new InterceptorCallingHttpResponseHandler<>(
+            responseHandlerFactory.apply(executionContext), executionContext);
+
+        TransformingAsyncResponseHandler<? extends SdkException> errorHandler =
+                resolveErrorResponseHandler(executionParams, executionContext, crc32Validator);
+
+        return invoke(marshalled, executionParams.getAsyncRequestBody(), inputT,
+                      executionContext, successResponseHandler, errorHandler)
+            .handle((resp, err) -> {
+                if (err != null) {
+                    throw ThrowableUtils.failure(err);
+                }
+                return resp;
+            });
+    }
+
+    private <ReturnT> CompletableFuture<ReturnT> coalesce(SdkRequest request, RequestKey key,
+                                                          Supplier<CompletableFuture<ReturnT>> call) {
+        return requestCoalescer() == null ? call.get() : requestCoalescer().coalesceAsync(request, key, call);
+    }
+
+    /**
+     * Create an execution context for a request made on behalf of the given execution, which must not affect it. The
+     * execution attributes are copied, and no metrics are collected.
+     */
+    private static ExecutionContext detachedExecutionContext(ExecutionContext executionContext) {
+        ExecutionAttributes executionAttributes =
+            ExecutionAttributesCopier.copy(executionContext.executionAttributes())
+                                     .putAttribute(SdkInternalExecutionAttribute.API_CALL_METRIC_COLLECTOR, null);
+        return executionContext.toBuilder()
+                               .executionAttributes(executionAttributes)
+                               .build();
+    }
+
+    /**
+     * Run the execution interceptors of this call when a response or failure shared with another call completes. Cancelling the
+     * returned future cancels this call's wait for the shared result.
+     */
+    private static <ReturnT> CompletableFuture<ReturnT> withSharedResponseInterceptors(CompletableFuture<ReturnT> response,
+                                                                                      ExecutionContext executionContext) {
+        CompletableFuture<ReturnT> result =
+            response.whenComplete((r, t) -> {
+                if (t != null) {
+                    runSharedFailureInterceptors(t, executionContext);
+                }
+            }).thenApply(r -> runSharedResponseInterceptors(r, executionContext));
+        result.whenComplete((r, t) -> {
+            if (result.isCancelled()) {
+                response.cancel(true);
+            }
+        });
+        return result;
+    }
+
     @Override
     public void close() {
         client.close();
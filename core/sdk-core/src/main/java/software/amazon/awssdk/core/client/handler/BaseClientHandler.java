@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.client.handler;
 
+import java.util.concurrent.CompletionException;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.Request;
 import software.amazon.awssdk.core.SdkRequest;
@@ -29,15 +30,35 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.http.RequestCoalescer;
+import software.amazon.awssdk.core.internal.http.RequestKey;
+import software.amazon.awssdk.core.internal.http.ResponseCache;
 import software.amazon.awssdk.core.internal.http.response.SdkErrorResponseHandler;
+import software.amazon.awssdk.core.internal.interceptor.DefaultFailedExecutionContext;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricCollector;
+import software.amazon.awssdk.core.metrics.MetricPublisher;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.Logger;
 
 @SdkProtectedApi
 public abstract class BaseClientHandler {
+    private static final Logger log = Logger.loggerFor(BaseClientHandler.class);
+
     private SdkClientConfiguration clientConfiguration;
+    private final RequestCoalescer requestCoalescer;
+    private final ResponseCache responseCache;
+    private final MetricPublisher metricPublisher;
 
     protected BaseClientHandler(SdkClientConfiguration clientConfiguration) {
         this.clientConfiguration = clientConfiguration;
+        this.metricPublisher = clientConfiguration.option(SdkClientOption.METRIC_PUBLISHER);
+        this.requestCoalescer =
+            RequestCoalescer.create(clientConfiguration.option(SdkAdvancedClientOption.REQUEST_COALESCING_POLICY),
+                                    clientConfiguration.option(SdkClientOption.API_CALL_TIMEOUT),
+                                    clientConfiguration.option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE));
+        this.responseCache = ResponseCache.create(clientConfiguration.option(SdkAdvancedClientOption.RESPONSE_CACHE_POLICY));
     }
 
     static <InputT extends SdkRequest> InputT finalizeSdkRequest(ExecutionContext executionContext) {
@@ -51,13 +72,21 @@ public abstract class BaseClientHandler {
         SdkClientConfiguration clientConfiguration) {
 
         runBeforeMarshallingInterceptors(executionContext);
+        long marshallingStart = System.nanoTime();
         Request<InputT> request = executionParams.getMarshaller().marshall(inputT);
         request.setEndpoint(clientConfiguration.option(SdkClientOption.ENDPOINT));
 
         executionContext.executionAttributes().putAttribute(SdkExecutionAttribute.SERVICE_NAME,
                                                             request.getServiceName());
 
-        addHttpRequest(executionContext, SdkHttpFullRequestAdapter.toHttpFullRequest(request));
+        SdkHttpFullRequest marshalled = SdkHttpFullRequestAdapter.toHttpFullRequest(request);
+        ApiCallMetricCollector metricCollector = metricCollector(executionContext);
+        if (metricCollector != null) {
+            metricCollector.recordMarshallingDuration(System.nanoTime() - marshallingStart);
+            metricCollector.recordServiceName(request.getServiceName());
+        }
+
+        addHttpRequest(executionContext, marshalled);
         runAfterMarshallingInterceptors(executionContext);
         return runModifyHttpRequestInterceptors(executionContext);
     }
@@ -114,6 +143,49 @@ public abstract class BaseClientHandler {
         return (OutputT) interceptorContext.response();
     }
 
+    /**
+     * Run the execution interceptors that observe the response, for a call that received a response shared with another call:
+     * a response from the response cache, or the response to an identical in-flight call it was coalesced with. That response
+     * was not received by this call's request pipeline, so none of its interceptors ran after the request was marshalled.
+     *
+     * <p>The interceptors that modify the response already ran for the call that received it, and they are the same for every
+     * call that can share a response, so only {@code afterUnmarshalling} and {@code afterExecution} are run.
+     */
+    static <T> T runSharedResponseInterceptors(T response, ExecutionContext context) {
+        if (!(response instanceof SdkResponse)) {
+            return response;
+        }
+
+        SdkResponse sdkResponse = (SdkResponse) response;
+        InterceptorContext interceptorContext = context.interceptorContext().copy(b -> {
+            b.response(sdkResponse);
+            if (sdkResponse.sdkHttpResponse() instanceof SdkHttpFullResponse) {
+                b.httpResponse((SdkHttpFullResponse) sdkResponse.sdkHttpResponse());
+            }
+        });
+        context.interceptorContext(interceptorContext);
+
+        context.interceptorChain().afterUnmarshalling(interceptorContext, context.executionAttributes());
+        context.interceptorChain().afterExecution(interceptorContext, context.executionAttributes());
+        return response;
+    }
+
+    /**
+     * Run the {@code onExecutionFailure} execution interceptors for a call that received the failure of an identical in-flight
+     * call it was coalesced with.
+     */
+    static void runSharedFailureInterceptors(Throwable failure, ExecutionContext context) {
+        Throwable exception = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause()
+                                                                                                   : failure;
+        try {
+            context.interceptorChain().onExecutionFailure(new DefaultFailedExecutionContext(context.interceptorContext(),
+                                                                                            exception),
+                                                          context.executionAttributes());
+        } catch (RuntimeException e) {
+            log.warn(() -> "Interceptor chain threw an error from onExecutionFailure().", e);
+        }
+    }
+
     static <OutputT extends SdkResponse> HttpResponseHandler<OutputT> interceptorCalling(
         HttpResponseHandler<OutputT> delegate, ExecutionContext context) {
         return (response, executionAttributes) ->
@@ -126,6 +198,45 @@ public abstract class BaseClientHandler {
             new SdkErrorResponseHandler(params.getErrorResponseHandler()));
     }
 
+    /**
+     * Start collecting the metrics of an API call.
+     *
+     * @return The collector for the API call, or null if no metric publisher is configured.
+     */
+    ApiCallMetricCollector startMetricCollection(ClientExecutionParams<?, ?> params) {
+        return ApiCallMetricCollector.create(metricPublisher, params.getInput());
+    }
+
+    /**
+     * Create the execution context of an API call, and attach the collector of its metrics to it.
+     */
+    <InputT extends SdkRequest, OutputT extends SdkResponse> ExecutionContext createExecutionContext(
+        ClientExecutionParams<InputT, OutputT> params, ApiCallMetricCollector metricCollector) {
+
+        ExecutionContext executionContext;
+        try {
+            executionContext = createExecutionContext(params);
+        } catch (RuntimeException e) {
+            if (metricCollector != null) {
+                metricCollector.publish(false);
+            }
+            throw e;
+        }
+
+        if (metricCollector != null) {
+            executionContext.executionAttributes()
+                            .putAttribute(SdkInternalExecutionAttribute.API_CALL_METRIC_COLLECTOR, metricCollector);
+        }
+        return executionContext;
+    }
+
+    /**
+     * @return The collector of the metrics of the API call, or null if metrics are not collected.
+     */
+    static ApiCallMetricCollector metricCollector(ExecutionContext executionContext) {
+        return executionContext.executionAttributes().getAttribute(SdkInternalExecutionAttribute.API_CALL_METRIC_COLLECTOR);
+    }
+
     protected <InputT extends SdkRequest, OutputT extends SdkResponse> ExecutionContext createExecutionContext(
         ClientExecutionParams<InputT, OutputT> params) {
 
@@ -147,6 +258,32 @@ public abstract class BaseClientHandler {
                                .build();
     }
 
+    /**
+     * @return The request coalescer shared by all requests made with this handler, or null if request coalescing is disabled.
+     */
+    RequestCoalescer requestCoalescer() {
+        return requestCoalescer;
+    }
+
+    /**
+     * @return The response cache shared by all requests made with this handler, or null if response caching is disabled.
+     */
+    ResponseCache responseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Create the key that identifies the request to the request coalescer and the response cache. The key is created once, so
+     * the content of the request is only read once for both.
+     *
+     * @return The key of the request, or null if neither coalescing nor caching applies to it.
+     */
+    RequestKey requestKey(SdkRequest request, SdkHttpFullRequest marshalled) {
+        boolean coalesced = requestCoalescer != null && requestCoalescer.appliesTo(request);
+        boolean cached = responseCache != null && responseCache.appliesTo(request);
+        return coalesced || cached ? RequestKey.create(request, marshalled) : null;
+    }
+
     protected boolean isCalculateCrc32FromCompressedData() {
         return clientConfiguration.option(SdkClientOption.CRC32_FROM_COMPRESSED_DATA_ENABLED);
     }
@@ -156,7 +293,27 @@ public abstract class BaseClientHandler {
      */
     <OutputT extends SdkResponse> HttpResponseHandler<OutputT> decorateResponseHandlers(
         HttpResponseHandler<OutputT> delegate, ExecutionContext executionContext) {
-        HttpResponseHandler<OutputT> interceptorCallingResponseHandler = interceptorCalling(delegate, executionContext);
+        HttpResponseHandler<OutputT> interceptorCallingResponseHandler =
+            interceptorCalling(timeUnmarshalling(delegate, executionContext), executionContext);
         return new AttachHttpMetadataResponseHandler<>(interceptorCallingResponseHandler);
     }
+
+    /**
+     * Record how long the response handler takes to unmarshall the response, if metrics are collected.
+     */
+    private static <OutputT> HttpResponseHandler<OutputT> timeUnmarshalling(HttpResponseHandler<OutputT> delegate,
+                                                                           ExecutionContext executionContext) {
+        ApiCallMetricCollector metricCollector = metricCollector(executionContext);
+        if (metricCollector == null) {
+            return delegate;
+        }
+        return (response, executionAttributes) -> {
+            long start = System.nanoTime();
+            try {
+                return delegate.handle(response, executionAttributes);
+            } finally {
+                metricCollector.recordUnmarshallingDuration(System.nanoTime() - start);
+            }
+        };
+    }
 }
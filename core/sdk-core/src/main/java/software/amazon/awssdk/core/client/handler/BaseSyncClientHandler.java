@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.core.client.handler;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
@@ -28,6 +30,8 @@ import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.internal.http.AmazonSyncHttpClient;
 import software.amazon.awssdk.core.internal.http.InterruptMonitor;
+import software.amazon.awssdk.core.internal.http.RequestKey;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricCollector;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -50,26 +54,26 @@ public abstract class BaseSyncClientHandler extends BaseClientHandler implements
         ClientExecutionParams<InputT, OutputT> executionParams,
         ResponseTransformer<OutputT, ReturnT> responseTransformer) {
 
-        ExecutionContext executionContext = createExecutionContext(executionParams);
+        ExecutionContext executionContext = createExecutionContext(executionParams, startMetricCollection(executionParams));
 
         HttpResponseHandler<OutputT> decoratedResponseHandlers =
             decorateResponseHandlers(executionParams.getResponseHandler(), executionContext);
 
         HttpResponseHandler<ReturnT> httpResponseHandler =
             new HttpResponseHandlerAdapter<>(decoratedResponseHandlers, responseTransformer);
-        return execute(executionParams, executionContext, httpResponseHandler);
+        return execute(executionParams, executionContext, httpResponseHandler, false);
     }
 
     @Override
     public <InputT extends SdkRequest, OutputT extends SdkResponse> OutputT execute(
         ClientExecutionParams<InputT, OutputT> executionParams) {
 
-        ExecutionContext executionContext = createExecutionContext(executionParams);
+        ExecutionContext executionContext = createExecutionContext(executionParams, startMetricCollection(executionParams));
 
         HttpResponseHandler<OutputT> decoratedResponseHandlers =
             decorateResponseHandlers(executionParams.getResponseHandler(), executionContext);
 
-        return execute(executionParams, executionContext, decoratedResponseHandlers);
+        return execute(executionParams, executionContext, decoratedResponseHandlers, true);
     }
 
 
@@ -95,20 +99,75 @@ public abstract class BaseSyncClientHandler extends BaseClientHandler implements
                      .execute(responseHandler);
     }
 
+    /**
+     * @param shareable Whether the response can be shared with identical requests, by coalescing them or caching the response.
+     * This is false for streaming responses.
+     */
     private <InputT extends SdkRequest, OutputT, ReturnT> ReturnT execute(
         ClientExecutionParams<InputT, OutputT> executionParams,
         ExecutionContext executionContext,
-        HttpResponseHandler<ReturnT> responseHandler) {
+        HttpResponseHandler<ReturnT> responseHandler,
+        boolean shareable) {
+
+        ApiCallMetricCollector metricCollector = metricCollector(executionContext);
+        if (metricCollector == null) {
+            return doExecute(executionParams, executionContext, responseHandler, shareable);
+        }
+
+        boolean succeeded = false;
+        try {
+            ReturnT response = doExecute(executionParams, executionContext, responseHandler, shareable);
+            succeeded = true;
+            return response;
+        } finally {
+            metricCollector.publish(succeeded);
+        }
+    }
+
+    private <InputT extends SdkRequest, OutputT, ReturnT> ReturnT doExecute(
+        ClientExecutionParams<InputT, OutputT> executionParams,
+        ExecutionContext executionContext,
+        HttpResponseHandler<ReturnT> responseHandler,
+        boolean shareable) {
 
         InputT inputT = finalizeSdkRequest(executionContext);
 
         SdkHttpFullRequest marshalled = finalizeSdkHttpFullRequest(executionParams, executionContext, inputT,
                                                                    clientConfiguration);
-        return invoke(marshalled,
-                      inputT,
-                      executionContext,
-                      responseHandler,
-                      executionParams.getErrorResponseHandler());
+
+        Supplier<ReturnT> call = () -> invoke(marshalled,
+                                              inputT,
+                                              executionContext,
+                                              responseHandler,
+                                              executionParams.getErrorResponseHandler());
+        if (!shareable) {
+            return call.get();
+        }
+
+        RequestKey key = requestKey(inputT, marshalled);
+        if (key == null) {
+            return call.get();
+        }
+
+        AtomicBoolean sent = new AtomicBoolean(false);
+        Supplier<ReturnT> sendingCall = () -> {
+            sent.set(true);
+            return call.get();
+        };
+        Supplier<ReturnT> coalescedCall =
+            requestCoalescer() == null ? sendingCall : () -> requestCoalescer().coalesce(inputT, key, sendingCall);
+        ReturnT response;
+        try {
+            response = responseCache() == null ? coalescedCall.get()
+                                               : responseCache().get(inputT, key, metricCollector(executionContext),
+                                                                     coalescedCall);
+        } catch (RuntimeException e) {
+            if (!sent.get()) {
+                runSharedFailureInterceptors(e, executionContext);
+            }
+            throw e;
+        }
+        return sent.get() ? response : runSharedResponseInterceptors(response, executionContext);
     }
 
     private static class HttpResponseHandlerAdapter<ReturnT, OutputT extends SdkResponse>
@@ -55,4 +55,15 @@ public final class ExecutionAttributes {
         attributes.putIfAbsent(attribute, value);
         return this;
     }
+
+    /**
+     * Create a copy of this collection of attributes. Modifying the copy doesn't modify this collection.
+     *
+     * @see ExecutionAttributesCopier
+     */
+    ExecutionAttributes copy() {
+        ExecutionAttributes copy = new ExecutionAttributes();
+        copy.attributes.putAll(attributes);
+        return copy;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Copies {@link ExecutionAttributes} for the SDK's own use, without adding a copy method to their public API. It lives in this
+ * package because the copy needs access to the attributes that are set.
+ */
+@SdkInternalApi
+public final class ExecutionAttributesCopier {
+    private ExecutionAttributesCopier() {
+    }
+
+    /**
+     * @return A copy of the given attributes. Modifying the copy doesn't modify the given attributes.
+     */
+    public static ExecutionAttributes copy(ExecutionAttributes executionAttributes) {
+        return executionAttributes.copy();
+    }
+}
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.interceptor;
 
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricCollector;
 
 /**
  * Attributes that can be applied to all sdk requests. Only SDK is allowed to set these values.
@@ -30,6 +31,12 @@ public final class SdkInternalExecutionAttribute extends SdkExecutionAttribute {
      */
     public static final ExecutionAttribute<Boolean> IS_FULL_DUPLEX = new ExecutionAttribute<>("IsFullDuplex");
 
+    /**
+     * The collector of the metrics of the API call. This is only present if a metric publisher is configured on the client.
+     */
+    public static final ExecutionAttribute<ApiCallMetricCollector> API_CALL_METRIC_COLLECTOR =
+        new ExecutionAttribute<>("ApiCallMetricCollector");
+
     private SdkInternalExecutionAttribute() {
     }
 }
@@ -61,6 +61,13 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         this.chunkSizeInBytes = builder.chunkSizeInBytes == null ? DEFAULT_CHUNK_SIZE : builder.chunkSizeInBytes;
     }
 
+    /**
+     * @return The file whose content is published.
+     */
+    public Path path() {
+        return path;
+    }
+
     @Override
     public Optional<Long> contentLength() {
         try {
@@ -31,6 +31,7 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 
 /**
  * {@link AsyncResponseTransformer} that writes the data to the specified file.
@@ -88,7 +89,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
     /**
      * {@link Subscriber} implementation that writes chunks to a file.
      */
-    static class FileSubscriber implements Subscriber<ByteBuffer> {
+    static class FileSubscriber implements ReleasableByteBufferSubscriber {
         private final AtomicLong position = new AtomicLong();
 
         private final AsynchronousFileChannel fileChannel;
@@ -118,34 +119,50 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
+            onNext(byteBuffer, () -> { });
+        }
+
+        /**
+         * Writes a buffer lent by the HTTP client straight to the file, and releases it back once it has been written.
+         */
+        @Override
+        public void onNext(ByteBuffer byteBuffer, Runnable release) {
             if (byteBuffer == null) {
                 throw new NullPointerException("Element must not be null");
             }
 
             writeInProgress = true;
+            write(byteBuffer, release);
+        }
+
+        private void write(ByteBuffer byteBuffer, Runnable release) {
             fileChannel.write(byteBuffer, position.get(), byteBuffer, new CompletionHandler<Integer, ByteBuffer>() {
                 @Override
                 public void completed(Integer result, ByteBuffer attachment) {
-                    if (result > 0) {
-                        position.addAndGet(result);
-                        synchronized (FileSubscriber.this) {
-                            if (closeOnLastWrite) {
-                                invokeSafely(fileChannel::close);
-                            } else {
-                                subscription.request(1);
-                            }
-                            writeInProgress = false;
+                    position.addAndGet(result);
+                    // The channel may write only part of the buffer, write the rest before asking for more
+                    if (attachment.hasRemaining()) {
+                        write(attachment, release);
+                        return;
+                    }
+                    release.run();
+                    synchronized (FileSubscriber.this) {
+                        if (closeOnLastWrite) {
+                            invokeSafely(fileChannel::close);
+                        } else {
+                            subscription.request(1);
                         }
+                        writeInProgress = false;
                     }
                 }
 
                 @Override
                 public void failed(Throwable exc, ByteBuffer attachment) {
+                    release.run();
                     subscription.cancel();
                     future.completeExceptionally(exc);
                 }
             });
-
         }
 
         @Override
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.internal.util.UserAgentUtils;
+import software.amazon.awssdk.utils.CollectionUtils;
+import software.amazon.awssdk.utils.StringUtils;
+
+/**
+ * Headers derived from the client configuration. These don't change for the life of the client, so they are computed once,
+ * when the {@link HttpClientDependencies} of the client are created, instead of for every request.
+ */
+@Immutable
+@SdkInternalApi
+public final class ClientHeaders {
+    private static final String COMMA = ", ";
+    private static final String SPACE = " ";
+
+    private static final String AWS_EXECUTION_ENV_PREFIX = "exec-env/";
+
+    private final String userAgentPrefix;
+    private final String userAgentSuffix;
+    private final String userAgent;
+    private final Map<String, List<String>> additionalHeaders;
+
+    private ClientHeaders(SdkClientConfiguration config) {
+        this.userAgentPrefix = userAgentPrefix(config);
+        this.userAgentSuffix = userAgentSuffix(config);
+        this.userAgent = userAgentPrefix + userAgentSuffix;
+
+        Map<String, List<String>> configuredHeaders = config.option(SdkClientOption.ADDITIONAL_HTTP_HEADERS);
+        this.additionalHeaders = CollectionUtils.isNullOrEmpty(configuredHeaders)
+                                 ? Collections.emptyMap()
+                                 : CollectionUtils.deepUnmodifiableMap(configuredHeaders, () -> new LinkedHashMap<>());
+    }
+
+    public static ClientHeaders create(SdkClientConfiguration config) {
+        return new ClientHeaders(config);
+    }
+
+    /**
+     * @return The user agent, without the suffix, derived from the client configuration.
+     */
+    public String userAgentPrefix() {
+        return userAgentPrefix;
+    }
+
+    /**
+     * @return The user agent suffix configured on the client, or an empty string if there isn't one.
+     */
+    public String userAgentSuffix() {
+        return userAgentSuffix;
+    }
+
+    /**
+     * @return The complete user agent for requests that don't add any API names.
+     */
+    public String userAgent() {
+        return userAgent;
+    }
+
+    /**
+     * @return An immutable copy of the additional headers configured on the client.
+     */
+    public Map<String, List<String>> additionalHeaders() {
+        return additionalHeaders;
+    }
+
+    private static String userAgentPrefix(SdkClientConfiguration config) {
+        String userDefinedPrefix = config.option(SdkAdvancedClientOption.USER_AGENT_PREFIX);
+        String awsExecutionEnvironment = SdkSystemSetting.AWS_EXECUTION_ENV.getStringValue().orElse(null);
+
+        StringBuilder userAgent = new StringBuilder(StringUtils.trimToEmpty(userDefinedPrefix));
+
+        String systemUserAgent = UserAgentUtils.getUserAgent();
+        if (!systemUserAgent.equals(userDefinedPrefix)) {
+            userAgent.append(COMMA).append(systemUserAgent);
+        }
+
+        if (!StringUtils.isEmpty(awsExecutionEnvironment)) {
+            userAgent.append(SPACE).append(AWS_EXECUTION_ENV_PREFIX).append(awsExecutionEnvironment.trim());
+        }
+
+        return userAgent.toString();
+    }
+
+    /**
+     * Only user agent suffix needs to be computed in this method. Any other changes to user agent should be handled in
+     * {@link #userAgentPrefix(SdkClientConfiguration)} method.
+     */
+    private static String userAgentSuffix(SdkClientConfiguration config) {
+        String userDefinedSuffix = config.option(SdkAdvancedClientOption.USER_AGENT_SUFFIX);
+
+        if (!StringUtils.isEmpty(userDefinedSuffix)) {
+            return COMMA + userDefinedSuffix.trim();
+        }
+
+        return "";
+    }
+}
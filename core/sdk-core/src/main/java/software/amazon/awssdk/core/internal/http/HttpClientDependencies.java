@@ -19,9 +19,12 @@ import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkGlobalTime;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
@@ -33,6 +36,9 @@ import software.amazon.awssdk.utils.SdkAutoCloseable;
 public final class HttpClientDependencies implements SdkAutoCloseable {
     private final SdkClientConfiguration clientConfiguration;
     private final CapacityManager capacityManager;
+    private final RateLimitingTokenBucket rateLimitingTokenBucket = new RateLimitingTokenBucket();
+    private final HashedWheelTimer timeoutTimer;
+    private final ClientHeaders clientHeaders;
 
     /**
      * Time offset may be mutated by {@link RequestPipeline} implementations if a clock skew is detected.
@@ -42,6 +48,9 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
     private HttpClientDependencies(Builder builder) {
         this.clientConfiguration = paramNotNull(builder.clientConfiguration, "ClientConfiguration");
         this.capacityManager = paramNotNull(builder.capacityManager, "CapacityManager");
+        this.timeoutTimer = Boolean.TRUE.equals(clientConfiguration.option(SdkAdvancedClientOption.HASHED_WHEEL_TIMER_ENABLED))
+                            ? HashedWheelTimer.shared() : null;
+        this.clientHeaders = ClientHeaders.create(clientConfiguration);
     }
 
     public static Builder builder() {
@@ -59,6 +68,29 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         return capacityManager;
     }
 
+    /**
+     * @return Client-wide token bucket used to limit the sending rate when the adaptive retry mode is enabled.
+     */
+    public RateLimitingTokenBucket rateLimitingTokenBucket() {
+        return rateLimitingTokenBucket;
+    }
+
+    /**
+     * @return The shared timer used to track timeouts if
+     * {@link SdkAdvancedClientOption#HASHED_WHEEL_TIMER_ENABLED} is enabled, or null if timeouts should be scheduled on the
+     * client's scheduled executor service.
+     */
+    public HashedWheelTimer timeoutTimer() {
+        return timeoutTimer;
+    }
+
+    /**
+     * @return The headers derived from the client configuration, which are added to every request.
+     */
+    public ClientHeaders clientHeaders() {
+        return clientHeaders;
+    }
+
     /**
      * @return Current time offset. This is mutable and should not be cached.
      */
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.client.config.RequestCoalescingPolicy;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Lets identical requests that are in flight at the same time share a single call to the service. The first caller for a
+ * request sends it, and callers that make an identical request before it completes wait for and receive the same result.
+ *
+ * <p>Every caller gets its own future, so cancelling it only cancels the shared call once every caller that is waiting for it
+ * has cancelled. Callers that wait for another caller's call are still bound by the API call timeout, and each of them
+ * receives its own copy of a failure, with its own stack trace.
+ *
+ * @see RequestCoalescingPolicy
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class RequestCoalescer {
+    private static final Logger log = Logger.loggerFor(RequestCoalescer.class);
+
+    private final Set<Class<? extends SdkRequest>> requestTypes;
+    private final Long apiCallTimeoutMillis;
+    private final ScheduledExecutorService timeoutExecutor;
+    private final ConcurrentMap<RequestKey, InFlightCall> inFlightRequests = new ConcurrentHashMap<>();
+
+    private RequestCoalescer(RequestCoalescingPolicy policy, Duration apiCallTimeout, ScheduledExecutorService timeoutExecutor) {
+        this.requestTypes = policy.requestTypes();
+        this.apiCallTimeoutMillis = apiCallTimeout == null ? null : apiCallTimeout.toMillis();
+        this.timeoutExecutor = timeoutExecutor;
+    }
+
+    /**
+     * @param policy The request coalescing policy of the client.
+     * @param apiCallTimeout The API call timeout of the client, which also bounds how long a caller waits for an identical
+     * call, or null if API calls don't time out.
+     * @param timeoutExecutor The executor used to time out asynchronous callers that wait for an identical call. If null, they
+     * wait until the identical call completes, which is bounded by its own API call timeout.
+     * @return A request coalescer for the given policy, or null if the policy is null or doesn't allow any request to be
+     * coalesced.
+     */
+    public static RequestCoalescer create(RequestCoalescingPolicy policy, Duration apiCallTimeout,
+                                          ScheduledExecutorService timeoutExecutor) {
+        if (policy == null || policy.requestTypes().isEmpty()) {
+            return null;
+        }
+        return new RequestCoalescer(policy, apiCallTimeout, timeoutExecutor);
+    }
+
+    /**
+     * @return Whether identical requests of the same type as the given request are coalesced.
+     */
+    public boolean appliesTo(SdkRequest request) {
+        // Requests with their own override configuration may be sent with different credentials or signers.
+        return requestTypes.contains(request.getClass()) && !request.overrideConfiguration().isPresent();
+    }
+
+    /**
+     * Execute a synchronous call, or wait for the result of an identical call that is already in flight.
+     *
+     * @param request The request, after execution interceptors modified it.
+     * @param key The key of the request, or null if it could not be created.
+     * @param call The call to make if no identical call is in flight.
+     */
+    public <T> T coalesce(SdkRequest request, RequestKey key, Supplier<T> call) {
+        if (key == null || !appliesTo(request)) {
+            return call.get();
+        }
+
+        InFlightCall newCall = new InFlightCall();
+        InFlightCall inFlight = inFlightRequests.putIfAbsent(key, newCall);
+        if (inFlight != null && inFlight.join()) {
+            log.debug(() -> "Waiting for identical in-flight request: " + request);
+            return await(inFlight);
+        }
+        if (inFlight != null) {
+            return call.get();
+        }
+
+        try {
+            T response = call.get();
+            inFlightRequests.remove(key, newCall);
+            newCall.result.complete(response);
+            return response;
+        } catch (Throwable t) {
+            inFlightRequests.remove(key, newCall);
+            newCall.result.completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(InFlightCall inFlight) {
+        try {
+            if (apiCallTimeoutMillis == null) {
+                return (T) inFlight.result.get();
+            }
+            return (T) inFlight.result.get(apiCallTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw copyForCaller(e.getCause());
+        } catch (TimeoutException e) {
+            throw ApiCallTimeoutException.create(apiCallTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw AbortedException.create("Thread was interrupted", e);
+        }
+    }
+
+    /**
+     * Execute an asynchronous call, or share the result of an identical call that is already in flight.
+     *
+     * @param request The request, after execution interceptors modified it.
+     * @param key The key of the request, or null if it could not be created.
+     * @param call The call to make if no identical call is in flight.
+     */
+    public <T> CompletableFuture<T> coalesceAsync(SdkRequest request, RequestKey key, Supplier<CompletableFuture<T>> call) {
+        if (key == null || !appliesTo(request)) {
+            return call.get();
+        }
+
+        InFlightCall newCall = new InFlightCall();
+        InFlightCall inFlight = inFlightRequests.putIfAbsent(key, newCall);
+        if (inFlight != null && inFlight.join()) {
+            log.debug(() -> "Sharing the result of identical in-flight request: " + request);
+            return callerFuture(inFlight, false);
+        }
+        if (inFlight != null) {
+            // Every caller of the in-flight call cancelled it, so it can't be shared.
+            return call.get();
+        }
+
+        CompletableFuture<T> response;
+        try {
+            response = call.get();
+        } catch (Throwable t) {
+            inFlightRequests.remove(key, newCall);
+            newCall.result.completeExceptionally(t);
+            throw t;
+        }
+
+        newCall.call = response;
+        response.whenComplete((r, t) -> {
+            inFlightRequests.remove(key, newCall);
+            if (t != null) {
+                newCall.result.completeExceptionally(t);
+            } else {
+                newCall.result.complete(r);
+            }
+        });
+        return callerFuture(newCall, true);
+    }
+
+    /**
+     * Create the future returned to one caller of a shared call. The caller that made the call receives its failure as is,
+     * while the other callers receive a copy, and time out on their own.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> callerFuture(InFlightCall inFlight, boolean madeCall) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        inFlight.result.whenComplete((r, t) -> {
+            if (t == null) {
+                future.complete((T) r);
+            } else {
+                future.completeExceptionally(madeCall ? t : copyForCaller(t));
+            }
+        });
+
+        ScheduledFuture<?> timeout = madeCall ? null : scheduleTimeout(future);
+        future.whenComplete((r, t) -> {
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+            // The caller cancelled or timed out before the shared call completed.
+            if (!inFlight.result.isDone()) {
+                inFlight.leave();
+            }
+        });
+        return future;
+    }
+
+    private ScheduledFuture<?> scheduleTimeout(CompletableFuture<?> future) {
+        if (apiCallTimeoutMillis == null || timeoutExecutor == null) {
+            return null;
+        }
+        return timeoutExecutor.schedule(() -> future.completeExceptionally(ApiCallTimeoutException.create(apiCallTimeoutMillis)),
+                                        apiCallTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Copy the failure of a shared call for one of the callers that waited for it, so that callers don't share, and can't
+     * modify, the same exception instance. The copy has the same type, message and cause as the original.
+     */
+    private static RuntimeException copyForCaller(Throwable failure) {
+        Throwable t = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        if (t instanceof SdkException) {
+            SdkException copy = ((SdkException) t).toBuilder().build();
+            if (copy.getClass() == t.getClass()) {
+                return copy;
+            }
+        }
+        return SdkClientException.builder().message(t.getMessage()).cause(t).build();
+    }
+
+    @SdkTestInternalApi
+    int inFlightRequests() {
+        return inFlightRequests.size();
+    }
+
+    /**
+     * A call that identical requests can share while it is in flight.
+     */
+    private static final class InFlightCall {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        /**
+         * The number of callers still waiting for the result. When it drops to zero, the call is cancelled.
+         */
+        private final AtomicInteger callers = new AtomicInteger(1);
+
+        /**
+         * The future of an asynchronous call, set once the call is made.
+         */
+        private volatile CompletableFuture<?> call;
+
+        /**
+         * @return True if the caller can wait for the result, or false if every other caller already left and the call was
+         * cancelled.
+         */
+        private boolean join() {
+            int current;
+            do {
+                current = callers.get();
+                if (current == 0) {
+                    return false;
+                }
+            } while (!callers.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        private void leave() {
+            CompletableFuture<?> inFlightCall = call;
+            if (callers.decrementAndGet() == 0 && inFlightCall != null) {
+                inFlightCall.cancel(true);
+            }
+        }
+    }
+}
@@ -24,8 +24,11 @@ import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
+import software.amazon.awssdk.core.internal.metrics.ApiCallAttemptMetricCollector;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricCollector;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.utils.Validate;
 
@@ -42,11 +45,15 @@ public final class RequestExecutionContext {
     private final ExecutionContext executionContext;
     private TimeoutTracker apiCallTimeoutTracker;
     private TimeoutTracker apiCallAttemptTimeoutTracker;
+    private final ApiCallMetricCollector metricCollector;
+    private ApiCallAttemptMetricCollector attemptMetricCollector;
 
     private RequestExecutionContext(Builder builder) {
         this.requestProvider = builder.requestProvider;
         this.originalRequest = Validate.paramNotNull(builder.originalRequest, "originalRequest");
         this.executionContext = Validate.paramNotNull(builder.executionContext, "executionContext");
+        this.metricCollector = executionContext.executionAttributes()
+                                               .getAttribute(SdkInternalExecutionAttribute.API_CALL_METRIC_COLLECTOR);
     }
 
     /**
@@ -118,6 +125,27 @@ public final class RequestExecutionContext {
         this.apiCallAttemptTimeoutTracker = timeoutTracker;
     }
 
+    /**
+     * @return The collector of the metrics of the API call, or null if metrics are not collected.
+     */
+    public ApiCallMetricCollector metricCollector() {
+        return metricCollector;
+    }
+
+    /**
+     * @return The collector of the metrics of the current attempt, or null if metrics are not collected.
+     */
+    public ApiCallAttemptMetricCollector attemptMetricCollector() {
+        return attemptMetricCollector;
+    }
+
+    /**
+     * Sets the collector of the metrics of the current attempt. Should be called once per attempt.
+     */
+    public void attemptMetricCollector(ApiCallAttemptMetricCollector attemptMetricCollector) {
+        this.attemptMetricCollector = attemptMetricCollector;
+    }
+
     /**
      * Sets the request body provider.
      * Used for transforming the original body provider to sign events for
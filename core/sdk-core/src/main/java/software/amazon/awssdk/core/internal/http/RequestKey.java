@@ -0,0 +1,147 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Identifies identical requests: the same request type marshalled to the same HTTP request. The content of the request is
+ * identified by its length and SHA-256 digest, so that a key doesn't hold a copy of it.
+ *
+ * <p>A key is created once per request, and shared by the {@link RequestCoalescer} and the {@link ResponseCache}.
+ */
+@Immutable
+@SdkInternalApi
+public final class RequestKey {
+    private static final Logger log = Logger.loggerFor(RequestKey.class);
+
+    private static final int CONTENT_READ_BUFFER_SIZE = 8 * 1024;
+
+    private final Class<?> requestType;
+    private final SdkHttpMethod method;
+    private final String protocol;
+    private final String host;
+    private final int port;
+    private final String encodedPath;
+    private final Map<String, List<String>> rawQueryParameters;
+    private final Map<String, List<String>> headers;
+    private final long contentLength;
+    private final byte[] contentDigest;
+    private final int hashCode;
+
+    private RequestKey(Class<?> requestType, SdkHttpFullRequest request, long contentLength, byte[] contentDigest) {
+        this.requestType = requestType;
+        this.method = request.method();
+        this.protocol = request.protocol();
+        this.host = request.host();
+        this.port = request.port();
+        this.encodedPath = request.encodedPath();
+        this.rawQueryParameters = request.rawQueryParameters();
+        this.headers = request.headers();
+        this.contentLength = contentLength;
+        this.contentDigest = contentDigest;
+        this.hashCode = computeHashCode();
+    }
+
+    /**
+     * @param request The request, after execution interceptors modified it.
+     * @param marshalled The marshalled request, after execution interceptors modified it.
+     * @return The key for the given request, or null if the content of the request could not be read.
+     */
+    public static RequestKey create(SdkRequest request, SdkHttpFullRequest marshalled) {
+        MessageDigest digest = sha256();
+        long contentLength = 0;
+        if (marshalled.contentStreamProvider().isPresent()) {
+            ContentStreamProvider contentStreamProvider = marshalled.contentStreamProvider().get();
+            try (InputStream content = contentStreamProvider.newStream()) {
+                byte[] buffer = new byte[CONTENT_READ_BUFFER_SIZE];
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    contentLength += read;
+                }
+            } catch (IOException e) {
+                log.debug(() -> "Could not read the content of request: " + marshalled, e);
+                return null;
+            }
+        }
+        return new RequestKey(request.getClass(), marshalled, contentLength, digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM.", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        RequestKey that = (RequestKey) o;
+        return hashCode == that.hashCode
+               && port == that.port
+               && requestType.equals(that.requestType)
+               && method == that.method
+               && protocol.equals(that.protocol)
+               && host.equals(that.host)
+               && Objects.equals(encodedPath, that.encodedPath)
+               && rawQueryParameters.equals(that.rawQueryParameters)
+               && headers.equals(that.headers)
+               && contentLength == that.contentLength
+               && Arrays.equals(contentDigest, that.contentDigest);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    private int computeHashCode() {
+        int result = requestType.hashCode();
+        result = 31 * result + method.hashCode();
+        result = 31 * result + protocol.hashCode();
+        result = 31 * result + host.hashCode();
+        result = 31 * result + port;
+        result = 31 * result + Objects.hashCode(encodedPath);
+        result = 31 * result + rawQueryParameters.hashCode();
+        result = 31 * result + headers.hashCode();
+        result = 31 * result + Long.hashCode(contentLength);
+        result = 31 * result + Arrays.hashCode(contentDigest);
+        return result;
+    }
+}
@@ -0,0 +1,534 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.client.config.ResponseCachePolicy;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricCollector;
+import software.amazon.awssdk.core.internal.util.FrequencySketch;
+import software.amazon.awssdk.core.metrics.ResponseCacheResult;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * A bounded, in-memory cache of unmarshalled responses, keyed by the request they were returned for.
+ *
+ * <p>Eviction follows W-TinyLFU: new entries enter a small LRU window, and when they leave it they are only admitted to the
+ * main segment if they were used more often than the entry they would replace, as estimated by a {@link FrequencySketch}. The
+ * main segment is a segmented LRU, where entries used again while on probation are promoted to a protected segment. This keeps
+ * frequently used responses cached when many responses are used only once.
+ *
+ * <p>Reads don't wait for the eviction lock: if it is held, the read isn't recorded in the eviction order.
+ *
+ * @see ResponseCachePolicy
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ResponseCache {
+    private static final Logger log = Logger.loggerFor(ResponseCache.class);
+
+    private static final int WINDOW_PERCENTAGE = 1;
+    private static final int PROTECTED_PERCENTAGE = 80;
+
+    private final Map<Class<? extends SdkRequest>, Long> timeToLiveNanos = new HashMap<>();
+    private final long staleWhileRevalidateNanos;
+    private final ToIntFunction<? super SdkResponse> weigher;
+    private final long maximumWeight;
+    private final long maximumWindowWeight;
+    private final long maximumProtectedWeight;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentMap<RequestKey, Node> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Guards the eviction order, the weights and the frequency sketch.
+     */
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final AccessOrderList window = new AccessOrderList();
+    private final AccessOrderList probation = new AccessOrderList();
+    private final AccessOrderList protectedSegment = new AccessOrderList();
+    private long windowWeight;
+    private long protectedWeight;
+    private long totalWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SdkTestInternalApi
+    ResponseCache(ResponseCachePolicy policy, LongSupplier nanoClock) {
+        policy.timeToLive().forEach((type, ttl) -> timeToLiveNanos.put(type, ttl.toNanos()));
+        this.staleWhileRevalidateNanos = policy.staleWhileRevalidate().toNanos();
+        this.weigher = policy.weigher();
+        this.maximumWeight = policy.maximumWeight();
+        this.maximumWindowWeight = Math.max(1, maximumWeight * WINDOW_PERCENTAGE / 100);
+        this.maximumProtectedWeight = (maximumWeight - maximumWindowWeight) * PROTECTED_PERCENTAGE / 100;
+        this.sketch = new FrequencySketch(maximumWeight);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return A response cache for the given policy, or null if the policy is null or doesn't allow any response to be cached.
+     */
+    public static ResponseCache create(ResponseCachePolicy policy) {
+        if (policy == null || policy.timeToLive().isEmpty()) {
+            return null;
+        }
+        return new ResponseCache(policy, System::nanoTime);
+    }
+
+    /**
+     * Return the cached response for a synchronous call, or make the call and cache its response.
+     *
+     * <p>If the cached response is stale, the first caller to find it stale makes the call to refresh it. Callers that find it
+     * stale while it is being refreshed receive the stale response. Unlike {@link #getAsync}, the refresh is made on the
+     * caller's thread: a synchronous client has no executor to refresh on, and the call runs the caller's interceptors and
+     * records the caller's metrics.
+     *
+     * @param request The request, after execution interceptors modified it.
+     * @param key The key of the request, or null if it could not be created.
+     * @param metricCollector The collector that the cache result is recorded to, or null if metrics are not collected.
+     * @param call The call to make if the response isn't cached.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(SdkRequest request, RequestKey key, ApiCallMetricCollector metricCollector, Supplier<T> call) {
+        Long timeToLive = timeToLiveNanos(request);
+        if (timeToLive == null || key == null) {
+            return call.get();
+        }
+
+        Node node = lookup(key, metricCollector);
+        if (node == null) {
+            return load(key, timeToLive, metricCollector, call);
+        }
+        if (!node.isStale(nanoClock.getAsLong()) || !node.refreshing.compareAndSet(false, true)) {
+            return (T) node.value;
+        }
+
+        try {
+            return load(key, timeToLive, metricCollector, call);
+        } finally {
+            node.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Return the cached response for an asynchronous call, or make the call and cache its response.
+     *
+     * <p>If the cached response is stale, it is returned and the first caller to find it stale makes the refresh call in the
+     * background.
+     *
+     * @param request The request, after execution interceptors modified it.
+     * @param key The key of the request, or null if it could not be created.
+     * @param metricCollector The collector that the cache result is recorded to, or null if metrics are not collected.
+     * @param call The call to make if the response isn't cached.
+     * @param refreshCall The call to make to refresh a stale response. The caller receives the stale response, so this call
+     * must not be part of the caller's execution.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> getAsync(SdkRequest request, RequestKey key, ApiCallMetricCollector metricCollector,
+                                             Supplier<CompletableFuture<T>> call, Supplier<CompletableFuture<T>> refreshCall) {
+        Long timeToLive = timeToLiveNanos(request);
+        if (timeToLive == null || key == null) {
+            return call.get();
+        }
+
+        Node node = lookup(key, metricCollector);
+        if (node == null) {
+            return loadAsync(key, timeToLive, metricCollector, call);
+        }
+        if (node.isStale(nanoClock.getAsLong()) && node.refreshing.compareAndSet(false, true)) {
+            try {
+                // The caller already received the stale response, so the refresh isn't part of its metrics.
+                loadAsync(key, timeToLive, null, refreshCall).whenComplete((r, t) -> {
+                    node.refreshing.set(false);
+                    if (t != null) {
+                        log.debug(() -> "Failed to refresh stale response for request: " + request, t);
+                    }
+                });
+            } catch (RuntimeException e) {
+                node.refreshing.set(false);
+                log.debug(() -> "Failed to refresh stale response for request: " + request, e);
+            }
+        }
+        return CompletableFuture.completedFuture((T) node.value);
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return How many times a stale response was returned while it was refreshed. These are also counted as hits.
+     */
+    public long staleHitCount() {
+        return staleHits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    @SdkTestInternalApi
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return Whether responses to requests of the same type as the given request are cached.
+     */
+    public boolean appliesTo(SdkRequest request) {
+        return timeToLiveNanos(request) != null;
+    }
+
+    private Long timeToLiveNanos(SdkRequest request) {
+        // Requests with their own override configuration may be sent with different credentials or signers.
+        if (request.overrideConfiguration().isPresent()) {
+            return null;
+        }
+        return timeToLiveNanos.get(request.getClass());
+    }
+
+    /**
+     * @return The cached entry for the key if it can still be returned, or null if there is none.
+     */
+    private Node lookup(RequestKey key, ApiCallMetricCollector metricCollector) {
+        Node node = entries.get(key);
+        long now = nanoClock.getAsLong();
+        if (node == null || node.isExpired(now)) {
+            if (node != null) {
+                remove(node);
+            }
+            misses.increment();
+            recordResult(metricCollector, ResponseCacheResult.MISS);
+            return null;
+        }
+
+        hits.increment();
+        if (node.isStale(now)) {
+            staleHits.increment();
+            recordResult(metricCollector, ResponseCacheResult.STALE_HIT);
+        } else {
+            recordResult(metricCollector, ResponseCacheResult.HIT);
+        }
+        afterRead(node);
+        return node;
+    }
+
+    private static void recordResult(ApiCallMetricCollector metricCollector, ResponseCacheResult result) {
+        if (metricCollector != null) {
+            metricCollector.recordResponseCacheResult(result);
+        }
+    }
+
+    private <T> T load(RequestKey key, long timeToLive, ApiCallMetricCollector metricCollector, Supplier<T> call) {
+        T response = call.get();
+        try {
+            put(key, response, timeToLive, metricCollector);
+        } catch (RuntimeException e) {
+            log.debug(() -> "Failed to cache response: " + response, e);
+        }
+        return response;
+    }
+
+    /**
+     * Make the call, and cache its response before the returned future completes, so that the evictions it causes are recorded
+     * before the metrics of the call are published. Cancelling the returned future cancels the call.
+     */
+    private <T> CompletableFuture<T> loadAsync(RequestKey key, long timeToLive, ApiCallMetricCollector metricCollector,
+                                               Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> response = call.get();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        response.whenComplete((r, t) -> {
+            if (t != null) {
+                result.completeExceptionally(t);
+                return;
+            }
+            try {
+                put(key, r, timeToLive, metricCollector);
+            } catch (RuntimeException e) {
+                log.debug(() -> "Failed to cache response: " + r, e);
+            } finally {
+                result.complete(r);
+            }
+        });
+        result.whenComplete((r, t) -> {
+            if (result.isCancelled()) {
+                response.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private void put(RequestKey key, Object response, long timeToLive, ApiCallMetricCollector metricCollector) {
+        if (!(response instanceof SdkResponse)) {
+            return;
+        }
+
+        int weight = weigher.applyAsInt((SdkResponse) response);
+        if (weight < 0 || weight > maximumWeight) {
+            log.debug(() -> "Not caching response with weight " + weight + ": " + response);
+            return;
+        }
+
+        long now = nanoClock.getAsLong();
+        Node node = new Node(key, response, weight, now + timeToLive, now + timeToLive + staleWhileRevalidateNanos);
+
+        evictionLock.lock();
+        try {
+            Node previous = entries.put(key, node);
+            if (previous != null) {
+                unlink(previous);
+            }
+            sketch.increment(key);
+            window.addLast(node);
+            node.segment = Segment.WINDOW;
+            windowWeight += weight;
+            totalWeight += weight;
+            int evicted = evict();
+            if (metricCollector != null) {
+                metricCollector.recordResponseCacheEvictions(evicted);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void remove(Node node) {
+        evictionLock.lock();
+        try {
+            if (entries.remove(node.key, node)) {
+                unlink(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void afterRead(Node node) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            sketch.increment(node.key);
+            onAccess(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void onAccess(Node node) {
+        switch (node.segment) {
+            case WINDOW:
+                window.moveToLast(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                protectedSegment.addLast(node);
+                node.segment = Segment.PROTECTED;
+                protectedWeight += node.weight;
+                demoteProtected();
+                break;
+            case PROTECTED:
+                protectedSegment.moveToLast(node);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void demoteProtected() {
+        while (protectedWeight > maximumProtectedWeight) {
+            Node demoted = protectedSegment.first;
+            protectedSegment.remove(demoted);
+            protectedWeight -= demoted.weight;
+            probation.addLast(demoted);
+            demoted.segment = Segment.PROBATION;
+        }
+    }
+
+    /**
+     * Move the entries that overflow the window to probation, then evict entries until the cache fits its maximum weight. An
+     * entry that left the window replaces the least recently used entry on probation only if it is used more often.
+     *
+     * @return The number of evicted entries.
+     */
+    private int evict() {
+        Node candidate = null;
+        while (windowWeight > maximumWindowWeight) {
+            Node node = window.first;
+            window.remove(node);
+            windowWeight -= node.weight;
+            probation.addLast(node);
+            node.segment = Segment.PROBATION;
+            if (candidate == null) {
+                candidate = node;
+            }
+        }
+
+        int evicted = 0;
+        while (totalWeight > maximumWeight) {
+            evicted++;
+            Node victim = firstNonNull(probation.first, protectedSegment.first, window.first);
+            if (candidate == null || candidate == victim) {
+                if (candidate == victim) {
+                    candidate = candidate.next;
+                }
+                evict(victim);
+            } else if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evict(victim);
+            } else {
+                Node rejected = candidate;
+                candidate = candidate.next;
+                evict(rejected);
+            }
+        }
+        return evicted;
+    }
+
+    private void evict(Node node) {
+        entries.remove(node.key, node);
+        unlink(node);
+        evictions.increment();
+    }
+
+    private void unlink(Node node) {
+        switch (node.segment) {
+            case WINDOW:
+                window.remove(node);
+                windowWeight -= node.weight;
+                break;
+            case PROBATION:
+                probation.remove(node);
+                break;
+            case PROTECTED:
+                protectedSegment.remove(node);
+                protectedWeight -= node.weight;
+                break;
+            default:
+                return;
+        }
+        totalWeight -= node.weight;
+        node.segment = Segment.REMOVED;
+    }
+
+    private static Node firstNonNull(Node... nodes) {
+        for (Node node : nodes) {
+            if (node != null) {
+                return node;
+            }
+        }
+        throw new IllegalStateException("The cache is over its maximum weight, but has no entries.");
+    }
+
+    private enum Segment {
+        WINDOW,
+        PROBATION,
+        PROTECTED,
+        REMOVED
+    }
+
+    private static final class Node {
+        private final RequestKey key;
+        private final Object value;
+        private final int weight;
+        private final long expiresAt;
+        private final long staleUntil;
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        // Guarded by the eviction lock.
+        private Segment segment;
+        private Node previous;
+        private Node next;
+
+        private Node(RequestKey key, Object value, int weight, long expiresAt, long staleUntil) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+            this.staleUntil = staleUntil;
+        }
+
+        private boolean isStale(long now) {
+            return now - expiresAt >= 0;
+        }
+
+        private boolean isExpired(long now) {
+            return now - staleUntil >= 0;
+        }
+    }
+
+    /**
+     * A doubly linked list of entries, from the least to the most recently used.
+     */
+    private static final class AccessOrderList {
+        private Node first;
+        private Node last;
+
+        private void addLast(Node node) {
+            node.previous = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+        }
+
+        private void remove(Node node) {
+            if (node.previous == null) {
+                first = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+        }
+
+        private void moveToLast(Node node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+    }
+}
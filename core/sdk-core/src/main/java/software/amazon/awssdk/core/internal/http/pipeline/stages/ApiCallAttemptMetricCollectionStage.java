@@ -0,0 +1,54 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.internal.Response;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestToResponsePipeline;
+import software.amazon.awssdk.core.internal.metrics.ApiCallAttemptMetricCollector;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+
+/**
+ * Wrapper around a {@link RequestPipeline} to collect the metrics of each api call attempt, if metrics are collected.
+ */
+@SdkInternalApi
+public final class ApiCallAttemptMetricCollectionStage<OutputT> implements RequestToResponsePipeline<OutputT> {
+
+    private final RequestPipeline<SdkHttpFullRequest, Response<OutputT>> wrapped;
+
+    public ApiCallAttemptMetricCollectionStage(HttpClientDependencies dependencies,
+                                               RequestPipeline<SdkHttpFullRequest, Response<OutputT>> wrapped) {
+        this.wrapped = wrapped;
+    }
+
+    @Override
+    public Response<OutputT> execute(SdkHttpFullRequest request, RequestExecutionContext context) throws Exception {
+        if (context.metricCollector() == null) {
+            return wrapped.execute(request, context);
+        }
+
+        ApiCallAttemptMetricCollector attemptMetrics = context.metricCollector().startAttempt();
+        context.attemptMetricCollector(attemptMetrics);
+        try {
+            return wrapped.execute(request, context);
+        } finally {
+            attemptMetrics.end();
+        }
+    }
+}
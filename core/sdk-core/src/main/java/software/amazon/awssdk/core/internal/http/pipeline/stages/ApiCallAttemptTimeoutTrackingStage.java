@@ -27,6 +27,7 @@ import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestToResponsePipeline;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 
@@ -39,11 +40,13 @@ public final class ApiCallAttemptTimeoutTrackingStage<OutputT> implements Reques
     private final RequestPipeline<SdkHttpFullRequest, Response<OutputT>> wrapped;
     private final Duration apiCallAttemptTimeout;
     private final ScheduledExecutorService timeoutExecutor;
+    private final HashedWheelTimer timeoutTimer;
 
     public ApiCallAttemptTimeoutTrackingStage(HttpClientDependencies dependencies, RequestPipeline<SdkHttpFullRequest,
         Response<OutputT>> wrapped) {
         this.wrapped = wrapped;
         this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.timeoutTimer = dependencies.timeoutTimer();
         this.apiCallAttemptTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT);
     }
 
@@ -56,7 +59,10 @@ public final class ApiCallAttemptTimeoutTrackingStage<OutputT> implements Reques
     public Response<OutputT> execute(SdkHttpFullRequest request, RequestExecutionContext context) throws Exception {
         long timeoutInMillis = resolveTimeoutInMillis(context.requestConfig()::apiCallAttemptTimeout, apiCallAttemptTimeout);
 
-        TimeoutTracker timeoutTracker = timeSyncTaskIfNeeded(timeoutExecutor, timeoutInMillis, Thread.currentThread());
+        TimeoutTracker timeoutTracker = timeoutTimer != null
+                                        ? timeSyncTaskIfNeeded(timeoutTimer, timeoutExecutor, timeoutInMillis,
+                                                               Thread.currentThread())
+                                        : timeSyncTaskIfNeeded(timeoutExecutor, timeoutInMillis, Thread.currentThread());
 
         try {
             context.apiCallAttemptTimeoutTracker(timeoutTracker);
@@ -32,6 +32,7 @@ import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestToResponsePipeline;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
 import software.amazon.awssdk.core.internal.http.timers.SyncTimeoutTask;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -44,6 +45,7 @@ public final class ApiCallTimeoutTrackingStage<OutputT> implements RequestToResp
     private final RequestPipeline<SdkHttpFullRequest, Response<OutputT>> wrapped;
     private final SdkClientConfiguration clientConfig;
     private final ScheduledExecutorService timeoutExecutor;
+    private final HashedWheelTimer timeoutTimer;
     private final Duration apiCallTimeout;
 
     public ApiCallTimeoutTrackingStage(HttpClientDependencies dependencies,
@@ -51,6 +53,7 @@ public final class ApiCallTimeoutTrackingStage<OutputT> implements RequestToResp
         this.wrapped = wrapped;
         this.clientConfig = dependencies.clientConfiguration();
         this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.timeoutTimer = dependencies.timeoutTimer();
         this.apiCallTimeout = clientConfig.option(SdkClientOption.API_CALL_TIMEOUT);
     }
 
@@ -72,7 +75,10 @@ public final class ApiCallTimeoutTrackingStage<OutputT> implements RequestToResp
 
         long timeoutInMillis = resolveTimeoutInMillis(context.requestConfig()::apiCallTimeout, apiCallTimeout);
 
-        TimeoutTracker timeoutTracker = timeSyncTaskIfNeeded(timeoutExecutor, timeoutInMillis, Thread.currentThread());
+        TimeoutTracker timeoutTracker = timeoutTimer != null
+                                        ? timeSyncTaskIfNeeded(timeoutTimer, timeoutExecutor, timeoutInMillis,
+                                                               Thread.currentThread())
+                                        : timeSyncTaskIfNeeded(timeoutExecutor, timeoutInMillis, Thread.currentThread());
 
         try {
             context.apiCallTimeoutTracker(timeoutTracker);
@@ -27,6 +27,7 @@ import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 
@@ -36,11 +37,13 @@ public class AsyncApiCallTimeoutTrackingStage<OutputT>
     private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> requestPipeline;
     private final SdkClientConfiguration clientConfig;
     private final ScheduledExecutorService scheduledExecutor;
+    private final HashedWheelTimer timeoutTimer;
 
     public AsyncApiCallTimeoutTrackingStage(HttpClientDependencies dependencies,
                                             RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> requestPipeline) {
         this.requestPipeline = requestPipeline;
         this.scheduledExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.timeoutTimer = dependencies.timeoutTimer();
         this.clientConfig = dependencies.clientConfiguration();
     }
 
@@ -51,10 +54,12 @@ public class AsyncApiCallTimeoutTrackingStage<OutputT>
         long apiCallTimeoutInMillis = resolveTimeoutInMillis(() -> context.requestConfig().apiCallTimeout(),
                                                              clientConfig.option(SdkClientOption.API_CALL_TIMEOUT));
 
-        TimeoutTracker timeoutTracker = timeAsyncTaskIfNeeded(future,
-                                                              scheduledExecutor,
-                                                              ApiCallTimeoutException.create(apiCallTimeoutInMillis),
-                                                              apiCallTimeoutInMillis);
+        ApiCallTimeoutException timeoutException = ApiCallTimeoutException.create(apiCallTimeoutInMillis);
+        TimeoutTracker timeoutTracker = timeoutTimer != null
+                                        ? timeAsyncTaskIfNeeded(future, timeoutTimer, scheduledExecutor, timeoutException,
+                                                                apiCallTimeoutInMillis)
+                                        : timeAsyncTaskIfNeeded(future, scheduledExecutor, timeoutException,
+                                                                apiCallTimeoutInMillis);
         context.apiCallTimeoutTracker(timeoutTracker);
 
         requestPipeline.execute(input, context).whenComplete((r, t) -> {
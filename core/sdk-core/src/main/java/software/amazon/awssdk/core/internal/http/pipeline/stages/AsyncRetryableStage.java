@@ -19,7 +19,6 @@ import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -37,6 +36,7 @@ import software.amazon.awssdk.core.internal.util.CapacityManager;
 import software.amazon.awssdk.core.internal.util.ClockSkewUtil;
 import software.amazon.awssdk.core.internal.util.ThrowableUtils;
 import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.RetrySleeper;
 import software.amazon.awssdk.core.retry.RetryUtils;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -56,6 +56,7 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
     private final HttpClientDependencies dependencies;
     private final CapacityManager retryCapacity;
     private final RetryPolicy retryPolicy;
+    private final RetrySleeper retrySleeper;
 
     public AsyncRetryableStage(TransformingAsyncResponseHandler<OutputT> responseHandler,
                                HttpClientDependencies dependencies,
@@ -64,6 +65,7 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
         this.dependencies = dependencies;
         this.scheduledExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
         this.retryPolicy = dependencies.clientConfiguration().option(SdkClientOption.RETRY_POLICY);
+        this.retrySleeper = dependencies.clientConfiguration().option(SdkClientOption.RETRY_SLEEPER);
         this.retryCapacity = dependencies.retryCapacity();
         this.requestPipeline = requestPipeline;
     }
@@ -87,7 +89,7 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
         private RetryExecutor(SdkHttpFullRequest request, RequestExecutionContext context) {
             this.request = request;
             this.context = context;
-            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity);
+            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity, dependencies.rateLimitingTokenBucket());
         }
 
         public CompletableFuture<Response<OutputT>> execute() throws Exception {
@@ -97,10 +99,30 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
 
         public CompletableFuture<Response<OutputT>> execute(CompletableFuture<Response<OutputT>> future) throws Exception {
             beforeExecute();
-            doExecute().whenComplete((resp, err) -> retryIfNeeded(future, resp, err));
+
+            Duration sendDelay = retryHandler.acquireSendToken();
+            if (sendDelay.isZero()) {
+                sendRequest(future);
+            } else {
+                retrySleeper.sleepAsync(sendDelay, scheduledExecutor).whenComplete((r, sleepFailure) -> {
+                    if (sleepFailure != null) {
+                        future.completeExceptionally(sleepFailure);
+                        return;
+                    }
+                    try {
+                        sendRequest(future);
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    }
+                });
+            }
             return future;
         }
 
+        private void sendRequest(CompletableFuture<Response<OutputT>> future) throws Exception {
+            doExecute().whenComplete((resp, err) -> retryIfNeeded(future, resp, err));
+        }
+
         private void retryIfNeeded(CompletableFuture<Response<OutputT>> future,
                                    Response<OutputT> resp,
                                    Throwable err) {
@@ -121,10 +143,12 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
 
         private void retryResponseIfNeeded(Response<OutputT> resp, CompletableFuture<Response<OutputT>> future) {
             if (resp.isSuccess()) {
+                retryHandler.updateSendingRate(null);
                 retryHandler.releaseRetryCapacity();
                 future.complete(resp);
             } else {
                 SdkException err = resp.exception();
+                retryHandler.updateSendingRate(err);
 
                 if (RetryUtils.isClockSkewException(err)) {
                     int clockSkew = ClockSkewUtil.parseClockSkewOffset(resp.httpResponse());
@@ -146,6 +170,8 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
         }
 
         private void retryErrorIfNeeded(SdkException err, CompletableFuture<Response<OutputT>> future) {
+            retryHandler.updateSendingRate(err);
+
             if (err instanceof NonRetryableException) {
                 future.completeExceptionally(err);
                 return;
@@ -174,14 +200,21 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
 
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Retryable error detected, will retry in " + delay.toMillis() + "ms,"
                                                          + " attempt number " + retriesAttempted);
-            scheduledExecutor.schedule(() -> {
-                execute(future);
-                return null;
-            }, delay.toMillis(), TimeUnit.MILLISECONDS);
+            retrySleeper.sleepAsync(delay, scheduledExecutor).whenComplete((r, sleepFailure) -> {
+                if (sleepFailure != null) {
+                    future.completeExceptionally(sleepFailure);
+                    return;
+                }
+                try {
+                    execute(future);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
         }
 
         private void beforeExecute() {
-            retryHandler.retryCapacityConsumed(false);
+            retryHandler.resetRetryCapacityConsumed();
             ++requestCount;
         }
 
@@ -16,32 +16,45 @@
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
 import software.amazon.awssdk.core.SdkStandardLogger;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.AbortedException;
 import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.Response;
+import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.InterruptMonitor;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublisher;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.core.internal.http.timers.TimerUtils;
+import software.amazon.awssdk.core.internal.metrics.ApiCallAttemptMetricCollector;
+import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
+import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpMethod;
@@ -66,7 +79,10 @@ public final class MakeAsyncHttpRequestStage<OutputT>
     private final TransformingAsyncResponseHandler<? extends SdkException> errorResponseHandler;
     private final Executor futureCompletionExecutor;
     private final ScheduledExecutorService timeoutExecutor;
+    private final HashedWheelTimer timeoutTimer;
     private final Duration apiCallAttemptTimeout;
+    private final HedgingPolicy hedgingPolicy;
+    private final CapacityManager retryCapacity;
 
     public MakeAsyncHttpRequestStage(TransformingAsyncResponseHandler<OutputT> responseHandler,
                                      TransformingAsyncResponseHandler<? extends SdkException> errorResponseHandler,
@@ -78,12 +94,19 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         this.sdkAsyncHttpClient = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_HTTP_CLIENT);
         this.apiCallAttemptTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT);
         this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.timeoutTimer = dependencies.timeoutTimer();
+        this.hedgingPolicy = dependencies.clientConfiguration().option(SdkClientOption.HEDGING_POLICY);
+        this.retryCapacity = dependencies.retryCapacity();
     }
 
     @Override
     public CompletableFuture<Response<OutputT>> execute(SdkHttpFullRequest request,
                                                         RequestExecutionContext context) throws Exception {
         InterruptMonitor.checkInterrupted();
+        HedgingPolicy resolvedHedgingPolicy = resolveHedgingPolicy(context.requestConfig());
+        if (resolvedHedgingPolicy != null && isHedgeable(request, context, resolvedHedgingPolicy)) {
+            return executeHedgedHttpRequest(request, context, resolvedHedgingPolicy);
+        }
         return executeHttpRequest(request, context);
     }
 
@@ -98,7 +121,65 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         //FIXME(dongie): We need to be careful to only call responseHandler.prepare() exactly once per execute() call
         //because it calls prepare() under the hood and we guarantee that we call that once per execution. It would be good
         //to find a way to prevent multiple calls to prepare() within a single execution to only call prepare() once.
-        ResponseHandler handler = new ResponseHandler(responseFuture, responseHandler.prepare(), errorResponseFuture);
+        ResponseHandler handler = new ResponseHandler(responseFuture, responseHandler.prepare(), errorResponseFuture, null);
+
+        sendAttempt(request, context, handler, context.attemptMetricCollector());
+
+        TimeoutTracker timeoutTracker = setupAttemptTimer(responseFuture, context);
+        context.apiCallAttemptTimeoutTracker(timeoutTracker);
+
+        return responseFuture;
+    }
+
+    /**
+     * Send the request, and then send an identical hedged attempt if no response has been received after the hedge delay. The
+     * response and error handlers are prepared once and shared by both attempts, and only the attempt that receives response
+     * headers first is allowed to deliver its response to them.
+     */
+    private CompletableFuture<Response<OutputT>> executeHedgedHttpRequest(SdkHttpFullRequest request,
+                                                                          RequestExecutionContext context,
+                                                                          HedgingPolicy policy) throws Exception {
+        CompletableFuture<? extends SdkException> errorResponseFuture =
+            errorResponseHandler == null ? null : errorResponseHandler.prepare();
+        CompletableFuture<OutputT> transformFuture = responseHandler.prepare();
+
+        HedgedExecution execution = new HedgedExecution();
+
+        ResponseHandler firstAttempt = new ResponseHandler(new CompletableFuture<>(), transformFuture, errorResponseFuture,
+                                                           execution);
+        execution.addAttempt(firstAttempt);
+        sendAttempt(request, context, firstAttempt, context.attemptMetricCollector());
+
+        ScheduledFuture<?> hedgeTask = timeoutExecutor.schedule(() -> {
+            ResponseHandler hedgedAttempt = new ResponseHandler(new CompletableFuture<>(), transformFuture, errorResponseFuture,
+                                                                execution);
+            if (!execution.addHedgedAttempt(hedgedAttempt)) {
+                return;
+            }
+            SdkStandardLogger.REQUEST_LOGGER.debug(() -> "No response after " + policy.hedgeDelay().toMillis() + "ms, "
+                                                         + "sending hedged request: " + request);
+            try {
+                sendAttempt(request, context, hedgedAttempt, startHedgedAttemptMetrics(context, hedgedAttempt));
+            } catch (Throwable t) {
+                hedgedAttempt.responseFuture.completeExceptionally(t);
+            }
+        }, policy.hedgeDelay().toMillis(), TimeUnit.MILLISECONDS);
+
+        CompletableFuture<Response<OutputT>> responseFuture = execution.responseFuture();
+        responseFuture.whenComplete((r, t) -> hedgeTask.cancel(false));
+
+        TimeoutTracker timeoutTracker = setupAttemptTimer(responseFuture, context);
+        context.apiCallAttemptTimeoutTracker(timeoutTracker);
+
+        return responseFuture;
+    }
+
+    /**
+     * @param attemptMetrics The collector of the metrics of this attempt, or null if metrics are not collected.
+     */
+    private void sendAttempt(SdkHttpFullRequest request, RequestExecutionContext context, ResponseHandler handler,
+                             ApiCallAttemptMetricCollector attemptMetrics) {
+        CompletableFuture<Response<OutputT>> responseFuture = handler.responseFuture;
 
         SdkHttpContentPublisher requestProvider = context.requestProvider() == null
                                                   ? new SimpleHttpContentPublisher(request)
@@ -111,15 +192,18 @@ public final class MakeAsyncHttpRequestStage<OutputT>
                                                                 .requestContentPublisher(requestProvider)
                                                                 .responseHandler(handler)
                                                                 .fullDuplex(isFullDuplex(context.executionAttributes()))
+                                                                .metricCollector(attemptMetrics)
                                                                 .build();
 
+        if (attemptMetrics != null) {
+            attemptMetrics.recordRequest(requestWithContentLength);
+            handler.headersFuture.thenAccept(attemptMetrics::recordResponse);
+        }
+
         CompletableFuture<Void> httpClientFuture = sdkAsyncHttpClient.execute(executeRequest);
 
         CompletableFuture<Response<OutputT>> transformFuture = handler.prepare();
 
-        TimeoutTracker timeoutTracker = setupAttemptTimer(responseFuture, context);
-        context.apiCallAttemptTimeoutTracker(timeoutTracker);
-
         // Forward the cancellation
         responseFuture.whenComplete((r, t) -> {
             if (t != null) {
@@ -136,8 +220,32 @@ public final class MakeAsyncHttpRequestStage<OutputT>
                 responseFuture.completeExceptionally(t);
             }
         }, futureCompletionExecutor);
+    }
 
-        return responseFuture;
+    /**
+     * A hedged attempt is an attempt of its own, so its metrics are collected separately from the attempt it hedges.
+     */
+    private ApiCallAttemptMetricCollector startHedgedAttemptMetrics(RequestExecutionContext context, ResponseHandler attempt) {
+        if (context.metricCollector() == null) {
+            return null;
+        }
+        ApiCallAttemptMetricCollector attemptMetrics = context.metricCollector().startAttempt();
+        attempt.responseFuture.whenComplete((r, t) -> attemptMetrics.end());
+        return attemptMetrics;
+    }
+
+    private HedgingPolicy resolveHedgingPolicy(RequestOverrideConfiguration requestConfig) {
+        return requestConfig.hedgingPolicy().orElse(hedgingPolicy);
+    }
+
+    private boolean isHedgeable(SdkHttpFullRequest request, RequestExecutionContext context, HedgingPolicy policy) {
+        // A streaming request body can only be read once
+        if (context.requestProvider() != null || isFullDuplex(context.executionAttributes())) {
+            return false;
+        }
+        return request.method() == SdkHttpMethod.GET
+               || request.method() == SdkHttpMethod.HEAD
+               || policy.idempotentRequestTypes().contains(context.originalRequest().getClass());
     }
 
     private boolean isFullDuplex(ExecutionAttributes executionAttributes) {
@@ -166,10 +274,12 @@ public final class MakeAsyncHttpRequestStage<OutputT>
 
     private TimeoutTracker setupAttemptTimer(CompletableFuture<Response<OutputT>> executeFuture, RequestExecutionContext ctx) {
         long timeoutMillis = apiCallAttemptTimeoutInMillis(ctx.requestConfig());
-        return TimerUtils.timeAsyncTaskIfNeeded(executeFuture,
-                                                timeoutExecutor,
-                                                ApiCallAttemptTimeoutException.create(timeoutMillis),
-                                                timeoutMillis);
+        ApiCallAttemptTimeoutException timeoutException = ApiCallAttemptTimeoutException.create(timeoutMillis);
+        if (timeoutTimer != null) {
+            return TimerUtils.timeAsyncTaskIfNeeded(executeFuture, timeoutTimer, timeoutExecutor, timeoutException,
+                                                    timeoutMillis);
+        }
+        return TimerUtils.timeAsyncTaskIfNeeded(executeFuture, timeoutExecutor, timeoutException, timeoutMillis);
     }
 
     /**
@@ -190,12 +300,193 @@ public final class MakeAsyncHttpRequestStage<OutputT>
             return asyncRequestBody.contentLength();
         }
 
+        @Override
+        public Optional<Path> contentFile() {
+            if (asyncRequestBody instanceof FileAsyncRequestBody) {
+                return Optional.of(((FileAsyncRequestBody) asyncRequestBody).path());
+            }
+            return Optional.empty();
+        }
+
         @Override
         public void subscribe(Subscriber<? super ByteBuffer> s) {
             asyncRequestBody.subscribe(s);
         }
     }
 
+    /**
+     * Tracks the attempts of a hedged request. The first attempt to receive a successful response wins: it completes the
+     * request, and every other attempt is cancelled. An error response only wins once no other attempt is still waiting for a
+     * response, so a fast error doesn't cancel an attempt that could still succeed. If no attempt wins, the request fails with
+     * the error of the last attempt to fail.
+     */
+    private final class HedgedExecution {
+        private final CompletableFuture<Response<OutputT>> responseFuture = new CompletableFuture<>();
+        private final List<ResponseHandler> attempts = new ArrayList<>(2);
+        private ResponseHandler winner;
+        private int attemptsInFlight;
+        private int attemptsSetAside;
+        private int capacityConsumed;
+
+        private HedgedExecution() {
+            responseFuture.whenComplete((r, t) -> {
+                cancelAttempts(t);
+                if (r != null && r.isSuccess()) {
+                    releaseCapacity();
+                }
+            });
+        }
+
+        CompletableFuture<Response<OutputT>> responseFuture() {
+            return responseFuture;
+        }
+
+        void addAttempt(ResponseHandler attempt) {
+            synchronized (this) {
+                attempts.add(attempt);
+                attemptsInFlight++;
+            }
+            attempt.responseFuture.whenComplete((r, t) -> attemptCompleted(attempt, r, t));
+        }
+
+        /**
+         * Add a hedged attempt if the request is still waiting for a response and the retry capacity allows it.
+         *
+         * @return True if the hedged attempt should be sent.
+         */
+        boolean addHedgedAttempt(ResponseHandler attempt) {
+            synchronized (this) {
+                if (winner != null || responseFuture.isDone()) {
+                    return false;
+                }
+                if (!retryCapacity.acquire(SdkDefaultRetrySetting.HEDGE_COST)) {
+                    log.debug(() -> "Not sending hedged request because retry capacity is exhausted.");
+                    return false;
+                }
+                capacityConsumed += SdkDefaultRetrySetting.HEDGE_COST;
+            }
+            addAttempt(attempt);
+            return true;
+        }
+
+        /**
+         * Claim the response for the given attempt, cancelling every other attempt.
+         *
+         * @return True if the given attempt should deliver its response.
+         */
+        boolean claim(ResponseHandler attempt) {
+            synchronized (this) {
+                if (winner != null) {
+                    return winner == attempt;
+                }
+                if (responseFuture.isDone()) {
+                    return false;
+                }
+                winner = attempt;
+            }
+            cancelAttempts(null);
+            return true;
+        }
+
+        /**
+         * Claim the error response of the given attempt if no other attempt is still waiting for a response. Otherwise the
+         * attempt is set aside, and the request keeps waiting for the other attempts.
+         *
+         * @return True if the given attempt should deliver its error response.
+         */
+        boolean claimError(ResponseHandler attempt) {
+            synchronized (this) {
+                if (winner != null) {
+                    return winner == attempt;
+                }
+                if (responseFuture.isDone()) {
+                    return false;
+                }
+                if (attemptsInFlight - attemptsSetAside > 1) {
+                    attempt.setAside = true;
+                    attemptsSetAside++;
+                    return false;
+                }
+                winner = attempt;
+            }
+            cancelAttempts(null);
+            return true;
+        }
+
+        synchronized boolean isWinner(ResponseHandler attempt) {
+            return winner == attempt;
+        }
+
+        private void attemptCompleted(ResponseHandler attempt, Response<OutputT> response, Throwable error) {
+            synchronized (this) {
+                attemptsInFlight--;
+                if (attempt.setAside) {
+                    attemptsSetAside--;
+                }
+                boolean lastAttempt = winner == null && attemptsInFlight == attemptsSetAside;
+                if (winner != attempt && !lastAttempt) {
+                    return;
+                }
+            }
+
+            if (error == null) {
+                responseFuture.complete(response);
+            } else {
+                responseFuture.completeExceptionally(error);
+            }
+        }
+
+        private void cancelAttempts(Throwable cause) {
+            List<ResponseHandler> losers = new ArrayList<>(2);
+            synchronized (this) {
+                for (ResponseHandler attempt : attempts) {
+                    if (attempt != winner || cause != null) {
+                        losers.add(attempt);
+                    }
+                }
+            }
+
+            Throwable cancellation = cause != null
+                                     ? cause
+                                     : AbortedException.create("Another attempt of this hedged request received a response "
+                                                               + "first.");
+            losers.forEach(attempt -> attempt.responseFuture.completeExceptionally(cancellation));
+        }
+
+        private void releaseCapacity() {
+            int consumed;
+            synchronized (this) {
+                consumed = capacityConsumed;
+                capacityConsumed = 0;
+            }
+            if (consumed > 0) {
+                retryCapacity.release(consumed);
+            }
+        }
+    }
+
+    /**
+     * Cancels the response stream of a hedged attempt that lost to another attempt.
+     */
+    private static final class CancellingSubscriber implements Subscriber<ByteBuffer> {
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
     /**
      * Detects whether the response succeeded or failed and delegates to appropriate response handler.
      */
@@ -204,18 +495,33 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         private final CompletableFuture<SdkHttpResponse> headersFuture = new CompletableFuture<>();
         private final CompletableFuture<OutputT> transformFuture;
         private final CompletableFuture<? extends SdkException> errorTransformFuture;
+        private final HedgedExecution hedgedExecution;
         private volatile SdkHttpFullResponse response;
 
+        /**
+         * Whether this hedged attempt received an error response while another attempt was still waiting for a response.
+         * Guarded by the {@link HedgedExecution}.
+         */
+        private boolean setAside;
+
+        /**
+         * @param hedgedExecution The hedged request this handler is an attempt of, or null if the request is not hedged.
+         */
         ResponseHandler(CompletableFuture<Response<OutputT>> responseFuture,
                         CompletableFuture<OutputT> transformFuture,
-                        CompletableFuture<? extends SdkException> errorTransformFuture) {
+                        CompletableFuture<? extends SdkException> errorTransformFuture,
+                        HedgedExecution hedgedExecution) {
             this.responseFuture = responseFuture;
             this.transformFuture = transformFuture;
             this.errorTransformFuture = errorTransformFuture;
+            this.hedgedExecution = hedgedExecution;
         }
 
         @Override
         public void onHeaders(SdkHttpResponse response) {
+            if (hedgedExecution != null && !claimResponse(response)) {
+                return;
+            }
             headersFuture.complete(response);
             if (response.isSuccessful()) {
                 SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Received successful response: " + response.statusCode());
@@ -227,6 +533,21 @@ public final class MakeAsyncHttpRequestStage<OutputT>
             this.response = toFullResponse(response);
         }
 
+        private boolean claimResponse(SdkHttpResponse response) {
+            if (response.isSuccessful()) {
+                // If another attempt already received a response, this attempt has been cancelled.
+                return hedgedExecution.claim(this);
+            }
+            if (hedgedExecution.claimError(this)) {
+                return true;
+            }
+            SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Received error response " + response.statusCode() + " for a hedged "
+                                                         + "attempt, waiting for the other attempt.");
+            responseFuture.completeExceptionally(AbortedException.create("This attempt of a hedged request received an error "
+                                                                         + "response while another attempt was in flight."));
+            return false;
+        }
+
         @Override
         public void onError(Throwable error) {
             // Note: We don't notify the wrapped handlers' onError here because
@@ -239,6 +560,10 @@ public final class MakeAsyncHttpRequestStage<OutputT>
 
         @Override
         public void onStream(Publisher<ByteBuffer> publisher) {
+            if (hedgedExecution != null && !hedgedExecution.isWinner(this)) {
+                publisher.subscribe(new CancellingSubscriber());
+                return;
+            }
             if (response.isSuccessful()) {
                 responseHandler.onStream(publisher);
             } else {
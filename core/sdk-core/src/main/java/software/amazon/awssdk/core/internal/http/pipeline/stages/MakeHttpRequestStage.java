@@ -21,6 +21,7 @@ import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.InterruptMonitor;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.metrics.ApiCallAttemptMetricCollector;
 import software.amazon.awssdk.http.AbortableCallable;
 import software.amazon.awssdk.http.ExecuteRequest;
 import software.amazon.awssdk.http.SdkHttpClient;
@@ -52,11 +53,20 @@ public class MakeHttpRequestStage
     }
 
     private SdkHttpFullResponse executeHttpRequest(SdkHttpFullRequest request, RequestExecutionContext context) throws Exception {
+        ApiCallAttemptMetricCollector attemptMetrics = context.attemptMetricCollector();
         AbortableCallable<SdkHttpFullResponse> requestCallable = sdkHttpClient
-            .prepareRequest(ExecuteRequest.builder().request(request).build());
+            .prepareRequest(ExecuteRequest.builder().request(request).metricCollector(attemptMetrics).build());
 
         context.apiCallTimeoutTracker().abortable(requestCallable);
         context.apiCallAttemptTimeoutTracker().abortable(requestCallable);
-        return requestCallable.call();
+
+        if (attemptMetrics == null) {
+            return requestCallable.call();
+        }
+
+        attemptMetrics.recordRequest(request);
+        SdkHttpFullResponse response = requestCallable.call();
+        attemptMetrics.recordResponse(response);
+        return response;
     }
 }
\ No newline at end of file
@@ -19,10 +19,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
-import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.MutableRequestToRequestPipeline;
@@ -34,32 +31,38 @@ import software.amazon.awssdk.http.SdkHttpFullRequest;
 @SdkInternalApi
 public class MergeCustomHeadersStage implements MutableRequestToRequestPipeline {
 
-    private final SdkClientConfiguration config;
+    /**
+     * Headers configured on the client. These are copied once per client by {@link HttpClientDependencies}.
+     */
+    private final Map<String, List<String>> clientHeaders;
 
     public MergeCustomHeadersStage(HttpClientDependencies dependencies) {
-        this.config = dependencies.clientConfiguration();
+        this.clientHeaders = dependencies.clientHeaders().additionalHeaders();
     }
 
     @Override
     public SdkHttpFullRequest.Builder execute(SdkHttpFullRequest.Builder request, RequestExecutionContext context)
             throws Exception {
-        return request.headers(mergeHeaders(request.headers(),
-                                            config.option(SdkClientOption.ADDITIONAL_HTTP_HEADERS),
-                                            adaptHeaders(context.requestConfig().headers())));
-    }
-
-    @SafeVarargs
-    private final Map<String, List<String>> mergeHeaders(Map<String, List<String>>... headers) {
-        Map<String, List<String>> result = new LinkedHashMap<>();
-        for (Map<String, List<String>> header : headers) {
-            header.forEach((k, v) -> result.computeIfAbsent(k, ignored -> new ArrayList<>()).addAll(v));
+        Map<String, List<String>> requestHeaders = context.requestConfig().headers();
+        if (clientHeaders.isEmpty() && requestHeaders.isEmpty()) {
+            return request;
         }
-        return result;
+
+        // Only the custom headers are written back to the request, rather than rebuilding its whole header map.
+        Map<String, List<String>> existingHeaders = request.headers();
+        Map<String, List<String>> mergedHeaders = new LinkedHashMap<>();
+        clientHeaders.forEach((name, values) -> mergedValues(mergedHeaders, existingHeaders, name).addAll(values));
+        requestHeaders.forEach((name, values) -> mergedValues(mergedHeaders, existingHeaders, name).addAll(values));
+        mergedHeaders.forEach(request::putHeader);
+        return request;
     }
 
-    private Map<String, List<String>> adaptHeaders(Map<String, List<String>> toConvert) {
-        Map<String, List<String>> adapted = new TreeMap<>();
-        toConvert.forEach((name, value) -> adapted.put(name, new ArrayList<>(value)));
-        return adapted;
+    private static List<String> mergedValues(Map<String, List<String>> mergedHeaders,
+                                             Map<String, List<String>> existingHeaders,
+                                             String name) {
+        return mergedHeaders.computeIfAbsent(name, n -> {
+            List<String> existingValues = existingHeaders.get(n);
+            return existingValues == null ? new ArrayList<>() : new ArrayList<>(existingValues);
+        });
     }
 }
@@ -15,7 +15,6 @@
 
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -33,14 +32,15 @@ public class MergeCustomQueryParamsStage implements MutableRequestToRequestPipel
     @Override
     public SdkHttpFullRequest.Builder execute(SdkHttpFullRequest.Builder request, RequestExecutionContext context)
             throws Exception {
-        return request.rawQueryParameters(mergeParams(request, context));
-    }
+        Map<String, List<String>> customParams = context.requestConfig().rawQueryParameters();
+        if (customParams.isEmpty()) {
+            return request;
+        }
 
-    private Map<String, List<String>> mergeParams(SdkHttpFullRequest.Builder request, RequestExecutionContext context) {
-        Map<String, List<String>> merged = new LinkedHashMap<>(request.rawQueryParameters().size());
-        merged.putAll(request.rawQueryParameters());
-        context.requestConfig().rawQueryParameters()
-               .forEach((key, val) -> merged.put(key, CollectionUtils.mergeLists(merged.get(key), val)));
-        return merged;
+        // Only the custom parameters are written back to the request, rather than rebuilding its whole parameter map.
+        Map<String, List<String>> existingParams = request.rawQueryParameters();
+        customParams.forEach((name, values) -> request.putRawQueryParameter(name, CollectionUtils.mergeLists(
+            existingParams.get(name), values)));
+        return request;
     }
 }
@@ -17,8 +17,6 @@ package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import java.io.IOException;
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
-
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkStandardLogger;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
@@ -34,6 +32,7 @@ import software.amazon.awssdk.core.internal.retry.RetryHandler;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
 import software.amazon.awssdk.core.internal.util.ClockSkewUtil;
 import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.RetrySleeper;
 import software.amazon.awssdk.core.retry.RetryUtils;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.utils.Logger;
@@ -51,12 +50,14 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
     private final HttpClientDependencies dependencies;
     private final CapacityManager retryCapacity;
     private final RetryPolicy retryPolicy;
+    private final RetrySleeper retrySleeper;
 
     public RetryableStage(HttpClientDependencies dependencies,
                           RequestPipeline<SdkHttpFullRequest, Response<OutputT>> requestPipeline) {
         this.dependencies = dependencies;
         this.retryCapacity = dependencies.retryCapacity();
         this.retryPolicy = dependencies.clientConfiguration().option(SdkClientOption.RETRY_POLICY);
+        this.retrySleeper = dependencies.clientConfiguration().option(SdkClientOption.RETRY_SLEEPER);
         this.requestPipeline = requestPipeline;
     }
 
@@ -78,7 +79,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
         private RetryExecutor(SdkHttpFullRequest request, RequestExecutionContext context) {
             this.request = request;
             this.context = context;
-            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity);
+            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity, dependencies.rateLimitingTokenBucket());
         }
 
         public Response<OutputT> execute() throws Exception {
@@ -87,9 +88,11 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
                     beforeExecute();
                     Response<OutputT> response = doExecute();
                     if (response.isSuccess()) {
+                        retryHandler.updateSendingRate(null);
                         retryHandler.releaseRetryCapacity();
                         return response;
                     } else {
+                        retryHandler.updateSendingRate(response.exception());
                         retryHandler.setLastRetriedException(handleUnmarshalledException(response));
                     }
                 } catch (SdkClientException | IOException e) {
@@ -99,7 +102,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
         }
 
         private void beforeExecute() throws InterruptedException {
-            retryHandler.retryCapacityConsumed(false);
+            retryHandler.resetRetryCapacityConsumed();
             InterruptMonitor.checkInterrupted();
             ++requestCount;
         }
@@ -109,6 +112,11 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
                 doPauseBeforeRetry();
             }
 
+            Duration sendDelay = retryHandler.acquireSendToken();
+            if (!sendDelay.isZero()) {
+                retrySleeper.sleep(sendDelay);
+            }
+
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> (retryHandler.isRetry() ? "Retrying " : "Sending ") + "Request: " +
                                                          request);
 
@@ -138,6 +146,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
                                                                         e.getMessage())
                                                                .cause(e)
                                                                .build();
+            retryHandler.updateSendingRate(sdkClientException);
             boolean willRetry = retryHandler.shouldRetry(null, request, context, sdkClientException, requestCount);
 
             log.debug(() -> sdkClientException.getMessage() + (willRetry ? " Request will be retried." : ""), e);
@@ -158,7 +167,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
 
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Retryable error detected, will retry in " + delay.toMillis() + "ms,"
                                                          + " attempt number " + retriesAttempted);
-            TimeUnit.MILLISECONDS.sleep(delay.toMillis());
+            retrySleeper.sleep(delay);
         }
     }
 }
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A timer optimized for scheduling large numbers of timeouts that are usually cancelled before they expire, such as API call
+ * and API call attempt timeouts.
+ *
+ * <p>The timer is a ring of slots, one per tick. A timeout is kept in the slot of the tick its deadline falls in, and a
+ * single tick thread visits one slot per tick, running the timeouts of that slot that are due. Timeouts whose deadline is
+ * more than one turn of the ring away simply stay in their slot until a later visit. Scheduling only adds the timeout to a
+ * lock-free queue that the tick thread drains, and cancelling only flips the timeout's state; the tick thread drops
+ * cancelled timeouts the next time it visits their slot, so at most one turn of the ring later. Unlike
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor}, neither operation contends on a shared heap. The price is
+ * precision: a timeout may run up to one tick late.
+ *
+ * <p>The tick thread only hands due tasks to the executor they were scheduled with, usually the scheduled executor of the
+ * client that owns the timeout, so a slow or blocking task cannot delay the timeouts of other clients.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class HashedWheelTimer implements SdkAutoCloseable {
+
+    private static final Logger log = Logger.loggerFor(HashedWheelTimer.class);
+
+    /**
+     * Delays are capped so that adding them to {@link System#nanoTime()} cannot overflow. About 146 years.
+     */
+    private static final long MAX_DELAY_NANOS = Long.MAX_VALUE / 2;
+
+    /**
+     * The maximum number of newly scheduled timeouts placed into slots per tick, so that a burst of scheduling cannot delay
+     * the timeouts that are already due.
+     */
+    private static final int MAX_PLACED_PER_TICK = 65_536;
+
+    private final Object lifecycleLock = new Object();
+    private final Queue<WheelTimeout> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final List<List<WheelTimeout>> slots;
+    private final long tickNanos;
+    private final Thread tickThread;
+
+    private volatile boolean started;
+    private volatile boolean closed;
+    private volatile long startNanos;
+
+    /**
+     * @param tickDuration The duration of a single tick, which is also the precision of the timer.
+     * @param ticksPerWheel The number of slots in the ring.
+     * @param threadFactory The thread factory used to create the tick thread.
+     */
+    public HashedWheelTimer(Duration tickDuration, int ticksPerWheel, ThreadFactory threadFactory) {
+        Validate.isPositive(tickDuration, "tickDuration");
+        Validate.isPositive(ticksPerWheel, "ticksPerWheel");
+
+        this.tickNanos = tickDuration.toNanos();
+        this.slots = new ArrayList<>(ticksPerWheel);
+        for (int i = 0; i < ticksPerWheel; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.tickThread = threadFactory.newThread(this::runTicks);
+    }
+
+    /**
+     * @return The timer shared by every client that enables
+     * {@link software.amazon.awssdk.core.client.config.SdkAdvancedClientOption#HASHED_WHEEL_TIMER_ENABLED}. Its tick thread
+     * is a daemon thread that is started on first use.
+     */
+    public static HashedWheelTimer shared() {
+        return SharedTimerHolder.INSTANCE;
+    }
+
+    /**
+     * Schedule a task to run once on the given executor after the given delay.
+     *
+     * @return A handle that can be used to cancel the task before it runs.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit, Executor executor) {
+        Validate.paramNotNull(task, "task");
+        Validate.paramNotNull(executor, "executor");
+        startIfNeeded();
+
+        long delayNanos = Math.min(Math.max(unit.toNanos(delay), 0), MAX_DELAY_NANOS);
+        WheelTimeout timeout = new WheelTimeout(task, executor, System.nanoTime() + delayNanos);
+        newTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops the tick thread. Timeouts that have not run yet are discarded without running.
+     */
+    @Override
+    public void close() {
+        synchronized (lifecycleLock) {
+            closed = true;
+            if (started) {
+                tickThread.interrupt();
+            }
+        }
+    }
+
+    private void startIfNeeded() {
+        if (started && !closed) {
+            return;
+        }
+        synchronized (lifecycleLock) {
+            if (closed) {
+                throw new IllegalStateException("Cannot schedule a timeout on a timer that has been closed.");
+            }
+            if (!started) {
+                startNanos = System.nanoTime();
+                started = true;
+                tickThread.start();
+            }
+        }
+    }
+
+    private void runTicks() {
+        long tick = 0;
+        while (!closed) {
+            long now = awaitEndOfTick(tick);
+            if (closed) {
+                break;
+            }
+            placeNewTimeouts(now);
+            visitSlot(slots.get((int) (tick % slots.size())), now);
+            tick++;
+        }
+        newTimeouts.clear();
+        slots.forEach(List::clear);
+    }
+
+    /**
+     * Parks the tick thread until the end of the given tick.
+     *
+     * @return The current {@link System#nanoTime()}.
+     */
+    private long awaitEndOfTick(long tick) {
+        long endOfTick = startNanos + (tick + 1) * tickNanos;
+        long now = System.nanoTime();
+        while (!closed && endOfTick - now > 0) {
+            LockSupport.parkNanos(this, endOfTick - now);
+            now = System.nanoTime();
+        }
+        return now;
+    }
+
+    /**
+     * Moves newly scheduled timeouts into the slot of the tick their deadline falls in, running the ones that are already
+     * due. Every tick up to now has already ended, so a timeout that isn't due always goes to a slot of a future tick.
+     */
+    private void placeNewTimeouts(long now) {
+        for (int i = 0; i < MAX_PLACED_PER_TICK; i++) {
+            WheelTimeout timeout = newTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            if (timeout.deadlineNanos - now <= 0) {
+                expire(timeout);
+                continue;
+            }
+            long deadlineTick = (timeout.deadlineNanos - startNanos + tickNanos - 1) / tickNanos;
+            slots.get((int) (deadlineTick % slots.size())).add(timeout);
+        }
+    }
+
+    /**
+     * Runs the due timeouts of a slot and compacts the slot in place, keeping only the timeouts that are neither due nor
+     * cancelled.
+     */
+    private void visitSlot(List<WheelTimeout> slot, long now) {
+        int kept = 0;
+        for (int i = 0; i < slot.size(); i++) {
+            WheelTimeout timeout = slot.get(i);
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            if (timeout.deadlineNanos - now <= 0) {
+                expire(timeout);
+            } else {
+                slot.set(kept++, timeout);
+            }
+        }
+        slot.subList(kept, slot.size()).clear();
+    }
+
+    /**
+     * Expire a single timeout. Failures are logged rather than thrown so that one bad timeout can neither stop the tick
+     * thread nor keep the rest of the slot from running.
+     */
+    private static void expire(WheelTimeout timeout) {
+        try {
+            timeout.expire();
+        } catch (Throwable t) {
+            log.warn(() -> "Failed to expire a timeout.", t);
+        }
+    }
+
+    /**
+     * A handle to a task scheduled with {@link #schedule(Runnable, long, TimeUnit, Executor)}.
+     */
+    public interface Timeout {
+
+        /**
+         * Cancel the task if it has not run yet.
+         *
+         * @return True if the task was cancelled by this call, false if it has already run or been cancelled.
+         */
+        boolean cancel();
+
+        /**
+         * @return True if the task has been cancelled.
+         */
+        boolean isCancelled();
+
+        /**
+         * @return True if the timeout has expired and its task has been handed to its executor.
+         */
+        boolean isExpired();
+    }
+
+    private static final class WheelTimeout implements Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final Executor executor;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        private WheelTimeout(Runnable task, Executor executor, long deadlineNanos) {
+            this.task = task;
+            this.executor = executor;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public boolean cancel() {
+            return state.compareAndSet(PENDING, CANCELLED);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(PENDING, EXPIRED)) {
+                return;
+            }
+
+            try {
+                executor.execute(this::runTask);
+            } catch (RejectedExecutionException e) {
+                log.warn(() -> "A timeout task was rejected by its executor.", e);
+            }
+        }
+
+        private void runTask() {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.warn(() -> "An exception was thrown by a timeout task.", t);
+            }
+        }
+    }
+
+    private static final class SharedTimerHolder {
+        private static final HashedWheelTimer INSTANCE =
+            new HashedWheelTimer(Duration.ofMillis(10), 512, new ThreadFactoryBuilder().threadNamePrefix("sdk-timeout-timer")
+                                                                                      .daemonThreads(true)
+                                                                                      .build());
+    }
+}
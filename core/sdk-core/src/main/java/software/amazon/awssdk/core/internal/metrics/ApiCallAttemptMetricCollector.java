@@ -0,0 +1,101 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import static software.amazon.awssdk.core.internal.metrics.ApiCallMetricCollector.toDuration;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.metrics.ApiCallAttemptMetrics;
+import software.amazon.awssdk.http.HttpMetricCollector;
+import software.amazon.awssdk.http.SdkHttpHeaders;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * Collects the metrics of a single attempt of an API call. The HTTP client reports the metrics only it can measure through
+ * the {@link HttpMetricCollector} interface.
+ *
+ * @see ApiCallMetricCollector#startAttempt()
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ApiCallAttemptMetricCollector implements HttpMetricCollector {
+    private final long startTime = System.nanoTime();
+
+    private volatile long endTime = -1;
+    private volatile long signingDuration = -1;
+    private volatile long connectionAcquireDuration = -1;
+    private volatile int httpStatusCode = -1;
+    private volatile long bytesSent = -1;
+    private volatile long bytesReceived = -1;
+
+    ApiCallAttemptMetricCollector() {
+    }
+
+    public void recordSigningDuration(long durationNanos) {
+        this.signingDuration = durationNanos;
+    }
+
+    @Override
+    public void recordConnectionAcquireDuration(Duration duration) {
+        this.connectionAcquireDuration = duration.toNanos();
+    }
+
+    /**
+     * Record the size of the request body, if the request has a Content-Length.
+     */
+    public void recordRequest(SdkHttpHeaders request) {
+        this.bytesSent = contentLength(request);
+    }
+
+    /**
+     * Record the status code of the response, and the size of its body if it has a Content-Length.
+     */
+    public void recordResponse(SdkHttpResponse response) {
+        this.httpStatusCode = response.statusCode();
+        this.bytesReceived = contentLength(response);
+    }
+
+    /**
+     * Mark the attempt complete. Only the first call has an effect.
+     */
+    public void end() {
+        if (endTime < 0) {
+            endTime = System.nanoTime();
+        }
+    }
+
+    ApiCallAttemptMetrics toMetrics() {
+        long end = endTime < 0 ? System.nanoTime() : endTime;
+        return ApiCallAttemptMetrics.builder()
+                                    .attemptDuration(Duration.ofNanos(end - startTime))
+                                    .signingDuration(toDuration(signingDuration))
+                                    .connectionAcquireDuration(toDuration(connectionAcquireDuration))
+                                    .httpStatusCode(httpStatusCode < 0 ? null : httpStatusCode)
+                                    .bytesSent(bytesSent < 0 ? null : bytesSent)
+                                    .bytesReceived(bytesReceived < 0 ? null : bytesReceived)
+                                    .build();
+    }
+
+    private static long contentLength(SdkHttpHeaders headers) {
+        try {
+            return headers.firstMatchingHeader("Content-Length").map(Long::parseLong).orElse(-1L);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.metrics.ApiCallAttemptMetrics;
+import software.amazon.awssdk.core.metrics.ApiCallMetrics;
+import software.amazon.awssdk.core.metrics.MetricPublisher;
+import software.amazon.awssdk.core.metrics.ResponseCacheResult;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Collects the metrics of a single API call, and publishes them to the client's {@link MetricPublisher} when the call
+ * completes.
+ *
+ * <p>A collector is only created when a metric publisher is configured. Code that records metrics checks for a null collector
+ * first, so nothing is measured or allocated when metrics are disabled.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ApiCallMetricCollector {
+    private static final Logger log = Logger.loggerFor(ApiCallMetricCollector.class);
+
+    private final MetricPublisher publisher;
+    private final Class<? extends SdkRequest> requestType;
+    private final long startTime = System.nanoTime();
+    private final List<ApiCallAttemptMetricCollector> attempts = new ArrayList<>();
+    private final AtomicBoolean published = new AtomicBoolean(false);
+
+    private volatile String serviceName;
+    private volatile long marshallingDuration = -1;
+    private volatile long unmarshallingDuration = -1;
+    private volatile ResponseCacheResult responseCacheResult;
+    private volatile int responseCacheEvictionCount;
+
+    private ApiCallMetricCollector(MetricPublisher publisher, Class<? extends SdkRequest> requestType) {
+        this.publisher = publisher;
+        this.requestType = requestType;
+    }
+
+    /**
+     * Start collecting the metrics of an API call.
+     *
+     * @return The collector for the API call, or null if the publisher is null.
+     */
+    public static ApiCallMetricCollector create(MetricPublisher publisher, SdkRequest request) {
+        if (publisher == null) {
+            return null;
+        }
+        return new ApiCallMetricCollector(publisher, request.getClass());
+    }
+
+    public void recordServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    public void recordMarshallingDuration(long durationNanos) {
+        this.marshallingDuration = durationNanos;
+    }
+
+    public void recordUnmarshallingDuration(long durationNanos) {
+        this.unmarshallingDuration = durationNanos;
+    }
+
+    public void recordResponseCacheResult(ResponseCacheResult responseCacheResult) {
+        this.responseCacheResult = responseCacheResult;
+    }
+
+    public void recordResponseCacheEvictions(int evictionCount) {
+        this.responseCacheEvictionCount = evictionCount;
+    }
+
+    /**
+     * Start collecting the metrics of a new attempt.
+     */
+    public ApiCallAttemptMetricCollector startAttempt() {
+        ApiCallAttemptMetricCollector attempt = new ApiCallAttemptMetricCollector();
+        synchronized (attempts) {
+            attempts.add(attempt);
+        }
+        return attempt;
+    }
+
+    /**
+     * Publish the collected metrics. Only the first call publishes; the metrics of an API call are published once.
+     *
+     * @param succeeded Whether the API call returned a response.
+     */
+    public void publish(boolean succeeded) {
+        if (!published.compareAndSet(false, true)) {
+            return;
+        }
+
+        ApiCallMetrics metrics = ApiCallMetrics.builder()
+                                               .serviceName(serviceName)
+                                               .requestType(requestType)
+                                               .succeeded(succeeded)
+                                               .apiCallDuration(Duration.ofNanos(System.nanoTime() - startTime))
+                                               .marshallingDuration(toDuration(marshallingDuration))
+                                               .unmarshallingDuration(toDuration(unmarshallingDuration))
+                                               .attempts(attemptMetrics())
+                                               .responseCacheResult(responseCacheResult)
+                                               .responseCacheEvictionCount(responseCacheEvictionCount)
+                                               .build();
+        try {
+            publisher.publish(metrics);
+        } catch (RuntimeException e) {
+            log.warn(() -> "Metric publisher " + publisher + " failed to publish metrics.", e);
+        }
+    }
+
+    private List<ApiCallAttemptMetrics> attemptMetrics() {
+        synchronized (attempts) {
+            List<ApiCallAttemptMetrics> result = new ArrayList<>(attempts.size());
+            attempts.forEach(a -> result.add(a.toMetrics()));
+            return result;
+        }
+    }
+
+    static Duration toDuration(long durationNanos) {
+        return durationNanos < 0 ? null : Duration.ofNanos(durationNanos);
+    }
+}
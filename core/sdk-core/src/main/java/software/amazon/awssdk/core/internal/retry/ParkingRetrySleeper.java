@@ -0,0 +1,52 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.retry.RetrySleeper;
+
+/**
+ * A {@link RetrySleeper} that parks the calling thread until the delay has passed. Spurious wake-ups are absorbed by
+ * parking again for the remaining time, and an interrupt ends the wait with an {@link InterruptedException}.
+ */
+@SdkInternalApi
+public final class ParkingRetrySleeper implements RetrySleeper {
+
+    private static final ParkingRetrySleeper INSTANCE = new ParkingRetrySleeper();
+
+    private ParkingRetrySleeper() {
+    }
+
+    public static ParkingRetrySleeper create() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void sleep(Duration delay) throws InterruptedException {
+        long remainingNanos = delay.toNanos();
+        long deadline = System.nanoTime() + remainingNanos;
+
+        while (remainingNanos > 0) {
+            LockSupport.parkNanos(this, remainingNanos);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            remainingNanos = deadline - System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A client-wide token bucket used by the {@link software.amazon.awssdk.core.retry.RetryMode#ADAPTIVE} retry mode to limit
+ * the rate at which requests are sent.
+ *
+ * <p>The bucket is disabled until the first throttling error is seen. From then on, every throttling error reduces the fill
+ * rate multiplicatively and every successful response grows it back along a cubic curve centered on the rate at which the
+ * last throttling error was seen, similar to the CUBIC TCP congestion control algorithm. The fill rate is never allowed to
+ * exceed twice the measured sending rate of the client.
+ *
+ * <p>Acquiring a token never blocks. When the bucket does not hold enough tokens, it goes into debt and returns the time
+ * the caller must wait before sending, so that synchronous and asynchronous callers can wait in their own way.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class RateLimitingTokenBucket {
+
+    private static final double MIN_FILL_RATE = 0.5;
+    private static final double MIN_CAPACITY = 1.0;
+    private static final double SMOOTH = 0.8;
+    private static final double BETA = 0.7;
+    private static final double SCALE_CONSTANT = 0.4;
+
+    private final LongSupplier nanoClock;
+
+    private double fillRate;
+    private double maxCapacity;
+    private double currentCapacity;
+    private double lastTimestamp = -1;
+    private boolean enabled;
+    private double measuredTxRate;
+    private double lastTxRateBucket;
+    private long requestCount;
+    private double lastMaxRate;
+    private double lastThrottleTime;
+    private double timeWindow;
+
+    public RateLimitingTokenBucket() {
+        this(System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    RateLimitingTokenBucket(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        double now = now();
+        this.lastTxRateBucket = Math.floor(now);
+        this.lastThrottleTime = now;
+    }
+
+    /**
+     * Acquire a single token from the bucket.
+     *
+     * @return How long the caller must wait before sending its request. {@link Duration#ZERO} if the request can be sent
+     * immediately.
+     */
+    public synchronized Duration acquire() {
+        if (!enabled) {
+            return Duration.ZERO;
+        }
+
+        refill();
+
+        double waitSeconds = 0;
+        if (currentCapacity < 1) {
+            waitSeconds = (1 - currentCapacity) / fillRate;
+        }
+        currentCapacity -= 1;
+
+        return Duration.ofNanos((long) (waitSeconds * 1_000_000_000L));
+    }
+
+    /**
+     * Update the fill rate of this bucket based on the outcome of an attempt.
+     *
+     * @param throttled Whether the attempt failed because the service throttled it.
+     */
+    public synchronized void updateClientSendingRate(boolean throttled) {
+        updateMeasuredRate();
+
+        double calculatedRate;
+        if (throttled) {
+            double rateToUse = enabled ? Math.min(measuredTxRate, fillRate) : measuredTxRate;
+
+            lastMaxRate = rateToUse;
+            calculateTimeWindow();
+            lastThrottleTime = now();
+            calculatedRate = cubicThrottle(rateToUse);
+            enabled = true;
+        } else {
+            calculateTimeWindow();
+            calculatedRate = cubicSuccess(now());
+        }
+
+        updateRate(Math.min(calculatedRate, 2 * measuredTxRate));
+    }
+
+    /**
+     * @return The current rate, in tokens per second, at which this bucket is refilled.
+     */
+    public synchronized double fillRate() {
+        return fillRate;
+    }
+
+    /**
+     * @return Whether this bucket has been enabled by a throttling error.
+     */
+    public synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    private void refill() {
+        double timestamp = now();
+        if (lastTimestamp < 0) {
+            lastTimestamp = timestamp;
+            return;
+        }
+
+        double fillAmount = (timestamp - lastTimestamp) * fillRate;
+        currentCapacity = Math.min(maxCapacity, currentCapacity + fillAmount);
+        lastTimestamp = timestamp;
+    }
+
+    private void updateRate(double newRps) {
+        refill();
+        fillRate = Math.max(newRps, MIN_FILL_RATE);
+        maxCapacity = Math.max(newRps, MIN_CAPACITY);
+        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    }
+
+    private void updateMeasuredRate() {
+        double timestamp = now();
+        double timeBucket = Math.floor(timestamp * 2) / 2;
+        requestCount++;
+
+        if (timeBucket > lastTxRateBucket) {
+            double currentRate = requestCount / (timeBucket - lastTxRateBucket);
+            measuredTxRate = (currentRate * SMOOTH) + (measuredTxRate * (1 - SMOOTH));
+            requestCount = 0;
+            lastTxRateBucket = timeBucket;
+        }
+    }
+
+    private void calculateTimeWindow() {
+        timeWindow = Math.cbrt((lastMaxRate * (1 - BETA)) / SCALE_CONSTANT);
+    }
+
+    private double cubicSuccess(double timestamp) {
+        double dt = timestamp - lastThrottleTime;
+        return SCALE_CONSTANT * Math.pow(dt - timeWindow, 3) + lastMaxRate;
+    }
+
+    private double cubicThrottle(double rateToUse) {
+        return rateToUse * BETA;
+    }
+
+    /**
+     * @return The current time in (fractional) seconds.
+     */
+    private double now() {
+        return nanoClock.getAsLong() / 1_000_000_000.0;
+    }
+}
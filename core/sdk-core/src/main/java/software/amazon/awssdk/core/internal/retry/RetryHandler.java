@@ -19,9 +19,11 @@ import static java.util.Collections.singletonList;
 
 import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.RetryPolicyContext;
 import software.amazon.awssdk.core.retry.RetryUtils;
@@ -35,16 +37,19 @@ public final class RetryHandler {
 
     private final RetryPolicy retryPolicy;
     private final CapacityManager retryCapacity;
+    private final RateLimitingTokenBucket rateLimitingTokenBucket;
 
     private Duration lastBackoffDelay = Duration.ZERO;
-    private boolean retryCapacityConsumed;
+    private int retryCapacityConsumed;
     private RetryPolicyContext retryPolicyContext;
     private SdkException lastRetriedException;
 
     public RetryHandler(RetryPolicy retryPolicy,
-                        CapacityManager retryCapacity) {
+                        CapacityManager retryCapacity,
+                        RateLimitingTokenBucket rateLimitingTokenBucket) {
         this.retryPolicy = retryPolicy;
         this.retryCapacity = retryCapacity;
+        this.rateLimitingTokenBucket = retryPolicy.retryMode() == RetryMode.ADAPTIVE ? rateLimitingTokenBucket : null;
     }
 
     public boolean shouldRetry(SdkHttpFullResponse httpResponse,
@@ -58,10 +63,11 @@ public final class RetryHandler {
         // Do not use retry capacity for throttling exceptions
         if (!RetryUtils.isThrottlingException(exception)) {
             // See if we have enough available retry capacity to be able to execute this retry attempt.
-            if (!retryCapacity.acquire(SdkDefaultRetrySetting.RETRY_THROTTLING_COST)) {
+            int retryCost = retryCost(exception);
+            if (!retryCapacity.acquire(retryCost)) {
                 return false;
             }
-            this.retryCapacityConsumed = true;
+            this.retryCapacityConsumed = retryCost;
         }
 
         this.retryPolicyContext = RetryPolicyContext.builder()
@@ -75,8 +81,8 @@ public final class RetryHandler {
         // Finally, pass all the context information to the RetryCondition and let it decide whether it should be retried.
         if (!retryPolicy.retryCondition().shouldRetry(retryPolicyContext)) {
             // If the retry policy fails we immediately return consumed capacity to the pool.
-            if (retryCapacityConsumed) {
-                retryCapacity.release(SdkDefaultRetrySetting.RETRY_THROTTLING_COST);
+            if (retryCapacityConsumed > 0) {
+                retryCapacity.release(retryCapacityConsumed);
             }
             return false;
         }
@@ -89,10 +95,40 @@ public final class RetryHandler {
      * this was a successful initial request we release a lesser amount.
      */
     public void releaseRetryCapacity() {
-        if (isRetry() && retryCapacityConsumed) {
-            retryCapacity.release(SdkDefaultRetrySetting.RETRY_THROTTLING_COST);
+        if (isRetry() && retryCapacityConsumed > 0) {
+            retryCapacity.release(retryCapacityConsumed);
         } else {
-            retryCapacity.release();
+            retryCapacity.release(SdkDefaultRetrySetting.NO_RETRY_INCREMENT);
+        }
+    }
+
+    /**
+     * Timeouts are more expensive to retry than other errors, so they consume more of the retry capacity.
+     */
+    private static int retryCost(SdkException exception) {
+        return exception instanceof ApiCallAttemptTimeoutException ? SdkDefaultRetrySetting.RETRY_TIMEOUT_COST
+                                                                   : SdkDefaultRetrySetting.RETRY_THROTTLING_COST;
+    }
+
+    /**
+     * Acquire a send token from the client-wide rate limiter before an attempt is made. This is a no-op unless the
+     * {@link RetryMode#ADAPTIVE} retry mode is enabled.
+     *
+     * @return How long to wait before sending the attempt.
+     */
+    public Duration acquireSendToken() {
+        return rateLimitingTokenBucket == null ? Duration.ZERO : rateLimitingTokenBucket.acquire();
+    }
+
+    /**
+     * Update the sending rate of the client-wide rate limiter with the outcome of an attempt. This is a no-op unless the
+     * {@link RetryMode#ADAPTIVE} retry mode is enabled.
+     *
+     * @param exception The exception the attempt failed with, or null if it succeeded.
+     */
+    public void updateSendingRate(SdkException exception) {
+        if (rateLimitingTokenBucket != null) {
+            rateLimitingTokenBucket.updateClientSendingRate(exception != null && RetryUtils.isThrottlingException(exception));
         }
     }
 
@@ -111,10 +147,10 @@ public final class RetryHandler {
     }
 
     /**
-     * Sets whether retry capacity has been consumed for this request
+     * Resets the retry capacity that has been consumed for this request attempt
      */
-    public void retryCapacityConsumed(boolean retryCapacityConsumed) {
-        this.retryCapacityConsumed = retryCapacityConsumed;
+    public void resetRetryCapacityConsumed() {
+        this.retryCapacityConsumed = 0;
     }
 
     /**
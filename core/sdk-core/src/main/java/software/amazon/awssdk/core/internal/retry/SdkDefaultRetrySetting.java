@@ -37,6 +37,23 @@ public final class SdkDefaultRetrySetting {
      */
     public static final int RETRY_THROTTLING_COST = 5;
 
+    /**
+     * Retry capacity consumed by a retry attempt following a timeout. Timeouts are a stronger signal of an unhealthy
+     * service than other retryable errors, so they drain the pool faster than {@link #RETRY_THROTTLING_COST}.
+     */
+    public static final int RETRY_TIMEOUT_COST = 10;
+
+    /**
+     * Retry capacity consumed by a hedged attempt. Like retries, hedged attempts release this capacity back to the pool when
+     * the request succeeds.
+     */
+    public static final int HEDGE_COST = RETRY_THROTTLING_COST;
+
+    /**
+     * Retry capacity released back to the pool by every successful initial (non-retry) request.
+     */
+    public static final int NO_RETRY_INCREMENT = 1;
+
     /**
      * When throttled retries are enabled, this is the total number of subsequent failed retries
      * that may be attempted before retry capacity is fully drained.
@@ -15,18 +15,21 @@
 
 package software.amazon.awssdk.core.internal.util;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
 /**
  * Manages capacity of a finite resource.  Capacity can be acquired and
  * released.
+ *
+ * <p>This is shared by every request made through a client, so acquisition and release are implemented as lock-free
+ * compare-and-set loops rather than with a monitor.
  */
 @SdkInternalApi
 public class CapacityManager {
 
     private final int maxCapacity;
-    private final Object lock = new Object();
-    private volatile int availableCapacity;
+    private final AtomicInteger availableCapacity;
 
     /**
      * Creates a CapacityManager.
@@ -38,7 +41,7 @@ public class CapacityManager {
      */
     public CapacityManager(final int maxCapacity) {
         this.maxCapacity = maxCapacity;
-        this.availableCapacity = maxCapacity;
+        this.availableCapacity = new AtomicInteger(maxCapacity);
     }
 
     /**
@@ -64,17 +67,18 @@ public class CapacityManager {
             throw new IllegalArgumentException("capacity to acquire cannot be negative");
         }
 
-        if (availableCapacity < 0) {
+        if (maxCapacity < 0) {
             return true;
         }
 
-        synchronized (lock) {
-            if (availableCapacity - capacity >= 0) {
-                availableCapacity -= capacity;
-                return true;
-            } else {
+        while (true) {
+            int current = availableCapacity.get();
+            if (current - capacity < 0) {
                 return false;
             }
+            if (availableCapacity.compareAndSet(current, current - capacity)) {
+                return true;
+            }
         }
     }
 
@@ -98,11 +102,19 @@ public class CapacityManager {
             throw new IllegalArgumentException("capacity to release cannot be negative");
         }
 
+        if (maxCapacity < 0) {
+            return;
+        }
+
         // in the common 'good' case where we have our full capacity available we can
-        // short circuit going any further and avoid unnecessary locking.
-        if (availableCapacity >= 0 && availableCapacity != maxCapacity) {
-            synchronized (lock) {
-                availableCapacity = Math.min((availableCapacity + capacity), maxCapacity);
+        // short circuit going any further and avoid an unnecessary write.
+        while (true) {
+            int current = availableCapacity.get();
+            if (current == maxCapacity) {
+                return;
+            }
+            if (availableCapacity.compareAndSet(current, (int) Math.min((long) current + capacity, maxCapacity))) {
+                return;
             }
         }
     }
@@ -113,7 +125,8 @@ public class CapacityManager {
      * @return consumed capacity
      */
     public int consumedCapacity() {
-        return (availableCapacity < 0) ? 0 : (maxCapacity - availableCapacity);
+        int available = availableCapacity.get();
+        return (available < 0) ? 0 : (maxCapacity - available);
     }
 
     /**
@@ -122,6 +135,16 @@ public class CapacityManager {
      * @return available capacity
      */
     public int availableCapacity() {
-        return availableCapacity;
+        return availableCapacity.get();
+    }
+
+    /**
+     * Returns the maximum capacity of this resource, or a negative value if this capacity manager is operating in no-op
+     * mode.
+     *
+     * @return maximum capacity
+     */
+    public int maxCapacity() {
+        return maxCapacity;
     }
 }
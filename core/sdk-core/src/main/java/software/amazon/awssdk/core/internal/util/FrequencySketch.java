@@ -0,0 +1,130 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A probabilistic estimate of how often items were seen recently, used to decide which entries of a bounded cache are worth
+ * keeping. This is a count-min sketch with four rows of counters that saturate at 15. The row indexes of an item are derived
+ * from two hashes of it (double hashing), and an increment only raises the counters of the item that hold its current minimum
+ * (conservative update), which keeps the estimates of items that share counters with popular items low. All counters are halved
+ * after a number of increments proportional to the capacity, so that the estimate favors recent history.
+ *
+ * <p>This sketch is not thread safe, and must be guarded by the lock of the cache that uses it.
+ */
+@NotThreadSafe
+@SdkInternalApi
+public final class FrequencySketch {
+    private static final int ROWS = 4;
+    private static final int MAXIMUM_FREQUENCY = 15;
+    private static final int MINIMUM_WIDTH = 16;
+    private static final int MAXIMUM_WIDTH = 1 << 16;
+
+    /**
+     * The counters, one per byte. Row {@code r} holds the counters from {@code r * width} to {@code (r + 1) * width - 1}.
+     */
+    private final byte[] counters;
+    private final int width;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * @param expectedItems The number of items the cache is expected to hold. Capped at 65536, to bound memory use.
+     */
+    public FrequencySketch(long expectedItems) {
+        int capacity = (int) Math.max(1, Math.min(expectedItems, MAXIMUM_WIDTH));
+        this.width = ceilingPowerOfTwo(Math.max(capacity, MINIMUM_WIDTH));
+        this.counters = new byte[ROWS * width];
+        this.sampleSize = 10 * capacity;
+    }
+
+    /**
+     * @return The estimated number of times the item was seen recently, up to 15.
+     */
+    public int frequency(Object item) {
+        int hash = mix(item.hashCode());
+        int step = stepOf(hash);
+        int frequency = MAXIMUM_FREQUENCY;
+        for (int row = 0; row < ROWS; row++) {
+            frequency = Math.min(frequency, counters[indexOf(hash, step, row)]);
+        }
+        return frequency;
+    }
+
+    /**
+     * Record that the item was seen.
+     */
+    public void increment(Object item) {
+        int hash = mix(item.hashCode());
+        int step = stepOf(hash);
+        int minimum = MAXIMUM_FREQUENCY;
+        for (int row = 0; row < ROWS; row++) {
+            minimum = Math.min(minimum, counters[indexOf(hash, step, row)]);
+        }
+        if (minimum == MAXIMUM_FREQUENCY) {
+            return;
+        }
+
+        for (int row = 0; row < ROWS; row++) {
+            int index = indexOf(hash, step, row);
+            if (counters[index] == minimum) {
+                counters[index]++;
+            }
+        }
+
+        if (++additions == sampleSize) {
+            halve();
+        }
+    }
+
+    /**
+     * Halve every counter, so that items that were popular a long time ago can be replaced by items that are popular now.
+     */
+    private void halve() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] >>>= 1;
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(int hash, int step, int row) {
+        return row * width + ((hash + row * step) & (width - 1));
+    }
+
+    /**
+     * The second hash used for double hashing, which offsets the index of the item in each row. Two items whose first hashes
+     * collide in one row are then unlikely to collide in the others.
+     */
+    private static int stepOf(int hash) {
+        return mix(hash ^ 0x5bd1e995) | 1;
+    }
+
+    /**
+     * Spread the bits of the hash code, so that items whose hash codes only differ in their high bits use different counters.
+     */
+    private static int mix(int hash) {
+        int h = hash * 0x9e3779b9;
+        h ^= h >>> 15;
+        h *= 0x85ebca6b;
+        return h ^ (h >>> 13);
+    }
+
+    private static int ceilingPowerOfTwo(int x) {
+        return x <= 1 ? 1 : Integer.highestOneBit(x - 1) << 1;
+    }
+}
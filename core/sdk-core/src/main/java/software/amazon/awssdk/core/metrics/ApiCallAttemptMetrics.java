@@ -0,0 +1,158 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.metrics;
+
+import java.time.Duration;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The metrics of a single attempt to complete an API call: one HTTP request sent to the service.
+ *
+ * @see ApiCallMetrics#attempts()
+ */
+@Immutable
+@SdkPublicApi
+public final class ApiCallAttemptMetrics {
+    private final Duration attemptDuration;
+    private final Duration signingDuration;
+    private final Duration connectionAcquireDuration;
+    private final Integer httpStatusCode;
+    private final Long bytesSent;
+    private final Long bytesReceived;
+
+    private ApiCallAttemptMetrics(Builder builder) {
+        this.attemptDuration = Validate.paramNotNull(builder.attemptDuration, "attemptDuration");
+        this.signingDuration = builder.signingDuration;
+        this.connectionAcquireDuration = builder.connectionAcquireDuration;
+        this.httpStatusCode = builder.httpStatusCode;
+        this.bytesSent = builder.bytesSent;
+        this.bytesReceived = builder.bytesReceived;
+    }
+
+    @SdkInternalApi
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return How long the attempt took, from signing the request until the response was handled or the attempt failed.
+     */
+    public Duration attemptDuration() {
+        return attemptDuration;
+    }
+
+    /**
+     * @return How long it took to sign the request, if it was signed.
+     */
+    public Optional<Duration> signingDuration() {
+        return Optional.ofNullable(signingDuration);
+    }
+
+    /**
+     * @return How long it took to acquire a connection for the request, if the HTTP client reports it.
+     */
+    public Optional<Duration> connectionAcquireDuration() {
+        return Optional.ofNullable(connectionAcquireDuration);
+    }
+
+    /**
+     * @return The HTTP status code of the response, if a response was received.
+     */
+    public Optional<Integer> httpStatusCode() {
+        return Optional.ofNullable(httpStatusCode);
+    }
+
+    /**
+     * @return The size of the request body, if it was known from the Content-Length of the request.
+     */
+    public Optional<Long> bytesSent() {
+        return Optional.ofNullable(bytesSent);
+    }
+
+    /**
+     * @return The size of the response body, if it was known from the Content-Length of the response.
+     */
+    public Optional<Long> bytesReceived() {
+        return Optional.ofNullable(bytesReceived);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ApiCallAttemptMetrics")
+                       .add("attemptDuration", attemptDuration)
+                       .add("signingDuration", signingDuration)
+                       .add("connectionAcquireDuration", connectionAcquireDuration)
+                       .add("httpStatusCode", httpStatusCode)
+                       .add("bytesSent", bytesSent)
+                       .add("bytesReceived", bytesReceived)
+                       .build();
+    }
+
+    /**
+     * Builder for {@link ApiCallAttemptMetrics}. Only the SDK creates API call attempt metrics.
+     */
+    @SdkInternalApi
+    public static final class Builder {
+        private Duration attemptDuration;
+        private Duration signingDuration;
+        private Duration connectionAcquireDuration;
+        private Integer httpStatusCode;
+        private Long bytesSent;
+        private Long bytesReceived;
+
+        private Builder() {
+        }
+
+        public Builder attemptDuration(Duration attemptDuration) {
+            this.attemptDuration = attemptDuration;
+            return this;
+        }
+
+        public Builder signingDuration(Duration signingDuration) {
+            this.signingDuration = signingDuration;
+            return this;
+        }
+
+        public Builder connectionAcquireDuration(Duration connectionAcquireDuration) {
+            this.connectionAcquireDuration = connectionAcquireDuration;
+            return this;
+        }
+
+        public Builder httpStatusCode(Integer httpStatusCode) {
+            this.httpStatusCode = httpStatusCode;
+            return this;
+        }
+
+        public Builder bytesSent(Long bytesSent) {
+            this.bytesSent = bytesSent;
+            return this;
+        }
+
+        public Builder bytesReceived(Long bytesReceived) {
+            this.bytesReceived = bytesReceived;
+            return this;
+        }
+
+        public ApiCallAttemptMetrics build() {
+            return new ApiCallAttemptMetrics(this);
+        }
+    }
+}
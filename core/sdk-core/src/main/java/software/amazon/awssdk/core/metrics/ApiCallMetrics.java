@@ -0,0 +1,222 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The metrics of a single API call, including each attempt made to complete it.
+ *
+ * @see MetricPublisher
+ */
+@Immutable
+@SdkPublicApi
+public final class ApiCallMetrics {
+    private final String serviceName;
+    private final Class<? extends SdkRequest> requestType;
+    private final boolean succeeded;
+    private final Duration apiCallDuration;
+    private final Duration marshallingDuration;
+    private final Duration unmarshallingDuration;
+    private final List<ApiCallAttemptMetrics> attempts;
+    private final ResponseCacheResult responseCacheResult;
+    private final int responseCacheEvictionCount;
+
+    private ApiCallMetrics(Builder builder) {
+        this.serviceName = builder.serviceName;
+        this.requestType = Validate.paramNotNull(builder.requestType, "requestType");
+        this.succeeded = builder.succeeded;
+        this.apiCallDuration = Validate.paramNotNull(builder.apiCallDuration, "apiCallDuration");
+        this.marshallingDuration = builder.marshallingDuration;
+        this.unmarshallingDuration = builder.unmarshallingDuration;
+        this.attempts = Collections.unmodifiableList(new ArrayList<>(builder.attempts));
+        this.responseCacheResult = builder.responseCacheResult;
+        this.responseCacheEvictionCount = builder.responseCacheEvictionCount;
+    }
+
+    @SdkInternalApi
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return The name of the service that was called, if the request was marshalled.
+     */
+    public Optional<String> serviceName() {
+        return Optional.ofNullable(serviceName);
+    }
+
+    /**
+     * @return The type of the request, which identifies the operation that was called.
+     */
+    public Class<? extends SdkRequest> requestType() {
+        return requestType;
+    }
+
+    /**
+     * @return True if the API call returned a response, or false if it failed with an exception.
+     */
+    public boolean succeeded() {
+        return succeeded;
+    }
+
+    /**
+     * @return How long the API call took, from when it was made until it returned a response or failed.
+     */
+    public Duration apiCallDuration() {
+        return apiCallDuration;
+    }
+
+    /**
+     * @return How long it took to marshall the request into an HTTP request, if it was marshalled.
+     */
+    public Optional<Duration> marshallingDuration() {
+        return Optional.ofNullable(marshallingDuration);
+    }
+
+    /**
+     * @return How long it took to unmarshall the response from the HTTP response, if a successful response was unmarshalled.
+     * This is not measured for streaming responses.
+     */
+    public Optional<Duration> unmarshallingDuration() {
+        return Optional.ofNullable(unmarshallingDuration);
+    }
+
+    /**
+     * @return How many times the request was retried. This is zero if the request was sent only once, or if it was not sent,
+     * for example because its response was cached.
+     */
+    public int retryCount() {
+        return Math.max(0, attempts.size() - 1);
+    }
+
+    /**
+     * @return The metrics of every attempt made to complete the API call, in the order they were started.
+     */
+    public List<ApiCallAttemptMetrics> attempts() {
+        return attempts;
+    }
+
+    /**
+     * @return Whether the response was found in the client-side response cache, if the response to this type of request is
+     * cached.
+     */
+    public Optional<ResponseCacheResult> responseCacheResult() {
+        return Optional.ofNullable(responseCacheResult);
+    }
+
+    /**
+     * @return How many responses were evicted from the client-side response cache to make room for the response to this API
+     * call. This is zero if the response was not added to the cache.
+     */
+    public int responseCacheEvictionCount() {
+        return responseCacheEvictionCount;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ApiCallMetrics")
+                       .add("serviceName", serviceName)
+                       .add("requestType", requestType.getSimpleName())
+                       .add("succeeded", succeeded)
+                       .add("apiCallDuration", apiCallDuration)
+                       .add("marshallingDuration", marshallingDuration)
+                       .add("unmarshallingDuration", unmarshallingDuration)
+                       .add("retryCount", retryCount())
+                       .add("attempts", attempts)
+                       .add("responseCacheResult", responseCacheResult)
+                       .add("responseCacheEvictionCount", responseCacheEvictionCount)
+                       .build();
+    }
+
+    /**
+     * Builder for {@link ApiCallMetrics}. Only the SDK creates API call metrics.
+     */
+    @SdkInternalApi
+    public static final class Builder {
+        private String serviceName;
+        private Class<? extends SdkRequest> requestType;
+        private boolean succeeded;
+        private Duration apiCallDuration;
+        private Duration marshallingDuration;
+        private Duration unmarshallingDuration;
+        private List<ApiCallAttemptMetrics> attempts = Collections.emptyList();
+        private ResponseCacheResult responseCacheResult;
+        private int responseCacheEvictionCount;
+
+        private Builder() {
+        }
+
+        public Builder serviceName(String serviceName) {
+            this.serviceName = serviceName;
+            return this;
+        }
+
+        public Builder requestType(Class<? extends SdkRequest> requestType) {
+            this.requestType = requestType;
+            return this;
+        }
+
+        public Builder succeeded(boolean succeeded) {
+            this.succeeded = succeeded;
+            return this;
+        }
+
+        public Builder apiCallDuration(Duration apiCallDuration) {
+            this.apiCallDuration = apiCallDuration;
+            return this;
+        }
+
+        public Builder marshallingDuration(Duration marshallingDuration) {
+            this.marshallingDuration = marshallingDuration;
+            return this;
+        }
+
+        public Builder unmarshallingDuration(Duration unmarshallingDuration) {
+            this.unmarshallingDuration = unmarshallingDuration;
+            return this;
+        }
+
+        public Builder attempts(List<ApiCallAttemptMetrics> attempts) {
+            this.attempts = attempts;
+            return this;
+        }
+
+        public Builder responseCacheResult(ResponseCacheResult responseCacheResult) {
+            this.responseCacheResult = responseCacheResult;
+            return this;
+        }
+
+        public Builder responseCacheEvictionCount(int responseCacheEvictionCount) {
+            this.responseCacheEvictionCount = responseCacheEvictionCount;
+            return this;
+        }
+
+        public ApiCallMetrics build() {
+            return new ApiCallMetrics(this);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.metrics;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Receives the metrics of every API call made by a client, like how long the call and each of its attempts took. This can be
+ * used to find where time is spent in a call, to tune the client configuration or to report the metrics to a monitoring
+ * service.
+ *
+ * <p>Metrics are only collected when a publisher is configured with
+ * {@link software.amazon.awssdk.core.client.config.ClientOverrideConfiguration.Builder#metricPublisher(MetricPublisher)}.
+ *
+ * <p>{@link #publish(ApiCallMetrics)} is called on the thread that completes the API call, so it should return quickly and
+ * must not block. Publishers that send the metrics elsewhere should hand them off to another thread.
+ */
+@ThreadSafe
+@SdkPublicApi
+@FunctionalInterface
+public interface MetricPublisher {
+
+    /**
+     * Publish the metrics of a completed API call. This is called once for every API call, whether it succeeded or failed.
+     * Exceptions thrown by this method are logged and do not affect the API call.
+     */
+    void publish(ApiCallMetrics metrics);
+}
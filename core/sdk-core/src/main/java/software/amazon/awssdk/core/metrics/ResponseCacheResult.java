@@ -0,0 +1,45 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.metrics;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.client.config.ResponseCachePolicy;
+
+/**
+ * Whether the response to an API call was found in the client-side response cache.
+ *
+ * @see ApiCallMetrics#responseCacheResult()
+ * @see ResponseCachePolicy
+ */
+@SdkPublicApi
+public enum ResponseCacheResult {
+
+    /**
+     * The response was returned from the cache, and the request was not sent.
+     */
+    HIT,
+
+    /**
+     * An expired response was returned from the cache while it was refreshed, within the configured
+     * {@link ResponseCachePolicy#staleWhileRevalidate()} window.
+     */
+    STALE_HIT,
+
+    /**
+     * The response was not cached, so the request was sent and its response was added to the cache.
+     */
+    MISS
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configures hedged requests for asynchronous clients. When a request is eligible for hedging and no response has been received
+ * from the first attempt after {@link #hedgeDelay()}, a second, identical attempt is sent. Whichever attempt receives a response
+ * first is used and the other one is cancelled.
+ *
+ * <p>Only requests that are safe to send twice are hedged: requests with the {@code GET} or {@code HEAD} HTTP method, and
+ * requests whose type was registered with {@link Builder#addIdempotentRequestType(Class)}. Requests with a streaming request
+ * body are never hedged.
+ *
+ * <p>Every hedged attempt draws from the same capacity that limits retries (see {@link RetryPolicy}). The capacity is returned
+ * when the request succeeds, so hedging stops on its own while a service is failing and cannot amplify an outage.
+ *
+ * <p>Hedging is disabled unless a policy is configured with
+ * {@link software.amazon.awssdk.core.client.config.ClientOverrideConfiguration.Builder#hedgingPolicy} or on an individual
+ * request.
+ */
+@Immutable
+@SdkPublicApi
+public final class HedgingPolicy implements ToCopyableBuilder<HedgingPolicy.Builder, HedgingPolicy> {
+
+    private final Duration hedgeDelay;
+    private final Set<Class<? extends SdkRequest>> idempotentRequestTypes;
+
+    private HedgingPolicy(BuilderImpl builder) {
+        this.hedgeDelay = Validate.isPositive(builder.hedgeDelay, "hedgeDelay");
+        this.idempotentRequestTypes = Collections.unmodifiableSet(new HashSet<>(builder.idempotentRequestTypes));
+    }
+
+    /**
+     * The amount of time to wait for a response to the first attempt before sending the hedged attempt.
+     */
+    public Duration hedgeDelay() {
+        return hedgeDelay;
+    }
+
+    /**
+     * The request types, in addition to {@code GET} and {@code HEAD} requests, that may be hedged.
+     */
+    public Set<Class<? extends SdkRequest>> idempotentRequestTypes() {
+        return idempotentRequestTypes;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder().hedgeDelay(hedgeDelay)
+                        .idempotentRequestTypes(idempotentRequestTypes);
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("HedgingPolicy")
+                       .add("hedgeDelay", hedgeDelay)
+                       .add("idempotentRequestTypes", idempotentRequestTypes)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        HedgingPolicy that = (HedgingPolicy) o;
+
+        if (!hedgeDelay.equals(that.hedgeDelay)) {
+            return false;
+        }
+        return idempotentRequestTypes.equals(that.idempotentRequestTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hedgeDelay.hashCode();
+        result = 31 * result + idempotentRequestTypes.hashCode();
+        return result;
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, HedgingPolicy> {
+
+        /**
+         * Configure the amount of time to wait for a response to the first attempt before sending the hedged attempt. This
+         * value is required and must be positive. A value near the observed p95 or p99 latency of the operation usually
+         * removes most of the tail latency while hedging only a small fraction of requests.
+         *
+         * @see HedgingPolicy#hedgeDelay()
+         */
+        Builder hedgeDelay(Duration hedgeDelay);
+
+        Duration hedgeDelay();
+
+        /**
+         * Configure the request types, in addition to {@code GET} and {@code HEAD} requests, that are safe to send more than
+         * once and may be hedged. This replaces any request types configured previously.
+         *
+         * @see HedgingPolicy#idempotentRequestTypes()
+         */
+        Builder idempotentRequestTypes(Set<Class<? extends SdkRequest>> idempotentRequestTypes);
+
+        /**
+         * Add a request type that is safe to send more than once and may be hedged.
+         *
+         * @see HedgingPolicy#idempotentRequestTypes()
+         */
+        Builder addIdempotentRequestType(Class<? extends SdkRequest> idempotentRequestType);
+
+        Set<Class<? extends SdkRequest>> idempotentRequestTypes();
+
+        HedgingPolicy build();
+    }
+
+    /**
+     * Builder for a {@link HedgingPolicy}.
+     */
+    private static final class BuilderImpl implements Builder {
+
+        private Duration hedgeDelay;
+        private Set<Class<? extends SdkRequest>> idempotentRequestTypes = new HashSet<>();
+
+        private BuilderImpl() {
+        }
+
+        @Override
+        public Builder hedgeDelay(Duration hedgeDelay) {
+            this.hedgeDelay = hedgeDelay;
+            return this;
+        }
+
+        public void setHedgeDelay(Duration hedgeDelay) {
+            hedgeDelay(hedgeDelay);
+        }
+
+        @Override
+        public Duration hedgeDelay() {
+            return hedgeDelay;
+        }
+
+        @Override
+        public Builder idempotentRequestTypes(Set<Class<? extends SdkRequest>> idempotentRequestTypes) {
+            Validate.paramNotNull(idempotentRequestTypes, "idempotentRequestTypes");
+            this.idempotentRequestTypes = new HashSet<>(idempotentRequestTypes);
+            return this;
+        }
+
+        public void setIdempotentRequestTypes(Set<Class<? extends SdkRequest>> idempotentRequestTypes) {
+            idempotentRequestTypes(idempotentRequestTypes);
+        }
+
+        @Override
+        public Builder addIdempotentRequestType(Class<? extends SdkRequest> idempotentRequestType) {
+            Validate.paramNotNull(idempotentRequestType, "idempotentRequestType");
+            this.idempotentRequestTypes.add(idempotentRequestType);
+            return this;
+        }
+
+        @Override
+        public Set<Class<? extends SdkRequest>> idempotentRequestTypes() {
+            return Collections.unmodifiableSet(idempotentRequestTypes);
+        }
+
+        @Override
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
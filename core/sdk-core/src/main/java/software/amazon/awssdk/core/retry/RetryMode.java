@@ -0,0 +1,42 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The mode in which a {@link RetryPolicy} limits the requests sent by a client.
+ *
+ * @see RetryPolicy.Builder#retryMode(RetryMode)
+ */
+@SdkPublicApi
+public enum RetryMode {
+
+    /**
+     * Each request decides whether and when to retry on its own. First attempts are always sent immediately.
+     */
+    DEFAULT,
+
+    /**
+     * In addition to the {@link #DEFAULT} behavior, every attempt (including the first) must acquire a token from a
+     * client-wide rate limiter before it is sent. The rate limiter is enabled the first time the service throttles a request,
+     * reduces its rate each time a request is throttled and recovers it along a cubic curve as requests succeed.
+     *
+     * <p>This may delay requests on the calling thread (for synchronous clients), but reduces the number of wasted attempts
+     * while a service is throttling the client.
+     */
+    ADAPTIVE
+}
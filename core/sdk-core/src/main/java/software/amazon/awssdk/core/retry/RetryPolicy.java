@@ -24,6 +24,7 @@ import software.amazon.awssdk.core.retry.conditions.AndRetryCondition;
 import software.amazon.awssdk.core.retry.conditions.MaxNumberOfRetriesCondition;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 
@@ -49,11 +50,13 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
     private final BackoffStrategy backoffStrategy;
     private final BackoffStrategy throttlingBackoffStrategy;
     private final Integer numRetries;
+    private final RetryMode retryMode;
 
     private RetryPolicy(BuilderImpl builder) {
         this.backoffStrategy = builder.backoffStrategy;
         this.throttlingBackoffStrategy = builder.throttlingBackoffStrategy;
         this.numRetries = builder.numRetries;
+        this.retryMode = Validate.paramNotNull(builder.retryMode, "retryMode");
         this.retryConditionFromBuilder = builder.retryCondition;
         this.retryCondition = AndRetryCondition.create(MaxNumberOfRetriesCondition.create(numRetries),
                                                        retryConditionFromBuilder);
@@ -75,8 +78,13 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         return numRetries;
     }
 
+    public RetryMode retryMode() {
+        return retryMode;
+    }
+
     public Builder toBuilder() {
         return builder().numRetries(numRetries)
+                        .retryMode(retryMode)
                         .retryCondition(retryConditionFromBuilder)
                         .backoffStrategy(backoffStrategy)
                         .throttlingBackoffStrategy(throttlingBackoffStrategy);
@@ -86,6 +94,7 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
     public String toString() {
         return ToString.builder("RetryPolicy")
                        .add("numRetries", numRetries)
+                       .add("retryMode", retryMode)
                        .add("retryCondition", retryCondition)
                        .add("backoffStrategy", backoffStrategy)
                        .add("throttlingBackoffStrategy", throttlingBackoffStrategy)
@@ -112,6 +121,9 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         if (!throttlingBackoffStrategy.equals(that.throttlingBackoffStrategy)) {
             return false;
         }
+        if (retryMode != that.retryMode) {
+            return false;
+        }
         return numRetries.equals(that.numRetries);
     }
 
@@ -121,6 +133,7 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         result = 31 * result + backoffStrategy.hashCode();
         result = 31 * result + throttlingBackoffStrategy.hashCode();
         result = 31 * result + numRetries.hashCode();
+        result = 31 * result + retryMode.hashCode();
         return result;
     }
 
@@ -151,6 +164,16 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
 
         Integer numRetries();
 
+        /**
+         * Configure the mode in which the client limits the requests it sends. By default, {@link RetryMode#DEFAULT} is
+         * used.
+         *
+         * @see RetryMode
+         */
+        Builder retryMode(RetryMode retryMode);
+
+        RetryMode retryMode();
+
         Builder backoffStrategy(BackoffStrategy backoffStrategy);
 
         BackoffStrategy backoffStrategy();
@@ -172,6 +195,7 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
     private static final class BuilderImpl implements Builder {
 
         private Integer numRetries = SdkDefaultRetrySetting.DEFAULT_MAX_RETRIES;
+        private RetryMode retryMode = RetryMode.DEFAULT;
         private BackoffStrategy backoffStrategy = BackoffStrategy.defaultStrategy();
         private BackoffStrategy throttlingBackoffStrategy = BackoffStrategy.defaultThrottlingStrategy();
         private RetryCondition retryCondition = RetryCondition.defaultRetryCondition();
@@ -194,6 +218,21 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
             return numRetries;
         }
 
+        @Override
+        public Builder retryMode(RetryMode retryMode) {
+            this.retryMode = retryMode;
+            return this;
+        }
+
+        public void setRetryMode(RetryMode retryMode) {
+            retryMode(retryMode);
+        }
+
+        @Override
+        public RetryMode retryMode() {
+            return retryMode;
+        }
+
         @Override
         public Builder backoffStrategy(BackoffStrategy backoffStrategy) {
             this.backoffStrategy = backoffStrategy;
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.internal.retry.ParkingRetrySleeper;
+
+/**
+ * Waits out the backoff delay between two attempts of the same request.
+ *
+ * <p>Synchronous requests pause through {@link #sleep(Duration)} on the calling thread, while asynchronous requests use
+ * {@link #sleepAsync(Duration, ScheduledExecutorService)} so that no thread is held while waiting. Replacing the sleeper
+ * (for example with one that only records the requested delays) allows retry behavior to be tested without waiting for
+ * the wall clock.
+ */
+@SdkProtectedApi
+@FunctionalInterface
+public interface RetrySleeper {
+
+    /**
+     * Block the calling thread for the provided delay.
+     *
+     * @param delay The amount of time to wait. Must be non-negative.
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     */
+    void sleep(Duration delay) throws InterruptedException;
+
+    /**
+     * Return a future that is completed once the provided delay has passed, without blocking the calling thread. By default,
+     * the completion is scheduled on the provided executor.
+     *
+     * @param delay The amount of time to wait. Must be non-negative.
+     * @param scheduledExecutor The executor on which the completion of the returned future may be scheduled.
+     */
+    default CompletableFuture<Void> sleepAsync(Duration delay, ScheduledExecutorService scheduledExecutor) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        scheduledExecutor.schedule(() -> future.complete(null), delay.toNanos(), TimeUnit.NANOSECONDS);
+        return future;
+    }
+
+    /**
+     * The default sleeper, which parks the calling thread with {@link java.util.concurrent.locks.LockSupport#parkNanos(long)}
+     * so that it cooperates with schedulers that are able to unmount parked threads.
+     */
+    static RetrySleeper defaultSleeper() {
+        return ParkingRetrySleeper.create();
+    }
+}
@@ -18,16 +18,25 @@ package software.amazon.awssdk.core.client.handler;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -39,10 +48,18 @@ import software.amazon.awssdk.core.Request;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.EmptyPublisher;
+import software.amazon.awssdk.core.client.config.RequestCoalescingPolicy;
+import software.amazon.awssdk.core.client.config.ResponseCachePolicy;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.protocol.VoidSdkResponse;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.runtime.transform.Marshaller;
@@ -129,6 +146,130 @@ public class AsyncClientHandlerTest {
         verifyNoMoreInteractions(responseHandler); // Response handler is not called
     }
 
+    @Test
+    public void coalescedCallRunsAfterUnmarshallingAndAfterExecutionInterceptors() throws Exception {
+        CountingInterceptor interceptor = new CountingInterceptor();
+        SdkAsyncClientHandler coalescingClientHandler = new SdkAsyncClientHandler(
+            clientConfiguration().toBuilder()
+                                 .option(SdkClientOption.EXECUTION_INTERCEPTORS, Collections.singletonList(interceptor))
+                                 .option(SdkAdvancedClientOption.REQUEST_COALESCING_POLICY,
+                                         RequestCoalescingPolicy.builder().addRequestType(request.getClass()).build())
+                                 .build());
+        ArgumentCaptor<AsyncExecuteRequest> executeRequest = ArgumentCaptor.forClass(AsyncExecuteRequest.class);
+        expectRetrievalFromMocks();
+        when(httpClient.execute(executeRequest.capture())).thenReturn(httpClientFuture);
+        when(responseHandler.handle(any(), any())).thenReturn(VoidSdkResponse.builder().build());
+
+        CompletableFuture<SdkResponse> first = coalescingClientHandler.execute(clientExecutionParams());
+        CompletableFuture<SdkResponse> second = coalescingClientHandler.execute(clientExecutionParams());
+        SdkAsyncHttpResponseHandler capturedHandler = executeRequest.getValue().responseHandler();
+        capturedHandler.onHeaders(SdkHttpFullResponse.builder().statusCode(200).build());
+        capturedHandler.onStream(new EmptyPublisher<>());
+
+        assertThat(second.get(1, TimeUnit.SECONDS)).isSameAs(first.get(1, TimeUnit.SECONDS));
+        verify(httpClient, times(1)).execute(any());
+        assertThat(interceptor.afterTransmissionCalls.get()).isEqualTo(1);
+        assertThat(interceptor.afterUnmarshallingCalls.get()).isEqualTo(2);
+        assertThat(interceptor.afterExecutionCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void staleCachedResponse_refreshIsDetachedFromCaller() throws Exception {
+        CountingInterceptor interceptor = new CountingInterceptor();
+        ResponseCachePolicy cachePolicy = ResponseCachePolicy.builder()
+                                                             .putTimeToLive(request.getClass(), Duration.ofNanos(1))
+                                                             .staleWhileRevalidate(Duration.ofMinutes(1))
+                                                             .build();
+        SdkAsyncClientHandler cachingClientHandler = new SdkAsyncClientHandler(
+            clientConfiguration().toBuilder()
+                                 .option(SdkClientOption.EXECUTION_INTERCEPTORS, Collections.singletonList(interceptor))
+                                 .option(SdkAdvancedClientOption.RESPONSE_CACHE_POLICY, cachePolicy)
+                                 .option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, Runnable::run)
+                                 .build());
+        ArgumentCaptor<AsyncExecuteRequest> executeRequest = ArgumentCaptor.forClass(AsyncExecuteRequest.class);
+        expectRetrievalFromMocks();
+        when(httpClient.execute(executeRequest.capture())).thenReturn(httpClientFuture);
+        when(responseHandler.handle(any(), any())).thenReturn(VoidSdkResponse.builder().build(),
+                                                              VoidSdkResponse.builder().build());
+
+        CompletableFuture<SdkResponse> first = cachingClientHandler.execute(clientExecutionParams());
+        respond(executeRequest.getValue().responseHandler());
+        SdkResponse cached = first.get(1, TimeUnit.SECONDS);
+        Thread.sleep(1);
+
+        CompletableFuture<ExecutionAttributes> staleCallerExecution = interceptor.nextExecution();
+        SdkResponse stale = cachingClientHandler.execute(clientExecutionParams()).get(1, TimeUnit.SECONDS);
+
+        assertThat(stale).isSameAs(cached);
+        assertThat(staleCallerExecution).isDone();
+
+        verify(httpClient, times(2)).execute(any());
+        CompletableFuture<ExecutionAttributes> refreshExecution = interceptor.nextExecution();
+        respond(executeRequest.getValue().responseHandler());
+
+        assertThat(refreshExecution.get(1, TimeUnit.SECONDS)).isNotSameAs(staleCallerExecution.join());
+        assertThat(interceptor.afterExecutionCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void executionContextNotReady_callContinuesOnFutureCompletionExecutor() throws Exception {
+        ExecutorService futureCompletionExecutor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<Void> credentialsReady = new CompletableFuture<>();
+            SdkAsyncClientHandler handler = handlerAwaiting(credentialsReady, futureCompletionExecutor);
+            CompletableFuture<Thread> callingThread = new CompletableFuture<>();
+            expectRetrievalFromMocks();
+            when(httpClient.execute(any())).thenAnswer(invocation -> {
+                callingThread.complete(Thread.currentThread());
+                return new CompletableFuture<>();
+            });
+
+            handler.execute(clientExecutionParams());
+            credentialsReady.complete(null);
+
+            Thread executorThread = futureCompletionExecutor.submit(Thread::currentThread).get();
+            assertThat(callingThread.get(5, TimeUnit.SECONDS)).isSameAs(executorThread);
+        } finally {
+            futureCompletionExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void executionContextNotReady_cancelledBeforeReady_callIsNotStarted() {
+        CompletableFuture<Void> credentialsReady = new CompletableFuture<>();
+        SdkAsyncClientHandler handler = handlerAwaiting(credentialsReady, Runnable::run);
+        expectRetrievalFromMocks();
+
+        CompletableFuture<SdkResponse> responseFuture = handler.execute(clientExecutionParams());
+        responseFuture.cancel(true);
+        credentialsReady.complete(null);
+
+        verify(httpClient, never()).execute(any());
+    }
+
+    /**
+     * @return A handler whose execution context is only ready once the given future completes, like that of an AWS client
+     * whose credentials are being refreshed.
+     */
+    private SdkAsyncClientHandler handlerAwaiting(CompletableFuture<Void> credentialsReady, Executor futureCompletionExecutor) {
+        SdkClientConfiguration configuration =
+            clientConfiguration().toBuilder()
+                                 .option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, futureCompletionExecutor)
+                                 .build();
+        return new SdkAsyncClientHandler(configuration) {
+            @Override
+            protected <InputT extends SdkRequest, OutputT extends SdkResponse> CompletableFuture<ExecutionContext>
+                    createExecutionContextAsync(ClientExecutionParams<InputT, OutputT> params) {
+                return credentialsReady.thenApply(ignored -> createExecutionContext(params));
+            }
+        };
+    }
+
+    private static void respond(SdkAsyncHttpResponseHandler handler) {
+        handler.onHeaders(SdkHttpFullResponse.builder().statusCode(200).build());
+        handler.onStream(new EmptyPublisher<>());
+    }
+
     private void expectRetrievalFromMocks() {
         when(marshaller.marshall(request)).thenReturn(marshalledRequest);
     }
@@ -141,6 +282,37 @@ public class AsyncClientHandlerTest {
                 .withErrorResponseHandler(errorResponseHandler);
     }
 
+    private static final class CountingInterceptor implements ExecutionInterceptor {
+        private final AtomicInteger afterTransmissionCalls = new AtomicInteger();
+        private final AtomicInteger afterUnmarshallingCalls = new AtomicInteger();
+        private final AtomicInteger afterExecutionCalls = new AtomicInteger();
+        private volatile CompletableFuture<ExecutionAttributes> nextExecution = new CompletableFuture<>();
+
+        /**
+         * @return A future that is completed with the execution attributes of the next call to {@code afterExecution}.
+         */
+        private CompletableFuture<ExecutionAttributes> nextExecution() {
+            nextExecution = new CompletableFuture<>();
+            return nextExecution;
+        }
+
+        @Override
+        public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
+            afterTransmissionCalls.incrementAndGet();
+        }
+
+        @Override
+        public void afterUnmarshalling(Context.AfterUnmarshalling context, ExecutionAttributes executionAttributes) {
+            afterUnmarshallingCalls.incrementAndGet();
+        }
+
+        @Override
+        public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+            afterExecutionCalls.incrementAndGet();
+            nextExecution.complete(executionAttributes);
+        }
+    }
+
     public SdkClientConfiguration clientConfiguration() {
         return HttpTestUtils.testClientConfiguration().toBuilder()
                             .option(SdkClientOption.ASYNC_HTTP_CLIENT, httpClient)
@@ -18,11 +18,15 @@ package software.amazon.awssdk.core.client.handler;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +40,8 @@ import software.amazon.awssdk.core.DefaultRequest;
 import software.amazon.awssdk.core.Request;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.client.config.ResponseCachePolicy;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.AbortedException;
@@ -43,6 +49,9 @@ import software.amazon.awssdk.core.exception.NonRetryableException;
 import software.amazon.awssdk.core.exception.RetryableException;
 import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.protocol.VoidSdkResponse;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.runtime.transform.Marshaller;
@@ -161,6 +170,30 @@ public class SyncClientHandlerTest {
             .hasCauseInstanceOf(NonRetryableException.class);
     }
 
+    @Test
+    public void cachedResponseRunsAfterUnmarshallingAndAfterExecutionInterceptors() throws Exception {
+        CountingInterceptor interceptor = new CountingInterceptor();
+        ResponseCachePolicy cachePolicy = ResponseCachePolicy.builder()
+                                                             .putTimeToLive(request.getClass(), Duration.ofMinutes(1))
+                                                             .build();
+        SdkSyncClientHandler cachingClientHandler = new SdkSyncClientHandler(
+            clientConfiguration().toBuilder()
+                                 .option(SdkClientOption.EXECUTION_INTERCEPTORS, Collections.singletonList(interceptor))
+                                 .option(SdkAdvancedClientOption.RESPONSE_CACHE_POLICY, cachePolicy)
+                                 .build());
+        mockSuccessfulApiCall();
+
+        SdkResponse first = cachingClientHandler.execute(clientExecutionParams());
+        SdkResponse second = cachingClientHandler.execute(clientExecutionParams());
+
+        assertThat(second).isSameAs(first);
+        verify(httpClientCall, times(1)).call();
+        assertThat(interceptor.afterTransmissionCalls).isEqualTo(1);
+        assertThat(interceptor.afterUnmarshallingCalls).isEqualTo(2);
+        assertThat(interceptor.afterExecutionCalls).isEqualTo(2);
+        assertThat(interceptor.lastResponse).isSameAs(second);
+    }
+
     private void verifyResponseTransformerPropagateException(Exception exception) throws Exception {
         mockSuccessfulApiCall();
         when(responseTransformer.transform(any(SdkResponse.class), any(AbortableInputStream.class))).thenThrow(
@@ -191,6 +224,29 @@ public class SyncClientHandlerTest {
                 .withErrorResponseHandler(errorResponseHandler);
     }
 
+    private static final class CountingInterceptor implements ExecutionInterceptor {
+        private int afterTransmissionCalls;
+        private int afterUnmarshallingCalls;
+        private int afterExecutionCalls;
+        private SdkResponse lastResponse;
+
+        @Override
+        public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
+            afterTransmissionCalls++;
+        }
+
+        @Override
+        public void afterUnmarshalling(Context.AfterUnmarshalling context, ExecutionAttributes executionAttributes) {
+            afterUnmarshallingCalls++;
+        }
+
+        @Override
+        public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+            afterExecutionCalls++;
+            lastResponse = context.response();
+        }
+    }
+
     public SdkClientConfiguration clientConfiguration() {
         return HttpTestUtils.testClientConfiguration().toBuilder()
                             .option(SdkClientOption.SYNC_HTTP_CLIENT, httpClient)
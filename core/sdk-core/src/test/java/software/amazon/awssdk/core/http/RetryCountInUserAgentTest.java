@@ -22,9 +22,11 @@ import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.fail;
 import static software.amazon.awssdk.core.internal.retry.RetryHandler.HEADER_SDK_RETRY_INFO;
 
+import java.time.Duration;
 import org.junit.Test;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkServiceException;
@@ -35,6 +37,7 @@ import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import utils.HttpTestUtils;
 import utils.http.WireMockTestBase;
+import utils.retry.RecordingRetrySleeper;
 import utils.retry.SimpleArrayBackoffStrategy;
 
 public class RetryCountInUserAgentTest extends WireMockTestBase {
@@ -67,14 +70,33 @@ public class RetryCountInUserAgentTest extends WireMockTestBase {
         verify(1, getRequestedFor(urlEqualTo(RESOURCE_PATH)).withHeader(HEADER_SDK_RETRY_INFO, containing("3/20/485")));
     }
 
+    @Test
+    public void retriedRequest_PausesThroughConfiguredRetrySleeper() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(500)));
+
+        RecordingRetrySleeper sleeper = new RecordingRetrySleeper();
+        executeRequest(sleeper);
+
+        assertThat(sleeper.delays()).containsExactly(Duration.ofMillis(0), Duration.ofMillis(10), Duration.ofMillis(20));
+    }
+
     private void executeRequest() throws Exception {
+        executeRequest(clientConfiguration().build());
+    }
+
+    private void executeRequest(RecordingRetrySleeper sleeper) throws Exception {
+        executeRequest(clientConfiguration().option(SdkClientOption.RETRY_SLEEPER, sleeper).build());
+    }
+
+    private SdkClientConfiguration.Builder clientConfiguration() {
         RetryPolicy policy = RetryPolicy.builder().backoffStrategy(new SimpleArrayBackoffStrategy(BACKOFF_VALUES)).build();
 
-        SdkClientConfiguration config = HttpTestUtils.testClientConfiguration().toBuilder()
-                                                     .option(SdkClientOption.SYNC_HTTP_CLIENT, HttpTestUtils.testSdkHttpClient())
-                                                     .option(SdkClientOption.RETRY_POLICY, policy)
-                                                     .build();
+        return HttpTestUtils.testClientConfiguration().toBuilder()
+                            .option(SdkClientOption.SYNC_HTTP_CLIENT, HttpTestUtils.testSdkHttpClient())
+                            .option(SdkClientOption.RETRY_POLICY, policy);
+    }
 
+    private void executeRequest(SdkClientConfiguration config) throws Exception {
         AmazonSyncHttpClient httpClient = new AmazonSyncHttpClient(config);
         try {
             SdkHttpFullRequest request = SdkHttpFullRequestAdapter.toHttpFullRequest(newGetRequest(RESOURCE_PATH));
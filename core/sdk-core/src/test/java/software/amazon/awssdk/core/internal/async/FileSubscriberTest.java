@@ -0,0 +1,106 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.internal.async.FileAsyncResponseTransformer.FileSubscriber;
+
+public class FileSubscriberTest {
+
+    private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+    private final AtomicInteger releases = new AtomicInteger();
+
+    private AsynchronousFileChannel fileChannel;
+    private Subscription subscription;
+    private FileSubscriber subscriber;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        fileChannel = mock(AsynchronousFileChannel.class);
+        // Write at most 3 bytes at a time, like a channel that only partially writes a buffer
+        doAnswer(invocation -> {
+            ByteBuffer buffer = (ByteBuffer) invocation.getArguments()[0];
+            CompletionHandler<Integer, ByteBuffer> handler = (CompletionHandler<Integer, ByteBuffer>) invocation.getArguments()[3];
+            assertThat((long) invocation.getArguments()[1]).isEqualTo(written.size());
+            int length = Math.min(3, buffer.remaining());
+            for (int i = 0; i < length; i++) {
+                written.write(buffer.get());
+            }
+            handler.completed(length, buffer);
+            return null;
+        }).when(fileChannel).write(any(ByteBuffer.class), anyLong(), any(), any(CompletionHandler.class));
+
+        subscription = mock(Subscription.class);
+        subscriber = new FileSubscriber(fileChannel, Paths.get("test"), new CompletableFuture<>());
+        subscriber.onSubscribe(subscription);
+    }
+
+    @Test
+    public void partialWrites_writeWholeBufferBeforeRequestingMore() {
+        subscriber.onNext(buffer("hello world"));
+
+        assertThat(new String(written.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("hello world");
+        verify(subscription, times(2)).request(1);
+    }
+
+    @Test
+    public void lentBuffer_releasedOnceWritten() {
+        subscriber.onNext(buffer("hello").asReadOnlyBuffer(), releases::incrementAndGet);
+        subscriber.onNext(buffer(" world").asReadOnlyBuffer(), releases::incrementAndGet);
+
+        assertThat(new String(written.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("hello world");
+        assertThat(releases.get()).isEqualTo(2);
+        verify(subscription, times(3)).request(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void lentBuffer_releasedWhenWriteFails() {
+        doAnswer(invocation -> {
+            ((CompletionHandler<Integer, ByteBuffer>) invocation.getArguments()[3])
+                .failed(new RuntimeException("disk full"), (ByteBuffer) invocation.getArguments()[0]);
+            return null;
+        }).when(fileChannel).write(any(ByteBuffer.class), anyLong(), any(), any(CompletionHandler.class));
+
+        subscriber.onNext(buffer("hello").asReadOnlyBuffer(), releases::incrementAndGet);
+
+        assertThat(releases.get()).isEqualTo(1);
+        verify(subscription).cancel();
+    }
+
+    private static ByteBuffer buffer(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.RequestCoalescingPolicy;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.utils.StringInputStream;
+import utils.ValidSdkObjects;
+
+public class RequestCoalescerTest {
+    private static final RequestCoalescingPolicy POLICY =
+        RequestCoalescingPolicy.builder().addRequestType(NoopTestRequest.class).build();
+
+    private final RequestCoalescer coalescer = RequestCoalescer.create(POLICY, null, null);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void create_noRequestTypes_returnsNull() {
+        assertThat(RequestCoalescer.create(null, null, null)).isNull();
+        assertThat(RequestCoalescer.create(RequestCoalescingPolicy.builder().build(), null, null)).isNull();
+    }
+
+    @Test
+    public void coalesceAsync_identicalRequests_shareOneCall() {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> response = new CompletableFuture<>();
+
+        CompletableFuture<String> first = coalescer.coalesceAsync(request(), key("a"), () -> {
+            calls.incrementAndGet();
+            return response;
+        });
+        CompletableFuture<String> second = coalescer.coalesceAsync(request(), key("a"), () -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        assertThat(coalescer.inFlightRequests()).isEqualTo(1);
+        response.complete("response");
+
+        assertThat(first.join()).isEqualTo("response");
+        assertThat(second.join()).isEqualTo("response");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(coalescer.inFlightRequests()).isZero();
+    }
+
+    @Test
+    public void coalesceAsync_differentContent_notCoalesced() {
+        AtomicInteger calls = new AtomicInteger();
+
+        coalescer.coalesceAsync(request(), key("a"), () -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        coalescer.coalesceAsync(request(), key("b"), () -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(coalescer.inFlightRequests()).isEqualTo(2);
+    }
+
+    @Test
+    public void coalesceAsync_requestOverrideConfiguration_notCoalesced() {
+        AtomicInteger calls = new AtomicInteger();
+        SdkRequest request = NoopTestRequest.builder()
+                                            .overrideConfiguration(SdkRequestOverrideConfiguration.builder().build())
+                                            .build();
+
+        coalescer.coalesceAsync(request, key("a"), () -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        coalescer.coalesceAsync(request, key("a"), () -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(coalescer.inFlightRequests()).isZero();
+    }
+
+    @Test
+    public void coalesceAsync_unregisteredRequestType_notCoalesced() {
+        RequestCoalescer otherTypeCoalescer =
+            RequestCoalescer.create(RequestCoalescingPolicy.builder().addRequestType(SdkRequest.class).build(), null, null);
+        AtomicInteger calls = new AtomicInteger();
+
+        otherTypeCoalescer.coalesceAsync(request(), key("a"), () -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        otherTypeCoalescer.coalesceAsync(request(), key("a"), () -> {
+            calls.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(otherTypeCoalescer.inFlightRequests()).isZero();
+    }
+
+    @Test
+    public void coalesceAsync_failure_propagatedToAllCallers() {
+        CompletableFuture<String> response = new CompletableFuture<>();
+
+        CompletableFuture<String> first = coalescer.coalesceAsync(request(), key("a"), () -> response);
+        CompletableFuture<String> second = coalescer.coalesceAsync(request(), key("a"), CompletableFuture::new);
+
+        response.completeExceptionally(SdkClientException.create("failed"));
+
+        assertThatThrownBy(first::join).hasCauseInstanceOf(SdkClientException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(SdkClientException.class);
+        assertThat(coalescer.inFlightRequests()).isZero();
+    }
+
+    @Test
+    public void coalesceAsync_failure_eachFollowerReceivesItsOwnCopy() {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        SdkClientException failure = SdkClientException.create("failed");
+
+        CompletableFuture<String> first = coalescer.coalesceAsync(request(), key("a"), () -> response);
+        CompletableFuture<String> second = coalescer.coalesceAsync(request(), key("a"), CompletableFuture::new);
+        CompletableFuture<String> third = coalescer.coalesceAsync(request(), key("a"), CompletableFuture::new);
+
+        response.completeExceptionally(failure);
+
+        assertThat(failureOf(first)).isSameAs(failure);
+        assertThat(failureOf(second)).isInstanceOf(SdkClientException.class).hasMessage("failed").isNotSameAs(failure);
+        assertThat(failureOf(third)).isNotSameAs(failureOf(second)).isNotSameAs(failure);
+    }
+
+    @Test
+    public void coalesceAsync_leaderCancels_followersStillReceiveResponse() {
+        CompletableFuture<String> response = new CompletableFuture<>();
+
+        CompletableFuture<String> first = coalescer.coalesceAsync(request(), key("a"), () -> response);
+        CompletableFuture<String> second = coalescer.coalesceAsync(request(), key("a"), CompletableFuture::new);
+
+        first.cancel(true);
+        assertThat(response).isNotCancelled();
+        response.complete("response");
+
+        assertThat(second.join()).isEqualTo("response");
+    }
+
+    @Test
+    public void coalesceAsync_allCallersCancel_cancelsCall() {
+        CompletableFuture<String> response = new CompletableFuture<>();
+
+        CompletableFuture<String> first = coalescer.coalesceAsync(request(), key("a"), () -> response);
+        CompletableFuture<String> second = coalescer.coalesceAsync(request(), key("a"), CompletableFuture::new);
+
+        second.cancel(true);
+        assertThat(response).isNotCancelled();
+        first.cancel(true);
+
+        assertThat(response).isCancelled();
+        assertThat(coalescer.inFlightRequests()).isZero();
+    }
+
+    @Test
+    public void coalesceAsync_followerTimesOut_leaderUnaffected() {
+        ScheduledExecutorService timeoutExecutor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            RequestCoalescer timingOutCoalescer = RequestCoalescer.create(POLICY, Duration.ofMillis(50), timeoutExecutor);
+            CompletableFuture<String> response = new CompletableFuture<>();
+
+            CompletableFuture<String> first = timingOutCoalescer.coalesceAsync(request(), key("a"), () -> response);
+            CompletableFuture<String> second = timingOutCoalescer.coalesceAsync(request(), key("a"),
+                                                                                CompletableFuture::new);
+
+            assertThatThrownBy(second::join).hasCauseInstanceOf(ApiCallTimeoutException.class);
+            response.complete("response");
+            assertThat(first.join()).isEqualTo("response");
+        } finally {
+            timeoutExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void coalesce_followerTimesOut() throws Exception {
+        RequestCoalescer timingOutCoalescer = RequestCoalescer.create(POLICY, Duration.ofMillis(50), null);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> timingOutCoalescer.coalesce(request(), key("a"), () -> {
+            leaderStarted.countDown();
+            await(releaseLeader);
+            return "response";
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> timingOutCoalescer.coalesce(request(), key("a"), () -> "other response"))
+            .isInstanceOf(ApiCallTimeoutException.class);
+
+        releaseLeader.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("response");
+    }
+
+    @Test
+    public void coalesceAsync_afterCompletion_sendsNewCall() {
+        AtomicInteger calls = new AtomicInteger();
+
+        coalescer.coalesceAsync(request(), key("a"), () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("response");
+        });
+        coalescer.coalesceAsync(request(), key("a"), () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("response");
+        });
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void coalesce_identicalRequests_followerWaitsForLeader() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        Future<String> leader = executor.submit(() -> coalescer.coalesce(request(), key("a"), () -> {
+            calls.incrementAndGet();
+            leaderStarted.countDown();
+            await(releaseLeader);
+            return "response";
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> follower = new CompletableFuture<>();
+        Thread followerThread = new Thread(() -> follower.complete(coalescer.coalesce(request(), key("a"), () -> {
+            calls.incrementAndGet();
+            return "other response";
+        })));
+        followerThread.start();
+
+        // Only release the leader once the follower is waiting for its result.
+        while (followerThread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        releaseLeader.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("response");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("response");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(coalescer.inFlightRequests()).isZero();
+    }
+
+    @Test
+    public void coalesce_failure_rethrownToCaller() {
+        assertThatThrownBy(() -> coalescer.coalesce(request(), key("a"), () -> {
+            throw SdkClientException.create("failed");
+        })).isInstanceOf(SdkClientException.class);
+        assertThat(coalescer.inFlightRequests()).isZero();
+    }
+
+    private static Throwable failureOf(CompletableFuture<?> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            return e.getCause();
+        }
+        throw new AssertionError("Expected the future to fail.");
+    }
+
+    private static SdkRequest request() {
+        return NoopTestRequest.builder().build();
+    }
+
+    private static RequestKey key(String content) {
+        SdkHttpFullRequest httpRequest = ValidSdkObjects.sdkHttpFullRequest()
+                                                          .encodedPath("/")
+                                                          .contentStreamProvider(() -> new StringInputStream(content))
+                                                          .build();
+        return RequestKey.create(request(), httpRequest);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.client.config.ResponseCachePolicy;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricCollector;
+import software.amazon.awssdk.core.metrics.ApiCallMetrics;
+import software.amazon.awssdk.core.metrics.ResponseCacheResult;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.utils.StringInputStream;
+import utils.ValidSdkObjects;
+
+public class ResponseCacheTest {
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void create_noTimeToLive_returnsNull() {
+        assertThat(ResponseCache.create(null)).isNull();
+        assertThat(ResponseCache.create(ResponseCachePolicy.builder().build())).isNull();
+    }
+
+    @Test
+    public void get_withinTimeToLive_returnsCachedResponse() {
+        ResponseCache cache = cache(b -> b);
+        CountingCall call = new CountingCall();
+
+        SdkResponse first = cache.get(request(), key("a"), null, call);
+        clock.addAndGet(TIME_TO_LIVE.toNanos() - 1);
+        SdkResponse second = cache.get(request(), key("a"), null, call);
+
+        assertThat(second).isSameAs(first);
+        assertThat(call.calls.get()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_differentRequests_cachedSeparately() {
+        ResponseCache cache = cache(b -> b);
+        CountingCall call = new CountingCall();
+
+        SdkResponse first = cache.get(request(), key("a"), null, call);
+        SdkResponse second = cache.get(request(), key("b"), null, call);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(call.calls.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_afterTimeToLive_makesNewCall() {
+        ResponseCache cache = cache(b -> b);
+        CountingCall call = new CountingCall();
+
+        SdkResponse first = cache.get(request(), key("a"), null, call);
+        clock.addAndGet(TIME_TO_LIVE.toNanos());
+        SdkResponse second = cache.get(request(), key("a"), null, call);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(call.calls.get()).isEqualTo(2);
+        assertThat(cache.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_requestOverrideConfiguration_notCached() {
+        ResponseCache cache = cache(b -> b);
+        CountingCall call = new CountingCall();
+        SdkRequest request = NoopTestRequest.builder()
+                                            .overrideConfiguration(SdkRequestOverrideConfiguration.builder().build())
+                                            .build();
+
+        cache.get(request, key("a"), null, call);
+        cache.get(request, key("a"), null, call);
+
+        assertThat(call.calls.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void get_unregisteredRequestType_notCached() {
+        ResponseCache cache = new ResponseCache(ResponseCachePolicy.builder()
+                                                                   .putTimeToLive(SdkRequest.class, TIME_TO_LIVE)
+                                                                   .build(),
+                                                clock::get);
+        CountingCall call = new CountingCall();
+
+        cache.get(request(), key("a"), null, call);
+        cache.get(request(), key("a"), null, call);
+
+        assertThat(call.calls.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void get_failedCall_notCached() {
+        ResponseCache cache = cache(b -> b);
+
+        assertThatThrownBy(() -> cache.get(request(), key("a"), null, () -> {
+            throw SdkClientException.create("failed");
+        })).isInstanceOf(SdkClientException.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void get_staleWhileRevalidate_firstCallerRefreshes() {
+        ResponseCache cache = cache(b -> b.staleWhileRevalidate(Duration.ofMinutes(1)));
+        CountingCall call = new CountingCall();
+
+        SdkResponse first = cache.get(request(), key("a"), null, call);
+        clock.addAndGet(TIME_TO_LIVE.toNanos());
+        SdkResponse refreshed = cache.get(request(), key("a"), null, call);
+        SdkResponse afterRefresh = cache.get(request(), key("a"), null, call);
+
+        assertThat(refreshed).isNotSameAs(first);
+        assertThat(afterRefresh).isSameAs(refreshed);
+        assertThat(call.calls.get()).isEqualTo(2);
+        assertThat(cache.staleHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_staleWhileRevalidate_otherCallersReceiveStaleResponseWhileRefreshing() throws Exception {
+        ResponseCache cache = cache(b -> b.staleWhileRevalidate(Duration.ofMinutes(1)));
+        SdkResponse first = cache.get(request(), key("a"), null, new CountingCall());
+        clock.addAndGet(TIME_TO_LIVE.toNanos());
+
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch finishRefresh = new CountDownLatch(1);
+        SdkResponse second = mock(SdkResponse.class);
+        CompletableFuture<SdkResponse> refreshed = CompletableFuture.supplyAsync(() -> cache.get(request(), key("a"), null, () -> {
+            refreshStarted.countDown();
+            invokeSafely(() -> finishRefresh.await());
+            return second;
+        }));
+        assertThat(refreshStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // The refresh is made by the first caller to find the response stale, on its own thread
+        SdkResponse stale = cache.get(request(), key("a"), null, () -> {
+            throw new AssertionError("Only the first caller should refresh a stale response.");
+        });
+        assertThat(stale).isSameAs(first);
+
+        finishRefresh.countDown();
+        assertThat(refreshed.get(5, TimeUnit.SECONDS)).isSameAs(second);
+        assertThat(cache.get(request(), key("a"), null, new CountingCall())).isSameAs(second);
+    }
+
+    @Test
+    public void get_cachingFails_returnsResponse() {
+        ResponseCache cache = cache(b -> b.weigher(r -> {
+            throw new IllegalStateException("weigher failed");
+        }));
+        SdkResponse response = mock(SdkResponse.class);
+
+        assertThat(cache.get(request(), key("a"), null, () -> response)).isSameAs(response);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void getAsync_staleWhileRevalidate_returnsStaleResponseWhileRefreshing() {
+        ResponseCache cache = cache(b -> b.staleWhileRevalidate(Duration.ofMinutes(1)));
+        SdkResponse first = mock(SdkResponse.class);
+        SdkResponse second = mock(SdkResponse.class);
+        CompletableFuture<SdkResponse> refresh = new CompletableFuture<>();
+        AtomicInteger refreshCalls = new AtomicInteger();
+        Supplier<CompletableFuture<SdkResponse>> refreshCall = () -> {
+            refreshCalls.incrementAndGet();
+            return refresh;
+        };
+        Supplier<CompletableFuture<SdkResponse>> call = () -> {
+            throw new AssertionError("A stale response should be refreshed with the refresh call.");
+        };
+
+        cache.getAsync(request(), key("a"), null, () -> CompletableFuture.completedFuture(first), refreshCall).join();
+        clock.addAndGet(TIME_TO_LIVE.toNanos());
+
+        assertThat(cache.getAsync(request(), key("a"), null, call, refreshCall).join()).isSameAs(first);
+        assertThat(cache.getAsync(request(), key("a"), null, call, refreshCall).join()).isSameAs(first);
+        assertThat(refreshCalls.get()).isEqualTo(1);
+
+        refresh.complete(second);
+
+        assertThat(cache.getAsync(request(), key("a"), null, call, refreshCall).join()).isSameAs(second);
+    }
+
+    @Test
+    public void getAsync_afterStaleWhileRevalidate_makesNewCall() {
+        ResponseCache cache = cache(b -> b.staleWhileRevalidate(Duration.ofMinutes(1)));
+        SdkResponse first = mock(SdkResponse.class);
+        SdkResponse second = mock(SdkResponse.class);
+
+        cache.getAsync(request(), key("a"), null, () -> CompletableFuture.completedFuture(first), CompletableFuture::new)
+             .join();
+        clock.addAndGet(TIME_TO_LIVE.toNanos() + TimeUnit.MINUTES.toNanos(1));
+
+        assertThat(cache.getAsync(request(), key("a"), null, () -> CompletableFuture.completedFuture(second),
+                                  CompletableFuture::new).join())
+            .isSameAs(second);
+    }
+
+    @Test
+    public void get_overMaximumWeight_evicts() {
+        ResponseCache cache = cache(b -> b.maximumWeight(10L));
+
+        for (int i = 0; i < 100; i++) {
+            cache.get(request(), key(Integer.toString(i)), null, new CountingCall());
+        }
+
+        assertThat(cache.size()).isEqualTo(10);
+        assertThat(cache.evictionCount()).isEqualTo(90);
+    }
+
+    @Test
+    public void get_recordsResultAndEvictionsInMetrics() {
+        ResponseCache cache = cache(b -> b.maximumWeight(1L).staleWhileRevalidate(Duration.ofMinutes(1)));
+
+        assertThat(cacheMetrics(collector -> cache.get(request(), key("a"), collector, new CountingCall())))
+            .satisfies(m -> assertThat(m.responseCacheResult()).hasValue(ResponseCacheResult.MISS))
+            .satisfies(m -> assertThat(m.responseCacheEvictionCount()).isZero());
+        assertThat(cacheMetrics(collector -> cache.get(request(), key("a"), collector, new CountingCall())))
+            .satisfies(m -> assertThat(m.responseCacheResult()).hasValue(ResponseCacheResult.HIT));
+
+        clock.addAndGet(TIME_TO_LIVE.toNanos());
+        Supplier<CompletableFuture<SdkResponse>> call = () -> CompletableFuture.completedFuture(mock(SdkResponse.class));
+        cache.getAsync(request(), key("b"), null, call, call);
+        assertThat(cacheMetrics(collector -> cache.getAsync(request(), key("a"), collector, call, call).join()))
+            .satisfies(m -> assertThat(m.responseCacheResult()).hasValue(ResponseCacheResult.MISS))
+            .satisfies(m -> assertThat(m.responseCacheEvictionCount()).isEqualTo(1));
+    }
+
+    @Test
+    public void getAsync_cancellingLoadedResponse_cancelsCall() {
+        ResponseCache cache = cache(b -> b);
+        CompletableFuture<SdkResponse> call = new CompletableFuture<>();
+
+        cache.getAsync(request(), key("a"), null, () -> call, () -> call).cancel(true);
+
+        assertThat(call).isCancelled();
+    }
+
+    @Test
+    public void get_responseHeavierThanMaximumWeight_notCached() {
+        ResponseCache cache = cache(b -> b.maximumWeight(10L).weigher(r -> 11));
+
+        cache.get(request(), key("a"), null, new CountingCall());
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void get_frequentlyUsedResponse_survivesScanOfResponsesUsedOnce() {
+        ResponseCache cache = cache(b -> b.maximumWeight(100L));
+        CountingCall call = new CountingCall();
+
+        for (int i = 0; i < 10; i++) {
+            cache.get(request(), key("popular"), null, call);
+        }
+        for (int i = 0; i < 1000; i++) {
+            cache.get(request(), key(Integer.toString(i)), null, new CountingCall());
+        }
+        cache.get(request(), key("popular"), null, call);
+
+        assertThat(call.calls.get()).isEqualTo(1);
+    }
+
+    private static ApiCallMetrics cacheMetrics(Consumer<ApiCallMetricCollector> call) {
+        AtomicReference<ApiCallMetrics> metrics = new AtomicReference<>();
+        ApiCallMetricCollector collector = ApiCallMetricCollector.create(metrics::set, request());
+        call.accept(collector);
+        collector.publish(true);
+        return metrics.get();
+    }
+
+    private ResponseCache cache(UnaryOperator<ResponseCachePolicy.Builder> policy) {
+        ResponseCachePolicy.Builder builder = ResponseCachePolicy.builder().putTimeToLive(NoopTestRequest.class, TIME_TO_LIVE);
+        return new ResponseCache(policy.apply(builder).build(), clock::get);
+    }
+
+    private static SdkRequest request() {
+        return NoopTestRequest.builder().build();
+    }
+
+    private static RequestKey key(String content) {
+        SdkHttpFullRequest httpRequest = ValidSdkObjects.sdkHttpFullRequest()
+                                                          .encodedPath("/")
+                                                          .contentStreamProvider(() -> new StringInputStream(content))
+                                                          .build();
+        return RequestKey.create(request(), httpRequest);
+    }
+
+    private static final class CountingCall implements Supplier<SdkResponse> {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public SdkResponse get() {
+            calls.incrementAndGet();
+            return mock(SdkResponse.class);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.core.async.DrainingSubscriber;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.http.AmazonAsyncHttpClient;
+import software.amazon.awssdk.core.internal.http.AmazonSyncHttpClient;
+import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.internal.metrics.ApiCallMetricCollector;
+import software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTestUtils;
+import software.amazon.awssdk.core.internal.util.ResponseHandlerTestUtils;
+import software.amazon.awssdk.core.metrics.ApiCallAttemptMetrics;
+import software.amazon.awssdk.core.metrics.ApiCallMetrics;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import utils.HttpTestUtils;
+import utils.ValidSdkObjects;
+
+/**
+ * Verifies that the sync and async request pipelines record the metrics of every attempt, through
+ * {@link ApiCallAttemptMetricCollectionStage} and {@link AsyncApiCallAttemptMetricCollectionStage}.
+ */
+public class ApiCallAttemptMetricCollectionStageTest {
+
+    @Rule
+    public WireMockRule wireMock = new WireMockRule(0);
+
+    private final List<ApiCallMetrics> published = new ArrayList<>();
+
+    @Before
+    public void setup() {
+        stubFor(get(anyUrl()).inScenario("retry")
+                             .whenScenarioStateIs(STARTED)
+                             .willReturn(aResponse().withStatus(500).withBody("{}"))
+                             .willSetStateTo("retried"));
+        stubFor(get(anyUrl()).inScenario("retry")
+                             .whenScenarioStateIs("retried")
+                             .willReturn(aResponse().withStatus(200).withBody("{}")));
+    }
+
+    @Test
+    public void syncRequest_retried_recordsEveryAttempt() throws Exception {
+        AmazonSyncHttpClient httpClient = new AmazonSyncHttpClient(
+            HttpTestUtils.testClientConfiguration().toBuilder()
+                         .option(SdkClientOption.SYNC_HTTP_CLIENT, HttpTestUtils.testSdkHttpClient())
+                         .build());
+        ApiCallMetricCollector metricCollector = ApiCallMetricCollector.create(published::add, NoopTestRequest.builder().build());
+        SdkHttpFullRequest request = request();
+
+        httpClient.requestExecutionBuilder()
+                  .request(request)
+                  .originalRequest(NoopTestRequest.builder().build())
+                  .executionContext(executionContext(request, metricCollector))
+                  .errorResponseHandler((response, executionAttributes) -> serviceException())
+                  .execute(ResponseHandlerTestUtils.noOpResponseHandler());
+        metricCollector.publish(true);
+
+        assertRetriedAttempts();
+    }
+
+    @Test
+    public void asyncRequest_retried_recordsEveryAttempt() throws Exception {
+        AmazonAsyncHttpClient httpClient = new AmazonAsyncHttpClient(
+            HttpTestUtils.testClientConfiguration().toBuilder()
+                         .option(SdkClientOption.ASYNC_HTTP_CLIENT, HttpTestUtils.testSdkAsyncHttpClient())
+                         .build());
+        ApiCallMetricCollector metricCollector = ApiCallMetricCollector.create(published::add, NoopTestRequest.builder().build());
+        SdkHttpFullRequest request = request();
+        PerAttemptResponseHandler<SdkServiceException> errorResponseHandler =
+            new PerAttemptResponseHandler<>(ApiCallAttemptMetricCollectionStageTest::serviceException);
+
+        httpClient.requestExecutionBuilder()
+                  .request(request)
+                  .originalRequest(NoopTestRequest.builder().build())
+                  .executionContext(executionContext(request, metricCollector))
+                  .errorResponseHandler(errorResponseHandler)
+                  .execute(new PerAttemptResponseHandler<>(() -> null))
+                  .get(10, TimeUnit.SECONDS);
+        metricCollector.publish(true);
+
+        assertRetriedAttempts();
+    }
+
+    private void assertRetriedAttempts() {
+        assertThat(published).hasSize(1);
+        ApiCallMetrics metrics = published.get(0);
+        assertThat(metrics.retryCount()).isEqualTo(1);
+
+        ApiCallAttemptMetrics failedAttempt = metrics.attempts().get(0);
+        ApiCallAttemptMetrics attempt = metrics.attempts().get(1);
+        assertThat(failedAttempt.httpStatusCode()).hasValue(500);
+        assertThat(attempt.httpStatusCode()).hasValue(200);
+        assertThat(attempt.signingDuration()).isPresent();
+        assertThat(failedAttempt.attemptDuration().plus(attempt.attemptDuration()))
+            .isLessThanOrEqualTo(metrics.apiCallDuration());
+    }
+
+    private SdkHttpFullRequest request() {
+        return ValidSdkObjects.sdkHttpFullRequest(wireMock.port()).host("localhost").build();
+    }
+
+    private static ExecutionContext executionContext(SdkHttpFullRequest request, ApiCallMetricCollector metricCollector) {
+        ExecutionContext executionContext = ClientExecutionAndRequestTimerTestUtils.executionContext(request);
+        executionContext.executionAttributes()
+                        .putAttribute(SdkInternalExecutionAttribute.API_CALL_METRIC_COLLECTOR, metricCollector);
+        return executionContext;
+    }
+
+    private static SdkServiceException serviceException() {
+        return SdkServiceException.builder().statusCode(500).build();
+    }
+
+    /**
+     * Unlike the handlers in {@link AsyncResponseHandlerTestUtils}, prepares a new result for every attempt, so it can be used
+     * for a request that is retried.
+     */
+    private static final class PerAttemptResponseHandler<T> implements TransformingAsyncResponseHandler<T> {
+        private final Supplier<T> resultSupplier;
+        private volatile CompletableFuture<T> result;
+
+        private PerAttemptResponseHandler(Supplier<T> resultSupplier) {
+            this.resultSupplier = resultSupplier;
+        }
+
+        @Override
+        public CompletableFuture<T> prepare() {
+            result = new CompletableFuture<>();
+            return result;
+        }
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            stream.subscribe(new DrainingSubscriber<ByteBuffer>() {
+                @Override
+                public void onError(Throwable t) {
+                    result.completeExceptionally(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    result.complete(resultSupplier.get());
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            result.completeExceptionally(error);
+        }
+    }
+}
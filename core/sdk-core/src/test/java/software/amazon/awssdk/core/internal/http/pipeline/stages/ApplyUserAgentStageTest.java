@@ -0,0 +1,115 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.internal.util.UserAgentUtils;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import utils.HttpTestUtils;
+import utils.ValidSdkObjects;
+
+public class ApplyUserAgentStageTest {
+
+    private final ApplyUserAgentStage sut = new ApplyUserAgentStage(dependencies("prefix", "suffix"));
+
+    @Test
+    public void requestWithoutApiNames_usesClientUserAgent() throws Exception {
+        SdkHttpFullRequest.Builder mutableRequest = ValidSdkObjects.sdkHttpFullRequest();
+
+        SdkHttpFullRequest output = sut.execute(mutableRequest, requestContext(mutableRequest, NoopTestRequest.builder().build()))
+                                       .build();
+
+        assertThat(output.firstMatchingHeader("User-Agent"))
+            .hasValue("prefix, " + UserAgentUtils.getUserAgent() + ", suffix");
+    }
+
+    @Test
+    public void requestWithApiNames_addsApiNamesBeforeSuffix() throws Exception {
+        SdkRequestOverrideConfiguration overrideConfig =
+            SdkRequestOverrideConfiguration.builder()
+                                           .addApiName(ApiName.builder().name("first").version("1.0").build())
+                                           .addApiName(ApiName.builder().name("second").version("2.0").build())
+                                           .build();
+        SdkRequest request = NoopTestRequest.builder().overrideConfiguration(overrideConfig).build();
+        SdkHttpFullRequest.Builder mutableRequest = ValidSdkObjects.sdkHttpFullRequest();
+
+        SdkHttpFullRequest output = sut.execute(mutableRequest, requestContext(mutableRequest, request)).build();
+
+        assertThat(output.firstMatchingHeader("User-Agent"))
+            .hasValue("prefix, " + UserAgentUtils.getUserAgent() + " first/1.0 second/2.0, suffix");
+    }
+
+    @Test
+    public void stagesOfSameClient_reuseSameUserAgent() throws Exception {
+        // The pipeline, and so each stage, is built again for every request of a client.
+        HttpClientDependencies dependencies = dependencies("prefix", "suffix");
+        SdkHttpFullRequest.Builder first = ValidSdkObjects.sdkHttpFullRequest();
+        SdkHttpFullRequest.Builder second = ValidSdkObjects.sdkHttpFullRequest();
+
+        String firstUserAgent = new ApplyUserAgentStage(dependencies)
+            .execute(first, requestContext(first, NoopTestRequest.builder().build()))
+            .build().firstMatchingHeader("User-Agent").get();
+        String secondUserAgent = new ApplyUserAgentStage(dependencies)
+            .execute(second, requestContext(second, NoopTestRequest.builder().build()))
+            .build().firstMatchingHeader("User-Agent").get();
+
+        assertThat(secondUserAgent).isSameAs(firstUserAgent);
+    }
+
+    @Test
+    public void noPrefixOrSuffix_usesSystemUserAgent() throws Exception {
+        ApplyUserAgentStage stage = new ApplyUserAgentStage(dependencies(null, null));
+        SdkHttpFullRequest.Builder mutableRequest = ValidSdkObjects.sdkHttpFullRequest();
+
+        SdkHttpFullRequest output = stage.execute(mutableRequest, requestContext(mutableRequest,
+                                                                                 NoopTestRequest.builder().build()))
+                                         .build();
+
+        assertThat(output.firstMatchingHeader("User-Agent")).hasValue(", " + UserAgentUtils.getUserAgent());
+    }
+
+    private static HttpClientDependencies dependencies(String prefix, String suffix) {
+        SdkClientConfiguration config = HttpTestUtils.testClientConfiguration().toBuilder()
+                                                     .option(SdkAdvancedClientOption.USER_AGENT_PREFIX, prefix)
+                                                     .option(SdkAdvancedClientOption.USER_AGENT_SUFFIX, suffix)
+                                                     .build();
+        return HttpClientDependencies.builder()
+                                     .clientConfiguration(config)
+                                     .capacityManager(new CapacityManager(-1))
+                                     .build();
+    }
+
+    private RequestExecutionContext requestContext(SdkHttpFullRequest.Builder mutableRequest, SdkRequest request) {
+        ExecutionContext executionContext = ClientExecutionAndRequestTimerTestUtils.executionContext(mutableRequest.build());
+        return RequestExecutionContext.builder()
+                                      .executionContext(executionContext)
+                                      .originalRequest(request)
+                                      .build();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTestUtils.noOpResponseHandler;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.internal.http.AmazonAsyncHttpClient;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.retry.RetrySleeper;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import utils.HttpTestUtils;
+import utils.ValidSdkObjects;
+
+public class AsyncRetryableStageTest {
+
+    @Rule
+    public WireMockRule wireMock = new WireMockRule(0);
+
+    @Test
+    public void retrySleepFails_failsRequest() {
+        IllegalStateException failure = new IllegalStateException("sleep failed");
+        CompletableFuture<Void> failedSleep = new CompletableFuture<>();
+        failedSleep.completeExceptionally(failure);
+
+        assertThatThrownBy(() -> executeRetriedRequest(failedSleep))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(SdkClientException.class)
+            .satisfies(e -> assertThat(e.getCause()).hasCause(failure));
+    }
+
+    @Test
+    public void retrySleepCancelled_failsRequest() {
+        CompletableFuture<Void> cancelledSleep = new CompletableFuture<>();
+        cancelledSleep.cancel(false);
+
+        assertThatThrownBy(() -> executeRetriedRequest(cancelledSleep))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(SdkClientException.class)
+            .satisfies(e -> assertThat(e.getCause()).hasCauseInstanceOf(CancellationException.class));
+    }
+
+    private void executeRetriedRequest(CompletableFuture<Void> sleep) throws Exception {
+        stubFor(get(anyUrl()).willReturn(aResponse().withStatus(500).withBody("{}")));
+
+        AmazonAsyncHttpClient httpClient = new AmazonAsyncHttpClient(
+            HttpTestUtils.testClientConfiguration().toBuilder()
+                         .option(SdkClientOption.ASYNC_HTTP_CLIENT, HttpTestUtils.testSdkAsyncHttpClient())
+                         .option(SdkClientOption.RETRY_SLEEPER, new FixedResultRetrySleeper(sleep))
+                         .build());
+
+        SdkHttpFullRequest request = ValidSdkObjects.sdkHttpFullRequest(wireMock.port())
+                                                    .host("localhost")
+                                                    .contentStreamProvider(() -> new ByteArrayInputStream("test".getBytes()))
+                                                    .build();
+        SdkServiceException serviceException = SdkServiceException.builder().statusCode(500).build();
+
+        httpClient.requestExecutionBuilder()
+                  .request(request)
+                  .originalRequest(NoopTestRequest.builder().build())
+                  .executionContext(ClientExecutionAndRequestTimerTestUtils.executionContext(request))
+                  .errorResponseHandler(noOpResponseHandler(serviceException))
+                  .execute(noOpResponseHandler())
+                  .get(10, TimeUnit.SECONDS);
+    }
+
+    private static final class FixedResultRetrySleeper implements RetrySleeper {
+        private final CompletableFuture<Void> sleep;
+
+        private FixedResultRetrySleeper(CompletableFuture<Void> sleep) {
+            this.sleep = sleep;
+        }
+
+        @Override
+        public void sleep(Duration delay) {
+        }
+
+        @Override
+        public CompletableFuture<Void> sleepAsync(Duration delay, ScheduledExecutorService scheduledExecutor) {
+            return sleep;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.ASYNC_HTTP_CLIENT;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.HEDGING_POLICY;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.internal.Response;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTestUtils;
+import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import utils.ValidSdkObjects;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MakeAsyncHttpRequestStageHedgingTest {
+
+    private static final HedgingPolicy HEDGING_POLICY_100MS = HedgingPolicy.builder().hedgeDelay(Duration.ofMillis(100)).build();
+
+    @Mock
+    private SdkAsyncHttpClient sdkAsyncHttpClient;
+
+    @Mock
+    private ScheduledExecutorService scheduledExecutor;
+
+    @Mock
+    private ScheduledFuture hedgeFuture;
+
+    private final List<AsyncExecuteRequest> attempts = new ArrayList<>();
+
+    private final List<CompletableFuture<Void>> attemptFutures = new ArrayList<>();
+
+    private CapacityManager retryCapacity;
+
+    @Before
+    public void setup() {
+        when(sdkAsyncHttpClient.execute(any())).thenAnswer(invocation -> {
+            CompletableFuture<Void> attemptFuture = new CompletableFuture<>();
+            attempts.add((AsyncExecuteRequest) invocation.getArguments()[0]);
+            attemptFutures.add(attemptFuture);
+            return attemptFuture;
+        });
+        when(scheduledExecutor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenReturn(hedgeFuture);
+        retryCapacity = new CapacityManager(100);
+    }
+
+    @Test
+    public void firstAttemptRespondsBeforeDelay_hedgeIsNotSent() throws Exception {
+        CompletableFuture<Response<String>> result = stage(HEDGING_POLICY_100MS).execute(request(SdkHttpMethod.GET),
+                                                                                        requestContext(noopRequest()));
+
+        respond(attempts.get(0));
+
+        assertThat(result.get(1, TimeUnit.SECONDS).response()).isEqualTo("result");
+        verify(hedgeFuture).cancel(false);
+
+        hedgeTask(100).run();
+        assertThat(attempts).hasSize(1);
+    }
+
+    @Test
+    public void noResponseBeforeDelay_hedgeIsSentAndFirstResponseWins() throws Exception {
+        CompletableFuture<Response<String>> result = stage(HEDGING_POLICY_100MS).execute(request(SdkHttpMethod.GET),
+                                                                                        requestContext(noopRequest()));
+
+        hedgeTask(100).run();
+        assertThat(attempts).hasSize(2);
+        assertThat(retryCapacity.consumedCapacity()).isGreaterThan(0);
+
+        respond(attempts.get(1));
+
+        assertThat(result.get(1, TimeUnit.SECONDS).response()).isEqualTo("result");
+        assertThat(attemptFutures.get(0)).isCompletedExceptionally();
+        assertThat(retryCapacity.consumedCapacity()).isEqualTo(0);
+    }
+
+    @Test
+    public void loserRespondsAfterWinner_isIgnored() throws Exception {
+        CompletableFuture<Response<String>> result = stage(HEDGING_POLICY_100MS).execute(request(SdkHttpMethod.GET),
+                                                                                        requestContext(noopRequest()));
+        hedgeTask(100).run();
+
+        respond(attempts.get(0));
+        respond(attempts.get(1));
+
+        assertThat(result.get(1, TimeUnit.SECONDS).response()).isEqualTo("result");
+        assertThat(attemptFutures.get(1)).isCompletedExceptionally();
+    }
+
+    @Test
+    public void firstAttemptFailsBeforeDelay_requestFailsWithoutHedging() throws Exception {
+        CompletableFuture<Response<String>> result = stage(HEDGING_POLICY_100MS).execute(request(SdkHttpMethod.GET),
+                                                                                        requestContext(noopRequest()));
+
+        attempts.get(0).responseHandler().onError(new IOException("Connection refused"));
+
+        assertThat(result).isCompletedExceptionally();
+        hedgeTask(100).run();
+        assertThat(attempts).hasSize(1);
+    }
+
+    @Test
+    public void oneAttemptFails_otherAttemptCanStillWin() throws Exception {
+        CompletableFuture<Response<String>> result = stage(HEDGING_POLICY_100MS).execute(request(SdkHttpMethod.GET),
+                                                                                        requestContext(noopRequest()));
+        hedgeTask(100).run();
+
+        attempts.get(0).responseHandler().onError(new IOException("Connection reset"));
+        assertThat(result).isNotDone();
+
+        respond(attempts.get(1));
+        assertThat(result.get(1, TimeUnit.SECONDS).response()).isEqualTo("result");
+    }
+
+    @Test
+    public void errorResponseBeforeDelay_completesWithoutHedging() throws Exception {
+        CompletableFuture<Response<String>> result = stage(HEDGING_POLICY_100MS).execute(request(SdkHttpMethod.GET),
+                                                                                        requestContext(noopRequest()));
+
+        respond(attempts.get(0), 503);
+
+        assertThat(result.get(1, TimeUnit.SECONDS).httpResponse().statusCode()).isEqualTo(503);
+        hedgeTask(100).run();
+        assertThat(attempts).hasSize(1);
+    }
+
+    @Test
+    public void oneAttemptReceivesErrorResponse_otherAttemptCanStillWin() throws Exception {
+        CompletableFuture<Response<String>> result = stage(HEDGING_POLICY_100MS).execute(request(SdkHttpMethod.GET),
+                                                                                        requestContext(noopRequest()));
+        hedgeTask(100).run();
+
+        respond(attempts.get(0), 503);
+        assertThat(result).isNotDone();
+
+        respond(attempts.get(1));
+        Response<String> response = result.get(1, TimeUnit.SECONDS);
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.response()).isEqualTo("result");
+        assertThat(retryCapacity.consumedCapacity()).isEqualTo(0);
+    }
+
+    @Test
+    public void allAttemptsReceiveErrorResponses_lastErrorResponseIsDelivered() throws Exception {
+        CompletableFuture<Response<String>> result = stage(HEDGING_POLICY_100MS).execute(request(SdkHttpMethod.GET),
+                                                                                        requestContext(noopRequest()));
+        hedgeTask(100).run();
+
+        respond(attempts.get(0), 503);
+        respond(attempts.get(1), 500);
+
+        Response<String> response = result.get(1, TimeUnit.SECONDS);
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.httpResponse().statusCode()).isEqualTo(500);
+    }
+
+    @Test
+    public void oneAttemptReceivesErrorResponse_otherAttemptFails_requestFailsWithLastError() throws Exception {
+        CompletableFuture<Response<String>> result = stage(HEDGING_POLICY_100MS).execute(request(SdkHttpMethod.GET),
+                                                                                        requestContext(noopRequest()));
+        hedgeTask(100).run();
+
+        respond(attempts.get(0), 503);
+        IOException error = new IOException("Connection reset");
+        attempts.get(1).responseHandler().onError(error);
+
+        assertThat(result).isCompletedExceptionally();
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS)).hasCause(error);
+    }
+
+    @Test
+    public void retryCapacityExhausted_hedgeIsNotSent() throws Exception {
+        retryCapacity = new CapacityManager(0);
+        stage(HEDGING_POLICY_100MS).execute(request(SdkHttpMethod.GET), requestContext(noopRequest()));
+
+        hedgeTask(100).run();
+
+        assertThat(attempts).hasSize(1);
+    }
+
+    @Test
+    public void nonIdempotentRequest_isNotHedged() throws Exception {
+        stage(HEDGING_POLICY_100MS).execute(request(SdkHttpMethod.POST), requestContext(noopRequest()));
+
+        verify(scheduledExecutor, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void idempotentRequestType_isHedged() throws Exception {
+        HedgingPolicy policy = HEDGING_POLICY_100MS.toBuilder().addIdempotentRequestType(NoopTestRequest.class).build();
+        stage(policy).execute(request(SdkHttpMethod.POST), requestContext(noopRequest()));
+
+        hedgeTask(100).run();
+
+        assertThat(attempts).hasSize(2);
+    }
+
+    @Test
+    public void requestHedgingPolicy_overridesClient() throws Exception {
+        SdkRequest request = NoopTestRequest.builder()
+                                            .overrideConfiguration(SdkRequestOverrideConfiguration.builder()
+                                                                                                  .hedgingPolicy(HEDGING_POLICY_100MS)
+                                                                                                  .build())
+                                            .build();
+        stage(null).execute(request(SdkHttpMethod.GET), requestContext(request));
+
+        verify(scheduledExecutor, times(1)).schedule(any(Runnable.class), eq(100L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void noHedgingPolicy_isNotHedged() throws Exception {
+        stage(null).execute(request(SdkHttpMethod.GET), requestContext(noopRequest()));
+
+        verify(scheduledExecutor, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    private Runnable hedgeTask(long delayMillis) {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduledExecutor).schedule(task.capture(), eq(delayMillis), eq(TimeUnit.MILLISECONDS));
+        return task.getValue();
+    }
+
+    private static void respond(AsyncExecuteRequest attempt) {
+        respond(attempt, 200);
+    }
+
+    private static void respond(AsyncExecuteRequest attempt, int statusCode) {
+        attempt.responseHandler().onHeaders(SdkHttpFullResponse.builder().statusCode(statusCode).build());
+        attempt.responseHandler().onStream(emptyPublisher());
+    }
+
+    private static Publisher<ByteBuffer> emptyPublisher() {
+        return subscriber -> subscriber.onSubscribe(new Subscription() {
+            private boolean completed;
+
+            @Override
+            public void request(long n) {
+                if (!completed) {
+                    completed = true;
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+    }
+
+    private MakeAsyncHttpRequestStage<String> stage(HedgingPolicy hedgingPolicy) {
+        SdkClientConfiguration configuration = SdkClientConfiguration.builder()
+                                                                     .option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR,
+                                                                             Runnable::run)
+                                                                     .option(ASYNC_HTTP_CLIENT, sdkAsyncHttpClient)
+                                                                     .option(SCHEDULED_EXECUTOR_SERVICE, scheduledExecutor)
+                                                                     .option(HEDGING_POLICY, hedgingPolicy)
+                                                                     .build();
+
+        HttpClientDependencies dependencies = HttpClientDependencies.builder()
+                                                                    .clientConfiguration(configuration)
+                                                                    .capacityManager(retryCapacity)
+                                                                    .build();
+
+        return new MakeAsyncHttpRequestStage<>(AsyncResponseHandlerTestUtils.noOpResponseHandler("result"),
+                                               AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                               dependencies);
+    }
+
+    private static SdkHttpFullRequest request(SdkHttpMethod method) {
+        return ValidSdkObjects.sdkHttpFullRequest().method(method).build();
+    }
+
+    private static SdkRequest noopRequest() {
+        return NoopTestRequest.builder().build();
+    }
+
+    private static RequestExecutionContext requestContext(SdkRequest request) {
+        ExecutionContext executionContext =
+            ClientExecutionAndRequestTimerTestUtils.executionContext(ValidSdkObjects.sdkHttpFullRequest().build());
+        return RequestExecutionContext.builder()
+                                      .executionContext(executionContext)
+                                      .originalRequest(request)
+                                      .build();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import utils.HttpTestUtils;
+import utils.ValidSdkObjects;
+
+public class MergeCustomHeadersStageTest {
+
+    @Test
+    public void customHeaders_appendedAfterExistingValues() throws Exception {
+        MergeCustomHeadersStage stage = new MergeCustomHeadersStage(dependencies(singletonMap("Foo", singletonList("Client"))));
+        SdkRequest request = NoopTestRequest.builder()
+                                            .overrideConfiguration(SdkRequestOverrideConfiguration.builder()
+                                                                                                  .putHeader("Foo", "Request")
+                                                                                                  .putHeader("Bar", "Request")
+                                                                                                  .build())
+                                            .build();
+        SdkHttpFullRequest.Builder mutableRequest = ValidSdkObjects.sdkHttpFullRequest()
+                                                                   .putHeader("Foo", "Marshalled")
+                                                                   .putHeader("Baz", "Marshalled");
+
+        SdkHttpFullRequest output = stage.execute(mutableRequest, requestContext(mutableRequest, request)).build();
+
+        assertThat(output.headers().get("Foo")).containsExactly("Marshalled", "Client", "Request");
+        assertThat(output.headers().get("Bar")).containsExactly("Request");
+        assertThat(output.headers().get("Baz")).containsExactly("Marshalled");
+    }
+
+    @Test
+    public void noCustomHeaders_requestUnchanged() throws Exception {
+        MergeCustomHeadersStage stage = new MergeCustomHeadersStage(dependencies(Collections.emptyMap()));
+        SdkHttpFullRequest.Builder mutableRequest = ValidSdkObjects.sdkHttpFullRequest().putHeader("Foo", "Marshalled");
+
+        SdkHttpFullRequest output = stage.execute(mutableRequest,
+                                                  requestContext(mutableRequest, NoopTestRequest.builder().build()))
+                                         .build();
+
+        assertThat(output.headers().get("Foo")).containsExactly("Marshalled");
+    }
+
+    private static HttpClientDependencies dependencies(Map<String, List<String>> clientHeaders) {
+        SdkClientConfiguration config = HttpTestUtils.testClientConfiguration().toBuilder()
+                                                     .option(SdkClientOption.ADDITIONAL_HTTP_HEADERS, clientHeaders)
+                                                     .build();
+        return HttpClientDependencies.builder()
+                                     .clientConfiguration(config)
+                                     .capacityManager(new CapacityManager(-1))
+                                     .build();
+    }
+
+    private RequestExecutionContext requestContext(SdkHttpFullRequest.Builder mutableRequest, SdkRequest request) {
+        ExecutionContext executionContext = ClientExecutionAndRequestTimerTestUtils.executionContext(mutableRequest.build());
+        return RequestExecutionContext.builder()
+                                      .executionContext(executionContext)
+                                      .originalRequest(request)
+                                      .build();
+    }
+}
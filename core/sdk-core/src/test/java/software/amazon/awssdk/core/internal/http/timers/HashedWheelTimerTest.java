@@ -0,0 +1,138 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+public class HashedWheelTimerTest {
+
+    private final HashedWheelTimer timer =
+        new HashedWheelTimer(Duration.ofMillis(1), 8, new ThreadFactoryBuilder().threadNamePrefix("test-timer").build());
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @After
+    public void closeTimer() {
+        timer.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void scheduledTask_runsAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        HashedWheelTimer.Timeout timeout = timer.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS, executor);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(timeout.isExpired()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    public void delayLongerThanOneWheelRotation_runsAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        timer.schedule(latch::countDown, 30, TimeUnit.MILLISECONDS, executor);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30));
+    }
+
+    @Test
+    public void cancelledTask_doesNotRun() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        HashedWheelTimer.Timeout cancelled = timer.schedule(runs::incrementAndGet, 20, TimeUnit.MILLISECONDS, executor);
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.isCancelled()).isTrue();
+        timer.schedule(latch::countDown, 40, TimeUnit.MILLISECONDS, executor);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(runs.get()).isZero();
+        assertThat(cancelled.isExpired()).isFalse();
+    }
+
+    @Test
+    public void failingTask_doesNotStopTimer() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        timer.schedule(() -> {
+            throw new RuntimeException("boom");
+        }, 1, TimeUnit.MILLISECONDS, executor);
+        timer.schedule(latch::countDown, 10, TimeUnit.MILLISECONDS, executor);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void expiredTask_runsOnGivenExecutor() throws Exception {
+        CompletableFuture<Thread> taskThread = new CompletableFuture<>();
+        Thread executorThread = executor.submit(Thread::currentThread).get();
+
+        timer.schedule(() -> taskThread.complete(Thread.currentThread()), 1, TimeUnit.MILLISECONDS, executor);
+
+        assertThat(taskThread.get(5, TimeUnit.SECONDS)).isSameAs(executorThread);
+    }
+
+    @Test
+    public void rejectedTask_doesNotStopTimer() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        timer.schedule(() -> { }, 1, TimeUnit.MILLISECONDS, r -> {
+            throw new RejectedExecutionException("rejected");
+        });
+        timer.schedule(latch::countDown, 10, TimeUnit.MILLISECONDS, executor);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void closedTimer_rejectsNewTasks() {
+        timer.schedule(() -> { }, 1, TimeUnit.SECONDS, executor);
+        timer.close();
+
+        assertThatThrownBy(() -> timer.schedule(() -> { }, 1, TimeUnit.SECONDS, executor))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void timeSyncTaskIfNeeded_interruptsThreadAfterTimeout() throws InterruptedException {
+        TimeoutTracker tracker = TimerUtils.timeSyncTaskIfNeeded(timer, executor, 10, Thread.currentThread());
+        try {
+            Thread.sleep(5_000);
+        } catch (InterruptedException expected) {
+            // Expected
+        }
+        assertThat(tracker.hasExecuted()).isTrue();
+    }
+}
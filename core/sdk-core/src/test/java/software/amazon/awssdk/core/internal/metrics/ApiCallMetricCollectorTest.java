@@ -0,0 +1,125 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.metrics.ApiCallAttemptMetrics;
+import software.amazon.awssdk.core.metrics.ApiCallMetrics;
+import software.amazon.awssdk.core.metrics.MetricPublisher;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpMethod;
+
+public class ApiCallMetricCollectorTest {
+
+    private final List<ApiCallMetrics> published = new ArrayList<>();
+
+    private final MetricPublisher publisher = published::add;
+
+    @Test
+    public void create_nullPublisher_returnsNull() {
+        assertThat(ApiCallMetricCollector.create(null, request())).isNull();
+    }
+
+    @Test
+    public void publish_onlyPublishesOnce() {
+        ApiCallMetricCollector collector = ApiCallMetricCollector.create(publisher, request());
+
+        collector.publish(true);
+        collector.publish(false);
+
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0).succeeded()).isTrue();
+    }
+
+    @Test
+    public void publish_includesCallLevelMetrics() {
+        SdkRequest request = request();
+        ApiCallMetricCollector collector = ApiCallMetricCollector.create(publisher, request);
+        collector.recordServiceName("TestService");
+        collector.recordMarshallingDuration(5);
+
+        collector.publish(false);
+
+        ApiCallMetrics metrics = published.get(0);
+        assertThat(metrics.serviceName()).hasValue("TestService");
+        assertThat(metrics.requestType()).isEqualTo(request.getClass());
+        assertThat(metrics.succeeded()).isFalse();
+        assertThat(metrics.marshallingDuration()).hasValue(Duration.ofNanos(5));
+        assertThat(metrics.unmarshallingDuration()).isEmpty();
+        assertThat(metrics.attempts()).isEmpty();
+        assertThat(metrics.retryCount()).isZero();
+    }
+
+    @Test
+    public void publish_includesAttemptMetrics() {
+        ApiCallMetricCollector collector = ApiCallMetricCollector.create(publisher, request());
+
+        ApiCallAttemptMetricCollector failedAttempt = collector.startAttempt();
+        failedAttempt.recordResponse(SdkHttpFullResponse.builder().statusCode(503).build());
+        failedAttempt.end();
+
+        ApiCallAttemptMetricCollector attempt = collector.startAttempt();
+        attempt.recordSigningDuration(10);
+        attempt.recordConnectionAcquireDuration(Duration.ofMillis(2));
+        attempt.recordRequest(SdkHttpFullRequest.builder()
+                                                .protocol("https")
+                                                .host("localhost")
+                                                .method(SdkHttpMethod.PUT)
+                                                .putHeader("Content-Length", "42")
+                                                .build());
+        attempt.recordResponse(SdkHttpFullResponse.builder()
+                                                  .statusCode(200)
+                                                  .putHeader("Content-Length", "7")
+                                                  .build());
+        attempt.end();
+
+        collector.publish(true);
+
+        ApiCallMetrics metrics = published.get(0);
+        assertThat(metrics.retryCount()).isEqualTo(1);
+        assertThat(metrics.attempts().get(0).httpStatusCode()).hasValue(503);
+        assertThat(metrics.attempts().get(0).bytesReceived()).isEmpty();
+
+        ApiCallAttemptMetrics attemptMetrics = metrics.attempts().get(1);
+        assertThat(attemptMetrics.signingDuration()).hasValue(Duration.ofNanos(10));
+        assertThat(attemptMetrics.connectionAcquireDuration()).hasValue(Duration.ofMillis(2));
+        assertThat(attemptMetrics.httpStatusCode()).hasValue(200);
+        assertThat(attemptMetrics.bytesSent()).hasValue(42L);
+        assertThat(attemptMetrics.bytesReceived()).hasValue(7L);
+        assertThat(attemptMetrics.attemptDuration()).isLessThanOrEqualTo(metrics.apiCallDuration());
+    }
+
+    @Test
+    public void publish_publisherFails_exceptionIsNotPropagated() {
+        ApiCallMetricCollector collector = ApiCallMetricCollector.create(m -> {
+            throw new IllegalStateException("Expected");
+        }, request());
+
+        collector.publish(true);
+    }
+
+    private static SdkRequest request() {
+        return NoopTestRequest.builder().build();
+    }
+}
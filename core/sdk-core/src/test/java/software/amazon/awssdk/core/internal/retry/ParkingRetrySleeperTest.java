@@ -0,0 +1,52 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import software.amazon.awssdk.core.retry.RetrySleeper;
+
+public class ParkingRetrySleeperTest {
+
+    private final RetrySleeper sleeper = ParkingRetrySleeper.create();
+
+    @After
+    public void clearInterrupt() {
+        Thread.interrupted();
+    }
+
+    @Test
+    public void sleep_waitsAtLeastTheRequestedDelay() throws InterruptedException {
+        long start = System.nanoTime();
+        sleeper.sleep(Duration.ofMillis(50));
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void sleep_zeroDelay_returnsImmediately() throws InterruptedException {
+        sleeper.sleep(Duration.ZERO);
+    }
+
+    @Test(expected = InterruptedException.class)
+    public void sleep_interrupted_throwsInterruptedException() throws InterruptedException {
+        Thread.currentThread().interrupt();
+        sleeper.sleep(Duration.ofSeconds(10));
+    }
+}
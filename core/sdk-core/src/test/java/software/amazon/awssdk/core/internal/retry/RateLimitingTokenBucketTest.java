@@ -0,0 +1,91 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public class RateLimitingTokenBucketTest {
+
+    private final AtomicLong nanoTime = new AtomicLong(TimeUnit.SECONDS.toNanos(1000));
+
+    private final RateLimitingTokenBucket bucket = new RateLimitingTokenBucket(nanoTime::get);
+
+    @Test
+    public void acquire_beforeAnyThrottling_doesNotLimit() {
+        for (int i = 0; i < 1000; i++) {
+            assertThat(bucket.acquire()).isEqualTo(Duration.ZERO);
+            bucket.updateClientSendingRate(false);
+        }
+        assertThat(bucket.isEnabled()).isFalse();
+    }
+
+    @Test
+    public void throttling_enablesBucketAndReducesRate() {
+        sendAtRate(100, 10, false);
+
+        bucket.updateClientSendingRate(true);
+        double throttledRate = bucket.fillRate();
+
+        assertThat(bucket.isEnabled()).isTrue();
+        assertThat(throttledRate).isGreaterThan(0).isLessThan(100);
+
+        bucket.updateClientSendingRate(true);
+        assertThat(bucket.fillRate()).isLessThan(throttledRate);
+    }
+
+    @Test
+    public void success_afterThrottling_growsRateBack() {
+        sendAtRate(100, 10, false);
+        bucket.updateClientSendingRate(true);
+        double throttledRate = bucket.fillRate();
+
+        sendAtRate(100, 10, false);
+
+        assertThat(bucket.fillRate()).isGreaterThan(throttledRate);
+    }
+
+    @Test
+    public void acquire_whenBucketIsEmpty_returnsDelayProportionalToFillRate() {
+        sendAtRate(10, 10, false);
+        bucket.updateClientSendingRate(true);
+
+        Duration firstDelay = Duration.ZERO;
+        Duration lastDelay = Duration.ZERO;
+        for (int i = 0; i < 20; i++) {
+            lastDelay = bucket.acquire();
+            if (i == 0) {
+                firstDelay = lastDelay;
+            }
+        }
+
+        assertThat(lastDelay).isGreaterThan(firstDelay);
+        assertThat(lastDelay).isGreaterThan(Duration.ZERO);
+    }
+
+    private void sendAtRate(int requestsPerSecond, int seconds, boolean throttled) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        for (int i = 0; i < requestsPerSecond * seconds; i++) {
+            nanoTime.addAndGet(interval);
+            bucket.acquire();
+            bucket.updateClientSendingRate(throttled);
+        }
+    }
+}
@@ -15,6 +15,13 @@
 
 package software.amazon.awssdk.core.internal.util;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -69,4 +76,43 @@ public class CapacityManagerTest {
         Assert.assertEquals(mgr.consumedCapacity(), 0);
     }
 
+    /**
+     * Tests that concurrent acquires never hand out more capacity than is available, and that all of it is returned once
+     * every consumer releases what it acquired.
+     */
+    @Test
+    public void concurrentAcquireAndRelease() throws Exception {
+        CapacityManager mgr = new CapacityManager(100);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<Integer>> minimumCapacities = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 16; i++) {
+                minimumCapacities.add(executor.submit(() -> {
+                    start.await();
+                    int minimumCapacity = Integer.MAX_VALUE;
+                    for (int j = 0; j < 10_000; j++) {
+                        if (mgr.acquire(5)) {
+                            minimumCapacity = Math.min(minimumCapacity, mgr.availableCapacity());
+                            mgr.release(5);
+                        }
+                    }
+                    return minimumCapacity;
+                }));
+            }
+
+            start.countDown();
+            // Failures in the workers are rethrown here, on the test thread, rather than lost in the worker threads
+            for (Future<Integer> minimumCapacity : minimumCapacities) {
+                Assert.assertTrue(minimumCapacity.get(30, TimeUnit.SECONDS) >= 0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(100, mgr.availableCapacity());
+        Assert.assertEquals(0, mgr.consumedCapacity());
+    }
+
 }
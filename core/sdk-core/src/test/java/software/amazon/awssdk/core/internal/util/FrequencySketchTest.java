@@ -0,0 +1,61 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class FrequencySketchTest {
+
+    @Test
+    public void frequency_unseenItem_isZero() {
+        assertThat(new FrequencySketch(100).frequency("item")).isZero();
+    }
+
+    @Test
+    public void increment_increasesFrequency() {
+        FrequencySketch sketch = new FrequencySketch(100);
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("item");
+        }
+
+        assertThat(sketch.frequency("item")).isEqualTo(5);
+        assertThat(sketch.frequency("other item")).isZero();
+    }
+
+    @Test
+    public void increment_frequencyCappedAtFifteen() {
+        FrequencySketch sketch = new FrequencySketch(100);
+        for (int i = 0; i < 20; i++) {
+            sketch.increment("item");
+        }
+
+        assertThat(sketch.frequency("item")).isEqualTo(15);
+    }
+
+    @Test
+    public void increment_afterSampleSize_halvesFrequencies() {
+        FrequencySketch sketch = new FrequencySketch(1);
+        for (int i = 0; i < 8; i++) {
+            sketch.increment("item");
+        }
+        sketch.increment("other item");
+        sketch.increment("another item");
+
+        assertThat(sketch.frequency("item")).isLessThan(8);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.Test;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+
+public class HedgingPolicyTest {
+
+    @Test
+    public void hedgeDelayNotProvided_throwsException() {
+        assertThatThrownBy(() -> HedgingPolicy.builder().build()).isInstanceOf(IllegalArgumentException.class)
+                                                                 .hasMessageContaining("hedgeDelay");
+    }
+
+    @Test
+    public void hedgeDelayNotPositive_throwsException() {
+        assertThatThrownBy(() -> HedgingPolicy.builder().hedgeDelay(Duration.ZERO).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("hedgeDelay");
+    }
+
+    @Test
+    public void toBuilder_roundTripsAllFields() {
+        HedgingPolicy policy = HedgingPolicy.builder()
+                                            .hedgeDelay(Duration.ofMillis(50))
+                                            .addIdempotentRequestType(NoopTestRequest.class)
+                                            .build();
+
+        HedgingPolicy copy = policy.toBuilder().build();
+
+        assertThat(copy).isEqualTo(policy);
+        assertThat(copy.hashCode()).isEqualTo(policy.hashCode());
+        assertThat(copy.idempotentRequestTypes()).containsExactly(NoopTestRequest.class);
+    }
+}
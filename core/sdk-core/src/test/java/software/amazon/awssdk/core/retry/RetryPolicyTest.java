@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.retry;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
 
 import org.junit.Test;
@@ -80,4 +81,23 @@ public class RetryPolicyTest {
         assertThat(noneRetry.backoffStrategy()).isEqualTo(BackoffStrategy.none());
         assertThat(noneRetry.throttlingBackoffStrategy()).isEqualTo(BackoffStrategy.none());
     }
+
+    @Test
+    public void retryMode_defaultsToDefaultMode() {
+        assertThat(RetryPolicy.builder().build().retryMode()).isEqualTo(RetryMode.DEFAULT);
+    }
+
+    @Test
+    public void retryMode_preservedByToBuilder() {
+        RetryPolicy policy = RetryPolicy.builder().retryMode(RetryMode.ADAPTIVE).build();
+
+        assertThat(policy.toBuilder().build().retryMode()).isEqualTo(RetryMode.ADAPTIVE);
+        assertThat(policy).isNotEqualTo(RetryPolicy.defaultRetryPolicy());
+    }
+
+    @Test
+    public void nullRetryMode_rejected() {
+        assertThatThrownBy(() -> RetryPolicy.builder().retryMode(null).build()).isInstanceOf(NullPointerException.class)
+                                                                               .hasMessageContaining("retryMode");
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package utils.retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.core.retry.RetrySleeper;
+
+/**
+ * Sleeper used in tests that records the requested delays instead of waiting for them, so that retries happen
+ * immediately regardless of the backoff strategy.
+ */
+public final class RecordingRetrySleeper implements RetrySleeper {
+
+    private final List<Duration> delays = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void sleep(Duration delay) {
+        delays.add(delay);
+    }
+
+    @Override
+    public CompletableFuture<Void> sleepAsync(Duration delay, ScheduledExecutorService scheduledExecutor) {
+        delays.add(delay);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public List<Duration> delays() {
+        return delays;
+    }
+}
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.http;
 
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 
 /**
@@ -27,10 +28,12 @@ public final class ExecuteRequest {
 
     private final SdkHttpFullRequest request;
     private final boolean isFullDuplex;
+    private final HttpMetricCollector metricCollector;
 
     private ExecuteRequest(BuilderImpl builder) {
         this.request = builder.request;
         this.isFullDuplex = builder.isFullDuplex;
+        this.metricCollector = builder.metricCollector;
     }
 
     /**
@@ -44,6 +47,13 @@ public final class ExecuteRequest {
         return isFullDuplex;
     }
 
+    /**
+     * @return The collector for metrics that only the HTTP client can measure, if metrics are collected for the request.
+     */
+    public Optional<HttpMetricCollector> metricCollector() {
+        return Optional.ofNullable(metricCollector);
+    }
+
     public static Builder builder() {
         return new BuilderImpl();
     }
@@ -68,12 +78,22 @@ public final class ExecuteRequest {
          */
         Builder fullDuplex(boolean fullDuplex);
 
+        /**
+         * Set the collector for metrics that only the HTTP client can measure, like the time it took to acquire a connection.
+         * This is null if metrics are not collected for the request.
+         *
+         * @param metricCollector The metric collector.
+         * @return This builder for method chaining.
+         */
+        Builder metricCollector(HttpMetricCollector metricCollector);
+
         ExecuteRequest build();
     }
 
     private static class BuilderImpl implements Builder {
         private SdkHttpFullRequest request;
         private boolean isFullDuplex;
+        private HttpMetricCollector metricCollector;
 
         @Override
         public Builder request(SdkHttpFullRequest request) {
@@ -87,6 +107,12 @@ public final class ExecuteRequest {
             return this;
         }
 
+        @Override
+        public Builder metricCollector(HttpMetricCollector metricCollector) {
+            this.metricCollector = metricCollector;
+            return this;
+        }
+
         @Override
         public ExecuteRequest build() {
             return new ExecuteRequest(this);
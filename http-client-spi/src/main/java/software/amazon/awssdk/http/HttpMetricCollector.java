@@ -0,0 +1,38 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Receives metrics about the execution of a single HTTP request that only the HTTP client can measure. HTTP clients that
+ * support a metric call the matching method when it is known. Metrics an HTTP client doesn't support are not reported.
+ *
+ * @see ExecuteRequest#metricCollector()
+ * @see software.amazon.awssdk.http.async.AsyncExecuteRequest#metricCollector()
+ */
+@ThreadSafe
+@SdkPublicApi
+public interface HttpMetricCollector {
+
+    /**
+     * Record how long it took to acquire a connection for the request, either from the connection pool or by opening a new
+     * connection.
+     */
+    void recordConnectionAcquireDuration(Duration duration);
+}
@@ -15,7 +15,9 @@
 
 package software.amazon.awssdk.http.async;
 
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.http.HttpMetricCollector;
 import software.amazon.awssdk.http.SdkHttpRequest;
 
 /**
@@ -29,12 +31,14 @@ public final class AsyncExecuteRequest {
     private final SdkHttpContentPublisher requestContentPublisher;
     private final SdkAsyncHttpResponseHandler responseHandler;
     private final boolean isFullDuplex;
+    private final HttpMetricCollector metricCollector;
 
     private AsyncExecuteRequest(BuilderImpl builder) {
         this.request = builder.request;
         this.requestContentPublisher = builder.requestContentPublisher;
         this.responseHandler = builder.responseHandler;
         this.isFullDuplex = builder.isFullDuplex;
+        this.metricCollector = builder.metricCollector;
     }
 
     /**
@@ -65,6 +69,13 @@ public final class AsyncExecuteRequest {
         return isFullDuplex;
     }
 
+    /**
+     * @return The collector for metrics that only the HTTP client can measure, if metrics are collected for the request.
+     */
+    public Optional<HttpMetricCollector> metricCollector() {
+        return Optional.ofNullable(metricCollector);
+    }
+
     public static Builder builder() {
         return new BuilderImpl();
     }
@@ -105,6 +116,15 @@ public final class AsyncExecuteRequest {
          */
         Builder fullDuplex(boolean fullDuplex);
 
+        /**
+         * Set the collector for metrics that only the HTTP client can measure, like the time it took to acquire a connection.
+         * This is null if metrics are not collected for the request.
+         *
+         * @param metricCollector The metric collector.
+         * @return This builder for method chaining.
+         */
+        Builder metricCollector(HttpMetricCollector metricCollector);
+
         AsyncExecuteRequest build();
     }
 
@@ -113,6 +133,7 @@ public final class AsyncExecuteRequest {
         private SdkHttpContentPublisher requestContentPublisher;
         private SdkAsyncHttpResponseHandler responseHandler;
         private boolean isFullDuplex;
+        private HttpMetricCollector metricCollector;
 
         @Override
         public Builder request(SdkHttpRequest request) {
@@ -138,6 +159,12 @@ public final class AsyncExecuteRequest {
             return this;
         }
 
+        @Override
+        public Builder metricCollector(HttpMetricCollector metricCollector) {
+            this.metricCollector = metricCollector;
+            return this;
+        }
+
         @Override
         public AsyncExecuteRequest build() {
             return new AsyncExecuteRequest(this);
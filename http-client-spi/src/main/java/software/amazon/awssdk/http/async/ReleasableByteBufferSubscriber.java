@@ -0,0 +1,42 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import java.nio.ByteBuffer;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * A {@link Subscriber} of a response body that can consume buffers lent by the HTTP client, instead of copies of them.
+ *
+ * <p>An HTTP client that supports it may call {@link #onNext(ByteBuffer, Runnable)} instead of {@link #onNext(Object)} with a
+ * read-only view of a buffer that it owns, typically pooled direct memory. The view is only valid until the subscriber runs
+ * the release callback, which it must do exactly once for every such buffer when it no longer reads it, including after
+ * the subscription was cancelled or the stream terminated. The callback may be run from any thread.
+ *
+ * <p>HTTP clients that don't support it keep calling {@link #onNext(Object)} with buffers that the subscriber owns.
+ */
+@SdkProtectedApi
+public interface ReleasableByteBufferSubscriber extends Subscriber<ByteBuffer> {
+
+    /**
+     * Called with a buffer lent by the HTTP client, in place of {@link #onNext(Object)}.
+     *
+     * @param byteBuffer A read-only view of the next part of the response body.
+     * @param release Releases the buffer back to the HTTP client. Must be run once the subscriber is done reading the buffer.
+     */
+    void onNext(ByteBuffer byteBuffer, Runnable release);
+}
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.async;
 
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.Optional;
 import org.reactivestreams.Publisher;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -31,4 +32,14 @@ public interface SdkHttpContentPublisher extends Publisher<ByteBuffer> {
      */
     Optional<Long> contentLength();
 
+    /**
+     * The file whose whole content this publisher produces, if any. HTTP clients may send the file with a more efficient
+     * mechanism, e.g. by having the operating system copy it to the socket, instead of subscribing to this publisher.
+     *
+     * @return The file whose content is produced, or empty if the content isn't exactly that of a file.
+     */
+    default Optional<Path> contentFile() {
+        return Optional.empty();
+    }
+
 }
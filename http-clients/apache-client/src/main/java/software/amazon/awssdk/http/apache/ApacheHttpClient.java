@@ -64,6 +64,7 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.http.AbortableCallable;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.ExecuteRequest;
+import software.amazon.awssdk.http.HttpMetricCollector;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -71,6 +72,7 @@ import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
 import software.amazon.awssdk.http.apache.internal.DefaultConfiguration;
 import software.amazon.awssdk.http.apache.internal.SdkProxyRoutePlanner;
 import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerFactory;
+import software.amazon.awssdk.http.apache.internal.conn.CurrentMetricCollector;
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
@@ -181,10 +183,11 @@ public final class ApacheHttpClient implements SdkHttpClient {
     @Override
     public AbortableCallable<SdkHttpFullResponse> prepareRequest(ExecuteRequest request) {
         HttpRequestBase apacheRequest = toApacheRequest(request);
+        HttpMetricCollector metricCollector = request.metricCollector().orElse(null);
         return new AbortableCallable<SdkHttpFullResponse>() {
             @Override
             public SdkHttpFullResponse call() throws Exception {
-                return execute(apacheRequest);
+                return execute(apacheRequest, metricCollector);
             }
 
             @Override
@@ -201,10 +204,21 @@ public final class ApacheHttpClient implements SdkHttpClient {
         cm.shutdown();
     }
 
-    private SdkHttpFullResponse execute(HttpRequestBase apacheRequest) throws IOException {
+    private SdkHttpFullResponse execute(HttpRequestBase apacheRequest, HttpMetricCollector metricCollector)
+            throws IOException {
         HttpClientContext localRequestContext = ApacheUtils.newClientContext(requestConfig.proxyConfiguration());
-        HttpResponse httpResponse = httpClient.execute(apacheRequest, localRequestContext);
-        return createResponse(httpResponse, apacheRequest);
+        if (metricCollector == null) {
+            HttpResponse httpResponse = httpClient.execute(apacheRequest, localRequestContext);
+            return createResponse(httpResponse, apacheRequest);
+        }
+
+        CurrentMetricCollector.set(metricCollector);
+        try {
+            HttpResponse httpResponse = httpClient.execute(apacheRequest, localRequestContext);
+            return createResponse(httpResponse, apacheRequest);
+        } finally {
+            CurrentMetricCollector.clear();
+        }
     }
 
     private HttpRequestBase toApacheRequest(ExecuteRequest request) {
@@ -20,10 +20,12 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
 import org.apache.http.conn.ConnectionRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetricCollector;
 
 @SdkInternalApi
 final class ClientConnectionRequestFactory {
@@ -69,17 +71,15 @@ final class ClientConnectionRequestFactory {
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
             try {
-                // TODO v2 service metrics
-                //                if ("get".equals(method.getName())) {
-                //                    ServiceLatencyProvider latencyProvider = new ServiceLatencyProvider(
-                //                            AWSServiceMetrics.HttpClientGetConnectionTime);
-                //                    try {
-                //                        return method.invoke(orig, args);
-                //                    } finally {
-                //                        AwsSdkMetrics.getServiceMetricCollector()
-                //                                .collectLatency(latencyProvider.endTiming());
-                //                    }
-                //                }
+                HttpMetricCollector metricCollector = CurrentMetricCollector.get();
+                if (metricCollector != null && "get".equals(method.getName())) {
+                    long start = System.nanoTime();
+                    try {
+                        return method.invoke(orig, args);
+                    } finally {
+                        metricCollector.recordConnectionAcquireDuration(Duration.ofNanos(System.nanoTime() - start));
+                    }
+                }
                 return method.invoke(orig, args);
             } catch (InvocationTargetException e) {
                 log.debug("", e);
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetricCollector;
+
+/**
+ * Holds the {@link HttpMetricCollector} of the request being executed by the current thread, so that the connection
+ * manager proxies, which have no access to the request, can report the time spent acquiring a connection.
+ */
+@SdkInternalApi
+public final class CurrentMetricCollector {
+    private static final ThreadLocal<HttpMetricCollector> COLLECTOR = new ThreadLocal<>();
+
+    private CurrentMetricCollector() {
+    }
+
+    public static void set(HttpMetricCollector collector) {
+        COLLECTOR.set(collector);
+    }
+
+    public static void clear() {
+        COLLECTOR.remove();
+    }
+
+    static HttpMetricCollector get() {
+        return COLLECTOR.get();
+    }
+}
@@ -16,7 +16,9 @@
 package software.amazon.awssdk.http.nio.netty;
 
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.CONNECTION_TIMEOUT;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.MAX_CONNECTIONS;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.MAX_PENDING_CONNECTION_ACQUIRES;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.READ_TIMEOUT;
@@ -26,11 +28,14 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.pool.ChannelHealthChecker;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.channel.pool.ChannelPoolMap;
 import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.ssl.OpenSsl;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
 import io.netty.handler.ssl.SupportedCipherSuiteFilter;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import java.net.URI;
@@ -46,7 +51,10 @@ import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.internal.ChannelPipelineInitializer;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelPrewarmer;
+import software.amazon.awssdk.http.nio.netty.internal.ConnectionReaper;
 import software.amazon.awssdk.http.nio.netty.internal.HandlerRemovingChannelPool;
+import software.amazon.awssdk.http.nio.netty.internal.MinIdleConnectionsChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.NettyRequestExecutor;
 import software.amazon.awssdk.http.nio.netty.internal.NonManagedEventLoopGroup;
@@ -59,6 +67,7 @@ import software.amazon.awssdk.http.nio.netty.internal.http2.HttpOrHttp2ChannelPo
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
  * An implementation of {@link SdkAsyncHttpClient} that uses a Netty non-blocking HTTP client to communicate with the service.
@@ -72,12 +81,22 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private final SdkChannelOptions sdkChannelOptions;
     private final NettyConfiguration configuration;
     private final long maxStreams;
+    private final boolean zeroCopyResponseBody;
+    private final SslProvider sslProvider;
+    private final SslContext sslContext;
+    private final int minIdleConnections;
+    private final boolean healthCheckOnAcquire;
     private Protocol protocol;
 
     NettyNioAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaultsMap) {
         this.configuration = new NettyConfiguration(serviceDefaultsMap);
         this.protocol = serviceDefaultsMap.get(SdkHttpConfigurationOption.PROTOCOL);
         this.maxStreams = builder.maxHttp2Streams == null ? Integer.MAX_VALUE : builder.maxHttp2Streams;
+        this.zeroCopyResponseBody = Boolean.TRUE.equals(builder.zeroCopyResponseBody);
+        this.sslProvider = resolveSslProvider(builder);
+        this.sslContext = sslContext();
+        this.minIdleConnections = resolveMinIdleConnections(builder);
+        this.healthCheckOnAcquire = Boolean.TRUE.equals(builder.healthCheckOnAcquire);
         this.sdkEventLoopGroup = eventLoopGroup(builder);
         this.pools = createChannelPoolMap();
         this.sdkChannelOptions = channelOptions(builder);
@@ -93,13 +112,33 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return new NettyRequestExecutor(ctx).execute();
     }
 
+    /**
+     * Opens connections to an endpoint ahead of traffic, so that the first requests to it don't stall on new connections and
+     * TLS handshakes. Connections that are already open and idle count towards the requested number.
+     *
+     * <p>For HTTP/2, requests are multiplexed over as few connections as the server allows, so fewer connections may be opened
+     * than requested.
+     *
+     * @param endpoint The endpoint to connect to, e.g. {@code https://dynamodb.us-west-2.amazonaws.com}. Only the scheme, host
+     * and port are used.
+     * @param connections The number of connections to have ready. Capped at the maximum number of connections per endpoint.
+     * @return A future that completes when the connections are ready, exceptionally if any of them couldn't be opened.
+     */
+    public CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+        Validate.paramNotNull(endpoint, "endpoint");
+        Validate.isNotNegative(connections, "connections");
+        int port = endpoint.getPort() == -1 ? SdkHttpUtils.standardPort(endpoint.getScheme()) : endpoint.getPort();
+        URI key = invokeSafely(() -> new URI(endpoint.getScheme(), null, endpoint.getHost(), port, null, null, null));
+        return ChannelPrewarmer.prewarm(pools.get(key), Math.min(connections, configuration.maxConnections()));
+    }
+
     public static Builder builder() {
         return new DefaultBuilder();
     }
 
     private RequestContext createRequestContext(AsyncExecuteRequest request) {
         ChannelPool pool = pools.get(poolKey(request.request()));
-        return new RequestContext(pool, request, configuration);
+        return new RequestContext(pool, request, configuration, zeroCopyResponseBody);
     }
 
     private SdkEventLoopGroup eventLoopGroup(DefaultBuilder builder) {
@@ -110,18 +149,37 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                 .orElseGet(SharedSdkEventLoopGroup::get);
     }
 
+    private static SslProvider resolveSslProvider(DefaultBuilder builder) {
+        if (builder.sslProvider == null) {
+            return SslContext.defaultClientProvider();
+        }
+        Validate.isTrue(builder.sslProvider == SslProvider.JDK || OpenSsl.isAvailable(),
+                        "The %s SSL provider was requested but OpenSSL is not available. Add netty-tcnative to the classpath.",
+                        builder.sslProvider);
+        return builder.sslProvider;
+    }
+
+    private int resolveMinIdleConnections(DefaultBuilder builder) {
+        if (builder.minIdleConnections == null) {
+            return 0;
+        }
+        Validate.isNotNegative(builder.minIdleConnections, "minIdleConnections");
+        return Math.min(builder.minIdleConnections, configuration.maxConnections());
+    }
+
     private static URI poolKey(SdkHttpRequest sdkRequest) {
         return invokeSafely(() -> new URI(sdkRequest.protocol(), null, sdkRequest.host(),
                                           sdkRequest.port(), null, null, null));
     }
 
-    private SslContext sslContext(String protocol) {
-        if (!protocol.equalsIgnoreCase("https")) {
-            return null;
-        }
+    /**
+     * One context is shared by the pools of all endpoints, so they share its TLS session cache and a connection to any
+     * endpoint that has been connected to before can resume its session instead of doing a full handshake.
+     */
+    private SslContext sslContext() {
         try {
             return SslContextBuilder.forClient()
-                                    .sslProvider(SslContext.defaultClientProvider())
+                                    .sslProvider(sslProvider)
                                     .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
                                     .trustManager(getTrustManager())
                                     .build();
@@ -138,7 +196,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return new SdkChannelPoolMap<URI, ChannelPool>() {
             @Override
             protected ChannelPool newPool(URI key) {
-                SslContext sslContext = sslContext(key.getScheme());
+                SslContext poolSslContext = key.getScheme().equalsIgnoreCase("https") ? sslContext : null;
                 Bootstrap bootstrap =
                     new Bootstrap()
                         .group(sdkEventLoopGroup.eventLoopGroup())
@@ -148,12 +206,27 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                         .remoteAddress(key.getHost(), key.getPort());
                 sdkChannelOptions.channelOptions().forEach(bootstrap::option);
                 AtomicReference<ChannelPool> channelPoolRef = new AtomicReference<>();
-                ChannelPipelineInitializer handler =
-                    new ChannelPipelineInitializer(protocol, sslContext, maxStreams, channelPoolRef);
+                ChannelPipelineInitializer pipelineInitializer =
+                    new ChannelPipelineInitializer(protocol, poolSslContext, key.getHost(), key.getPort(), maxStreams,
+                                                   channelPoolRef);
+                ConnectionReaper handler = new ConnectionReaper(pipelineInitializer,
+                                                                sdkEventLoopGroup.eventLoopGroup().next(),
+                                                                configuration.connectionMaxIdleTimeMillis(),
+                                                                configuration.connectionTimeToLiveMillis(),
+                                                                protocol == Protocol.HTTP1_1 ? minIdleConnections : 0);
+                ChannelHealthChecker healthChecker = healthCheckOnAcquire ? handler.healthChecker()
+                                                                          : ChannelHealthChecker.ACTIVE;
                 channelPoolRef.set(new ReleaseOnceChannelPool(
                     new HandlerRemovingChannelPool(
-                        new HttpOrHttp2ChannelPool(bootstrap, handler,
+                        new HttpOrHttp2ChannelPool(bootstrap, handler, healthChecker,
                                                    configuration.maxConnections(), configuration))));
+                if (minIdleConnections > 0 && protocol == Protocol.HTTP1_1) {
+                    MinIdleConnectionsChannelPool minIdlePool =
+                        new MinIdleConnectionsChannelPool(channelPoolRef.get(), minIdleConnections,
+                                                          sdkEventLoopGroup.eventLoopGroup().next());
+                    minIdlePool.replenish();
+                    return minIdlePool;
+                }
                 return channelPoolRef.get();
             }
         };
@@ -175,6 +248,18 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
      */
     public interface Builder extends SdkAsyncHttpClient.Builder<NettyNioAsyncHttpClient.Builder> {
 
+        /**
+         * Create a {@link NettyNioAsyncHttpClient} without defaults applied. The client is returned as its own type, so that
+         * methods that are specific to it, like {@link NettyNioAsyncHttpClient#prewarm(URI, int)}, can be called without a cast.
+         */
+        @Override
+        default NettyNioAsyncHttpClient build() {
+            return buildWithDefaults(AttributeMap.empty());
+        }
+
+        @Override
+        NettyNioAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults);
+
         /**
          * Maximum number of allowed concurrent requests. For HTTP/1.1 this is the same as max connections. For HTTP/2
          * the number of connections that will be used depends on the max streams allowed per connection.
@@ -297,6 +382,83 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * @return This builder for method chaining.
          */
         Builder maxHttp2Streams(Integer maxHttp2Streams);
+
+        /**
+         * Sets whether the response body is handed to subscribers that support it without being copied. Disabled by default.
+         *
+         * <p>When enabled, each part of the response body is handed to a
+         * {@link software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber} as a read-only view of the pooled Netty
+         * buffer it was read into, which the subscriber releases once it has consumed it, instead of being copied into a new
+         * heap buffer. This saves a copy and a heap buffer per read on large downloads, e.g. to a file with
+         * {@code AsyncResponseTransformer.toFile}. Other subscribers still receive copies.
+         *
+         * @param zeroCopyResponseBody Whether to lend the response body buffers to subscribers that release them.
+         * @return This builder for method chaining.
+         */
+        Builder zeroCopyResponseBody(Boolean zeroCopyResponseBody);
+
+        /**
+         * Sets the {@link SslProvider} used for TLS connections. If not set, Netty's default client provider is used, which is
+         * OpenSSL when netty-tcnative is on the classpath and the JDK otherwise.
+         *
+         * <p>{@link SslProvider#OPENSSL} performs the handshake and record encryption natively, which costs noticeably less CPU
+         * than the JDK provider on busy clients. It requires a netty-tcnative artifact (e.g.
+         * {@code netty-tcnative-boringssl-static}) matching the Netty version on the classpath; building the client fails if
+         * OpenSSL is requested but can't be loaded.
+         *
+         * @param sslProvider The SSL provider to use.
+         * @return This builder for method chaining.
+         */
+        Builder sslProvider(SslProvider sslProvider);
+
+        /**
+         * Sets the minimum number of connections kept open to each endpoint, ready to be used without a new connection or TLS
+         * handshake. Disabled by default. This setting is only respected when the HTTP/1.1 protocol is used.
+         *
+         * <p>The connections are opened when the first request to an endpoint is made, and are replaced when they are closed,
+         * e.g. by the server. This smooths out latency for bursts of traffic after a quiet period. Use
+         * {@link NettyNioAsyncHttpClient#prewarm(URI, int)} to open connections before the first request.
+         *
+         * @param minIdleConnections Minimum number of connections kept open per endpoint. Capped at the max connections.
+         * @return This builder for method chaining.
+         */
+        Builder minIdleConnections(Integer minIdleConnections);
+
+        /**
+         * The maximum amount of time that a connection should be allowed to remain open while idle. Idle connections are
+         * closed shortly after this, by a check scheduled on the event loop, instead of being reused. Disabled by default, or
+         * when set to a duration of zero.
+         *
+         * <p>Set this below the idle timeout of any load balancer in front of the service, so that connections it has silently
+         * dropped aren't used for a request.
+         *
+         * @param connectionMaxIdleTime Max idle time of a connection.
+         * @return This builder for method chaining.
+         */
+        Builder connectionMaxIdleTime(Duration connectionMaxIdleTime);
+
+        /**
+         * The maximum amount of time that a connection should be allowed to remain open, regardless of usage frequency.
+         * Connections past this age are closed once they are idle. Disabled by default. HTTP/2 connections are only closed
+         * once the client stops using them.
+         *
+         * <p>Recycling connections spreads traffic over new load balancer nodes and hosts as they are added during scale
+         * events.
+         *
+         * @param connectionTimeToLive Max age of a connection.
+         * @return This builder for method chaining.
+         */
+        Builder connectionTimeToLive(Duration connectionTimeToLive);
+
+        /**
+         * Sets whether an idle connection is checked against {@link #connectionMaxIdleTime(Duration)} and
+         * {@link #connectionTimeToLive(Duration)} when it is acquired from the pool, in addition to the periodic check.
+         * Disabled by default, in which case a connection may be reused for up to a second after it expires.
+         *
+         * @param healthCheckOnAcquire Whether to check the expiry of a connection when it is acquired.
+         * @return This builder for method chaining.
+         */
+        Builder healthCheckOnAcquire(Boolean healthCheckOnAcquire);
     }
 
     /**
@@ -312,6 +474,10 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         private SdkEventLoopGroup eventLoopGroup;
         private SdkEventLoopGroup.Builder eventLoopGroupBuilder;
         private Integer maxHttp2Streams;
+        private Boolean zeroCopyResponseBody;
+        private SslProvider sslProvider;
+        private Integer minIdleConnections;
+        private Boolean healthCheckOnAcquire;
 
         private DefaultBuilder() {
         }
@@ -462,7 +628,69 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         }
 
         @Override
-        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+        public Builder zeroCopyResponseBody(Boolean zeroCopyResponseBody) {
+            this.zeroCopyResponseBody = zeroCopyResponseBody;
+            return this;
+        }
+
+        public void setZeroCopyResponseBody(Boolean zeroCopyResponseBody) {
+            zeroCopyResponseBody(zeroCopyResponseBody);
+        }
+
+        @Override
+        public Builder sslProvider(SslProvider sslProvider) {
+            this.sslProvider = sslProvider;
+            return this;
+        }
+
+        public void setSslProvider(SslProvider sslProvider) {
+            sslProvider(sslProvider);
+        }
+
+        @Override
+        public Builder minIdleConnections(Integer minIdleConnections) {
+            this.minIdleConnections = minIdleConnections;
+            return this;
+        }
+
+        public void setMinIdleConnections(Integer minIdleConnections) {
+            minIdleConnections(minIdleConnections);
+        }
+
+        @Override
+        public Builder connectionMaxIdleTime(Duration connectionMaxIdleTime) {
+            Validate.isNotNegative(connectionMaxIdleTime, "connectionMaxIdleTime");
+            standardOptions.put(CONNECTION_MAX_IDLE_TIMEOUT, connectionMaxIdleTime);
+            return this;
+        }
+
+        public void setConnectionMaxIdleTime(Duration connectionMaxIdleTime) {
+            connectionMaxIdleTime(connectionMaxIdleTime);
+        }
+
+        @Override
+        public Builder connectionTimeToLive(Duration connectionTimeToLive) {
+            Validate.isNotNegative(connectionTimeToLive, "connectionTimeToLive");
+            standardOptions.put(CONNECTION_TIME_TO_LIVE, connectionTimeToLive);
+            return this;
+        }
+
+        public void setConnectionTimeToLive(Duration connectionTimeToLive) {
+            connectionTimeToLive(connectionTimeToLive);
+        }
+
+        @Override
+        public Builder healthCheckOnAcquire(Boolean healthCheckOnAcquire) {
+            this.healthCheckOnAcquire = healthCheckOnAcquire;
+            return this;
+        }
+
+        public void setHealthCheckOnAcquire(Boolean healthCheckOnAcquire) {
+            healthCheckOnAcquire(healthCheckOnAcquire);
+        }
+
+        @Override
+        public NettyNioAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             return new NettyNioAsyncHttpClient(this, standardOptions.build()
                                                                     .merge(serviceDefaults)
                                                                     .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
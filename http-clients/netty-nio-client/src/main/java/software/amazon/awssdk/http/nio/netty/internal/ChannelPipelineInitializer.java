@@ -47,15 +47,21 @@ import software.amazon.awssdk.http.nio.netty.internal.http2.SdkHttp2FrameLogger;
 public class ChannelPipelineInitializer extends AbstractChannelPoolHandler {
     private final Protocol protocol;
     private final SslContext sslCtx;
+    private final String peerHost;
+    private final int peerPort;
     private final long clientMaxStreams;
     private final AtomicReference<ChannelPool> channelPoolRef;
 
     public ChannelPipelineInitializer(Protocol protocol,
                                       SslContext sslCtx,
+                                      String peerHost,
+                                      int peerPort,
                                       long clientMaxStreams,
                                       AtomicReference<ChannelPool> channelPoolRef) {
         this.protocol = protocol;
         this.sslCtx = sslCtx;
+        this.peerHost = peerHost;
+        this.peerPort = peerPort;
         this.clientMaxStreams = clientMaxStreams;
         this.channelPoolRef = channelPoolRef;
     }
@@ -65,7 +71,9 @@ public class ChannelPipelineInitializer extends AbstractChannelPoolHandler {
         ch.attr(PROTOCOL_FUTURE).set(new CompletableFuture<>());
         ChannelPipeline pipeline = ch.pipeline();
         if (sslCtx != null) {
-            pipeline.addLast(sslCtx.newHandler(ch.alloc()));
+            // Passing the peer sends SNI and lets the provider resume a cached session for this endpoint instead of doing a
+            // full handshake on every new connection.
+            pipeline.addLast(sslCtx.newHandler(ch.alloc(), peerHost, peerPort));
         }
 
         if (protocol == Protocol.HTTP2) {
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GenericFutureListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Opens connections in a {@link ChannelPool} ahead of traffic, so that the first requests to an endpoint don't pay for the
+ * TCP connect and TLS handshake.
+ */
+@SdkInternalApi
+public final class ChannelPrewarmer {
+
+    private ChannelPrewarmer() {
+    }
+
+    /**
+     * Acquires {@code connections} channels from the pool at once, waits for each of them to finish its TLS handshake and then
+     * releases them all back to the pool. Idle channels already in the pool are reused, so this only opens as many new
+     * connections as are needed to have {@code connections} ready.
+     *
+     * <p>For HTTP/2 the acquired channels are streams multiplexed over as few connections as the server allows, so this
+     * opens fewer connections than requested.
+     *
+     * @param pool The pool to warm up.
+     * @param connections The number of channels to have ready.
+     * @return A future that completes when all channels are back in the pool, exceptionally if any of them couldn't be opened.
+     */
+    public static CompletableFuture<Void> prewarm(ChannelPool pool, int connections) {
+        List<CompletableFuture<Channel>> channels = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            channels.add(acquireHandshaken(pool));
+        }
+        // Hold on to every channel until all have been acquired, otherwise the pool would hand the same idle channel out again
+        // instead of opening a new one.
+        CompletableFuture<Void> acquired = CompletableFuture.allOf(channels.toArray(new CompletableFuture[0]));
+        // Releasing happens on the event loop of the pool, so wait for it. Otherwise a request made as soon as this completes
+        // could find no idle channel and open another connection.
+        return acquired.handle((r, t) -> releaseAll(pool, channels))
+                       .thenCompose(released -> released)
+                       .thenCompose(released -> acquired);
+    }
+
+    private static CompletableFuture<Void> releaseAll(ChannelPool pool, List<CompletableFuture<Channel>> channels) {
+        CompletableFuture<?>[] released = channels.stream()
+                                                  .filter(c -> !c.isCompletedExceptionally())
+                                                  .map(c -> release(pool, c.join()))
+                                                  .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(released);
+    }
+
+    private static CompletableFuture<Void> release(ChannelPool pool, Channel channel) {
+        CompletableFuture<Void> released = new CompletableFuture<>();
+        // A channel that can't be released is closed by the pool, which is all we need here
+        pool.release(channel).addListener(f -> released.complete(null));
+        return released;
+    }
+
+    private static CompletableFuture<Channel> acquireHandshaken(ChannelPool pool) {
+        CompletableFuture<Channel> handshaken = new CompletableFuture<>();
+        pool.acquire().addListener((GenericFutureListener<Future<Channel>>) acquire -> {
+            if (!acquire.isSuccess()) {
+                handshaken.completeExceptionally(acquire.cause());
+                return;
+            }
+            Channel channel = acquire.getNow();
+            // For HTTP/2 the handshake happens on the parent socket channel of the stream
+            Channel connection = channel.parent() == null ? channel : channel.parent();
+            SslHandler sslHandler = connection.pipeline().get(SslHandler.class);
+            if (sslHandler == null) {
+                handshaken.complete(channel);
+                return;
+            }
+            sslHandler.handshakeFuture().addListener((GenericFutureListener<Future<Channel>>) handshake -> {
+                if (handshake.isSuccess()) {
+                    handshaken.complete(channel);
+                } else {
+                    pool.release(channel);
+                    handshaken.completeExceptionally(handshake.cause());
+                }
+            });
+        });
+        return handshaken;
+    }
+}
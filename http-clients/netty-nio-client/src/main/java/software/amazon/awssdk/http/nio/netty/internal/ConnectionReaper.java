@@ -0,0 +1,191 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.ChannelPoolHandler;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Closes pooled connections that have been idle for longer than the max idle time or open for longer than the time to live.
+ * This keeps the pool from handing out connections that a load balancer has already silently dropped, and moves traffic onto
+ * new load balancer nodes during scale events.
+ *
+ * <p>Wraps the pool's {@link ChannelPoolHandler} to record when each connection was created and last released. Idle
+ * connections are checked by a sweep scheduled on an event loop while the pool has open connections, rather than by a
+ * dedicated thread. Leased connections are never closed by the sweep; ones past their time to live are closed when they are
+ * released instead.
+ *
+ * <p>The max idle time doesn't apply while no more than the minimum number of idle connections are open, so the reaper
+ * doesn't close connections that {@link MinIdleConnectionsChannelPool} would immediately open again. The time to live still
+ * applies to them.
+ */
+@SdkInternalApi
+public final class ConnectionReaper implements ChannelPoolHandler {
+
+    private static final AttributeKey<Long> CREATED_NANOS_KEY = AttributeKey.newInstance(
+            "aws.http.nio.netty.async.createdNanos");
+
+    /**
+     * When the connection was last released to the pool, or null while it is leased.
+     */
+    private static final AttributeKey<Long> IDLE_SINCE_NANOS_KEY = AttributeKey.newInstance(
+            "aws.http.nio.netty.async.idleSinceNanos");
+
+    private static final long MAX_SWEEP_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ChannelPoolHandler delegate;
+    private final EventLoop sweepLoop;
+    private final long maxIdleNanos;
+    private final long timeToLiveNanos;
+    private final long sweepPeriodNanos;
+    private final int minIdleConnections;
+    private final Set<Channel> channels = ConcurrentHashMap.newKeySet();
+
+    // Only accessed from the sweep event loop
+    private ScheduledFuture<?> sweepFuture;
+
+    public ConnectionReaper(ChannelPoolHandler delegate, EventLoop sweepLoop, long maxIdleMillis, long timeToLiveMillis) {
+        this(delegate, sweepLoop, maxIdleMillis, timeToLiveMillis, 0);
+    }
+
+    public ConnectionReaper(ChannelPoolHandler delegate, EventLoop sweepLoop, long maxIdleMillis, long timeToLiveMillis,
+                            int minIdleConnections) {
+        this.delegate = delegate;
+        this.sweepLoop = sweepLoop;
+        this.maxIdleNanos = TimeUnit.MILLISECONDS.toNanos(maxIdleMillis);
+        this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+        this.sweepPeriodNanos = sweepPeriodNanos(maxIdleNanos, timeToLiveNanos);
+        this.minIdleConnections = minIdleConnections;
+    }
+
+    private static long sweepPeriodNanos(long maxIdleNanos, long timeToLiveNanos) {
+        long shortest = Long.MAX_VALUE;
+        if (maxIdleNanos > 0) {
+            shortest = maxIdleNanos;
+        }
+        if (timeToLiveNanos > 0) {
+            shortest = Math.min(shortest, timeToLiveNanos);
+        }
+        return Math.max(1, Math.min(MAX_SWEEP_PERIOD_NANOS, shortest / 2));
+    }
+
+    private boolean isEnabled() {
+        return maxIdleNanos > 0 || timeToLiveNanos > 0;
+    }
+
+    @Override
+    public void channelCreated(Channel ch) throws Exception {
+        delegate.channelCreated(ch);
+        if (!isEnabled()) {
+            return;
+        }
+        ch.attr(CREATED_NANOS_KEY).set(System.nanoTime());
+        channels.add(ch);
+        ch.closeFuture().addListener(f -> channels.remove(ch));
+        sweepLoop.execute(this::scheduleSweep);
+    }
+
+    @Override
+    public void channelAcquired(Channel ch) throws Exception {
+        ch.attr(IDLE_SINCE_NANOS_KEY).set(null);
+        delegate.channelAcquired(ch);
+    }
+
+    @Override
+    public void channelReleased(Channel ch) throws Exception {
+        delegate.channelReleased(ch);
+        long now = System.nanoTime();
+        if (exceededTimeToLive(ch, now)) {
+            ch.close();
+        } else {
+            ch.attr(IDLE_SINCE_NANOS_KEY).set(now);
+        }
+    }
+
+    /**
+     * @return A health checker that, in addition to the channel being active, checks that an idle connection hasn't exceeded
+     * the max idle time or time to live, so that an expired connection is never handed out even between sweeps.
+     */
+    public ChannelHealthChecker healthChecker() {
+        return ch -> ch.eventLoop().newSucceededFuture(ch.isActive() && !isExpired(ch, System.nanoTime(),
+                                                                                   channels.size() > minIdleConnections));
+    }
+
+    private void scheduleSweep() {
+        if (sweepFuture == null && !channels.isEmpty()) {
+            sweepFuture = sweepLoop.scheduleWithFixedDelay(this::sweep, sweepPeriodNanos, sweepPeriodNanos,
+                                                           TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void sweep() {
+        if (channels.isEmpty()) {
+            // Stop sweeping until a new connection is created
+            sweepFuture.cancel(false);
+            sweepFuture = null;
+            return;
+        }
+        long now = System.nanoTime();
+        // Connections past their time to live are closed first, so they come out of the budget for idle connections.
+        int idleClosesAllowed = channels.size() - minIdleConnections;
+        for (Channel ch : channels) {
+            if (isExpired(ch, now, false)) {
+                idleClosesAllowed--;
+                closeIfExpired(ch, false);
+            }
+        }
+        for (Channel ch : channels) {
+            if (idleClosesAllowed <= 0) {
+                return;
+            }
+            if (!isExpired(ch, now, false) && isExpired(ch, now, true)) {
+                idleClosesAllowed--;
+                closeIfExpired(ch, true);
+            }
+        }
+    }
+
+    private void closeIfExpired(Channel ch, boolean checkMaxIdle) {
+        // Re-check on the channel's own event loop, where it is acquired, so that a channel that was acquired in the meantime
+        // isn't closed under its new lease.
+        ch.eventLoop().execute(() -> {
+            if (isExpired(ch, System.nanoTime(), checkMaxIdle)) {
+                ch.close();
+            }
+        });
+    }
+
+    private boolean isExpired(Channel ch, long now, boolean checkMaxIdle) {
+        Long idleSince = ch.attr(IDLE_SINCE_NANOS_KEY).get();
+        if (idleSince == null) {
+            return false;
+        }
+        return (checkMaxIdle && maxIdleNanos > 0 && now - idleSince >= maxIdleNanos) || exceededTimeToLive(ch, now);
+    }
+
+    private boolean exceededTimeToLive(Channel ch, long now) {
+        Long createdNanos = ch.attr(CREATED_NANOS_KEY).get();
+        return timeToLiveNanos > 0 && createdNanos != null && now - createdNanos >= timeToLiveNanos;
+    }
+}
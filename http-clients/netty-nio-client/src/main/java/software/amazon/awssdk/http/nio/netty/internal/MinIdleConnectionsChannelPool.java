@@ -0,0 +1,148 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.concurrent.Promise;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Wrapper around a {@link ChannelPool} that keeps at least a minimum number of connections open to its endpoint, so that
+ * bursts after a quiet period don't stall on new connections and TLS handshakes.
+ *
+ * <p>Every connection handed out by this pool is counted until it closes. Whenever fewer than the minimum are open, the
+ * missing connections are opened with {@link ChannelPrewarmer}. If they can't be opened, the next attempt waits for a backoff
+ * delay that doubles after each failure. Call {@link #replenish()} once after creating the pool to open the initial
+ * connections.
+ */
+@SdkInternalApi
+public class MinIdleConnectionsChannelPool implements ChannelPool {
+
+    private static final Logger log = LoggerFactory.getLogger(MinIdleConnectionsChannelPool.class);
+
+    private static final AttributeKey<Boolean> IS_COUNTED = AttributeKey.newInstance("isCountedTowardsMinIdle");
+
+    private static final long MIN_RETRY_DELAY_MILLIS = 1_000;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private final ChannelPool delegate;
+    private final int minIdleConnections;
+    private final ScheduledExecutorService retryScheduler;
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AtomicBoolean replenishing = new AtomicBoolean();
+    private volatile long retryDelayMillis = MIN_RETRY_DELAY_MILLIS;
+    private volatile boolean closed;
+
+    /**
+     * @param delegate The pool that connections are acquired from.
+     * @param minIdleConnections The minimum number of connections to keep open.
+     * @param retryScheduler The executor that schedules another attempt after connections couldn't be opened.
+     */
+    public MinIdleConnectionsChannelPool(ChannelPool delegate, int minIdleConnections, ScheduledExecutorService retryScheduler) {
+        this.delegate = delegate;
+        this.minIdleConnections = minIdleConnections;
+        this.retryScheduler = retryScheduler;
+    }
+
+    @Override
+    public Future<Channel> acquire() {
+        return delegate.acquire().addListener(onAcquire());
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise) {
+        return delegate.acquire(promise).addListener(onAcquire());
+    }
+
+    private GenericFutureListener<Future<Channel>> onAcquire() {
+        return future -> {
+            if (future.isSuccess()) {
+                Channel channel = future.getNow();
+                count(channel.parent() == null ? channel : channel.parent());
+            }
+        };
+    }
+
+    private void count(Channel connection) {
+        if (connection.attr(IS_COUNTED).setIfAbsent(Boolean.TRUE) != null) {
+            return;
+        }
+        openConnections.incrementAndGet();
+        connection.closeFuture().addListener(f -> {
+            openConnections.decrementAndGet();
+            replenish();
+        });
+    }
+
+    /**
+     * Opens the missing connections if fewer than the minimum are open. Only one replenish runs at a time, and none runs while
+     * a retry after a failure is scheduled.
+     */
+    public void replenish() {
+        if (closed || openConnections.get() >= minIdleConnections || !replenishing.compareAndSet(false, true)) {
+            return;
+        }
+        // Leased connections are counted too, so only the shortfall is opened rather than the whole minimum.
+        int missingConnections = minIdleConnections - openConnections.get();
+        if (missingConnections <= 0) {
+            replenishing.set(false);
+            return;
+        }
+        ChannelPrewarmer.prewarm(this, missingConnections).whenComplete((r, t) -> {
+            if (t == null) {
+                retryDelayMillis = MIN_RETRY_DELAY_MILLIS;
+                replenishing.set(false);
+                return;
+            }
+            // The endpoint is likely unavailable. Closes of the connections that failed would otherwise retry straight away.
+            long delay = retryDelayMillis;
+            retryDelayMillis = Math.min(delay * 2, MAX_RETRY_DELAY_MILLIS);
+            log.debug("Failed to open the minimum number of idle connections, retrying in {} ms.", delay, t);
+            retryScheduler.schedule(this::retryReplenish, delay, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private void retryReplenish() {
+        replenishing.set(false);
+        replenish();
+    }
+
+    @Override
+    public Future<Void> release(Channel channel) {
+        return delegate.release(channel);
+    }
+
+    @Override
+    public Future<Void> release(Channel channel, Promise<Void> promise) {
+        return delegate.release(channel, promise);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        delegate.close();
+    }
+}
@@ -16,7 +16,9 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.CONNECTION_TIMEOUT;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.MAX_CONNECTIONS;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.MAX_PENDING_CONNECTION_ACQUIRES;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
@@ -49,6 +51,14 @@ public final class NettyConfiguration {
         return saturatedCast(configuration.get(CONNECTION_ACQUIRE_TIMEOUT).toMillis());
     }
 
+    public long connectionMaxIdleTimeMillis() {
+        return configuration.get(CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
+    }
+
+    public long connectionTimeToLiveMillis() {
+        return configuration.get(CONNECTION_TIME_TO_LIVE).toMillis();
+    }
+
     public int maxConnections() {
         return configuration.get(MAX_CONNECTIONS);
     }
@@ -24,10 +24,13 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 
 import com.typesafe.netty.http.HttpStreamsClientHandler;
 import com.typesafe.netty.http.StreamedHttpRequest;
-import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
 import io.netty.handler.codec.DecoderResult;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.HttpContent;
@@ -35,29 +38,36 @@ import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.ReadTimeoutException;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutException;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
+import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
-import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.HttpMetricCollector;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ToHttpInboundAdapter;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpToHttp2OutboundAdapter;
 import software.amazon.awssdk.http.nio.netty.internal.utils.ChannelUtils;
@@ -78,12 +88,28 @@ public final class NettyRequestExecutor {
 
     @SuppressWarnings("unchecked")
     public CompletableFuture<Void> execute() {
-        Future<Channel> channelFuture = context.channelPool().acquire();
+        Future<Channel> channelFuture = acquireChannel();
         executeFuture = createExecuteFuture(channelFuture);
         channelFuture.addListener((GenericFutureListener) this::makeRequestListener);
         return executeFuture;
     }
 
+    /**
+     * Acquires a channel from the pool, reporting the time it took to the request's metric collector, if any.
+     */
+    private Future<Channel> acquireChannel() {
+        Optional<HttpMetricCollector> metricCollector = context.executeRequest().metricCollector();
+        if (!metricCollector.isPresent()) {
+            return context.channelPool().acquire();
+        }
+
+        long start = System.nanoTime();
+        Future<Channel> channelFuture = context.channelPool().acquire();
+        channelFuture.addListener((Future<Channel> f) -> metricCollector.get().recordConnectionAcquireDuration(
+            Duration.ofNanos(System.nanoTime() - start)));
+        return channelFuture;
+    }
+
     /**
      * Convenience method to create the execution future and set up the cancellation logic.
      *
@@ -355,21 +381,30 @@ public final class NettyRequestExecutor {
 
     /**
      * Decorator around {@link StreamedHttpRequest} to adapt a publisher of {@link ByteBuffer} (i.e. {@link
-     * software.amazon.awssdk.http.async.SdkHttpContentPublisher}) to a publisher of {@link HttpContent}.
+     * SdkHttpContentPublisher}) to a publisher of {@link HttpContent}.
+     * <p />
+     * The published buffers are wrapped, not copied, into the {@link HttpContent}. When the content is that of a file and
+     * is sent in plain text over HTTP/1.1, the file is instead written to the channel as {@link FileRegion}s, which the
+     * transport copies from the file to the socket without reading it into the JVM.
      * <p />
      * This publisher also prevents the adapted publisher from publishing more content to the subscriber than
      * the specified 'Content-Length' of the request.
      */
-    private static class StreamedRequest extends DelegateHttpRequest implements StreamedHttpRequest {
+    static class StreamedRequest extends DelegateHttpRequest implements StreamedHttpRequest {
+
+        /**
+         * The maximum size of the file regions written at once, so that each write completes well within the write timeout.
+         */
+        private static final long FILE_REGION_SIZE = 4 * 1024 * 1024;
 
-        private final Publisher<ByteBuffer> publisher;
+        private final SdkHttpContentPublisher publisher;
         private final Channel channel;
         private final Optional<Long> requestContentLength;
         private long written = 0L;
         private boolean done;
         private Subscription subscription;
 
-        StreamedRequest(HttpRequest request, Publisher<ByteBuffer> publisher, Channel channel) {
+        StreamedRequest(HttpRequest request, SdkHttpContentPublisher publisher, Channel channel) {
             super(request);
             this.publisher = publisher;
             this.channel = channel;
@@ -378,6 +413,92 @@ public final class NettyRequestExecutor {
 
         @Override
         public void subscribe(Subscriber<? super HttpContent> subscriber) {
+            Optional<Path> file = fileRegionContent();
+            if (file.isPresent()) {
+                subscribeToFile(file.get().toFile(), requestContentLength.get(), subscriber);
+            } else {
+                subscribeToPublisher(subscriber);
+            }
+        }
+
+        /**
+         * @return The file to send as file regions, if the content is exactly that of a file and the channel sends it as is.
+         */
+        private Optional<Path> fileRegionContent() {
+            Optional<Path> file = publisher.contentFile();
+            boolean plainTextHttp1 = HTTP1_1.equals(ChannelAttributeKey.getProtocolNow(channel)) &&
+                                     channel.pipeline().get(SslHandler.class) == null;
+            if (!file.isPresent() || !requestContentLength.isPresent() || !plainTextHttp1) {
+                return Optional.empty();
+            }
+            try {
+                return Files.size(file.get()) >= requestContentLength.get() ? file : Optional.empty();
+            } catch (IOException e) {
+                return Optional.empty();
+            }
+        }
+
+        private void subscribeToFile(File file, long length, Subscriber<? super HttpContent> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                private final AtomicBoolean started = new AtomicBoolean(false);
+                private volatile boolean cancelled;
+                private volatile ChannelFuture regionWrite;
+
+                @Override
+                public void request(long n) {
+                    if (started.compareAndSet(false, true)) {
+                        writeFileRegion(0L);
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                    stopRegionWrite(regionWrite);
+                }
+
+                /**
+                 * Stops a region write that is still in flight. A write that the transport has already started transferring
+                 * can't be cancelled, so the channel is closed instead: the request body is incomplete either way, so the
+                 * connection can't be reused.
+                 */
+                private void stopRegionWrite(ChannelFuture write) {
+                    if (write != null && !write.isDone() && !write.cancel(false)) {
+                        channel.close();
+                    }
+                }
+
+                /**
+                 * Writes the next region of the file, directly to the channel rather than through the subscriber, and the
+                 * following one once it has been written.
+                 */
+                private void writeFileRegion(long position) {
+                    if (cancelled) {
+                        return;
+                    }
+                    if (position == length) {
+                        subscriber.onComplete();
+                        return;
+                    }
+                    long count = Math.min(FILE_REGION_SIZE, length - position);
+                    ChannelFuture write = channel.writeAndFlush(new DefaultFileRegion(file, position, count));
+                    regionWrite = write;
+                    if (cancelled) {
+                        // Cancelled while the write was being started, after cancel() read the previous write
+                        stopRegionWrite(write);
+                    }
+                    write.addListener(f -> {
+                        if (f.isSuccess()) {
+                            writeFileRegion(position + count);
+                        } else if (!cancelled) {
+                            subscriber.onError(f.cause());
+                        }
+                    });
+                }
+            });
+        }
+
+        private void subscribeToPublisher(Subscriber<? super HttpContent> subscriber) {
             publisher.subscribe(new Subscriber<ByteBuffer>() {
                 @Override
                 public void onSubscribe(Subscription subscription) {
@@ -391,14 +512,13 @@ public final class NettyRequestExecutor {
                         return;
                     }
 
-                    int newLimit = clampedBufferLimit(byteBuffer.remaining());
-                    byteBuffer.limit(newLimit);
-                    ByteBuf buffer = channel.alloc().buffer(byteBuffer.remaining());
-                    buffer.writeBytes(byteBuffer);
-                    HttpContent content = new DefaultHttpContent(buffer);
+                    int length = clampedBufferLimit(byteBuffer.remaining());
+                    ByteBuffer contentBuffer = byteBuffer.duplicate();
+                    contentBuffer.limit(contentBuffer.position() + length);
+                    HttpContent content = new DefaultHttpContent(Unpooled.wrappedBuffer(contentBuffer));
 
                     subscriber.onNext(content);
-                    written += newLimit;
+                    written += length;
 
                     if (!shouldContinuePublishing()) {
                         done = true;
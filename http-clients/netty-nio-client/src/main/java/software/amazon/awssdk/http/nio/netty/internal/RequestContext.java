@@ -26,11 +26,18 @@ public final class RequestContext {
     private final ChannelPool channelPool;
     private final AsyncExecuteRequest executeRequest;
     private final NettyConfiguration configuration;
+    private final boolean zeroCopyResponseBody;
 
     public RequestContext(ChannelPool channelPool, AsyncExecuteRequest executeRequest, NettyConfiguration configuration) {
+        this(channelPool, executeRequest, configuration, false);
+    }
+
+    public RequestContext(ChannelPool channelPool, AsyncExecuteRequest executeRequest, NettyConfiguration configuration,
+                          boolean zeroCopyResponseBody) {
         this.channelPool = channelPool;
         this.executeRequest = executeRequest;
         this.configuration = configuration;
+        this.zeroCopyResponseBody = zeroCopyResponseBody;
     }
 
     public ChannelPool channelPool() {
@@ -54,4 +61,11 @@ public final class RequestContext {
     public NettyConfiguration configuration() {
         return configuration;
     }
+
+    /**
+     * @return Whether the response body content may be lent to subscribers that release it, instead of copied.
+     */
+    public boolean zeroCopyResponseBody() {
+        return zeroCopyResponseBody;
+    }
 }
@@ -52,6 +52,7 @@ import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkCancellationException;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ResetSendingSubscription;
 import software.amazon.awssdk.utils.FunctionalUtils.UnsafeRunnable;
@@ -228,15 +229,31 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                 public void onNext(HttpContent httpContent) {
                     // isDone may be true if the subscriber cancelled
                     if (isDone.get()) {
+                        httpContent.release();
                         return;
                     }
-                    // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
-                    ByteBuffer b = copyToByteBuffer(httpContent.content());
-                    httpContent.release();
-                    subscriber.onNext(b);
+                    if (canLendContent(httpContent.content())) {
+                        ByteBuffer view = httpContent.content().nioBuffer().asReadOnlyBuffer();
+                        ((ReleasableByteBufferSubscriber) subscriber).onNext(view, new ReleaseOnce(httpContent));
+                    } else {
+                        // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
+                        ByteBuffer b = copyToByteBuffer(httpContent.content());
+                        httpContent.release();
+                        subscriber.onNext(b);
+                    }
                     channelContext.read();
                 }
 
+                /**
+                 * The content is lent to the subscriber instead of copied when zero-copy response bodies are enabled, the
+                 * subscriber releases the buffers it is lent, and the content can be viewed as a single NIO buffer.
+                 */
+                private boolean canLendContent(ByteBuf content) {
+                    return requestContext.zeroCopyResponseBody() &&
+                           subscriber instanceof ReleasableByteBufferSubscriber &&
+                           content.nioBufferCount() == 1;
+                }
+
                 @Override
                 public void onError(Throwable t) {
                     if (!isDone.compareAndSet(false, true)) {
@@ -273,6 +290,26 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         }
     }
 
+    /**
+     * Release callback of the content lent to a {@link ReleasableByteBufferSubscriber}, which only releases it the first
+     * time it is run.
+     */
+    private static final class ReleaseOnce implements Runnable {
+        private final AtomicBoolean released = new AtomicBoolean(false);
+        private final HttpContent content;
+
+        private ReleaseOnce(HttpContent content) {
+            this.content = content;
+        }
+
+        @Override
+        public void run() {
+            if (released.compareAndSet(false, true)) {
+                content.release();
+            }
+        }
+    }
+
     /**
      * Decorator around a {@link Subscription} to notify if a cancellation occurs.
      */
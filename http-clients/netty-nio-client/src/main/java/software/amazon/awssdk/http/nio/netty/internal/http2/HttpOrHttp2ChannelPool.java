@@ -22,6 +22,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.do
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoop;
+import io.netty.channel.pool.ChannelHealthChecker;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.channel.pool.ChannelPoolHandler;
 import io.netty.channel.pool.SimpleChannelPool;
@@ -52,9 +53,10 @@ public class HttpOrHttp2ChannelPool implements ChannelPool {
 
     public HttpOrHttp2ChannelPool(Bootstrap bootstrap,
                                   ChannelPoolHandler handler,
+                                  ChannelHealthChecker healthChecker,
                                   int maxConcurrency,
                                   NettyConfiguration configuration) {
-        this.simpleChannelPool = new SimpleChannelPool(bootstrap, handler);
+        this.simpleChannelPool = new SimpleChannelPool(bootstrap, handler, healthChecker);
         this.maxConcurrency = maxConcurrency;
         this.eventLoop = bootstrap.config().group().next();
         this.configuration = configuration;
@@ -60,7 +60,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -200,14 +202,43 @@ public class NettyNioAsyncHttpClientWireMockTest {
      */
     private void makeSimpleRequest(SdkAsyncHttpClient client) throws Exception {
         String body = randomAlphabetic(10);
-        URI uri = URI.create("http://localhost:" + mockServer.port());
         stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody(body)));
+        sendSimpleRequest(client);
+    }
+
+    private void sendSimpleRequest(SdkAsyncHttpClient client) throws Exception {
+        URI uri = URI.create("http://localhost:" + mockServer.port());
         SdkHttpRequest request = createRequest(uri);
         RecordingResponseHandler recorder = new RecordingResponseHandler();
         client.execute(AsyncExecuteRequest.builder().request(request).requestContentPublisher(createProvider("")).responseHandler(recorder).build());
         recorder.completeFuture.get(5, TimeUnit.SECONDS);
     }
 
+    @Test
+    public void prewarm_opensConnectionsBeforeFirstRequest() throws Exception {
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody(randomAlphabetic(10))));
+        // Stubbing goes through the admin API of the server, so only count the connections opened after it
+        wiremockTrafficListener.reset();
+
+        try (NettyNioAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder().build()) {
+            customClient.prewarm(URI.create("http://localhost:" + mockServer.port()), 2).get(5, TimeUnit.SECONDS);
+
+            // The server may see the connections shortly after the client considers them open
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (wiremockTrafficListener.openedSockets.size() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(wiremockTrafficListener.openedSockets).hasSize(2);
+            assertThat(wiremockTrafficListener.socketsWithRequests).isEmpty();
+
+            sendSimpleRequest(customClient);
+
+            assertThat(wiremockTrafficListener.openedSockets).hasSize(2);
+            assertThat(wiremockTrafficListener.socketsWithRequests).hasSize(1);
+            assertThat(wiremockTrafficListener.openedSockets).containsAll(wiremockTrafficListener.socketsWithRequests);
+        }
+    }
+
     @Test
     public void canMakeBasicRequestOverHttp() throws Exception {
         String smallBody = randomAlphabetic(10);
@@ -442,15 +473,17 @@ public class NettyNioAsyncHttpClientWireMockTest {
 
     private static class RecordingNetworkTrafficListener implements WiremockNetworkTrafficListener {
         private final StringBuilder requests = new StringBuilder();
-
+        private final Set<Socket> openedSockets = ConcurrentHashMap.newKeySet();
+        private final Set<Socket> socketsWithRequests = ConcurrentHashMap.newKeySet();
 
         @Override
         public void opened(Socket socket) {
-
+            openedSockets.add(socket);
         }
 
         @Override
         public void incoming(Socket socket, ByteBuffer byteBuffer) {
+            socketsWithRequests.add(socket);
             requests.append(StandardCharsets.UTF_8.decode(byteBuffer));
         }
 
@@ -466,6 +499,8 @@ public class NettyNioAsyncHttpClientWireMockTest {
 
         public void reset() {
             requests.setLength(0);
+            openedSockets.clear();
+            socketsWithRequests.clear();
         }
     }
 }
@@ -18,6 +18,8 @@ package software.amazon.awssdk.http.nio.netty;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import org.junit.Test;
@@ -31,6 +33,31 @@ public class SdkEventLoopGroupTest {
         assertThat(sdkEventLoopGroup.eventLoopGroup()).isNotNull();
     }
 
+    @Test
+    public void creatingUsingBuilder_defaultsToNio() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(1).build();
+        try {
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void creatingUsingBuilder_preferNativeTransport_usesEpollWhenAvailable() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder()
+                                                               .numberOfThreads(1)
+                                                               .preferNativeTransport(true)
+                                                               .build();
+        try {
+            Class<?> expected = Epoll.isAvailable() ? EpollEventLoopGroup.class : NioEventLoopGroup.class;
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(expected);
+            assertThat(sdkEventLoopGroup.channelFactory()).isNotNull();
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
     @Test
     public void creatingUsingStaticMethod() {
         SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.create(new NioEventLoopGroup(), NioSocketChannel::new);
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ChannelPrewarmer}.
+ */
+public class ChannelPrewarmerTest {
+
+    @Test
+    public void allChannelsAcquired_releasesAllAfterwards() {
+        ChannelPool pool = mock(ChannelPool.class);
+        Promise<Channel> first = promise();
+        Promise<Channel> second = promise();
+        when(pool.acquire()).thenReturn(first, second);
+        when(pool.release(any())).thenReturn(ImmediateEventExecutor.INSTANCE.newSucceededFuture(null));
+        Channel firstChannel = new EmbeddedChannel();
+        Channel secondChannel = new EmbeddedChannel();
+
+        CompletableFuture<Void> prewarmed = ChannelPrewarmer.prewarm(pool, 2);
+        first.setSuccess(firstChannel);
+
+        // The first channel must not be released before the second is acquired, otherwise the pool could hand it out again
+        assertThat(prewarmed).isNotDone();
+        verify(pool, never()).release(firstChannel);
+
+        second.setSuccess(secondChannel);
+
+        assertThat(prewarmed).isCompleted();
+        verify(pool).release(firstChannel);
+        verify(pool).release(secondChannel);
+    }
+
+    @Test
+    public void acquireFails_completesExceptionallyAndReleasesAcquiredChannels() {
+        ChannelPool pool = mock(ChannelPool.class);
+        Promise<Channel> first = promise();
+        Promise<Channel> second = promise();
+        when(pool.acquire()).thenReturn(first, second);
+        when(pool.release(any())).thenReturn(ImmediateEventExecutor.INSTANCE.newSucceededFuture(null));
+        Channel firstChannel = new EmbeddedChannel();
+
+        CompletableFuture<Void> prewarmed = ChannelPrewarmer.prewarm(pool, 2);
+        first.setSuccess(firstChannel);
+        second.setFailure(new IOException("Connection refused"));
+
+        assertThat(prewarmed).isCompletedExceptionally();
+        verify(pool).release(firstChannel);
+    }
+
+    @Test
+    public void releaseNotComplete_notCompleted() {
+        ChannelPool pool = mock(ChannelPool.class);
+        Promise<Void> released = ImmediateEventExecutor.INSTANCE.newPromise();
+        when(pool.acquire()).thenReturn(ImmediateEventExecutor.INSTANCE.newSucceededFuture(new EmbeddedChannel()));
+        when(pool.release(any())).thenReturn(released);
+
+        CompletableFuture<Void> prewarmed = ChannelPrewarmer.prewarm(pool, 1);
+
+        // A request made before the channel is back in the pool would open a new connection
+        assertThat(prewarmed).isNotDone();
+        released.setSuccess(null);
+        assertThat(prewarmed).isCompleted();
+    }
+
+    @Test
+    public void zeroConnections_completesImmediately() {
+        ChannelPool pool = mock(ChannelPool.class);
+
+        assertThat(ChannelPrewarmer.prewarm(pool, 0)).isCompleted();
+        verify(pool, never()).acquire();
+    }
+
+    private static Promise<Channel> promise() {
+        return ImmediateEventExecutor.INSTANCE.newPromise();
+    }
+}
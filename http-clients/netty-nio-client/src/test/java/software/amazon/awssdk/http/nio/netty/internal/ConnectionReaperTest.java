@@ -0,0 +1,146 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.pool.ChannelPoolHandler;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ConnectionReaper}.
+ */
+public class ConnectionReaperTest {
+
+    private final ChannelPoolHandler delegate = mock(ChannelPoolHandler.class);
+
+    @Test
+    public void callbacksAreDelegated() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ConnectionReaper reaper = new ConnectionReaper(delegate, channel.eventLoop(), 60_000, 0);
+
+        reaper.channelCreated(channel);
+        reaper.channelReleased(channel);
+        reaper.channelAcquired(channel);
+
+        verify(delegate).channelCreated(channel);
+        verify(delegate).channelReleased(channel);
+        verify(delegate).channelAcquired(channel);
+    }
+
+    @Test
+    public void idleLongerThanMaxIdleTime_closedBySweep() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ConnectionReaper reaper = new ConnectionReaper(delegate, channel.eventLoop(), 1, 0);
+
+        reaper.channelCreated(channel);
+        reaper.channelReleased(channel);
+        channel.runPendingTasks();
+        Thread.sleep(10);
+        channel.runScheduledPendingTasks();
+        channel.runPendingTasks();
+
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    public void idleLongerThanMaxIdleTime_withinMinIdleConnections_notClosedBySweep() throws Exception {
+        EmbeddedChannel first = new EmbeddedChannel();
+        EmbeddedChannel second = new EmbeddedChannel();
+        ConnectionReaper reaper = new ConnectionReaper(delegate, first.eventLoop(), 1, 0, 1);
+
+        reaper.channelCreated(first);
+        reaper.channelCreated(second);
+        reaper.channelReleased(first);
+        reaper.channelReleased(second);
+        first.runPendingTasks();
+        Thread.sleep(10);
+        first.runScheduledPendingTasks();
+        first.runPendingTasks();
+        second.runPendingTasks();
+
+        assertThat(first.isOpen() ^ second.isOpen()).isTrue();
+        EmbeddedChannel remaining = first.isOpen() ? first : second;
+        assertThat(reaper.healthChecker().isHealthy(remaining).getNow()).isTrue();
+    }
+
+    @Test
+    public void openLongerThanTimeToLive_withinMinIdleConnections_closedBySweep() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ConnectionReaper reaper = new ConnectionReaper(delegate, channel.eventLoop(), 0, 1, 1);
+
+        reaper.channelCreated(channel);
+        reaper.channelReleased(channel);
+        channel.runPendingTasks();
+        Thread.sleep(10);
+        channel.runScheduledPendingTasks();
+        channel.runPendingTasks();
+
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    public void leasedLongerThanMaxIdleTime_notClosedBySweep() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ConnectionReaper reaper = new ConnectionReaper(delegate, channel.eventLoop(), 1, 0);
+
+        reaper.channelCreated(channel);
+        channel.runPendingTasks();
+        Thread.sleep(10);
+        channel.runScheduledPendingTasks();
+        channel.runPendingTasks();
+
+        assertThat(channel.isOpen()).isTrue();
+    }
+
+    @Test
+    public void releasedAfterTimeToLive_closed() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ConnectionReaper reaper = new ConnectionReaper(delegate, channel.eventLoop(), 0, 1);
+
+        reaper.channelCreated(channel);
+        Thread.sleep(10);
+        reaper.channelReleased(channel);
+
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    public void healthChecker_failsExpiredIdleConnections() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ConnectionReaper reaper = new ConnectionReaper(delegate, channel.eventLoop(), 1, 0);
+
+        reaper.channelCreated(channel);
+        reaper.channelReleased(channel);
+        Thread.sleep(10);
+
+        assertThat(reaper.healthChecker().isHealthy(channel).getNow()).isFalse();
+    }
+
+    @Test
+    public void healthChecker_passesIdleConnectionsWithinMaxIdleTime() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ConnectionReaper reaper = new ConnectionReaper(delegate, channel.eventLoop(), 60_000, 0);
+
+        reaper.channelCreated(channel);
+        reaper.channelReleased(channel);
+
+        assertThat(reaper.healthChecker().isHealthy(channel).getNow()).isTrue();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit tests for {@link MinIdleConnectionsChannelPool}.
+ */
+public class MinIdleConnectionsChannelPoolTest {
+
+    private ChannelPool delegate;
+    private ScheduledExecutorService retryScheduler;
+    private MinIdleConnectionsChannelPool pool;
+
+    @Before
+    public void setup() {
+        delegate = mock(ChannelPool.class);
+        retryScheduler = mock(ScheduledExecutorService.class);
+        when(delegate.release(any())).thenReturn(ImmediateEventExecutor.INSTANCE.newSucceededFuture(null));
+        pool = new MinIdleConnectionsChannelPool(delegate, 3, retryScheduler);
+    }
+
+    @Test
+    public void connectionsInUse_onlyOpensMissingConnections() {
+        when(delegate.acquire()).thenAnswer(i -> succeeded());
+        pool.acquire();
+        pool.acquire();
+
+        pool.replenish();
+
+        verify(delegate, times(3)).acquire();
+    }
+
+    @Test
+    public void openFails_retriesAfterBackoff() {
+        when(delegate.acquire()).thenAnswer(i -> failed());
+
+        pool.replenish();
+        ArgumentCaptor<Runnable> retry = ArgumentCaptor.forClass(Runnable.class);
+        verify(retryScheduler).schedule(retry.capture(), eq(1_000L), eq(TimeUnit.MILLISECONDS));
+
+        // A failed connection closing must not retry before the backoff delay
+        pool.replenish();
+        verify(delegate, times(3)).acquire();
+
+        retry.getValue().run();
+        verify(delegate, times(6)).acquire();
+        verify(retryScheduler).schedule(any(Runnable.class), eq(2_000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    private static Future<Channel> succeeded() {
+        return ImmediateEventExecutor.INSTANCE.newSucceededFuture(new EmbeddedChannel());
+    }
+
+    private static Future<Channel> failed() {
+        return ImmediateEventExecutor.INSTANCE.newFailedFuture(new IOException("Connection refused"));
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslHandler;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+
+/**
+ * Unit tests for {@link NettyRequestExecutor.StreamedRequest}.
+ */
+public class StreamedRequestTest {
+
+    private EmbeddedChannel channel;
+    private Path file;
+
+    @Before
+    public void setup() throws Exception {
+        channel = new EmbeddedChannel();
+        channel.attr(ChannelAttributeKey.PROTOCOL_FUTURE).set(CompletableFuture.completedFuture(Protocol.HTTP1_1));
+        file = Files.createTempFile("StreamedRequestTest", ".txt");
+        Files.write(file, "abcdef".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @After
+    public void teardown() throws Exception {
+        channel.finishAndReleaseAll();
+        Files.delete(file);
+    }
+
+    @Test
+    public void publishedBuffer_isWrappedWithoutCopying() {
+        ByteBuffer buffer = ByteBuffer.wrap("abcdef".getBytes(StandardCharsets.UTF_8));
+        RecordingSubscriber subscriber = subscribe(request(6), new TestPublisher(null, buffer));
+
+        ByteBuf content = subscriber.contents.get(0).content();
+        assertThat(content.hasArray()).isTrue();
+        assertThat(content.array()).isSameAs(buffer.array());
+        assertThat(content.toString(StandardCharsets.UTF_8)).isEqualTo("abcdef");
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void bufferWithNonZeroPosition_isClampedToRemainingContentLength() {
+        ByteBuffer buffer = ByteBuffer.wrap("abcdef".getBytes(StandardCharsets.UTF_8));
+        buffer.position(2);
+        TestPublisher publisher = new TestPublisher(null, buffer);
+        RecordingSubscriber subscriber = subscribe(request(3), publisher);
+
+        assertThat(subscriber.contents).hasSize(1);
+        assertThat(subscriber.contents.get(0).content().toString(StandardCharsets.UTF_8)).isEqualTo("cde");
+        assertThat(buffer.position()).isEqualTo(2);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(publisher.cancelled).isTrue();
+    }
+
+    @Test
+    public void fileContentOverPlainTextHttp1_isWrittenAsFileRegion() {
+        TestPublisher publisher = new TestPublisher(file);
+        RecordingSubscriber subscriber = subscribe(request(6), publisher);
+
+        DefaultFileRegion region = channel.readOutbound();
+        assertThat(region.position()).isZero();
+        assertThat(region.count()).isEqualTo(6);
+        region.release();
+        assertThat(subscriber.completed).isTrue();
+        assertThat(publisher.subscribed).isFalse();
+    }
+
+    @Test
+    public void fileContentOverTls_isStreamed() throws Exception {
+        SSLEngine engine = SSLContext.getDefault().createSSLEngine();
+        engine.setUseClientMode(false);
+        channel.pipeline().addLast(new SslHandler(engine));
+        TestPublisher publisher = new TestPublisher(file, ByteBuffer.wrap("abcdef".getBytes(StandardCharsets.UTF_8)));
+
+        RecordingSubscriber subscriber = subscribe(request(6), publisher);
+
+        assertThat(publisher.subscribed).isTrue();
+        assertThat(subscriber.contents).hasSize(1);
+    }
+
+    @Test
+    public void fileContentOverHttp2_isStreamed() {
+        channel.attr(ChannelAttributeKey.PROTOCOL_FUTURE).set(CompletableFuture.completedFuture(Protocol.HTTP2));
+        TestPublisher publisher = new TestPublisher(file, ByteBuffer.wrap("abcdef".getBytes(StandardCharsets.UTF_8)));
+
+        RecordingSubscriber subscriber = subscribe(request(6), publisher);
+
+        assertThat(publisher.subscribed).isTrue();
+        assertThat(subscriber.contents).hasSize(1);
+    }
+
+    @Test
+    public void cancel_cancelsRegionWriteInFlight() {
+        HoldingWriteHandler holdingWriteHandler = new HoldingWriteHandler(false);
+        channel.pipeline().addLast(holdingWriteHandler);
+        RecordingSubscriber subscriber = subscribe(request(6), new TestPublisher(file));
+
+        subscriber.subscription.cancel();
+        channel.runPendingTasks();
+
+        assertThat(holdingWriteHandler.promise.isCancelled()).isTrue();
+        assertThat(channel.isOpen()).isTrue();
+        assertThat(subscriber.error).isNull();
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    public void cancel_closesChannelWhenRegionTransferHasStarted() {
+        HoldingWriteHandler holdingWriteHandler = new HoldingWriteHandler(true);
+        channel.pipeline().addLast(holdingWriteHandler);
+        RecordingSubscriber subscriber = subscribe(request(6), new TestPublisher(file));
+
+        subscriber.subscription.cancel();
+        channel.runPendingTasks();
+
+        assertThat(channel.isOpen()).isFalse();
+        assertThat(subscriber.error).isNull();
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    private static HttpRequest request(long contentLength) {
+        HttpRequest request = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.PUT, "/");
+        request.headers().set("Content-Length", contentLength);
+        return request;
+    }
+
+    private RecordingSubscriber subscribe(HttpRequest request, SdkHttpContentPublisher publisher) {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new NettyRequestExecutor.StreamedRequest(request, publisher, channel).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        return subscriber;
+    }
+
+    /**
+     * Publishes the given buffers, and reports the given file as its content.
+     */
+    private static final class TestPublisher implements SdkHttpContentPublisher {
+        private final Path contentFile;
+        private final ByteBuffer[] buffers;
+        private volatile boolean subscribed;
+        private volatile boolean cancelled;
+
+        private TestPublisher(Path contentFile, ByteBuffer... buffers) {
+            this.contentFile = contentFile;
+            this.buffers = buffers;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Path> contentFile() {
+            return Optional.ofNullable(contentFile);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            subscribed = true;
+            subscriber.onSubscribe(new Subscription() {
+                private int next;
+
+                @Override
+                public void request(long n) {
+                    for (long i = 0; i < n && next < buffers.length && !cancelled; i++) {
+                        subscriber.onNext(buffers[next++]);
+                    }
+                    if (next == buffers.length && !cancelled) {
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    private static final class RecordingSubscriber implements Subscriber<HttpContent> {
+        private final List<HttpContent> contents = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(HttpContent content) {
+            contents.add(content);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    /**
+     * Holds on to the first write instead of passing it to the transport, optionally marking it as started so that it can no
+     * longer be cancelled.
+     */
+    private static final class HoldingWriteHandler extends ChannelOutboundHandlerAdapter {
+        private final boolean transferStarted;
+        private ChannelPromise promise;
+
+        private HoldingWriteHandler(boolean transferStarted) {
+            this.transferStarted = transferStarted;
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            if (this.promise != null) {
+                ctx.write(msg, promise);
+                return;
+            }
+            this.promise = promise;
+            if (transferStarted) {
+                promise.setUncancellable();
+            }
+        }
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sts.auth;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.cache.CachedSupplier;
+import software.amazon.awssdk.utils.cache.NonBlocking;
+import software.amazon.awssdk.utils.cache.RefreshResult;
+
+/**
+ * Manages the credentials of many assumed roles using a single {@link StsClient}, as an alternative to creating one
+ * {@link StsAssumeRoleCredentialsProvider} per role.
+ *
+ * <p>Each role is identified by its {@link AssumeRoleRequest}. {@link #credentialsProvider(AssumeRoleRequest)} returns a
+ * lightweight {@link AwsCredentialsProvider} view of a role, and all views of the same request share the same cached session.
+ * Sessions are updated in the background on the pool shared by all {@link NonBlocking} caches, so no thread is created per
+ * role. To avoid calling STS for all roles at the same time, each role is refreshed at a random time between the middle of the
+ * session's lifetime and five minutes before it expires, and at most {@link Builder#maxConcurrentRefreshes(Integer)}
+ * AssumeRole calls are made at once.</p>
+ *
+ * <p>Roles that have not been used for {@link Builder#idleTimeout(Duration)} are evicted. Views of an evicted role remain
+ * usable: the role's session is assumed again the next time the view is used.</p>
+ *
+ * <p>The {@link StsClient} is not closed when this manager is closed.</p>
+ *
+ * This is created using {@link StsAssumeRoleCredentialsManager#builder()}.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class StsAssumeRoleCredentialsManager implements SdkAutoCloseable {
+    private static final int DEFAULT_MAX_CONCURRENT_REFRESHES = 8;
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofHours(2);
+
+    /**
+     * How long before the session expires the cached credentials are considered stale, and callers block to update them.
+     */
+    private static final Duration STALE_TIME = Duration.ofMinutes(1);
+
+    /**
+     * The latest time before the session expires at which the credentials are refreshed in the background.
+     */
+    private static final Duration LATEST_PREFETCH_TIME = Duration.ofMinutes(5);
+
+    private final StsClient stsClient;
+    private final Semaphore refreshPermits;
+    private final Duration idleTimeout;
+    private final ConcurrentMap<AssumeRoleRequest, RoleSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link System#nanoTime()} after which the next idle session eviction should be performed.
+     */
+    private final AtomicLong nextEvictionNanos;
+
+    private volatile boolean closed = false;
+
+    /**
+     * @see #builder()
+     */
+    private StsAssumeRoleCredentialsManager(Builder builder) {
+        this.stsClient = Validate.notNull(builder.stsClient, "STS client must not be null.");
+        this.refreshPermits = new Semaphore(Validate.isPositive(builder.maxConcurrentRefreshes, "maxConcurrentRefreshes"));
+        this.idleTimeout = Validate.isPositive(builder.idleTimeout, "idleTimeout");
+        this.nextEvictionNanos = new AtomicLong(System.nanoTime() + evictionIntervalNanos());
+    }
+
+    /**
+     * Create a builder for an {@link StsAssumeRoleCredentialsManager}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retrieve a credentials provider for the role assumed with the provided request. The provider is cheap to create, and does
+     * not need to be closed: the resources of the role are freed when it is evicted, or when this manager is closed.
+     *
+     * @param assumeRoleRequest The request to send to STS whenever the assumed session expires.
+     * @return A credentials provider for the role.
+     */
+    public AwsCredentialsProvider credentialsProvider(AssumeRoleRequest assumeRoleRequest) {
+        Validate.notNull(assumeRoleRequest, "Assume role request must not be null.");
+        return new RoleCredentialsProvider(assumeRoleRequest);
+    }
+
+    /**
+     * Similar to {@link #credentialsProvider(AssumeRoleRequest)}, but takes a lambda to configure a new
+     * {@link AssumeRoleRequest.Builder}.
+     */
+    public AwsCredentialsProvider credentialsProvider(Consumer<AssumeRoleRequest.Builder> assumeRoleRequest) {
+        return credentialsProvider(AssumeRoleRequest.builder().applyMutation(assumeRoleRequest).build());
+    }
+
+    /**
+     * The number of roles whose sessions are currently cached by this manager.
+     */
+    public int cachedRoleCount() {
+        return sessions.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        sessions.values().forEach(RoleSession::evict);
+        sessions.clear();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("StsAssumeRoleCredentialsManager")
+                       .add("cachedRoleCount", sessions.size())
+                       .build();
+    }
+
+    private RoleSession session(AssumeRoleRequest assumeRoleRequest) {
+        if (closed) {
+            throw new IllegalStateException("The STS assume role credentials manager has been closed.");
+        }
+        evictIdleSessionsIfDue();
+        return sessions.computeIfAbsent(assumeRoleRequest, RoleSession::new);
+    }
+
+    /**
+     * Evict the sessions that have not been used for the idle timeout. This is performed by callers at most a few times per idle
+     * timeout, instead of on a background thread.
+     */
+    private void evictIdleSessionsIfDue() {
+        long now = System.nanoTime();
+        long nextEviction = nextEvictionNanos.get();
+        if (now - nextEviction < 0 || !nextEvictionNanos.compareAndSet(nextEviction, now + evictionIntervalNanos())) {
+            return;
+        }
+        evictIdleSessions();
+    }
+
+    @SdkTestInternalApi
+    void evictIdleSessions() {
+        long now = System.nanoTime();
+        sessions.values().removeIf(session -> {
+            if (session.idleNanos(now) < idleTimeout.toNanos()) {
+                return false;
+            }
+            session.evict();
+            return true;
+        });
+    }
+
+    private long evictionIntervalNanos() {
+        return idleTimeout.toNanos() / 4;
+    }
+
+    /**
+     * Assume the role with the provided request, waiting for a refresh permit if the maximum number of concurrent AssumeRole
+     * calls are already in progress.
+     */
+    private RefreshResult<SessionCredentialsHolder> assumeRole(AssumeRoleRequest assumeRoleRequest) {
+        try {
+            refreshPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SdkClientException.builder()
+                                    .message("Interrupted waiting to assume role " + assumeRoleRequest.roleArn())
+                                    .cause(e)
+                                    .build();
+        }
+
+        SessionCredentialsHolder credentials;
+        try {
+            credentials = new SessionCredentialsHolder(stsClient.assumeRole(assumeRoleRequest).credentials());
+        } finally {
+            refreshPermits.release();
+        }
+
+        Instant expiration = credentials.getSessionCredentialsExpiration().toInstant();
+        return RefreshResult.builder(credentials)
+                            .staleTime(expiration.minus(STALE_TIME))
+                            .prefetchTime(prefetchTime(Instant.now(), expiration))
+                            .build();
+    }
+
+    /**
+     * Choose a random time between the middle of the remaining session lifetime and {@link #LATEST_PREFETCH_TIME} before the
+     * session expires, so that the refreshes of roles assumed at the same time are spread evenly over the expiry window.
+     */
+    static Instant prefetchTime(Instant now, Instant expiration) {
+        Instant latest = expiration.minus(LATEST_PREFETCH_TIME);
+        Instant earliest = now.plus(Duration.between(now, expiration).dividedBy(2));
+        if (!earliest.isBefore(latest)) {
+            return latest;
+        }
+        long windowMillis = Duration.between(earliest, latest).toMillis();
+        return earliest.plusMillis(ThreadLocalRandom.current().nextLong(windowMillis + 1));
+    }
+
+    /**
+     * The cached session of a single role.
+     */
+    private final class RoleSession {
+        private final AssumeRoleRequest assumeRoleRequest;
+        private final CachedSupplier<SessionCredentialsHolder> sessionCache;
+        private volatile long lastAccessNanos = System.nanoTime();
+        private volatile boolean evicted = false;
+
+        private RoleSession(AssumeRoleRequest assumeRoleRequest) {
+            this.assumeRoleRequest = assumeRoleRequest;
+            this.sessionCache = CachedSupplier.builder(() -> assumeRole(assumeRoleRequest))
+                                              .prefetchStrategy(new NonBlocking("sts-assume-role-credentials-manager"))
+                                              .build();
+        }
+
+        private AwsCredentials resolveCredentials() {
+            lastAccessNanos = System.nanoTime();
+            return sessionCache.get().getSessionCredentials();
+        }
+
+        private CompletableFuture<AwsCredentials> resolveCredentialsAsync() {
+            lastAccessNanos = System.nanoTime();
+            return sessionCache.getAsync().<AwsCredentials>thenApply(SessionCredentialsHolder::getSessionCredentials);
+        }
+
+        private long idleNanos(long now) {
+            return now - lastAccessNanos;
+        }
+
+        private void evict() {
+            evicted = true;
+            sessionCache.close();
+        }
+    }
+
+    /**
+     * A view of the session of a single role, which re-creates the session if it has been evicted.
+     */
+    private final class RoleCredentialsProvider implements AwsCredentialsProvider {
+        private final AssumeRoleRequest assumeRoleRequest;
+        private volatile RoleSession session;
+
+        private RoleCredentialsProvider(AssumeRoleRequest assumeRoleRequest) {
+            this.assumeRoleRequest = assumeRoleRequest;
+        }
+
+        @Override
+        public AwsCredentials resolveCredentials() {
+            return session().resolveCredentials();
+        }
+
+        @Override
+        public CompletableFuture<AwsCredentials> resolveCredentialsAsync() {
+            return session().resolveCredentialsAsync();
+        }
+
+        private RoleSession session() {
+            RoleSession current = session;
+            if (current == null || current.evicted) {
+                current = StsAssumeRoleCredentialsManager.this.session(assumeRoleRequest);
+                session = current;
+            } else {
+                evictIdleSessionsIfDue();
+            }
+            return current;
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("StsAssumeRoleCredentialsManager.RoleCredentialsProvider")
+                           .add("refreshRequest", assumeRoleRequest)
+                           .build();
+        }
+    }
+
+    /**
+     * A builder (created by {@link StsAssumeRoleCredentialsManager#builder()}) for creating a
+     * {@link StsAssumeRoleCredentialsManager}.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private StsClient stsClient;
+        private Integer maxConcurrentRefreshes = DEFAULT_MAX_CONCURRENT_REFRESHES;
+        private Duration idleTimeout = DEFAULT_IDLE_TIMEOUT;
+
+        private Builder() {
+        }
+
+        /**
+         * Configure the {@link StsClient} to use when calling STS to assume the roles. This client is shared by all roles, and
+         * should not be shut down as long as this manager is in use.
+         *
+         * @param stsClient The STS client to use for communication with STS.
+         * @return This object for chained calls.
+         */
+        public Builder stsClient(StsClient stsClient) {
+            this.stsClient = stsClient;
+            return this;
+        }
+
+        /**
+         * Configure the maximum number of AssumeRole calls that may be in progress at the same time. Callers that need to
+         * assume a role while this many calls are in progress wait for one of them to complete.
+         *
+         * <p>By default, this is 8.</p>
+         */
+        public Builder maxConcurrentRefreshes(Integer maxConcurrentRefreshes) {
+            this.maxConcurrentRefreshes = maxConcurrentRefreshes;
+            return this;
+        }
+
+        /**
+         * Configure how long a role may go unused before its session is evicted. The session of an evicted role is no longer
+         * refreshed in the background.
+         *
+         * <p>By default, this is 2 hours.</p>
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * Build the manager using the configuration applied to this builder.
+         */
+        public StsAssumeRoleCredentialsManager build() {
+            return new StsAssumeRoleCredentialsManager(this);
+        }
+    }
+}
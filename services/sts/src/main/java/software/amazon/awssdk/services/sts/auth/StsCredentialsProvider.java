@@ -17,6 +17,8 @@ package software.amazon.awssdk.services.sts.auth;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -40,6 +42,13 @@ import software.amazon.awssdk.utils.cache.RefreshResult;
 @ThreadSafe
 @SdkInternalApi
 abstract class StsCredentialsProvider implements AwsCredentialsProvider, SdkAutoCloseable {
+    /**
+     * The maximum amount of time an asynchronous credential update is delayed by, so that many providers whose credentials
+     * expire at the same time do not all call STS at once. This must be well below the window between the prefetch time and the
+     * stale time of the credentials.
+     */
+    private static final Duration ASYNC_UPDATE_MAX_JITTER = Duration.ofMinutes(1);
+
     /**
      * The STS client that should be used for periodically updating the session credentials in the background.
      */
@@ -50,12 +59,21 @@ abstract class StsCredentialsProvider implements AwsCredentialsProvider, SdkAuto
      */
     private final CachedSupplier<SessionCredentialsHolder> sessionCache;
 
+    /**
+     * The strategy that updates the session credentials in the background, if asynchronous credential updates are enabled.
+     */
+    private final Optional<NonBlocking> asyncCredentialUpdater;
+
     protected StsCredentialsProvider(BaseBuilder<?, ?> builder, String asyncThreadName) {
         this.stsClient = Validate.notNull(builder.stsClient, "STS client must not be null.");
 
         CachedSupplier.Builder<SessionCredentialsHolder> cacheBuilder = CachedSupplier.builder(this::updateSessionCredentials);
         if (builder.asyncCredentialUpdateEnabled) {
-            cacheBuilder.prefetchStrategy(new NonBlocking(asyncThreadName));
+            NonBlocking updater = new NonBlocking(asyncThreadName, ASYNC_UPDATE_MAX_JITTER);
+            cacheBuilder.prefetchStrategy(updater);
+            this.asyncCredentialUpdater = Optional.of(updater);
+        } else {
+            this.asyncCredentialUpdater = Optional.empty();
         }
         this.sessionCache = cacheBuilder.build();
     }
@@ -78,6 +96,35 @@ abstract class StsCredentialsProvider implements AwsCredentialsProvider, SdkAuto
         return sessionCache.get().getSessionCredentials();
     }
 
+    @Override
+    public CompletableFuture<AwsCredentials> resolveCredentialsAsync() {
+        return sessionCache.getAsync().<AwsCredentials>thenApply(SessionCredentialsHolder::getSessionCredentials);
+    }
+
+    /**
+     * The number of background session credential updates that completed successfully. Always 0 unless asynchronous credential
+     * updates are enabled.
+     */
+    public long successfulAsyncCredentialUpdateCount() {
+        return asyncCredentialUpdater.map(NonBlocking::successfulRefreshCount).orElse(0L);
+    }
+
+    /**
+     * The number of background session credential updates that failed. The credentials are then updated again the next time
+     * they are requested. Always 0 unless asynchronous credential updates are enabled.
+     */
+    public long failedAsyncCredentialUpdateCount() {
+        return asyncCredentialUpdater.map(NonBlocking::failedRefreshCount).orElse(0L);
+    }
+
+    /**
+     * How long the most recent background session credential update took, successful or not. {@link Duration#ZERO} if no
+     * update has been performed yet, or if asynchronous credential updates are disabled.
+     */
+    public Duration lastAsyncCredentialUpdateLatency() {
+        return asyncCredentialUpdater.map(NonBlocking::lastRefreshLatency).orElse(Duration.ZERO);
+    }
+
     @Override
     public void close() {
         sessionCache.close();
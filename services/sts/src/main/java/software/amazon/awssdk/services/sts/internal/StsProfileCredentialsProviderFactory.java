@@ -15,7 +15,10 @@
 
 package software.amazon.awssdk.services.sts.internal;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.ChildProfileCredentialsProviderFactory;
@@ -41,7 +44,24 @@ public final class StsProfileCredentialsProviderFactory implements ChildProfileC
 
     @Override
     public AwsCredentialsProvider create(AwsCredentialsProvider sourceCredentialsProvider, Profile profile) {
-        return new StsProfileCredentialsProvider(sourceCredentialsProvider, profile);
+        return new StsProfileCredentialsProvider(sourceCredentialsProvider, profile,
+                                                 StsProfileCredentialsProviderFactory::createStsClient);
+    }
+
+    @SdkTestInternalApi
+    AwsCredentialsProvider create(AwsCredentialsProvider sourceCredentialsProvider, Profile profile, StsClient stsClient) {
+        return new StsProfileCredentialsProvider(sourceCredentialsProvider, profile, parentCredentialsProvider -> stsClient);
+    }
+
+    private static StsClient createStsClient(AwsCredentialsProvider parentCredentialsProvider) {
+        // Use the default region chain and if that fails us, fall back to AWS_GLOBAL.
+        Region stsRegion =
+                new AwsRegionProviderChain(new DefaultAwsRegionProviderChain(), () -> Region.AWS_GLOBAL).getRegion();
+
+        return StsClient.builder()
+                        .region(stsRegion)
+                        .credentialsProvider(parentCredentialsProvider)
+                        .build();
     }
 
     /**
@@ -54,26 +74,20 @@ public final class StsProfileCredentialsProviderFactory implements ChildProfileC
         private final AwsCredentialsProvider parentCredentialsProvider;
         private final StsAssumeRoleCredentialsProvider credentialsProvider;
 
-        private StsProfileCredentialsProvider(AwsCredentialsProvider parentCredentialsProvider, Profile profile) {
+        private StsProfileCredentialsProvider(AwsCredentialsProvider parentCredentialsProvider, Profile profile,
+                                              Function<AwsCredentialsProvider, StsClient> stsClientFactory) {
             String roleArn = requireProperty(profile, ProfileProperty.ROLE_ARN);
             String roleSessionName = profile.property(ProfileProperty.ROLE_SESSION_NAME)
                                             .orElseGet(() -> "aws-sdk-java-" + System.currentTimeMillis());
             String externalId = profile.property(ProfileProperty.EXTERNAL_ID).orElse(null);
 
-            // Use the default region chain and if that fails us, fall back to AWS_GLOBAL.
-            Region stsRegion =
-                    new AwsRegionProviderChain(new DefaultAwsRegionProviderChain(), () -> Region.AWS_GLOBAL).getRegion();
-
             AssumeRoleRequest assumeRoleRequest = AssumeRoleRequest.builder()
                                                                    .roleArn(roleArn)
                                                                    .roleSessionName(roleSessionName)
                                                                    .externalId(externalId)
                                                                    .build();
 
-            this.stsClient = StsClient.builder()
-                                      .region(stsRegion)
-                                      .credentialsProvider(parentCredentialsProvider)
-                                      .build();
+            this.stsClient = stsClientFactory.apply(parentCredentialsProvider);
 
             this.parentCredentialsProvider = parentCredentialsProvider;
             this.credentialsProvider = StsAssumeRoleCredentialsProvider.builder()
@@ -93,6 +107,11 @@ public final class StsProfileCredentialsProviderFactory implements ChildProfileC
             return this.credentialsProvider.resolveCredentials();
         }
 
+        @Override
+        public CompletableFuture<AwsCredentials> resolveCredentialsAsync() {
+            return this.credentialsProvider.resolveCredentialsAsync();
+        }
+
         @Override
         public void close() {
             IoUtils.closeIfCloseable(parentCredentialsProvider, null);
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sts.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
+import software.amazon.awssdk.services.sts.model.AssumeRoleResponse;
+import software.amazon.awssdk.services.sts.model.Credentials;
+
+/**
+ * Validate the functionality of {@link StsAssumeRoleCredentialsManager}.
+ */
+public class StsAssumeRoleCredentialsManagerTest {
+    private final StsClient stsClient = mock(StsClient.class);
+    private StsAssumeRoleCredentialsManager manager;
+
+    @After
+    public void closeManager() {
+        if (manager != null) {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void viewsOfTheSameRoleShareOneSession() {
+        stubAssumeRole(Instant.now().plus(Duration.ofHours(1)));
+        manager = StsAssumeRoleCredentialsManager.builder().stsClient(stsClient).build();
+
+        AwsCredentialsProvider firstView = manager.credentialsProvider(request("role-1"));
+        AwsCredentialsProvider secondView = manager.credentialsProvider(request("role-1"));
+
+        AwsSessionCredentials first = (AwsSessionCredentials) firstView.resolveCredentials();
+        AwsSessionCredentials second = (AwsSessionCredentials) secondView.resolveCredentials();
+
+        assertThat(first.sessionToken()).isEqualTo("c");
+        assertThat(second).isSameAs(first);
+        assertThat(manager.cachedRoleCount()).isEqualTo(1);
+        verify(stsClient, times(1)).assumeRole(any(AssumeRoleRequest.class));
+    }
+
+    @Test
+    public void differentRolesHaveDifferentSessions() {
+        stubAssumeRole(Instant.now().plus(Duration.ofHours(1)));
+        manager = StsAssumeRoleCredentialsManager.builder().stsClient(stsClient).build();
+
+        manager.credentialsProvider(request("role-1")).resolveCredentials();
+        manager.credentialsProvider(r -> r.roleArn("role-2").roleSessionName("session")).resolveCredentialsAsync().join();
+
+        assertThat(manager.cachedRoleCount()).isEqualTo(2);
+        verify(stsClient, times(2)).assumeRole(any(AssumeRoleRequest.class));
+    }
+
+    @Test
+    public void idleRolesAreEvictedAndAssumedAgainWhenUsed() throws InterruptedException {
+        stubAssumeRole(Instant.now().plus(Duration.ofHours(1)));
+        manager = StsAssumeRoleCredentialsManager.builder()
+                                                 .stsClient(stsClient)
+                                                 .idleTimeout(Duration.ofMillis(1))
+                                                 .build();
+        AwsCredentialsProvider provider = manager.credentialsProvider(request("role-1"));
+
+        provider.resolveCredentials();
+        Thread.sleep(10);
+        manager.evictIdleSessions();
+        assertThat(manager.cachedRoleCount()).isEqualTo(0);
+
+        provider.resolveCredentials();
+        assertThat(manager.cachedRoleCount()).isEqualTo(1);
+        verify(stsClient, times(2)).assumeRole(any(AssumeRoleRequest.class));
+    }
+
+    @Test
+    public void concurrentAssumeRoleCallsAreBounded() throws Exception {
+        AtomicInteger inProgress = new AtomicInteger();
+        AtomicInteger maxInProgress = new AtomicInteger();
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenAnswer(invocation -> {
+            maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inProgress.decrementAndGet();
+            return response(Instant.now().plus(Duration.ofHours(1)));
+        });
+        manager = StsAssumeRoleCredentialsManager.builder().stsClient(stsClient).maxConcurrentRefreshes(2).build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                AwsCredentialsProvider provider = manager.credentialsProvider(request("role-" + i));
+                results.add(executor.submit(provider::resolveCredentials));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(maxInProgress.get()).isLessThanOrEqualTo(2);
+        verify(stsClient, times(10)).assumeRole(any(AssumeRoleRequest.class));
+    }
+
+    @Test
+    public void prefetchTimeIsSpreadOverTheExpiryWindow() {
+        Instant now = Instant.now();
+        Instant expiration = now.plus(Duration.ofHours(1));
+
+        for (int i = 0; i < 100; i++) {
+            Instant prefetchTime = StsAssumeRoleCredentialsManager.prefetchTime(now, expiration);
+            assertThat(prefetchTime).isBetween(now.plus(Duration.ofMinutes(30)), expiration.minus(Duration.ofMinutes(5)));
+        }
+    }
+
+    @Test
+    public void shortSessionsArePrefetchedFiveMinutesBeforeExpiration() {
+        Instant now = Instant.now();
+        Instant expiration = now.plus(Duration.ofMinutes(8));
+
+        assertThat(StsAssumeRoleCredentialsManager.prefetchTime(now, expiration))
+            .isEqualTo(expiration.minus(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    public void closedManagerCannotBeUsed() {
+        manager = StsAssumeRoleCredentialsManager.builder().stsClient(stsClient).build();
+        AwsCredentialsProvider provider = manager.credentialsProvider(request("role-1"));
+        manager.close();
+
+        assertThatThrownBy(provider::resolveCredentials).isInstanceOf(IllegalStateException.class);
+    }
+
+    private void stubAssumeRole(Instant expiration) {
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenReturn(response(expiration));
+    }
+
+    private static AssumeRoleResponse response(Instant expiration) {
+        Credentials credentials = Credentials.builder()
+                                             .accessKeyId("a")
+                                             .secretAccessKey("b")
+                                             .sessionToken("c")
+                                             .expiration(expiration)
+                                             .build();
+        return AssumeRoleResponse.builder().credentials(credentials).build();
+    }
+
+    private static AssumeRoleRequest request(String roleArn) {
+        return AssumeRoleRequest.builder().roleArn(roleArn).roleSessionName("session").build();
+    }
+}
@@ -16,12 +16,27 @@
 package software.amazon.awssdk.services.sts.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.internal.ProfileCredentialsUtils;
 import software.amazon.awssdk.utils.StringInputStream;
 import software.amazon.awssdk.profiles.ProfileFile;
+import software.amazon.awssdk.profiles.Profile;
 import software.amazon.awssdk.services.sts.AssumeRoleIntegrationTest;
+import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
+import software.amazon.awssdk.services.sts.model.AssumeRoleResponse;
+import software.amazon.awssdk.services.sts.model.Credentials;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
@@ -70,4 +85,44 @@ public class AssumeRoleProfileTest {
                                           .build();
         assertThat(profiles.profile("child")).isPresent();
     }
+
+    @Test
+    public void resolveCredentialsAsync_assumesRoleOffCallingThread() {
+        String profileContent =
+                "[profile test]\n"
+                + "role_arn=arn:aws:iam::123456789012:role/testRole";
+        Profile profile = ProfileFile.builder()
+                                     .content(new StringInputStream(profileContent))
+                                     .type(ProfileFile.Type.CONFIGURATION)
+                                     .build()
+                                     .profile("test")
+                                     .get();
+
+        AtomicReference<Thread> assumeRoleThread = new AtomicReference<>();
+        StsClient stsClient = mock(StsClient.class);
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenAnswer(invocation -> {
+            assumeRoleThread.set(Thread.currentThread());
+            Credentials credentials = Credentials.builder()
+                                                 .accessKeyId("a")
+                                                 .secretAccessKey("b")
+                                                 .sessionToken("c")
+                                                 .expiration(Instant.now().plus(Duration.ofHours(1)))
+                                                 .build();
+            return AssumeRoleResponse.builder().credentials(credentials).build();
+        });
+
+        AwsCredentialsProvider sourceCredentialsProvider =
+                StaticCredentialsProvider.create(AwsBasicCredentials.create("defaultAccessKey", "defaultSecretAccessKey"));
+        AwsCredentialsProvider credentialsProvider =
+                new StsProfileCredentialsProviderFactory().create(sourceCredentialsProvider, profile, stsClient);
+        try {
+            AwsCredentials credentials = credentialsProvider.resolveCredentialsAsync().join();
+
+            assertThat(credentials.accessKeyId()).isEqualTo("a");
+            // The wrapped provider loads the credentials in the background instead of on the calling thread
+            assertThat(assumeRoleThread.get()).isNotNull().isNotSameAs(Thread.currentThread());
+        } finally {
+            ((SdkAutoCloseable) credentialsProvider).close();
+        }
+    }
 }
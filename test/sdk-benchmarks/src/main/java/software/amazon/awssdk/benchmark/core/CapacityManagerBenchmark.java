@@ -0,0 +1,74 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
+import software.amazon.awssdk.core.internal.util.CapacityManager;
+
+/**
+ * Measures the cost of acquiring and releasing retry capacity from a single {@link CapacityManager} shared by an
+ * increasing number of threads, the way one client is shared by every thread of an application.
+ */
+public class CapacityManagerBenchmark {
+
+    @Benchmark
+    @Threads(1)
+    public boolean acquireRelease1Thread(CapacityState s) {
+        return acquireRelease(s.capacityManager);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean acquireRelease4Threads(CapacityState s) {
+        return acquireRelease(s.capacityManager);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean acquireRelease16Threads(CapacityState s) {
+        return acquireRelease(s.capacityManager);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean acquireRelease64Threads(CapacityState s) {
+        return acquireRelease(s.capacityManager);
+    }
+
+    private static boolean acquireRelease(CapacityManager capacityManager) {
+        boolean acquired = capacityManager.acquire(SdkDefaultRetrySetting.RETRY_THROTTLING_COST);
+        if (acquired) {
+            capacityManager.release(SdkDefaultRetrySetting.RETRY_THROTTLING_COST);
+        }
+        return acquired;
+    }
+
+    @State(Scope.Benchmark)
+    public static class CapacityState {
+        private CapacityManager capacityManager;
+
+        @Setup
+        public void setup() {
+            capacityManager = new CapacityManager(SdkDefaultRetrySetting.RETRY_THROTTLING_COST *
+                                                  SdkDefaultRetrySetting.THROTTLED_RETRIES);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.core;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
+import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.ApplyTransactionIdStage;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.ApplyUserAgentStage;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.MakeRequestImmutableStage;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.MakeRequestMutableStage;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.MergeCustomHeadersStage;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.MergeCustomQueryParamsStage;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.MoveParametersToBodyStage;
+import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.signer.NoOpSigner;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+
+/**
+ * Measures the request mutation stages that run before signing: everything between {@link MakeRequestMutableStage} and
+ * {@link MakeRequestImmutableStage}. Like {@code AmazonSyncHttpClient#execute}, each invocation builds the pipeline for the
+ * request from the client's {@link HttpClientDependencies}, so the cost of constructing the stages is measured too.
+ *
+ * <p>Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to see the bytes allocated per request.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class RequestPipelineBenchmark {
+
+    @Benchmark
+    public SdkHttpFullRequest noOverrides(PipelineState s) throws Exception {
+        return s.pipeline().execute(s.httpRequest, s.plainContext);
+    }
+
+    @Benchmark
+    public SdkHttpFullRequest headerAndQueryOverrides(PipelineState s) throws Exception {
+        return s.pipeline().execute(s.httpRequest, s.overriddenContext);
+    }
+
+    @State(Scope.Benchmark)
+    public static class PipelineState {
+        private HttpClientDependencies dependencies;
+        private SdkHttpFullRequest httpRequest;
+        private RequestExecutionContext plainContext;
+        private RequestExecutionContext overriddenContext;
+
+        @Setup
+        public void setup() {
+            Map<String, List<String>> clientHeaders = new HashMap<>();
+            clientHeaders.put("x-amz-client-header", singletonList("client-value"));
+
+            SdkClientConfiguration clientConfiguration =
+                SdkClientConfiguration.builder()
+                                      .option(SdkClientOption.ADDITIONAL_HTTP_HEADERS, clientHeaders)
+                                      .option(SdkAdvancedClientOption.USER_AGENT_PREFIX, "benchmark-prefix")
+                                      .option(SdkAdvancedClientOption.USER_AGENT_SUFFIX, "benchmark-suffix")
+                                      .build();
+
+            dependencies = HttpClientDependencies.builder()
+                                                 .clientConfiguration(clientConfiguration)
+                                                 .capacityManager(new CapacityManager(-1))
+                                                 .build();
+
+            httpRequest = SdkHttpFullRequest.builder()
+                                            .method(SdkHttpMethod.POST)
+                                            .protocol("https")
+                                            .host("dynamodb.us-west-2.amazonaws.com")
+                                            .encodedPath("/")
+                                            .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                            .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                            .build();
+
+            plainContext = context(GetItemRequest.builder().tableName("benchmark").build());
+            overriddenContext = context(GetItemRequest.builder()
+                                                      .tableName("benchmark")
+                                                      .overrideConfiguration(o -> o.putHeader("x-amz-request-header", "value")
+                                                                                   .putRawQueryParameter("param", "value"))
+                                                      .build());
+        }
+
+        private RequestPipeline<SdkHttpFullRequest, SdkHttpFullRequest> pipeline() {
+            return RequestPipelineBuilder.first(MakeRequestMutableStage::new)
+                                         .then(ApplyTransactionIdStage::new)
+                                         .then(ApplyUserAgentStage::new)
+                                         .then(MergeCustomHeadersStage::new)
+                                         .then(MergeCustomQueryParamsStage::new)
+                                         .then(MoveParametersToBodyStage::new)
+                                         .then(MakeRequestImmutableStage::new)
+                                         .build(dependencies);
+        }
+
+        private RequestExecutionContext context(SdkRequest request) {
+            ExecutionContext executionContext =
+                ExecutionContext.builder()
+                                .interceptorChain(new ExecutionInterceptorChain(emptyList()))
+                                .executionAttributes(new ExecutionAttributes())
+                                .interceptorContext(InterceptorContext.builder()
+                                                                      .request(request)
+                                                                      .httpRequest(httpRequest)
+                                                                      .build())
+                                .signer(new NoOpSigner())
+                                .build();
+
+            return RequestExecutionContext.builder()
+                                          .originalRequest(request)
+                                          .executionContext(executionContext)
+                                          .build();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.core;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
+import software.amazon.awssdk.core.internal.http.timers.TimerUtils;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Compares the cost of tracking a timeout that is cancelled before it expires (the common case for API call and API call
+ * attempt timeouts) on the client's scheduled executor service and on a {@link HashedWheelTimer}.
+ *
+ * <p>Run with {@code -prof gc} to compare allocation rates. The sample-time mode reports p99 latency per operation.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@Threads(16)
+public class TimeoutTrackerBenchmark {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Benchmark
+    public Object scheduledExecutorSyncTimeout(TimerState s) {
+        TimeoutTracker tracker = TimerUtils.timeSyncTaskIfNeeded(s.scheduledExecutor, TIMEOUT_MILLIS, Thread.currentThread());
+        tracker.cancel();
+        return tracker;
+    }
+
+    @Benchmark
+    public Object hashedWheelTimerSyncTimeout(TimerState s) {
+        TimeoutTracker tracker = TimerUtils.timeSyncTaskIfNeeded(s.hashedWheelTimer, s.scheduledExecutor, TIMEOUT_MILLIS,
+                                                                  Thread.currentThread());
+        tracker.cancel();
+        return tracker;
+    }
+
+    @Benchmark
+    public Object scheduledExecutorAsyncTimeout(TimerState s) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        TimeoutTracker tracker = TimerUtils.timeAsyncTaskIfNeeded(future, s.scheduledExecutor, s.exception, TIMEOUT_MILLIS);
+        future.complete(null);
+        return tracker;
+    }
+
+    @Benchmark
+    public Object hashedWheelTimerAsyncTimeout(TimerState s) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        TimeoutTracker tracker = TimerUtils.timeAsyncTaskIfNeeded(future, s.hashedWheelTimer, s.scheduledExecutor, s.exception,
+                                                                   TIMEOUT_MILLIS);
+        future.complete(null);
+        return tracker;
+    }
+
+    @State(Scope.Benchmark)
+    public static class TimerState {
+        private ScheduledExecutorService scheduledExecutor;
+        private HashedWheelTimer hashedWheelTimer;
+        private ApiCallTimeoutException exception;
+
+        @Setup
+        public void setup() {
+            // Mirrors the executor created by SdkDefaultClientBuilder
+            scheduledExecutor = Executors.newScheduledThreadPool(5, new ThreadFactoryBuilder()
+                .threadNamePrefix("sdk-ScheduledExecutor").build());
+            hashedWheelTimer = new HashedWheelTimer(Duration.ofMillis(10), 512, new ThreadFactoryBuilder()
+                .threadNamePrefix("sdk-timeout-timer").build());
+            exception = ApiCallTimeoutException.create(TIMEOUT_MILLIS);
+        }
+
+        @TearDown
+        public void tearDown() {
+            scheduledExecutor.shutdownNow();
+            hashedWheelTimer.close();
+        }
+    }
+}
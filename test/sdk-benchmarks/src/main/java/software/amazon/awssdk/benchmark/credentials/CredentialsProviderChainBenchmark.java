@@ -0,0 +1,72 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.credentials;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProviderChain;
+import software.amazon.awssdk.auth.credentials.EnvironmentVariableCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+
+/**
+ * Measures the per-request cost of resolving credentials that never expire: directly from the provider, through a chain that
+ * caches them, and through a chain that checks every provider for each request.
+ *
+ * <p>Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to see the bytes allocated per resolution.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class CredentialsProviderChainBenchmark {
+
+    @Benchmark
+    public AwsCredentials staticProvider(ProviderState s) {
+        return s.staticProvider.resolveCredentials();
+    }
+
+    @Benchmark
+    public AwsCredentials cachingChain(ProviderState s) {
+        return s.cachingChain.resolveCredentials();
+    }
+
+    @Benchmark
+    public AwsCredentials nonReusingChain(ProviderState s) {
+        return s.nonReusingChain.resolveCredentials();
+    }
+
+    @State(Scope.Benchmark)
+    public static class ProviderState {
+        private StaticCredentialsProvider staticProvider;
+        private AwsCredentialsProviderChain cachingChain;
+        private AwsCredentialsProviderChain nonReusingChain;
+
+        @Setup
+        public void setup() {
+            staticProvider = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY"));
+            cachingChain = AwsCredentialsProviderChain.of(staticProvider, EnvironmentVariableCredentialsProvider.create());
+            nonReusingChain = AwsCredentialsProviderChain.builder()
+                                                         .reuseLastProviderEnabled(false)
+                                                         .credentialsProviders(staticProvider,
+                                                                               EnvironmentVariableCredentialsProvider.create())
+                                                         .build();
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.netty;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Measures requests per second of {@link NettyNioAsyncHttpClient} against a local TLS server for each combination of
+ * transport (NIO or native epoll) and {@link SslProvider} (JDK or OpenSSL).
+ *
+ * <p>Connections are kept alive, so this measures steady-state record encryption and transport overhead rather than
+ * handshakes. Run with {@code -prof perfnorm} on Linux and compare {@code cycles} per operation to see the CPU spent per
+ * request, and with {@code -prof gc} to see the bytes allocated per request. The OpenSSL variants need
+ * netty-tcnative-boringssl-static and the epoll variants need Linux x86_64; their setup fails if these aren't available,
+ * rather than silently measuring the JDK provider or NIO.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class NettyTlsTransportBenchmark {
+
+    private static final int CONCURRENT_REQUESTS = 32;
+    private static final int RESPONSE_SIZE = 1024;
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_REQUESTS)
+    public void getObject(ClientState s) {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[CONCURRENT_REQUESTS];
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            responses[i] = s.execute();
+        }
+        CompletableFuture.allOf(responses).join();
+    }
+
+    @State(Scope.Benchmark)
+    public static class ClientState {
+
+        @Param({"nio", "epoll"})
+        private String transport;
+
+        @Param({"JDK", "OPENSSL"})
+        private SslProvider sslProvider;
+
+        private EventLoopGroup serverGroup;
+        private Channel serverChannel;
+        private SdkAsyncHttpClient client;
+        private SdkHttpFullRequest request;
+
+        @Setup
+        public void setup() throws Exception {
+            if ("epoll".equals(transport) && !Epoll.isAvailable()) {
+                throw new IllegalStateException("Native epoll transport is not available", Epoll.unavailabilityCause());
+            }
+            if (sslProvider == SslProvider.OPENSSL && !OpenSsl.isAvailable()) {
+                throw new IllegalStateException("OpenSSL is not available", OpenSsl.unavailabilityCause());
+            }
+
+            SelfSignedCertificate certificate = new SelfSignedCertificate();
+            SslContext serverSslContext = SslContextBuilder.forServer(certificate.certificate(), certificate.privateKey())
+                                                           .sslProvider(SslProvider.JDK)
+                                                           .build();
+            byte[] responseBody = new byte[RESPONSE_SIZE];
+
+            serverGroup = new NioEventLoopGroup(2);
+            serverChannel = new ServerBootstrap()
+                .group(serverGroup)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline().addLast(serverSslContext.newHandler(ch.alloc()),
+                                              new HttpServerCodec(),
+                                              new HttpObjectAggregator(RESPONSE_SIZE),
+                                              new ResponseHandler(responseBody));
+                    }
+                })
+                .bind("localhost", 0)
+                .sync()
+                .channel();
+            int port = ((InetSocketAddress) serverChannel.localAddress()).getPort();
+
+            SdkEventLoopGroup.Builder eventLoopGroup = SdkEventLoopGroup.builder()
+                                                                        .preferNativeTransport("epoll".equals(transport));
+            AttributeMap trustAll = AttributeMap.builder()
+                                                .put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, true)
+                                                .build();
+            client = NettyNioAsyncHttpClient.builder()
+                                            .protocol(Protocol.HTTP1_1)
+                                            .maxConcurrency(CONCURRENT_REQUESTS)
+                                            .eventLoopGroupBuilder(eventLoopGroup)
+                                            .sslProvider(sslProvider)
+                                            .buildWithDefaults(trustAll);
+
+            request = SdkHttpFullRequest.builder()
+                                        .protocol("https")
+                                        .host("localhost")
+                                        .port(port)
+                                        .method(SdkHttpMethod.GET)
+                                        .encodedPath("/")
+                                        .build();
+        }
+
+        @TearDown
+        public void tearDown() throws InterruptedException {
+            client.close();
+            serverChannel.close().sync();
+            serverGroup.shutdownGracefully().sync();
+        }
+
+        private CompletableFuture<Void> execute() {
+            CompletableFuture<Void> bodyReceived = new CompletableFuture<>();
+            client.execute(AsyncExecuteRequest.builder()
+                                              .request(request)
+                                              .requestContentPublisher(new EmptyPublisher())
+                                              .responseHandler(new DrainingResponseHandler(bodyReceived))
+                                              .build());
+            return bodyReceived;
+        }
+    }
+
+    private static final class ResponseHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+        private final ByteBuf responseBody;
+
+        private ResponseHandler(byte[] responseBody) {
+            this.responseBody = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(responseBody));
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest msg) {
+            FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                                                                    responseBody.duplicate());
+            response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, responseBody.readableBytes());
+            ctx.writeAndFlush(response);
+        }
+    }
+
+    private static final class EmptyPublisher implements SdkHttpContentPublisher {
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of(0L);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onComplete();
+        }
+    }
+
+    private static final class DrainingResponseHandler implements SdkAsyncHttpResponseHandler {
+        private final CompletableFuture<Void> bodyReceived;
+
+        private DrainingResponseHandler(CompletableFuture<Void> bodyReceived) {
+            this.bodyReceived = bodyReceived;
+        }
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            stream.subscribe(new Subscriber<ByteBuffer>() {
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ByteBuffer byteBuffer) {
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    bodyReceived.completeExceptionally(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    bodyReceived.complete(null);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            bodyReceived.completeExceptionally(error);
+        }
+    }
+}
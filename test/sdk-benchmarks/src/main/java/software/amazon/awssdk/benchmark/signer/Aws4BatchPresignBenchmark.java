@@ -0,0 +1,104 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.signer.Aws4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4PresignerParams;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Measures the throughput of presigned URL generation for a batch of objects of the same bucket, one request at a time
+ * and with {@link Aws4Signer#presign(List, Aws4PresignerParams, java.util.concurrent.Executor)}. The scores are per
+ * presigned URL.
+ *
+ * <p>Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to see the bytes allocated per presigned URL.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class Aws4BatchPresignBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void presignOneByOne(PresignState s, Blackhole blackhole) {
+        for (SdkHttpFullRequest request : s.requests) {
+            blackhole.consume(s.signer.presign(request, s.presignerParams));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<SdkHttpFullRequest> presignBatchOnCallingThread(PresignState s) {
+        return s.signer.presign(s.requests, s.presignerParams, Runnable::run);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<SdkHttpFullRequest> presignBatchInParallel(PresignState s) {
+        return s.signer.presign(s.requests, s.presignerParams, ForkJoinPool.commonPool());
+    }
+
+    @State(Scope.Benchmark)
+    public static class PresignState {
+        private static final AwsCredentials CREDENTIALS = AwsBasicCredentials.create("AKIDEXAMPLE",
+                                                                                     "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+        private static final Clock CLOCK = Clock.fixed(Instant.parse("2018-06-01T12:00:00Z"), ZoneOffset.UTC);
+
+        private Aws4Signer signer;
+        private Aws4PresignerParams presignerParams;
+        private List<SdkHttpFullRequest> requests;
+
+        @Setup
+        public void setup() {
+            signer = Aws4Signer.create();
+            presignerParams = Aws4PresignerParams.builder()
+                                                 .awsCredentials(CREDENTIALS)
+                                                 .signingName("s3")
+                                                 .signingRegion(Region.US_EAST_1)
+                                                 .signingClockOverride(CLOCK)
+                                                 .expirationTime(CLOCK.instant().plusSeconds(900))
+                                                 .build();
+
+            requests = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                requests.add(SdkHttpFullRequest.builder()
+                                               .method(SdkHttpMethod.GET)
+                                               .protocol("https")
+                                               .host("examplebucket.s3.amazonaws.com")
+                                               .encodedPath("/photos/" + i + ".jpg")
+                                               .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.signer.Aws4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Measures signing a request whose body is a file with {@link Aws4Signer}. The signer reads and hashes the whole file before
+ * the request is sent, so for large files this is dominated by the payload hash.
+ *
+ * <p>To see the effect of a change to the signer's payload hashing, run this before and after the change.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class Aws4PayloadHashBenchmark {
+
+    @Benchmark
+    public SdkHttpFullRequest signFileRequest(PayloadState s) {
+        return s.signer.sign(s.request, s.signerParams);
+    }
+
+    @State(Scope.Benchmark)
+    public static class PayloadState {
+        private static final Clock CLOCK = Clock.fixed(Instant.parse("2018-06-01T12:00:00Z"), ZoneOffset.UTC);
+
+        @Param({"1048576", "67108864"})
+        private int fileSize;
+
+        private Path file;
+        private Aws4Signer signer;
+        private Aws4SignerParams signerParams;
+        private SdkHttpFullRequest request;
+
+        @Setup
+        public void setup() throws IOException {
+            byte[] content = new byte[fileSize];
+            new Random(42).nextBytes(content);
+            file = Files.createTempFile("Aws4PayloadHashBenchmark", ".bin");
+            Files.write(file, content);
+
+            signer = Aws4Signer.create();
+            signerParams = Aws4SignerParams.builder()
+                                           .awsCredentials(AwsBasicCredentials.create("AKIDEXAMPLE",
+                                                                                      "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY"))
+                                           .signingName("s3")
+                                           .signingRegion(Region.US_EAST_1)
+                                           .signingClockOverride(CLOCK)
+                                           .build();
+            request = SdkHttpFullRequest.builder()
+                                        .method(SdkHttpMethod.PUT)
+                                        .protocol("https")
+                                        .host("examplebucket.s3.amazonaws.com")
+                                        .encodedPath("/object.bin")
+                                        .putHeader("Content-Length", Integer.toString(fileSize))
+                                        .contentStreamProvider(() -> invokeSafely(() -> Files.newInputStream(file)))
+                                        .build();
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            Files.delete(file);
+        }
+    }
+}
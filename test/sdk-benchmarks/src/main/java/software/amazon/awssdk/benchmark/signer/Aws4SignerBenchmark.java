@@ -0,0 +1,125 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.signer.Aws4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4PresignerParams;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.utils.StringInputStream;
+
+/**
+ * Measures SigV4 signing of small requests of the shapes the SDK sends most: a JSON protocol call, a query protocol call
+ * and a presigned URL.
+ *
+ * <p>Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to see the bytes allocated per signature.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class Aws4SignerBenchmark {
+
+    @Benchmark
+    public SdkHttpFullRequest signJsonRequest(SignerState s) {
+        return s.signer.sign(s.jsonRequest, s.signerParams);
+    }
+
+    @Benchmark
+    public SdkHttpFullRequest signQueryRequest(SignerState s) {
+        return s.signer.sign(s.queryRequest, s.signerParams);
+    }
+
+    @Benchmark
+    public SdkHttpFullRequest presignRequest(SignerState s) {
+        return s.signer.presign(s.presignRequest, s.presignerParams);
+    }
+
+    @State(Scope.Benchmark)
+    public static class SignerState {
+        private static final AwsCredentials CREDENTIALS = AwsBasicCredentials.create("AKIDEXAMPLE",
+                                                                                     "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+        private static final Clock CLOCK = Clock.fixed(Instant.parse("2018-06-01T12:00:00Z"), ZoneOffset.UTC);
+
+        private Aws4Signer signer;
+        private Aws4SignerParams signerParams;
+        private Aws4PresignerParams presignerParams;
+        private SdkHttpFullRequest jsonRequest;
+        private SdkHttpFullRequest queryRequest;
+        private SdkHttpFullRequest presignRequest;
+
+        @Setup
+        public void setup() {
+            signer = Aws4Signer.create();
+            signerParams = Aws4SignerParams.builder()
+                                           .awsCredentials(CREDENTIALS)
+                                           .signingName("dynamodb")
+                                           .signingRegion(Region.US_EAST_1)
+                                           .signingClockOverride(CLOCK)
+                                           .build();
+            presignerParams = Aws4PresignerParams.builder()
+                                                 .awsCredentials(CREDENTIALS)
+                                                 .signingName("s3")
+                                                 .signingRegion(Region.US_EAST_1)
+                                                 .signingClockOverride(CLOCK)
+                                                 .expirationTime(CLOCK.instant().plusSeconds(900))
+                                                 .build();
+
+            String jsonBody = "{\"TableName\":\"Thread\",\"Key\":{\"ForumName\":{\"S\":\"Amazon DynamoDB\"}}}";
+            jsonRequest = SdkHttpFullRequest.builder()
+                                            .method(SdkHttpMethod.POST)
+                                            .protocol("https")
+                                            .host("dynamodb.us-east-1.amazonaws.com")
+                                            .encodedPath("/")
+                                            .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                            .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                            .putHeader("User-Agent", "aws-sdk-java/2.0.0")
+                                            .putHeader("Content-Length", Integer.toString(jsonBody.length()))
+                                            .contentStreamProvider(() -> new StringInputStream(jsonBody))
+                                            .build();
+
+            String queryBody = "Action=DescribeInstances&Version=2016-11-15&InstanceId.1=i-1234567890abcdef0";
+            queryRequest = SdkHttpFullRequest.builder()
+                                             .method(SdkHttpMethod.POST)
+                                             .protocol("https")
+                                             .host("ec2.us-east-1.amazonaws.com")
+                                             .encodedPath("/")
+                                             .putHeader("Content-Type", "application/x-www-form-urlencoded; charset=utf-8")
+                                             .putHeader("User-Agent", "aws-sdk-java/2.0.0")
+                                             .putHeader("Content-Length", Integer.toString(queryBody.length()))
+                                             .contentStreamProvider(() -> new StringInputStream(queryBody))
+                                             .build();
+
+            presignRequest = SdkHttpFullRequest.builder()
+                                               .method(SdkHttpMethod.GET)
+                                               .protocol("https")
+                                               .host("examplebucket.s3.amazonaws.com")
+                                               .encodedPath("/test.txt")
+                                               .putRawQueryParameter("versionId", "3HL4kqtJlcpXroDTDmJ")
+                                               .build();
+        }
+    }
+}
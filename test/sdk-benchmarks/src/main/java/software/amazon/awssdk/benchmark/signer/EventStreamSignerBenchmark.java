@@ -0,0 +1,151 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.signer.AwsSignerExecutionAttribute;
+import software.amazon.awssdk.auth.signer.EventStreamAws4Signer;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Measures the signing of outbound event-stream frames, as sent by bidirectional streaming operations, on a single thread.
+ * The scores are per signed frame.
+ *
+ * <p>Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to see the bytes allocated per signed frame.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class EventStreamSignerBenchmark {
+
+    private static final int FRAMES = 1000;
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public void signFrames(SignerState s, Blackhole blackhole) {
+        AsyncRequestBody signedBody = s.signer.signAsyncRequestBody(s.signedRequest, s.eventBody, s.executionAttributes);
+        signedBody.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer frame) {
+                blackhole.consume(frame);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                throw new IllegalStateException(t);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+    }
+
+    @State(Scope.Benchmark)
+    public static class SignerState {
+
+        @Param({"64", "1024", "16384"})
+        private int frameSize;
+
+        private EventStreamAws4Signer signer;
+        private ExecutionAttributes executionAttributes;
+        private SdkHttpFullRequest signedRequest;
+        private AsyncRequestBody eventBody;
+
+        @Setup
+        public void setup() {
+            signer = EventStreamAws4Signer.create();
+            executionAttributes = new ExecutionAttributes()
+                .putAttribute(AwsSignerExecutionAttribute.AWS_CREDENTIALS,
+                              AwsBasicCredentials.create("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY"))
+                .putAttribute(AwsSignerExecutionAttribute.SERVICE_SIGNING_NAME, "transcribe")
+                .putAttribute(AwsSignerExecutionAttribute.SIGNING_REGION, Region.US_EAST_1);
+
+            signedRequest = signer.sign(SdkHttpFullRequest.builder()
+                                                          .method(SdkHttpMethod.POST)
+                                                          .protocol("https")
+                                                          .host("transcribestreaming.us-east-1.amazonaws.com")
+                                                          .encodedPath("/stream-transcription")
+                                                          .putHeader("Content-Type", "application/vnd.amazon.eventstream")
+                                                          .build(),
+                                        executionAttributes);
+
+            ByteBuffer event = ByteBuffer.wrap(new byte[frameSize]);
+            eventBody = new EventBody(event);
+        }
+    }
+
+    /**
+     * Publishes the same event {@link #FRAMES} times, synchronously on request.
+     */
+    private static final class EventBody implements AsyncRequestBody {
+        private final ByteBuffer event;
+
+        private EventBody(ByteBuffer event) {
+            this.event = event;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                private int published;
+                private boolean completed;
+
+                @Override
+                public void request(long n) {
+                    for (long i = 0; i < n && published < FRAMES; i++, published++) {
+                        subscriber.onNext(event.duplicate());
+                    }
+                    if (published == FRAMES && !completed) {
+                        completed = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    published = FRAMES;
+                    completed = true;
+                }
+            });
+        }
+    }
+}
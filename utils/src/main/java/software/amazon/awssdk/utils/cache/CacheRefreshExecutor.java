@@ -0,0 +1,66 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * The bounded pool of daemon threads shared by all cached suppliers to refresh their values in the background, either for a
+ * {@link NonBlocking} prefetch or for a {@link CachedSupplier#getAsync()} caller that must not block.
+ */
+@SdkInternalApi
+final class CacheRefreshExecutor {
+    /**
+     * The number of threads in the shared pool.
+     */
+    private static final int POOL_SIZE = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * How long a thread in the shared pool may be idle before it is stopped.
+     */
+    private static final Duration KEEP_ALIVE = Duration.ofSeconds(60);
+
+    private CacheRefreshExecutor() {
+    }
+
+    /**
+     * Retrieve the shared executor, creating it if it has not been created yet.
+     */
+    static ScheduledExecutorService get() {
+        return Holder.EXECUTOR;
+    }
+
+    private static final class Holder {
+        private static final ScheduledExecutorService EXECUTOR = createExecutor();
+
+        private static ScheduledExecutorService createExecutor() {
+            ScheduledThreadPoolExecutor executor =
+                new ScheduledThreadPoolExecutor(POOL_SIZE,
+                                                new ThreadFactoryBuilder().daemonThreads(true)
+                                                                          .threadNamePrefix("sdk-cache-prefetch")
+                                                                          .build());
+            executor.setKeepAliveTime(KEEP_ALIVE.toMillis(), TimeUnit.MILLISECONDS);
+            executor.allowCoreThreadTimeOut(true);
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+}
@@ -17,7 +17,10 @@ package software.amazon.awssdk.utils.cache;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
@@ -70,9 +73,21 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
      */
     private final Supplier<RefreshResult<T>> valueSupplier;
 
+    /**
+     * The executor on which {@link #getAsync()} refreshes the value.
+     */
+    private final Executor asyncRefreshExecutor;
+
+    /**
+     * The refresh currently being performed on behalf of {@link #getAsync()} callers, or null if there is none. This makes sure
+     * concurrent asynchronous callers share one refresh instead of each occupying a thread of the {@link #asyncRefreshExecutor}.
+     */
+    private final AtomicReference<CompletableFuture<T>> asyncRefresh = new AtomicReference<>();
+
     private CachedSupplier(Builder<T> builder) {
         this.valueSupplier = Validate.notNull(builder.supplier, "builder.supplier");
         this.prefetchStrategy = Validate.notNull(builder.prefetchStrategy, "builder.prefetchStrategy");
+        this.asyncRefreshExecutor = CacheRefreshExecutor.get();
     }
 
     /**
@@ -95,6 +110,59 @@ public final class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
         return this.cachedValue.value();
     }
 
+    /**
+     * Retrieve the value without ever blocking the calling thread on a refresh.
+     *
+     * <p>If the cached value is not stale, a completed future is returned. If it is due to be pre-fetched, the pre-fetch is
+     * performed in the background, regardless of the configured {@link PrefetchStrategy}. If the cached value is stale, the
+     * returned future is completed once the value has been refreshed in the background.</p>
+     */
+    public CompletableFuture<T> getAsync() {
+        if (cacheIsStale()) {
+            return refreshAsync();
+        }
+
+        if (shouldInitiateCachePrefetch()) {
+            refreshAsync();
+        }
+
+        return CompletableFuture.completedFuture(this.cachedValue.value());
+    }
+
+    /**
+     * Refresh the value on the {@link #asyncRefreshExecutor}, joining the refresh that is already in progress if there is one.
+     */
+    private CompletableFuture<T> refreshAsync() {
+        while (true) {
+            CompletableFuture<T> inProgress = asyncRefresh.get();
+            if (inProgress != null) {
+                return inProgress;
+            }
+
+            CompletableFuture<T> refresh = new CompletableFuture<>();
+            if (asyncRefresh.compareAndSet(null, refresh)) {
+                try {
+                    asyncRefreshExecutor.execute(() -> completeAsyncRefresh(refresh));
+                } catch (RuntimeException e) {
+                    asyncRefresh.set(null);
+                    refresh.completeExceptionally(e);
+                }
+                return refresh;
+            }
+        }
+    }
+
+    private void completeAsyncRefresh(CompletableFuture<T> refresh) {
+        try {
+            T value = get();
+            asyncRefresh.set(null);
+            refresh.complete(value);
+        } catch (Throwable t) {
+            asyncRefresh.set(null);
+            refresh.completeExceptionally(t);
+        }
+    }
+
     /**
      * Determines whether the value in this cache is stale, and all threads should block and wait for an updated value.
      */
@@ -15,35 +15,89 @@
 
 package software.amazon.awssdk.utils.cache;
 
-import java.util.concurrent.ExecutorService;
+import java.time.Duration;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
-import software.amazon.awssdk.utils.ExecutorUtils;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
 
 /**
- * A {@link CachedSupplier.PrefetchStrategy} that will run a single thread in the background to update the value. A call to
- * prefetch on this strategy will never return.
+ * A {@link CachedSupplier.PrefetchStrategy} that will update the value in the background. A call to prefetch on this strategy
+ * will never block.
  *
  * Multiple calls to {@link #prefetch(Runnable)} will still only result in one background task performing the update.
+ *
+ * All instances of this strategy share a single, bounded pool of daemon threads, so creating many cached suppliers (e.g. one
+ * credentials provider per assumed role) does not create a thread per supplier. To keep a large number of suppliers with the
+ * same prefetch time from all refreshing at once, a maximum jitter can be configured: each background update is then delayed
+ * by a random amount of time up to that maximum.
  */
 @SdkProtectedApi
 public class NonBlocking implements CachedSupplier.PrefetchStrategy {
+    private static final Logger log = Logger.loggerFor(NonBlocking.class);
+
     /**
      * Whether we are currently refreshing the supplier. This is used to make sure only one caller is blocking at a time.
      */
     private final AtomicBoolean currentlyRefreshing = new AtomicBoolean(false);
 
     /**
-     * Single threaded executor to asynchronous refresh the value.
+     * The name used to identify this strategy in log messages.
+     */
+    private final String name;
+
+    /**
+     * The maximum amount of time a background update will be delayed by.
+     */
+    private final long maxJitterMillis;
+
+    /**
+     * Executor used to asynchronously refresh the value. By default, this is shared with all other instances of this strategy.
+     */
+    private final ScheduledExecutorService executor;
+
+    private final AtomicLong successfulRefreshes = new AtomicLong();
+    private final AtomicLong failedRefreshes = new AtomicLong();
+    private final AtomicLong lastRefreshLatencyNanos = new AtomicLong();
+
+    /**
+     * The currently scheduled background update, if there is one. Cancelled when this strategy is closed. Written while holding
+     * {@link #scheduleLock}, so that an update that finishes before {@link ScheduledExecutorService#schedule} has returned can't
+     * be overwritten by its own, already completed future.
      */
-    private final ExecutorService executor;
+    private volatile Future<?> scheduledRefresh;
+
+    private final Object scheduleLock = new Object();
 
     /**
-     * Create a non-blocking prefetch strategy that uses the provided value for the name of the background thread that will be
-     * performing the update.
+     * Create a non-blocking prefetch strategy that uses the provided value to identify this strategy in log messages. Background
+     * updates are run immediately, without any jitter.
      */
     public NonBlocking(String asyncThreadName) {
-        this.executor = ExecutorUtils.newSingleDaemonThreadExecutor(1, asyncThreadName);
+        this(asyncThreadName, Duration.ZERO);
+    }
+
+    /**
+     * Create a non-blocking prefetch strategy that uses the provided value to identify this strategy in log messages, and that
+     * delays each background update by a random amount of time up to the provided maximum jitter.
+     */
+    public NonBlocking(String asyncThreadName, Duration maxJitter) {
+        this(asyncThreadName, maxJitter, CacheRefreshExecutor.get());
+    }
+
+    @SdkTestInternalApi
+    NonBlocking(String asyncThreadName, Duration maxJitter, ScheduledExecutorService executor) {
+        Validate.notNull(maxJitter, "maxJitter");
+        Validate.isTrue(!maxJitter.isNegative(), "maxJitter must not be negative.");
+        this.name = asyncThreadName;
+        this.maxJitterMillis = maxJitter.toMillis();
+        this.executor = executor;
     }
 
     @Override
@@ -51,13 +105,9 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
         // Only run one async refresh at a time.
         if (currentlyRefreshing.compareAndSet(false, true)) {
             try {
-                executor.submit(() -> {
-                    try {
-                        valueUpdater.run();
-                    } finally {
-                        currentlyRefreshing.set(false);
-                    }
-                });
+                synchronized (scheduleLock) {
+                    scheduledRefresh = executor.schedule(() -> refresh(valueUpdater), jitterMillis(), TimeUnit.MILLISECONDS);
+                }
             } catch (RuntimeException e) {
                 currentlyRefreshing.set(false);
                 throw e;
@@ -65,8 +115,57 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
         }
     }
 
+    private void refresh(Runnable valueUpdater) {
+        long start = System.nanoTime();
+        try {
+            valueUpdater.run();
+            successfulRefreshes.incrementAndGet();
+        } catch (RuntimeException e) {
+            failedRefreshes.incrementAndGet();
+            log.warn(() -> "Background refresh of cached value failed for " + name + ". The value will be refreshed again on "
+                           + "the next prefetch.", e);
+        } finally {
+            lastRefreshLatencyNanos.set(System.nanoTime() - start);
+            // Wait for prefetch to publish this update's future before clearing it, and only then allow the next update.
+            synchronized (scheduleLock) {
+                scheduledRefresh = null;
+                currentlyRefreshing.set(false);
+            }
+        }
+    }
+
+    private long jitterMillis() {
+        return maxJitterMillis == 0 ? 0 : ThreadLocalRandom.current().nextLong(maxJitterMillis + 1);
+    }
+
+    /**
+     * The number of background updates performed by this strategy that completed successfully.
+     */
+    public long successfulRefreshCount() {
+        return successfulRefreshes.get();
+    }
+
+    /**
+     * The number of background updates performed by this strategy that failed with an exception.
+     */
+    public long failedRefreshCount() {
+        return failedRefreshes.get();
+    }
+
+    /**
+     * How long the most recent background update performed by this strategy took, successful or not. This does not include
+     * the jitter it was delayed by. {@link Duration#ZERO} if no update has been performed yet.
+     */
+    public Duration lastRefreshLatency() {
+        return Duration.ofNanos(lastRefreshLatencyNanos.get());
+    }
+
     @Override
     public void close() {
-        executor.shutdown();
+        // The executor is shared, so only cancel the update this strategy is waiting on.
+        Future<?> refresh = scheduledRefresh;
+        if (refresh != null) {
+            refresh.cancel(false);
+        }
     }
 }
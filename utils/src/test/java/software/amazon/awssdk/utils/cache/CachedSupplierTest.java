@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.utils.cache;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.fail;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
@@ -23,6 +24,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -238,6 +240,42 @@ public class CachedSupplierTest {
         }
     }
 
+    @Test
+    public void getAsyncDoesNotBlockOnStaleValue() {
+        try (WaitingSupplier waitingSupplier = new WaitingSupplier(past(), future());
+             CachedSupplier<String> cachedSupplier = CachedSupplier.builder(waitingSupplier).build()) {
+            // Perform two asynchronous "gets" while the value is being refreshed.
+            CompletableFuture<String> firstGet = cachedSupplier.getAsync();
+            CompletableFuture<String> secondGet = cachedSupplier.getAsync();
+            waitingSupplier.waitForGetsToHaveStarted(1);
+
+            assertThat(firstGet).isNotDone();
+            assertThat(secondGet).isNotDone();
+
+            // Release the refresh, and make sure both "gets" share it.
+            waitingSupplier.permits.release(1);
+            assertThat(firstGet.join()).isEqualTo("value");
+            assertThat(secondGet.join()).isEqualTo("value");
+            waitingSupplier.waitForGetsToHaveFinished(1);
+        }
+    }
+
+    @Test
+    public void getAsyncPrefetchesInBackground() {
+        try (WaitingSupplier waitingSupplier = new WaitingSupplier(future(), past());
+             CachedSupplier<String> cachedSupplier = CachedSupplier.builder(waitingSupplier)
+                                                                   .prefetchStrategy(new OneCallerBlocks())
+                                                                   .build()) {
+            // Perform one successful "get" to prime the cache.
+            waitingSupplier.permits.release(1);
+            waitFor(performAsyncGet(cachedSupplier));
+
+            // An asynchronous "get" returns the cached value, even though the one-caller-blocks prefetch is stuck.
+            assertThat(cachedSupplier.getAsync().join()).isEqualTo("value");
+            waitingSupplier.waitForGetsToHaveStarted(2);
+        }
+    }
+
     /**
      * Asynchronously perform a "get" on the provided supplier, returning the future that will be completed when the "get"
      * finishes.
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2010-2018 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Validate the functionality of {@link NonBlocking}.
+ */
+public class NonBlockingTest {
+    @Test
+    public void updatesRunOnSharedDaemonThreads() throws InterruptedException {
+        AtomicReference<Thread> firstThread = new AtomicReference<>();
+        AtomicReference<Thread> secondThread = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(2);
+
+        try (NonBlocking first = new NonBlocking("first");
+             NonBlocking second = new NonBlocking("second")) {
+            first.prefetch(() -> {
+                firstThread.set(Thread.currentThread());
+                done.countDown();
+            });
+            second.prefetch(() -> {
+                secondThread.set(Thread.currentThread());
+                done.countDown();
+            });
+
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(firstThread.get().isDaemon()).isTrue();
+        assertThat(firstThread.get().getName()).startsWith("sdk-cache-prefetch");
+        assertThat(secondThread.get().getName()).startsWith("sdk-cache-prefetch");
+    }
+
+    @Test
+    public void failedUpdatesAreCountedAndDoNotBlockLaterUpdates() throws InterruptedException {
+        try (NonBlocking strategy = new NonBlocking("test")) {
+            CountDownLatch failed = new CountDownLatch(1);
+            strategy.prefetch(() -> {
+                failed.countDown();
+                throw new IllegalStateException("Expected failure");
+            });
+            assertThat(failed.await(5, TimeUnit.SECONDS)).isTrue();
+            waitUntil(() -> strategy.failedRefreshCount() == 1);
+
+            // The failed update has finished once it is counted, so this prefetch can't be skipped as a duplicate.
+            CountDownLatch succeeded = new CountDownLatch(1);
+            strategy.prefetch(succeeded::countDown);
+            assertThat(succeeded.await(5, TimeUnit.SECONDS)).isTrue();
+            waitUntil(() -> strategy.successfulRefreshCount() == 1);
+
+            assertThat(strategy.failedRefreshCount()).isEqualTo(1);
+            assertThat(strategy.lastRefreshLatency()).isGreaterThanOrEqualTo(Duration.ZERO);
+        }
+    }
+
+    @Test
+    public void onlyOneUpdateIsScheduledAtATime() {
+        ScheduledExecutorService executor = mockExecutor();
+        NonBlocking strategy = new NonBlocking("test", Duration.ZERO, executor);
+
+        strategy.prefetch(() -> { });
+        strategy.prefetch(() -> { });
+
+        verify(executor).schedule(any(Runnable.class), eq(0L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void updatesAreDelayedByNoMoreThanMaxJitter() {
+        Duration maxJitter = Duration.ofSeconds(30);
+        List<Long> delays = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            ScheduledExecutorService executor = mockExecutor();
+            new NonBlocking("test", maxJitter, executor).prefetch(() -> { });
+
+            ArgumentCaptor<Long> delay = ArgumentCaptor.forClass(Long.class);
+            verify(executor).schedule(any(Runnable.class), delay.capture(), eq(TimeUnit.MILLISECONDS));
+            delays.add(delay.getValue());
+        }
+
+        assertThat(delays).allMatch(d -> d >= 0 && d <= maxJitter.toMillis());
+        assertThat(delays.stream().distinct().count()).isGreaterThan(1);
+    }
+
+    @Test
+    public void closeCancelsPendingUpdate() {
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        ScheduledFuture future = mock(ScheduledFuture.class);
+        when(executor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenReturn(future);
+
+        NonBlocking strategy = new NonBlocking("test", Duration.ofMinutes(1), executor);
+        strategy.prefetch(() -> { });
+        strategy.close();
+
+        verify(future).cancel(false);
+    }
+
+    @Test
+    public void closeCancelsLatestUpdateWhenEarlierUpdateFinishesBeforeItIsScheduled() throws InterruptedException {
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        ScheduledFuture firstFuture = mock(ScheduledFuture.class);
+        ScheduledFuture secondFuture = mock(ScheduledFuture.class);
+        NonBlocking strategy = new NonBlocking("test", Duration.ZERO, executor);
+        AtomicReference<Thread> firstUpdate = new AtomicReference<>();
+
+        // The first update starts running on another thread before schedule() returns, and another prefetch is attempted
+        // while it may already have finished.
+        when(executor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            Thread thread = new Thread((Runnable) invocation.getArguments()[0]);
+            firstUpdate.set(thread);
+            thread.start();
+            thread.join(100);
+            strategy.prefetch(() -> { });
+            return firstFuture;
+        }).thenReturn(secondFuture);
+
+        strategy.prefetch(() -> { });
+        firstUpdate.get().join(5_000);
+        strategy.prefetch(() -> { });
+        strategy.close();
+
+        verify(secondFuture).cancel(false);
+    }
+
+    private ScheduledExecutorService mockExecutor() {
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        when(executor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenReturn(mock(ScheduledFuture.class));
+        return executor;
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}